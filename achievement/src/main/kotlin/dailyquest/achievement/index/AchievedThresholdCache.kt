@@ -0,0 +1,85 @@
+package dailyquest.achievement.index
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.properties.AchievementThresholdProperties
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+
+/**
+ * 유저별로 업적 타입마다 빠짐없이 달성한 가장 큰 목표값을 들고 있는 노드 로컬 캐시.
+ * 값은 [AchievementThresholdIndex]의 버전과 함께 저장되며, 인덱스가 다시 만들어지면 다음 조회 시 DB에서 다시 계산한다.
+ */
+@Component
+class AchievedThresholdCache(
+    private val achievementRepository: AchievementRepository,
+    private val thresholdIndex: AchievementThresholdIndex,
+    thresholdProperties: AchievementThresholdProperties,
+) {
+    private val cache: Cache<Long, UserThresholdState> = Caffeine.newBuilder()
+        .maximumSize(thresholdProperties.userStateMaximumSize)
+        .expireAfterAccess(Duration.ofSeconds(thresholdProperties.userStateTtlSeconds))
+        .build()
+
+    fun getAchievedThreshold(userId: Long, type: AchievementType): Long {
+        val indexVersion = thresholdIndex.version
+        val state = cache.asMap().compute(userId) { _, current ->
+            if (current == null || current.indexVersion != indexVersion) UserThresholdState(indexVersion) else current
+        }!!
+        val achieved = state.get(type)
+        if (achieved != NOT_LOADED) return achieved
+        val loaded = this.loadAchievedThreshold(userId, type)
+        state.set(type, loaded)
+        return loaded
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 달성한 목표값을 반영한다. 롤백되면 반영하지 않는다.
+     */
+    fun markAchievedAfterCommit(userId: Long, type: AchievementType, threshold: Long) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.markAchieved(userId, type, threshold)
+            return
+        }
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                this@AchievedThresholdCache.markAchieved(userId, type, threshold)
+            }
+        })
+    }
+
+    fun evict(userId: Long) {
+        cache.invalidate(userId)
+    }
+
+    private fun markAchieved(userId: Long, type: AchievementType, threshold: Long) {
+        val state = cache.getIfPresent(userId) ?: return
+        if (state.get(type) != NOT_LOADED) state.set(type, maxOf(state.get(type), threshold))
+    }
+
+    private fun loadAchievedThreshold(userId: Long, type: AchievementType): Long {
+        val notAchieved = achievementRepository.findNotAchievedAchievement(type, userId) ?: return Long.MAX_VALUE
+        return thresholdIndex.previousThresholdBelow(type, notAchieved.targetValue) ?: NONE_ACHIEVED
+    }
+
+    private class UserThresholdState(val indexVersion: Long) {
+        private val achievedThresholds = LongArray(AchievementType.values().size) { NOT_LOADED }
+
+        @Synchronized
+        fun get(type: AchievementType): Long = achievedThresholds[type.ordinal]
+
+        @Synchronized
+        fun set(type: AchievementType, threshold: Long) {
+            achievedThresholds[type.ordinal] = threshold
+        }
+    }
+
+    companion object {
+        private const val NOT_LOADED = Long.MIN_VALUE
+        const val NONE_ACHIEVED = Long.MIN_VALUE + 1
+    }
+}
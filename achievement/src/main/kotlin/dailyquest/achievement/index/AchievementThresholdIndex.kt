@@ -0,0 +1,125 @@
+package dailyquest.achievement.index
+
+import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.repository.AchievementRepository
+import org.slf4j.LoggerFactory
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.LocalDateTime
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 활성화된 업적의 목표값을 타입별 정렬 배열로 들고 있는 노드 로컬 인덱스.
+ * 업적이 등록, 활성화, 비활성화되면 다시 만들어지고 버전이 올라간다.
+ * 다른 노드에서 변경된 경우에는 주기적으로 업적 수와 마지막 수정 시각을 비교해 다시 만든다.
+ */
+@Component
+class AchievementThresholdIndex(
+    private val achievementRepository: AchievementRepository,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val snapshot = AtomicReference<Snapshot?>()
+
+    val version: Long
+        get() = this.getSnapshot().version
+
+    /**
+     * [achievedThreshold]보다 큰 목표값 중 가장 작은 값을 반환한다. 없으면 null을 반환한다.
+     */
+    fun nextThresholdAbove(type: AchievementType, achievedThreshold: Long): Long? {
+        val thresholds = this.getSnapshot().thresholdsOf(type)
+        val position = upperBound(thresholds, achievedThreshold)
+        return if (position < thresholds.size) thresholds[position] else null
+    }
+
+    /**
+     * [threshold]보다 작은 목표값 중 가장 큰 값을 반환한다. 없으면 null을 반환한다.
+     */
+    fun previousThresholdBelow(type: AchievementType, threshold: Long): Long? {
+        val thresholds = this.getSnapshot().thresholdsOf(type)
+        val position = lowerBound(thresholds, threshold)
+        return if (position > 0) thresholds[position - 1] else null
+    }
+
+    fun rebuild() {
+        val signature = this.loadSignature()
+        val thresholds = achievementRepository.getAllActivated()
+            .groupBy({ it.type }, { it.targetValue })
+            .mapValues { (_, values) -> values.toLongArray().also { it.sort() } }
+        snapshot.updateAndGet { current -> Snapshot((current?.version ?: 0) + 1, signature, thresholds) }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 인덱스를 다시 만든다. 트랜잭션이 없으면 바로 다시 만든다.
+     */
+    fun rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.rebuild()
+            return
+        }
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                this@AchievementThresholdIndex.rebuild()
+            }
+        })
+    }
+
+    @Scheduled(
+        fixedDelayString = "\${achievement.threshold.refresh-interval-millis:10000}",
+        initialDelayString = "\${achievement.threshold.refresh-interval-millis:10000}"
+    )
+    fun refreshIfChanged() {
+        try {
+            val current = snapshot.get()
+            if (current == null || current.signature != this.loadSignature()) {
+                this.rebuild()
+            }
+        } catch (e: Exception) {
+            log.error("[AchievementThresholdIndex] 업적 목표값 인덱스 갱신에 실패했습니다.", e)
+        }
+    }
+
+    private fun getSnapshot(): Snapshot {
+        return snapshot.get() ?: run { this.rebuild(); snapshot.get()!! }
+    }
+
+    private fun loadSignature(): Signature {
+        return Signature(achievementRepository.count(), achievementRepository.getLastModifiedDate())
+    }
+
+    private fun upperBound(thresholds: LongArray, value: Long): Int {
+        var low = 0
+        var high = thresholds.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (thresholds[mid] <= value) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    private fun lowerBound(thresholds: LongArray, value: Long): Int {
+        var low = 0
+        var high = thresholds.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (thresholds[mid] < value) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    private data class Signature(val count: Long, val lastModifiedDate: LocalDateTime?)
+
+    private class Snapshot(
+        val version: Long,
+        val signature: Signature,
+        private val thresholds: Map<AchievementType, LongArray>,
+    ) {
+        fun thresholdsOf(type: AchievementType): LongArray = thresholds[type] ?: EMPTY
+    }
+
+    companion object {
+        private val EMPTY = LongArray(0)
+    }
+}
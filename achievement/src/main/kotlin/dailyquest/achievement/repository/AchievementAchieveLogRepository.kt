@@ -3,4 +3,4 @@ package dailyquest.achievement.repository
 import dailyquest.achievement.entity.AchievementAchieveLog
 import org.springframework.data.jpa.repository.JpaRepository
 
-interface AchievementAchieveLogRepository: JpaRepository<AchievementAchieveLog, Long>
\ No newline at end of file
+interface AchievementAchieveLogRepository: JpaRepository<AchievementAchieveLog, Long>, AchievementAchieveLogRepositoryCustom
@@ -0,0 +1,8 @@
+package dailyquest.achievement.repository
+
+interface AchievementAchieveLogRepositoryCustom {
+    /**
+     * 유저의 업적 달성 로그를 저장한다. 이미 달성한 업적은 무시하며, 새로 저장된 업적 ID 목록을 반환한다.
+     */
+    fun insertAllIfAbsent(userId: Long, achievementIds: List<Long>): List<Long>
+}
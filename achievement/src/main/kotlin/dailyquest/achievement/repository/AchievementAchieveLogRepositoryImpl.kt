@@ -0,0 +1,56 @@
+package dailyquest.achievement.repository
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.dao.DuplicateKeyException
+import org.springframework.jdbc.core.JdbcTemplate
+import java.sql.Timestamp
+import java.time.LocalDateTime
+import java.time.temporal.ChronoUnit
+
+class AchievementAchieveLogRepositoryImpl @Autowired constructor(
+    private val jdbcTemplate: JdbcTemplate,
+): AchievementAchieveLogRepositoryCustom {
+
+    /**
+     * 이미 달성한 업적을 한 번의 조회로 거른 뒤 나머지를 하나의 JDBC 배치로 저장한다.
+     * 그 사이 다른 요청이 같은 업적을 먼저 저장해 유니크 키가 중복되면 다시 조회해 남은 업적만 저장하며, 그 외의 오류는 그대로 던진다.
+     * 배치가 중간에 실패해 일부만 저장된 경우에도 이번 호출의 생성 시각으로 저장된 행은 이번 호출이 저장한 것으로 판단한다.
+     */
+    override fun insertAllIfAbsent(userId: Long, achievementIds: List<Long>): List<Long> {
+        val distinctIds = achievementIds.distinct()
+        if (distinctIds.isEmpty()) return emptyList()
+        val createdDate = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+        var attempt = 0
+        while (true) {
+            val achievedLogs = this.findCreatedDatesByAchievementId(userId, distinctIds)
+            val insertedIds = achievedLogs.filterValues { it == createdDate }.keys
+            val absentIds = distinctIds.filterNot { it in achievedLogs }
+            try {
+                this.batchInsert(userId, absentIds, createdDate)
+                return distinctIds.filter { it in insertedIds || it in absentIds }
+            } catch (e: DuplicateKeyException) {
+                if (++attempt >= MAX_ATTEMPTS) throw e
+            }
+        }
+    }
+
+    private fun findCreatedDatesByAchievementId(userId: Long, achievementIds: List<Long>): Map<Long, Timestamp> {
+        val placeholders = achievementIds.joinToString(", ") { "?" }
+        val sql = "select achievement_id, created_date from achievement_achieve_log where user_id = ? and achievement_id in ($placeholders)"
+        return jdbcTemplate.query(sql, { rs, _ -> rs.getLong(1) to rs.getTimestamp(2) }, userId, *achievementIds.toTypedArray()).toMap()
+    }
+
+    private fun batchInsert(userId: Long, achievementIds: List<Long>, createdDate: Timestamp) {
+        if (achievementIds.isEmpty()) return
+        val sql = "insert into achievement_achieve_log (achievement_id, user_id, created_date) values (?, ?, ?)"
+        jdbcTemplate.batchUpdate(sql, achievementIds, achievementIds.size) { ps, achievementId ->
+            ps.setLong(1, achievementId)
+            ps.setLong(2, userId)
+            ps.setTimestamp(3, createdDate)
+        }
+    }
+
+    companion object {
+        private const val MAX_ATTEMPTS = 3
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.data.jpa.repository.Query
 import org.springframework.data.repository.query.Param
+import java.time.LocalDateTime
 
 interface AchievementRepository: JpaRepository<Achievement, Long>{
     @Query("select a " +
@@ -17,11 +18,29 @@ interface AchievementRepository: JpaRepository<Achievement, Long>{
             "order by a.targetValue " +
             "limit 1")
     fun findNotAchievedAchievement(@Param("type") type: AchievementType, @Param("userId") userId: Long): Achievement?
+
+    @Query("select a " +
+            "from Achievement a " +
+            "left join AchievementAchieveLog al " +
+            "on al.userId = :userId and al.achievement.id = a.id " +
+            "where a.type = :type and al.achievement.id is null and a.inactivated = false and a.targetValue <= :currentValue " +
+            "order by a.targetValue")
+    fun findNotAchievedAchievementsUpTo(
+        @Param("type") type: AchievementType,
+        @Param("userId") userId: Long,
+        @Param("currentValue") currentValue: Long
+    ): List<Achievement>
     fun existsByTypeAndTargetValue(type: AchievementType, targetValue: Long): Boolean
 
     @Query("select a from Achievement a where a.type = :type and a.inactivated = false order by a.targetValue")
     fun getAllActivatedOfType(@Param("type") type: AchievementType): List<Achievement>
 
+    @Query("select a from Achievement a where a.inactivated = false")
+    fun getAllActivated(): List<Achievement>
+
+    @Query("select max(a.lastModifiedDate) from Achievement a")
+    fun getLastModifiedDate(): LocalDateTime?
+
     @Query(
         "select a " +
                 "from Achievement a " +
@@ -1,8 +1,7 @@
 package dailyquest.achievement.service
 
-import dailyquest.achievement.entity.AchievementAchieveLog
+import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.repository.AchievementAchieveLogRepository
-import dailyquest.achievement.repository.AchievementRepository
 import dailyquest.notification.dto.AchieveNotificationSaveRequest
 import dailyquest.notification.service.NotificationService
 import org.springframework.stereotype.Service
@@ -12,15 +11,13 @@ import org.springframework.transaction.annotation.Transactional
 @Service
 class AchievementAchieveLogCommandService(
     private val achieveLogRepository: AchievementAchieveLogRepository,
-    private val achievementRepository: AchievementRepository,
     private val notificationService: NotificationService
 ) {
-    fun saveAchieveLog(achievementId: Long, userId: Long) {
-        val achievedAchievement = achievementRepository.getReferenceById(achievementId)
-        val achieveLog = AchievementAchieveLog.of(achievedAchievement, userId)
-        achieveLogRepository.save(achieveLog)
-
-        val notificationSaveRequest = AchieveNotificationSaveRequest.of(userId, achievedAchievement)
-        notificationService.saveNotification(notificationSaveRequest, userId)
+    fun saveAchieveLogs(achievements: List<Achievement>, userId: Long) {
+        val achievedIds = achieveLogRepository.insertAllIfAbsent(userId, achievements.map { it.id }).toSet()
+        val notificationSaveRequests = achievements
+            .filter { it.id in achievedIds }
+            .map { AchieveNotificationSaveRequest.of(userId, it) }
+        notificationService.saveNotifications(notificationSaveRequests)
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,8 @@ import dailyquest.achievement.dto.AchievementSaveRequest
 import dailyquest.achievement.dto.AchievementUpdateRequest
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.index.AchievedThresholdCache
+import dailyquest.achievement.index.AchievementThresholdIndex
 import dailyquest.achievement.repository.AchievementRepository
 import dailyquest.properties.AchievementPageSizeProperties
 import org.springframework.context.support.MessageSourceAccessor
@@ -21,7 +23,9 @@ class AchievementService(
     private val achievementRepository: AchievementRepository,
     private val achievementPageSizeProperties: AchievementPageSizeProperties,
     private val achieveLogCommandService: AchievementAchieveLogCommandService,
-    private val messageSourceAccessor: MessageSourceAccessor
+    private val messageSourceAccessor: MessageSourceAccessor,
+    private val thresholdIndex: AchievementThresholdIndex,
+    private val achievedThresholdCache: AchievedThresholdCache,
 ) {
     fun getAchievedAchievements(userId: Long, page: Int): Page<AchievementResponse> {
         val pageRequest = PageRequest.of(page, achievementPageSizeProperties.size)
@@ -36,14 +40,25 @@ class AchievementService(
 
     @Transactional
     fun checkAndAchieveAchievement(achieveRequest: AchievementAchieveRequest) {
-        val targetAchievement = this.getNotAchievedAchievement(achieveRequest)
-        if (targetAchievement?.canAchieve(achieveRequest.currentValue) == true) {
-            achieveLogCommandService.saveAchieveLog(targetAchievement.id, achieveRequest.userId)
+        if (!this.isCrossingThreshold(achieveRequest)) return
+        val targetAchievements = this.getNotAchievedAchievementsUpTo(achieveRequest)
+        if (targetAchievements.isEmpty()) {
+            achievedThresholdCache.evict(achieveRequest.userId)
+            return
         }
+        achieveLogCommandService.saveAchieveLogs(targetAchievements, achieveRequest.userId)
+        val achievedThreshold = targetAchievements.maxOf { it.targetValue }
+        achievedThresholdCache.markAchievedAfterCommit(achieveRequest.userId, achieveRequest.type, achievedThreshold)
     }
 
-    private fun getNotAchievedAchievement(achieveRequest: AchievementAchieveRequest): Achievement? {
-        return achievementRepository.findNotAchievedAchievement(achieveRequest.type, achieveRequest.userId)
+    private fun isCrossingThreshold(achieveRequest: AchievementAchieveRequest): Boolean {
+        val achievedThreshold = achievedThresholdCache.getAchievedThreshold(achieveRequest.userId, achieveRequest.type)
+        val nextThreshold = thresholdIndex.nextThresholdAbove(achieveRequest.type, achievedThreshold) ?: return false
+        return nextThreshold <= achieveRequest.currentValue
+    }
+
+    private fun getNotAchievedAchievementsUpTo(achieveRequest: AchievementAchieveRequest): List<Achievement> {
+        return achievementRepository.findNotAchievedAchievementsUpTo(achieveRequest.type, achieveRequest.userId, achieveRequest.currentValue)
     }
 
     @Transactional
@@ -56,6 +71,7 @@ class AchievementService(
         }
         val saveEntity = saveRequest.mapToEntity()
         achievementRepository.save(saveEntity)
+        thresholdIndex.rebuildAfterCommit()
         return saveEntity.id
     }
 
@@ -73,12 +89,14 @@ class AchievementService(
     fun inactivateAchievement(achievementId: Long) {
         val updateTarget = achievementRepository.findByIdOrNull(achievementId)
         updateTarget?.inactivateAchievement()
+        thresholdIndex.rebuildAfterCommit()
     }
 
     @Transactional
     fun activateAchievement(achievementId: Long) {
         val updateTarget = achievementRepository.findByIdOrNull(achievementId)
         updateTarget?.activateAchievement()
+        thresholdIndex.rebuildAfterCommit()
     }
 
     fun getAllAchievementsGroupByType(): Map<AchievementType, List<AchievementResponse>> {
@@ -0,0 +1,9 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "achievement.threshold")
+class AchievementThresholdProperties(
+    val userStateMaximumSize: Long = 100_000,
+    val userStateTtlSeconds: Long = 1800,
+)
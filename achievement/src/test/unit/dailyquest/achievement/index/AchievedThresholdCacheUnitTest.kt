@@ -0,0 +1,126 @@
+package dailyquest.achievement.index
+
+import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementType.QUEST_COMPLETION
+import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.properties.AchievementThresholdProperties
+import io.mockk.every
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("유저별 달성 목표값 캐시 유닛 테스트")
+class AchievedThresholdCacheUnitTest {
+    @RelaxedMockK
+    private lateinit var achievementRepository: AchievementRepository
+    @RelaxedMockK
+    private lateinit var thresholdIndex: AchievementThresholdIndex
+    private lateinit var achievedThresholdCache: AchievedThresholdCache
+    private val userId = 1L
+
+    @BeforeEach
+    fun init() {
+        every { thresholdIndex.version } returns 1L
+        achievedThresholdCache = AchievedThresholdCache(achievementRepository, thresholdIndex, AchievementThresholdProperties())
+    }
+
+    @DisplayName("getAchievedThreshold 호출 시")
+    @Nested
+    inner class TestGetAchievedThreshold {
+        @DisplayName("달성하지 못한 가장 작은 목표값의 바로 아래 목표값을 반환한다")
+        @Test
+        fun `달성하지 못한 가장 작은 목표값의 바로 아래 목표값을 반환한다`() {
+            //given
+            every { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) } returns Achievement("", "", QUEST_COMPLETION, 10)
+            every { thresholdIndex.previousThresholdBelow(QUEST_COMPLETION, 10) } returns 5L
+
+            //when
+            val achieved = achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+
+            //then
+            assertThat(achieved).isEqualTo(5L)
+        }
+
+        @DisplayName("달성한 업적이 없으면 NONE_ACHIEVED를 반환한다")
+        @Test
+        fun `달성한 업적이 없으면 NONE_ACHIEVED를 반환한다`() {
+            //given
+            every { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) } returns Achievement("", "", QUEST_COMPLETION, 1)
+            every { thresholdIndex.previousThresholdBelow(QUEST_COMPLETION, 1) } returns null
+
+            //when
+            val achieved = achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+
+            //then
+            assertThat(achieved).isEqualTo(AchievedThresholdCache.NONE_ACHIEVED)
+        }
+
+        @DisplayName("모든 업적을 달성했으면 Long.MAX_VALUE를 반환한다")
+        @Test
+        fun `모든 업적을 달성했으면 Long_MAX_VALUE를 반환한다`() {
+            //given
+            every { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) } returns null
+
+            //when
+            val achieved = achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+
+            //then
+            assertThat(achieved).isEqualTo(Long.MAX_VALUE)
+        }
+
+        @DisplayName("한 번 계산한 값은 다시 DB에서 조회하지 않는다")
+        @Test
+        fun `한 번 계산한 값은 다시 DB에서 조회하지 않는다`() {
+            //given
+            every { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) } returns null
+
+            //when
+            achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+            achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+
+            //then
+            verify(exactly = 1) { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) }
+        }
+
+        @DisplayName("인덱스 버전이 바뀌면 DB에서 다시 계산한다")
+        @Test
+        fun `인덱스 버전이 바뀌면 DB에서 다시 계산한다`() {
+            //given
+            every { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) } returns null
+            achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+            every { thresholdIndex.version } returns 2L
+
+            //when
+            achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+
+            //then
+            verify(exactly = 2) { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) }
+        }
+    }
+
+    @DisplayName("markAchievedAfterCommit 호출 시")
+    @Nested
+    inner class TestMarkAchievedAfterCommit {
+        @DisplayName("트랜잭션이 없으면 달성한 목표값을 바로 반영한다")
+        @Test
+        fun `트랜잭션이 없으면 달성한 목표값을 바로 반영한다`() {
+            //given
+            every { achievementRepository.findNotAchievedAchievement(QUEST_COMPLETION, userId) } returns Achievement("", "", QUEST_COMPLETION, 10)
+            every { thresholdIndex.previousThresholdBelow(QUEST_COMPLETION, 10) } returns 5L
+            achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)
+
+            //when
+            achievedThresholdCache.markAchievedAfterCommit(userId, QUEST_COMPLETION, 10)
+
+            //then
+            assertThat(achievedThresholdCache.getAchievedThreshold(userId, QUEST_COMPLETION)).isEqualTo(10L)
+        }
+    }
+}
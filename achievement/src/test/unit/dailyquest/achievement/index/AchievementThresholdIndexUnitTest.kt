@@ -0,0 +1,138 @@
+package dailyquest.achievement.index
+
+import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementType.GOLD_EARN
+import dailyquest.achievement.entity.AchievementType.QUEST_COMPLETION
+import dailyquest.achievement.repository.AchievementRepository
+import io.mockk.every
+import io.mockk.impl.annotations.InjectMockKs
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import java.time.LocalDateTime
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("업적 목표값 인덱스 유닛 테스트")
+class AchievementThresholdIndexUnitTest {
+    @RelaxedMockK
+    private lateinit var achievementRepository: AchievementRepository
+    @InjectMockKs
+    private lateinit var thresholdIndex: AchievementThresholdIndex
+    private val lastModifiedDate = LocalDateTime.of(2022, 12, 1, 0, 0)
+
+    @BeforeEach
+    fun init() {
+        every { achievementRepository.count() } returns 3L
+        every { achievementRepository.getLastModifiedDate() } returns lastModifiedDate
+        every { achievementRepository.getAllActivated() } returns listOf(
+            Achievement("", "", QUEST_COMPLETION, 10),
+            Achievement("", "", QUEST_COMPLETION, 1),
+            Achievement("", "", QUEST_COMPLETION, 5),
+        )
+    }
+
+    @DisplayName("nextThresholdAbove 호출 시")
+    @Nested
+    inner class TestNextThresholdAbove {
+        @DisplayName("달성한 목표값보다 큰 목표값 중 가장 작은 값을 반환한다")
+        @Test
+        fun `달성한 목표값보다 큰 목표값 중 가장 작은 값을 반환한다`() {
+            //given
+            //when
+            val next = thresholdIndex.nextThresholdAbove(QUEST_COMPLETION, 1)
+
+            //then
+            assertThat(next).isEqualTo(5)
+        }
+
+        @DisplayName("달성한 목표값이 가장 큰 목표값 이상이면 null을 반환한다")
+        @Test
+        fun `달성한 목표값이 가장 큰 목표값 이상이면 null을 반환한다`() {
+            //given
+            //when
+            val next = thresholdIndex.nextThresholdAbove(QUEST_COMPLETION, 10)
+
+            //then
+            assertThat(next).isNull()
+        }
+
+        @DisplayName("해당 타입의 업적이 없으면 null을 반환한다")
+        @Test
+        fun `해당 타입의 업적이 없으면 null을 반환한다`() {
+            //given
+            //when
+            val next = thresholdIndex.nextThresholdAbove(GOLD_EARN, 0)
+
+            //then
+            assertThat(next).isNull()
+        }
+    }
+
+    @DisplayName("previousThresholdBelow 호출 시")
+    @Nested
+    inner class TestPreviousThresholdBelow {
+        @DisplayName("목표값보다 작은 목표값 중 가장 큰 값을 반환한다")
+        @Test
+        fun `목표값보다 작은 목표값 중 가장 큰 값을 반환한다`() {
+            //given
+            //when
+            val previous = thresholdIndex.previousThresholdBelow(QUEST_COMPLETION, 10)
+
+            //then
+            assertThat(previous).isEqualTo(5)
+        }
+
+        @DisplayName("가장 작은 목표값이면 null을 반환한다")
+        @Test
+        fun `가장 작은 목표값이면 null을 반환한다`() {
+            //given
+            //when
+            val previous = thresholdIndex.previousThresholdBelow(QUEST_COMPLETION, 1)
+
+            //then
+            assertThat(previous).isNull()
+        }
+    }
+
+    @DisplayName("refreshIfChanged 호출 시")
+    @Nested
+    inner class TestRefreshIfChanged {
+        @DisplayName("업적 수와 마지막 수정 시각이 같으면 다시 만들지 않는다")
+        @Test
+        fun `업적 수와 마지막 수정 시각이 같으면 다시 만들지 않는다`() {
+            //given
+            thresholdIndex.rebuild()
+            val version = thresholdIndex.version
+
+            //when
+            thresholdIndex.refreshIfChanged()
+
+            //then
+            assertThat(thresholdIndex.version).isEqualTo(version)
+            verify(exactly = 1) { achievementRepository.getAllActivated() }
+        }
+
+        @DisplayName("마지막 수정 시각이 바뀌면 다시 만들고 버전을 올린다")
+        @Test
+        fun `마지막 수정 시각이 바뀌면 다시 만들고 버전을 올린다`() {
+            //given
+            thresholdIndex.rebuild()
+            val version = thresholdIndex.version
+            every { achievementRepository.getLastModifiedDate() } returns lastModifiedDate.plusSeconds(1)
+            every { achievementRepository.getAllActivated() } returns listOf(Achievement("", "", QUEST_COMPLETION, 1))
+
+            //when
+            thresholdIndex.refreshIfChanged()
+
+            //then
+            assertThat(thresholdIndex.version).isGreaterThan(version)
+            assertThat(thresholdIndex.nextThresholdAbove(QUEST_COMPLETION, 1)).isNull()
+        }
+    }
+}
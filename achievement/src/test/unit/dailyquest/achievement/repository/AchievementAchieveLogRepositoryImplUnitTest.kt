@@ -0,0 +1,95 @@
+package dailyquest.achievement.repository
+
+import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementAchieveLog
+import dailyquest.achievement.entity.AchievementType.GOLD_EARN
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.test.context.TestPropertySource
+
+@DisplayName("업적 달성 로그 리포지토리 구현체 유닛 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = ["spring.datasource.url=jdbc:h2:mem:achieve-log;MODE=MySQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1"])
+@DataJpaTest
+class AchievementAchieveLogRepositoryImplUnitTest {
+
+    @Autowired
+    private lateinit var achievementRepository: AchievementRepository
+
+    @Autowired
+    private lateinit var achieveLogRepository: AchievementAchieveLogRepository
+
+    @DisplayName("insertAllIfAbsent 호출 시")
+    @Nested
+    inner class TestInsertAllIfAbsent {
+        private val userId = 1L
+
+        @DisplayName("모든 업적의 달성 로그를 저장하고 저장된 업적 ID를 반환한다")
+        @Test
+        fun `모든 업적의 달성 로그를 저장하고 저장된 업적 ID를 반환한다`() {
+            //given
+            val achievements = listOf(
+                achievementRepository.save(Achievement("", "", GOLD_EARN, 1)),
+                achievementRepository.save(Achievement("", "", GOLD_EARN, 2)),
+            )
+            val achievementIds = achievements.map { it.id }
+
+            //when
+            val inserted = achieveLogRepository.insertAllIfAbsent(userId, achievementIds)
+
+            //then
+            assertThat(inserted).containsExactlyElementsOf(achievementIds)
+            assertThat(achieveLogRepository.findAll()).hasSize(2)
+        }
+
+        @DisplayName("이미 달성한 업적은 무시하고 저장된 업적 ID만 반환한다")
+        @Test
+        fun `이미 달성한 업적은 무시하고 저장된 업적 ID만 반환한다`() {
+            //given
+            val achieved = achievementRepository.save(Achievement("", "", GOLD_EARN, 1))
+            val notAchieved = achievementRepository.save(Achievement("", "", GOLD_EARN, 2))
+            achieveLogRepository.saveAndFlush(AchievementAchieveLog.of(achieved, userId))
+
+            //when
+            val inserted = achieveLogRepository.insertAllIfAbsent(userId, listOf(achieved.id, notAchieved.id))
+
+            //then
+            assertThat(inserted).containsExactly(notAchieved.id)
+            assertThat(achieveLogRepository.findAll()).hasSize(2)
+        }
+
+        @DisplayName("같은 업적 ID가 여러 번 전달되어도 한 번만 저장한다")
+        @Test
+        fun `같은 업적 ID가 여러 번 전달되어도 한 번만 저장한다`() {
+            //given
+            val achievement = achievementRepository.save(Achievement("", "", GOLD_EARN, 1))
+
+            //when
+            val inserted = achieveLogRepository.insertAllIfAbsent(userId, listOf(achievement.id, achievement.id))
+
+            //then
+            assertThat(inserted).containsExactly(achievement.id)
+            assertThat(achieveLogRepository.findAll()).hasSize(1)
+        }
+
+        @DisplayName("중복이 아닌 오류는 무시하지 않고 예외를 던진다")
+        @Test
+        fun `중복이 아닌 오류는 무시하지 않고 예외를 던진다`() {
+            //given
+            val notExistAchievementId = Long.MAX_VALUE
+
+            //when
+            //then
+            assertThrows<DataIntegrityViolationException> {
+                achieveLogRepository.insertAllIfAbsent(userId, listOf(notExistAchievementId))
+            }
+        }
+    }
+}
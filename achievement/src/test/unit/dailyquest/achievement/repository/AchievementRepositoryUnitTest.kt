@@ -25,6 +25,32 @@ class AchievementRepositoryUnitTest {
     @Autowired
     private lateinit var achieveLogRepository: AchievementAchieveLogRepository
 
+    @DisplayName("findNotAchievedAchievementsUpTo 호출 시")
+    @Nested
+    inner class TestFindNotAchievedAchievementsUpTo {
+        @DisplayName("현재 값 이하의 달성하지 않은 활성 업적만 목표값 순으로 조회된다")
+        @Test
+        fun `현재 값 이하의 달성하지 않은 활성 업적만 목표값 순으로 조회된다`() {
+            //given
+            val userId = 1L
+            val achieved = achievementRepository.save(Achievement("", "", QUEST_REGISTRATION, 1))
+            val second = achievementRepository.save(Achievement("", "", QUEST_REGISTRATION, 3))
+            val first = achievementRepository.save(Achievement("", "", QUEST_REGISTRATION, 2))
+            val inactivated = Achievement("", "", QUEST_REGISTRATION, 4)
+            inactivated.inactivateAchievement()
+            achievementRepository.save(inactivated)
+            achievementRepository.save(Achievement("", "", QUEST_REGISTRATION, 6))
+            achievementRepository.save(Achievement("", "", QUEST_COMPLETION, 1))
+            achieveLogRepository.save(AchievementAchieveLog.of(achieved, userId))
+
+            //when
+            val result = achievementRepository.findNotAchievedAchievementsUpTo(QUEST_REGISTRATION, userId, 5)
+
+            //then
+            assertThat(result).containsExactly(first, second)
+        }
+    }
+
     @DisplayName("findNotAchievedAchievement 호출 시")
     @Nested
     inner class TestFindNotAchievedAchievement {
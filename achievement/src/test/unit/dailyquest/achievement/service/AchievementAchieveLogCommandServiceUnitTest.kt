@@ -1,15 +1,18 @@
 package dailyquest.achievement.service
 
 import dailyquest.achievement.entity.Achievement
+import dailyquest.achievement.entity.AchievementType.GOLD_EARN
 import dailyquest.achievement.repository.AchievementAchieveLogRepository
-import dailyquest.achievement.repository.AchievementRepository
+import dailyquest.notification.dto.NotificationSaveRequest
 import dailyquest.notification.service.NotificationService
 import io.mockk.every
 import io.mockk.impl.annotations.InjectMockKs
 import io.mockk.impl.annotations.RelaxedMockK
 import io.mockk.junit5.MockKExtension
-import io.mockk.verifyAll
-import org.junit.jupiter.api.BeforeEach
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
@@ -24,36 +27,37 @@ class AchievementAchieveLogCommandServiceUnitTest {
     @RelaxedMockK
     private lateinit var achieveLogRepository: AchievementAchieveLogRepository
     @RelaxedMockK
-    private lateinit var achievementRepository: AchievementRepository
-    @RelaxedMockK
     private lateinit var notificationService: NotificationService
 
     @DisplayName("업적 달성 로그 저장 시")
     @Nested
-    inner class TestSaveAchieveLog {
-
-        @RelaxedMockK
-        private lateinit var achievement: Achievement
-
-        @BeforeEach
-        fun init() {
-            every { achieveLogRepository.save(any()) } answers { nothing }
-            every { achievementRepository.getReferenceById(any()) } returns achievement
-            every { notificationService.saveNotification(any(), any()) } answers { nothing }
+    inner class TestSaveAchieveLogs {
+        private val userId = 1L
+
+        private fun achievementOf(id: Long): Achievement {
+            val achievement = mockk<Achievement>(relaxed = true)
+            every { achievement.id } returns id
+            every { achievement.type } returns GOLD_EARN
+            every { achievement.targetValue } returns id
+            return achievement
         }
 
-        @DisplayName("달성 로그를 저장하고 알림도 저장한다")
+        @DisplayName("달성 로그를 한 번에 저장하고 새로 저장된 업적만 알림을 저장한다")
         @Test
-        fun `달성 로그를 저장하고 알림도 저장한다`() {
+        fun `달성 로그를 한 번에 저장하고 새로 저장된 업적만 알림을 저장한다`() {
             //given
+            val achieved = achievementOf(1L)
+            val alreadyAchieved = achievementOf(2L)
+            every { achieveLogRepository.insertAllIfAbsent(userId, any()) } returns listOf(achieved.id)
+            val notificationsSlot = slot<List<NotificationSaveRequest>>()
+            every { notificationService.saveNotifications(capture(notificationsSlot)) } answers { nothing }
+
             //when
-            achievementAchieveLogCommandService.saveAchieveLog(1L, 1L)
+            achievementAchieveLogCommandService.saveAchieveLogs(listOf(achieved, alreadyAchieved), userId)
 
             //then
-            verifyAll {
-                achieveLogRepository.save(any())
-                notificationService.saveNotification(any(), any())
-            }
+            verify { achieveLogRepository.insertAllIfAbsent(eq(userId), eq(listOf(achieved.id, alreadyAchieved.id))) }
+            assertThat(notificationsSlot.captured).hasSize(1)
         }
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,8 @@ import dailyquest.achievement.dto.AchievementUpdateRequest
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementType
 import dailyquest.achievement.entity.AchievementType.*
+import dailyquest.achievement.index.AchievedThresholdCache
+import dailyquest.achievement.index.AchievementThresholdIndex
 import dailyquest.achievement.repository.AchievementRepository
 import dailyquest.notification.service.NotificationService
 import dailyquest.properties.AchievementPageSizeProperties
@@ -37,6 +39,10 @@ class AchievementServiceUnitTest {
     private lateinit var notificationService: NotificationService
     @RelaxedMockK
     private lateinit var messageSourceAccessor: MessageSourceAccessor
+    @RelaxedMockK
+    private lateinit var thresholdIndex: AchievementThresholdIndex
+    @RelaxedMockK
+    private lateinit var achievedThresholdCache: AchievedThresholdCache
     @InjectMockKs
     private lateinit var achievementService: AchievementService
 
@@ -89,58 +95,99 @@ class AchievementServiceUnitTest {
     @DisplayName("checkAndAchieveAchievement 호출 시")
     @Nested
     inner class TestCheckAndAchieveAchievement {
-        @DisplayName("리포지토리 반환 결과가 null이면 업적이 달성되지 않는다")
+        @BeforeEach
+        fun init() {
+            every { achievedThresholdCache.getAchievedThreshold(any(), any()) } returns 0L
+            every { thresholdIndex.nextThresholdAbove(any(), any()) } returns 0L
+        }
+
+        @DisplayName("달성하지 않은 업적이 없으면 업적 달성 로그를 저장하지 않는다")
         @Test
-        fun `리포지토리 반환 결과가 null이면 업적이 달성되지 않는다`() {
+        fun `달성하지 않은 업적이 없으면 업적 달성 로그를 저장하지 않는다`() {
             //given
-            every { achievementRepository.findNotAchievedAchievement(any(), any()) } returns null
+            every { achievementRepository.findNotAchievedAchievementsUpTo(any(), any(), any()) } returns emptyList()
             val achieveRequest = mockk<AchievementAchieveRequest>(relaxed = true)
 
             //when
             achievementService.checkAndAchieveAchievement(achieveRequest)
-            
+
             //then
             verify(inverse = true) {
-                achieveLogCommandService.saveAchieveLog(any(), any())
+                achieveLogCommandService.saveAchieveLogs(any(), any())
             }
         }
 
-        @DisplayName("리포지토리 반환 결과가 null이 아니고 달성 가능 여부가 true면 업적 달성 로그를 저장한다")
+        @DisplayName("현재 값 이하의 달성하지 않은 업적을 모두 한 번에 저장한다")
         @Test
-        fun `리포지토리 반환 결과가 null이 아니고 달성 가능 여부가 true면 업적 달성 로그를 저장한다`() {
+        fun `현재 값 이하의 달성하지 않은 업적을 모두 한 번에 저장한다`() {
             //given
-            val achievementId = 1L
-            val achievement: Achievement = mockk(relaxed = true)
-            every { achievement.id } returns achievementId
-            every { achievement.canAchieve(any()) } returns true
-            every { achievementRepository.findNotAchievedAchievement(any(), any()) } returns achievement
+            val userId = 1L
+            val currentValue = 10L
+            val achievements = listOf(Achievement("", "", GOLD_EARN, 1L), Achievement("", "", GOLD_EARN, 10L))
             val achieveRequest = mockk<AchievementAchieveRequest>(relaxed = true)
+            every { achieveRequest.userId } returns userId
+            every { achieveRequest.type } returns GOLD_EARN
+            every { achieveRequest.currentValue } returns currentValue
+            every { achievementRepository.findNotAchievedAchievementsUpTo(GOLD_EARN, userId, currentValue) } returns achievements
 
             //when
             achievementService.checkAndAchieveAchievement(achieveRequest)
 
             //then
             verify {
-                achieveLogCommandService.saveAchieveLog(eq(achievementId), any())
+                achieveLogCommandService.saveAchieveLogs(eq(achievements), eq(userId))
             }
         }
 
-        @DisplayName("리포지토리 반환 결과가 null이 아니고 달성 가능 여부가 false면 달성 로그를 저장하지 않는다")
+        @DisplayName("다음 목표값이 없으면 DB를 조회하지 않는다")
         @Test
-        fun `리포지토리 반환 결과가 null이 아니고 달성 가능 여부가 false면 달성 로그를 저장하지 않는다`() {
+        fun `다음 목표값이 없으면 DB를 조회하지 않는다`() {
             //given
-            val achievement: Achievement = mockk(relaxed = true)
-            every { achievement.canAchieve(any()) } returns false
-            every { achievementRepository.findNotAchievedAchievement(any(), any()) } returns achievement
+            every { thresholdIndex.nextThresholdAbove(any(), any()) } returns null
             val achieveRequest = mockk<AchievementAchieveRequest>(relaxed = true)
 
             //when
             achievementService.checkAndAchieveAchievement(achieveRequest)
 
             //then
-            verify(inverse = true) {
-                achieveLogCommandService.saveAchieveLog(any(), any())
-            }
+            verify(inverse = true) { achievementRepository.findNotAchievedAchievementsUpTo(any(), any(), any()) }
+        }
+
+        @DisplayName("현재 값이 다음 목표값보다 작으면 DB를 조회하지 않는다")
+        @Test
+        fun `현재 값이 다음 목표값보다 작으면 DB를 조회하지 않는다`() {
+            //given
+            val achievedThreshold = 5L
+            every { achievedThresholdCache.getAchievedThreshold(any(), eq(QUEST_COMPLETION)) } returns achievedThreshold
+            every { thresholdIndex.nextThresholdAbove(eq(QUEST_COMPLETION), eq(achievedThreshold)) } returns 10L
+            val achieveRequest = mockk<AchievementAchieveRequest>(relaxed = true)
+            every { achieveRequest.type } returns QUEST_COMPLETION
+            every { achieveRequest.currentValue } returns 9L
+
+            //when
+            achievementService.checkAndAchieveAchievement(achieveRequest)
+
+            //then
+            verify(inverse = true) { achievementRepository.findNotAchievedAchievementsUpTo(any(), any(), any()) }
+        }
+
+        @DisplayName("업적을 달성하면 달성한 가장 큰 목표값을 유저 상태에 반영한다")
+        @Test
+        fun `업적을 달성하면 달성한 가장 큰 목표값을 유저 상태에 반영한다`() {
+            //given
+            val userId = 1L
+            val achievements = listOf(Achievement("", "", QUEST_COMPLETION, 5L), Achievement("", "", QUEST_COMPLETION, 10L))
+            every { achievementRepository.findNotAchievedAchievementsUpTo(any(), any(), any()) } returns achievements
+            val achieveRequest = mockk<AchievementAchieveRequest>(relaxed = true)
+            every { achieveRequest.userId } returns userId
+            every { achieveRequest.type } returns QUEST_COMPLETION
+            every { achieveRequest.currentValue } returns 10L
+
+            //when
+            achievementService.checkAndAchieveAchievement(achieveRequest)
+
+            //then
+            verify { achievedThresholdCache.markAchievedAfterCommit(eq(userId), eq(QUEST_COMPLETION), eq(10L)) }
         }
     }
 
@@ -214,6 +261,7 @@ class AchievementServiceUnitTest {
 
             //then
             verify { achievement.inactivateAchievement() }
+            verify { thresholdIndex.rebuildAfterCommit() }
         }
     }
 
@@ -232,6 +280,7 @@ class AchievementServiceUnitTest {
 
             //then
             verify { achievement.activateAchievement() }
+            verify { thresholdIndex.rebuildAfterCommit() }
         }
     }
 
@@ -0,0 +1,21 @@
+package dailyquest.batch.job
+
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.Step
+import org.springframework.batch.core.job.builder.JobBuilder
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+@Configuration
+class RewardLedgerCompactionBatchConfig {
+    @Bean
+    fun rewardLedgerCompactionBatchJob(
+        jobRepository: JobRepository,
+        rewardLedgerCompactionStep: Step,
+    ): Job {
+        return JobBuilder("rewardLedgerCompactionJob", jobRepository)
+            .start(rewardLedgerCompactionStep)
+            .build()
+    }
+}
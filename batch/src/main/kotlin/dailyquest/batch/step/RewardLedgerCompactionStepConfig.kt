@@ -0,0 +1,57 @@
+package dailyquest.batch.step
+
+import dailyquest.properties.RewardLedgerCompactionProperties
+import dailyquest.user.repository.BatchUserRepository
+import dailyquest.user.reward.repository.BatchRewardLedgerRepository
+import org.springframework.batch.core.Step
+import org.springframework.batch.core.configuration.annotation.JobScope
+import org.springframework.batch.core.configuration.annotation.StepScope
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.core.step.builder.StepBuilder
+import org.springframework.batch.core.step.tasklet.Tasklet
+import org.springframework.batch.repeat.RepeatStatus
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.data.domain.PageRequest
+import org.springframework.transaction.PlatformTransactionManager
+
+@Configuration
+class RewardLedgerCompactionStepConfig {
+    @Bean
+    @JobScope
+    fun rewardLedgerCompactionStep(
+        jobRepository: JobRepository,
+        transactionManager: PlatformTransactionManager,
+        rewardLedgerCompactionTasklet: Tasklet,
+    ): Step {
+        return StepBuilder("rewardLedgerCompactionStep", jobRepository)
+            .tasklet(rewardLedgerCompactionTasklet, transactionManager)
+            .build()
+    }
+
+    /**
+     * 합산되지 않은 원장을 청크 단위로 읽어, 읽은 원장만 합산 완료로 표시하고 그 합계를 유저 잔액에 더한다.
+     * 표시와 합산은 한 트랜잭션에서 이루어지므로 늦게 커밋된 원장은 다음 청크나 다음 실행에서 합산된다.
+     */
+    @Bean
+    @StepScope
+    fun rewardLedgerCompactionTasklet(
+        rewardLedgerCompactionProperties: RewardLedgerCompactionProperties,
+        rewardLedgerRepository: BatchRewardLedgerRepository,
+        userRepository: BatchUserRepository,
+    ): Tasklet {
+        val chunkSize = rewardLedgerCompactionProperties.chunkSize
+        return Tasklet { contribution, _ ->
+            val ledgerIds = rewardLedgerRepository.findUncompactedIds(PageRequest.of(0, chunkSize))
+            if (ledgerIds.isEmpty()) return@Tasklet RepeatStatus.FINISHED
+
+            val markedCount = rewardLedgerRepository.markCompacted(ledgerIds)
+            check(markedCount == ledgerIds.size) { "reward ledgers were compacted concurrently" }
+            rewardLedgerRepository.sumByUserIn(ledgerIds).forEach {
+                userRepository.addExpAndGold(it.userId, it.exp, it.gold)
+            }
+            contribution.incrementWriteCount(ledgerIds.size.toLong())
+            RepeatStatus.continueIf(ledgerIds.size == chunkSize)
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "batch.reward-ledger")
+class RewardLedgerCompactionProperties(
+    /**
+     * 한 트랜잭션에서 합산할 원장 수.
+     */
+    val chunkSize: Int = 1000,
+)
@@ -0,0 +1,27 @@
+package dailyquest.quartz.config
+
+import org.quartz.*
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+@Configuration
+class RewardLedgerCompactionQuartzConfig {
+    @Bean
+    fun rewardLedgerCompactionJobDetail(rewardLedgerCompactionQuartzJob: Job): JobDetail {
+        return JobBuilder
+            .newJob(rewardLedgerCompactionQuartzJob.javaClass)
+            .withIdentity("rewardLedgerCompactionJobDetail")
+            .storeDurably()
+            .build()
+    }
+
+    @Bean
+    fun rewardLedgerCompactionJobTrigger(rewardLedgerCompactionJobDetail: JobDetail): Trigger {
+        return TriggerBuilder
+            .newTrigger()
+            .forJob(rewardLedgerCompactionJobDetail)
+            .withIdentity("rewardLedgerCompactionJobTrigger")
+            .withSchedule(CronScheduleBuilder.cronSchedule("0 0/10 * * * ?"))
+            .build()
+    }
+}
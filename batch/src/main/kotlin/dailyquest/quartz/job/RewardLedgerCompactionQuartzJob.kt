@@ -0,0 +1,33 @@
+package dailyquest.quartz.job
+
+import org.quartz.Job
+import org.quartz.JobExecutionContext
+import org.slf4j.LoggerFactory
+import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.core.launch.JobLauncher
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+import java.time.temporal.ChronoUnit
+
+@Component
+class RewardLedgerCompactionQuartzJob(
+    private val jobLauncher: JobLauncher,
+    private val rewardLedgerCompactionBatchJob: org.springframework.batch.core.Job,
+) : Job {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    override fun execute(context: JobExecutionContext) {
+
+        val requestedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)
+        val jobParameters = JobParametersBuilder()
+            .addLocalDateTime("requestedAt", requestedAt)
+            .toJobParameters()
+
+        try {
+            jobLauncher.run(rewardLedgerCompactionBatchJob, jobParameters)
+        } catch (_: JobInstanceAlreadyCompleteException) {
+            log.info("[Duplicated Batch: RewardLedgerCompactionJob] -> {} 보상 원장 합산 배치 작업이 중복으로 발생했습니다.", requestedAt)
+        }
+    }
+}
@@ -1,3 +1,11 @@
 package dailyquest.user.repository
 
-interface BatchUserRepository: UserRepository
\ No newline at end of file
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+
+interface BatchUserRepository: UserRepository {
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.exp = u.exp + :exp, u.gold = u.gold + :gold where u.id = :userId")
+    fun addExpAndGold(@Param("userId") userId: Long, @Param("exp") exp: Long, @Param("gold") gold: Long): Int
+}
@@ -0,0 +1,7 @@
+package dailyquest.user.reward.dto
+
+class UserRewardSum(
+    val userId: Long,
+    val exp: Long,
+    val gold: Long,
+)
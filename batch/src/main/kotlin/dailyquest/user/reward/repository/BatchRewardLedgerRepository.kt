@@ -0,0 +1,26 @@
+package dailyquest.user.reward.repository
+
+import dailyquest.user.reward.dto.UserRewardSum
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+
+interface BatchRewardLedgerRepository : RewardLedgerRepository {
+    @Query("select l.id from RewardLedger l where l.compacted = false order by l.id")
+    fun findUncompactedIds(pageable: Pageable): List<Long>
+
+    /**
+     * [ids] 중 아직 합산되지 않은 원장을 합산 완료로 표시한다.
+     * 반환값이 [ids] 의 크기보다 작다면 다른 실행이 먼저 합산한 것이므로 호출자는 트랜잭션을 롤백해야 한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update RewardLedger l set l.compacted = true where l.id in :ids and l.compacted = false")
+    fun markCompacted(@Param("ids") ids: List<Long>): Int
+
+    @Query("select new dailyquest.user.reward.dto.UserRewardSum(l.userId, sum(l.exp), sum(l.gold)) " +
+            "from RewardLedger l " +
+            "where l.id in :ids " +
+            "group by l.userId")
+    fun sumByUserIn(@Param("ids") ids: List<Long>): List<UserRewardSum>
+}
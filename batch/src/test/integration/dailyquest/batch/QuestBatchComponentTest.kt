@@ -86,7 +86,7 @@ class QuestBatchComponentTest @Autowired constructor(
         //given
         transactionTemplate.executeWithoutResult {
             val query = entityManager
-                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
+                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
                 .setParameter(2, testUser.id)
 
             val resetDate = LocalDate.of(2022, 12, 1)
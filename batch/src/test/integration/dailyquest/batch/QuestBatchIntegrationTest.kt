@@ -107,7 +107,7 @@ class QuestBatchIntegrationTest @Autowired constructor(
 
             transactionTemplate.executeWithoutResult {
                 val query = entityManager
-                    .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', ?, 'MAIN', ?)")
+                    .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', ?, 'MAIN', ?)")
                     .setParameter(3, testUser.id)
 
                 query.setParameter(1, datetime1).setParameter(2, filterTitle).executeUpdate()
@@ -145,7 +145,7 @@ class QuestBatchIntegrationTest @Autowired constructor(
 
             transactionTemplate.executeWithoutResult {
                 val query = entityManager
-                    .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', ?, 'MAIN', ?)")
+                    .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', ?, 'MAIN', ?)")
                     .setParameter(3, testUser.id)
 
                 val datetime1 = LocalDateTime.of(resetDate, LocalTime.of(5, 58))
@@ -188,7 +188,7 @@ class QuestBatchIntegrationTest @Autowired constructor(
 
             transactionTemplate.executeWithoutResult {
                 val query = entityManager
-                    .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', ?, 'MAIN', ?)")
+                    .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', ?, 'MAIN', ?)")
                     .setParameter(3, testUser.id)
 
                 query.setParameter(1, datetime1).setParameter(2, filterTitle).executeUpdate()
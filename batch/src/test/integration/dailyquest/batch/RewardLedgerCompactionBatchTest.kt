@@ -0,0 +1,155 @@
+package dailyquest.batch
+
+import dailyquest.context.MockSqsClientTestContextConfig
+import dailyquest.properties.BatchContextProperties
+import dailyquest.properties.BatchParameterProperties
+import dailyquest.search.repository.QuestIndexRepository
+import dailyquest.user.entity.ProviderType
+import dailyquest.user.entity.User
+import dailyquest.user.repository.UserRepository
+import dailyquest.user.reward.entity.RewardLedger
+import dailyquest.user.reward.repository.RewardLedgerRepository
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.batch.core.BatchStatus
+import org.springframework.batch.core.Job
+import org.springframework.batch.core.JobParametersBuilder
+import org.springframework.batch.core.launch.JobLauncher
+import org.springframework.batch.core.repository.JobRepository
+import org.springframework.batch.test.JobLauncherTestUtils
+import org.springframework.batch.test.JobRepositoryTestUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.test.mock.mockito.MockBean
+import org.springframework.context.annotation.Import
+import org.springframework.data.repository.findByIdOrNull
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+
+@Import(MockSqsClientTestContextConfig::class)
+@DisplayName("보상 원장 합산 배치 테스트")
+@SpringBootTest
+class RewardLedgerCompactionBatchTest @Autowired constructor(
+    private val rewardLedgerCompactionBatchJob: Job,
+    private val userRepository: UserRepository,
+    private val rewardLedgerRepository: RewardLedgerRepository,
+    private val jobLauncher: JobLauncher,
+    private val jobRepository: JobRepository,
+    private val entityManager: EntityManager,
+    private val transactionTemplate: TransactionTemplate,
+) {
+    @MockBean
+    private lateinit var batchParameterProperties: BatchParameterProperties
+    @MockBean
+    private lateinit var batchContextProperties: BatchContextProperties
+    @MockBean
+    private lateinit var questIndexRepository: QuestIndexRepository
+    private lateinit var jobLauncherTestUtils: JobLauncherTestUtils
+    private lateinit var testUser: User
+    private lateinit var anotherUser: User
+
+    @BeforeEach
+    fun init() {
+        transactionTemplate.executeWithoutResult {
+            entityManager.createQuery("delete from RewardLedger").executeUpdate()
+            entityManager.createQuery("delete from User").executeUpdate()
+        }
+        JobRepositoryTestUtils(jobRepository).removeJobExecutions()
+
+        testUser = userRepository.save(User("testUser", "testUser", ProviderType.GOOGLE))
+        anotherUser = userRepository.save(User("anotherUser", "anotherUser", ProviderType.GOOGLE))
+
+        jobLauncherTestUtils = JobLauncherTestUtils()
+        jobLauncherTestUtils.jobLauncher = jobLauncher
+        jobLauncherTestUtils.job = rewardLedgerCompactionBatchJob
+    }
+
+    @DisplayName("합산되지 않은 원장을 유저 잔액에 합산하고 합산 완료로 표시한다")
+    @Test
+    fun `합산되지 않은 원장을 유저 잔액에 합산하고 합산 완료로 표시한다`() {
+        //given
+        saveLedger(testUser.id, 10, 1)
+        saveLedger(testUser.id, 20, 2)
+        saveLedger(anotherUser.id, 5, 5)
+        saveLedger(testUser.id, 100, 100)
+
+        //when
+        val jobExecution = launch()
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        val compactedUser = userRepository.findByIdOrNull(testUser.id)!!
+        assertThat(compactedUser.exp).isEqualTo(130)
+        assertThat(compactedUser.gold).isEqualTo(103)
+        val compactedAnotherUser = userRepository.findByIdOrNull(anotherUser.id)!!
+        assertThat(compactedAnotherUser.exp).isEqualTo(5)
+        assertThat(compactedAnotherUser.gold).isEqualTo(5)
+        assertThat(rewardLedgerRepository.findAll()).allMatch { it.compacted }
+        assertThat(rewardLedgerRepository.getUncompactedRewardSum(testUser.id).exp).isZero()
+    }
+
+    @DisplayName("이미 합산된 원장은 다시 합산하지 않는다")
+    @Test
+    fun `이미 합산된 원장은 다시 합산하지 않는다`() {
+        //given
+        saveLedger(testUser.id, 10, 1)
+        launch()
+
+        //when
+        val jobExecution = launch()
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        val compactedUser = userRepository.findByIdOrNull(testUser.id)!!
+        assertThat(compactedUser.exp).isEqualTo(10)
+        assertThat(compactedUser.gold).isEqualTo(1)
+    }
+
+    @DisplayName("합산 이후에 커밋된 원장은 ID 가 합산된 원장보다 작아도 다음 실행에서 합산한다")
+    @Test
+    fun `합산 이후에 커밋된 원장은 ID 가 합산된 원장보다 작아도 다음 실행에서 합산한다`() {
+        //given
+        val firstLedgerId = saveLedger(testUser.id, 10, 1)
+        saveLedger(testUser.id, 20, 2)
+        val lateLedgerId = firstLedgerId - 1
+        launch()
+
+        //when
+        saveLedger(testUser.id, 100, 100, lateLedgerId)
+        val jobExecution = launch()
+
+        //then
+        assertThat(jobExecution.status).isEqualTo(BatchStatus.COMPLETED)
+        val compactedUser = userRepository.findByIdOrNull(testUser.id)!!
+        assertThat(compactedUser.exp).isEqualTo(130)
+        assertThat(compactedUser.gold).isEqualTo(103)
+    }
+
+    private fun saveLedger(userId: Long, exp: Long, gold: Long): Long {
+        return transactionTemplate.execute {
+            rewardLedgerRepository.save(RewardLedger(userId, exp, gold)).id
+        }!!
+    }
+
+    private fun saveLedger(userId: Long, exp: Long, gold: Long, ledgerId: Long) {
+        transactionTemplate.executeWithoutResult {
+            entityManager
+                .createNativeQuery("insert into reward_ledger (ledger_id, created_date, user_id, exp, gold, compacted) values (?, ?, ?, ?, ?, false)")
+                .setParameter(1, ledgerId)
+                .setParameter(2, LocalDateTime.now())
+                .setParameter(3, userId)
+                .setParameter(4, exp)
+                .setParameter(5, gold)
+                .executeUpdate()
+        }
+    }
+
+    private fun launch() = jobLauncherTestUtils.launchJob(
+        JobParametersBuilder()
+            .addLocalDateTime("requestedAt", LocalDateTime.now())
+            .toJobParameters()
+    )
+}
@@ -1,20 +1,25 @@
 package dailyquest.quest.repository
 
 import dailyquest.config.QueryDslConfig
+import dailyquest.quest.entity.QuestLog
 import dailyquest.quest.entity.QuestState
 import dailyquest.quest.entity.QuestState.*
+import dailyquest.quest.entity.QuestType
 import io.mockk.junit5.MockKExtension
 import jakarta.persistence.EntityManager
 import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.SessionFactory
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
+import org.slf4j.LoggerFactory
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
 import org.springframework.context.annotation.Import
 import org.springframework.data.domain.Pageable
 import java.time.LocalDate
+import kotlin.system.measureTimeMillis
 
 @Import(QueryDslConfig::class)
 @ExtendWith(MockKExtension::class)
@@ -84,7 +89,7 @@ class QuestLogRepositoryUnitTest @Autowired constructor(
 
         private fun saveQuestLog(userId: Long, questId: Long, state: QuestState, loggedDate: LocalDate) {
             val query =
-                entityManager.createNativeQuery("insert into quest_log (quest_id, user_id, state, logged_date, type, created_date, last_modified_date) values (?, ?, ?, ?, 'MAIN', now(), now())")
+                entityManager.createNativeQuery("insert into quest_log (quest_log_id, quest_id, user_id, state, logged_date, type, created_date, last_modified_date) values (next value for quest_log_id_seq, ?, ?, ?, ?, 'MAIN', now(), now())")
             query.setParameter(1, questId)
             query.setParameter(2, userId)
             query.setParameter(3, state.name)
@@ -92,4 +97,34 @@ class QuestLogRepositoryUnitTest @Autowired constructor(
             query.executeUpdate()
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("saveAll 메서드 호출 시")
+    @Nested
+    inner class TestSaveAll {
+        private val log = LoggerFactory.getLogger(javaClass)
+
+        @DisplayName("로그를 건별이 아닌 JDBC 배치로 저장한다")
+        @Test
+        fun `로그를 건별이 아닌 JDBC 배치로 저장한다`() {
+            //given
+            val numOfLogs = 500
+            val loggedDate = LocalDate.of(2020, 1, 1)
+            val questLogs = (1..numOfLogs).map { QuestLog(1L, it.toLong(), COMPLETE, QuestType.MAIN, loggedDate) }
+            val statistics = entityManager.entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+            statistics.isStatisticsEnabled = true
+            statistics.clear()
+
+            //when
+            val elapsedMillis = measureTimeMillis {
+                questLogRepository.saveAll(questLogs)
+                entityManager.flush()
+            }
+
+            //then
+            log.info("[QuestLog saveAll] logs={}, statements={}, elapsed={}ms",
+                numOfLogs, statistics.prepareStatementCount, elapsedMillis)
+            assertThat(statistics.entityInsertCount).isEqualTo(numOfLogs.toLong())
+            assertThat(statistics.prepareStatementCount).isLessThan(numOfLogs / 10L)
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- Quest, DetailQuest, QuestLog, Notification 의 ID 생성 전략을 IDENTITY 에서 pooled 시퀀스로 전환한다.
+-- MySQL 에는 시퀀스가 없어 Hibernate 는 next_val 컬럼 하나를 가진 테이블로 시퀀스를 대신하며,
+-- 별도 트랜잭션에서 SELECT ... FOR UPDATE 후 allocationSize(50) 만큼 증가시켜 여러 노드가 같은 구간을 받지 않는다.
+--
+-- 적용 순서
+-- 1. 새 버전을 배포하기 전에 이 스크립트를 실행한다.
+-- 2. 구버전 노드(AUTO_INCREMENT 로 INSERT)와 신버전 노드가 동시에 쓰면 키가 충돌할 수 있으므로 web, batch 를 함께 교체한다.
+-- 3. 초기값은 현재 최대 ID 보다 할당 크기 이상 크게 잡는다. pooled 옵티마이저는 저장된 값보다 최대 한 구간 아래의 ID 를 발급할 수 있다.
+-- 4. AUTO_INCREMENT 속성은 롤백을 위해 남겨둔다. 더 이상 사용되지 않으며, 롤백 시에는 아래 ALTER TABLE 로 카운터를 시퀀스 값 이후로 옮긴다.
+
+create table quest_id_seq (next_val bigint not null) engine = InnoDB;
+insert into quest_id_seq (next_val) select coalesce(max(quest_id), 0) + 101 from quest;
+
+create table detail_quest_id_seq (next_val bigint not null) engine = InnoDB;
+insert into detail_quest_id_seq (next_val) select coalesce(max(detail_quest_id), 0) + 101 from detail_quest;
+
+create table quest_log_id_seq (next_val bigint not null) engine = InnoDB;
+insert into quest_log_id_seq (next_val) select coalesce(max(quest_log_id), 0) + 101 from quest_log;
+
+create table notification_id_seq (next_val bigint not null) engine = InnoDB;
+insert into notification_id_seq (next_val) select coalesce(max(notification_id), 0) + 101 from notification;
+
+-- 롤백 시 (구버전 재배포 전에 실행)
+-- alter table quest auto_increment = <select next_val from quest_id_seq>;
+-- alter table detail_quest auto_increment = <select next_val from detail_quest_id_seq>;
+-- alter table quest_log auto_increment = <select next_val from quest_log_id_seq>;
+-- alter table notification auto_increment = <select next_val from notification_id_seq>;
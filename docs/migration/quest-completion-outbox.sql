@@ -0,0 +1,29 @@
+-- 퀘스트 완료 시 유저 기록, 업적, 알림 갱신을 같은 트랜잭션에서 하지 않고 아웃박스(quest_completion_outbox)에 이벤트로 남긴다.
+-- QuestCompletionOutboxRelay 가 parked = false 인 이벤트를 outbox_id 순서대로 반영한 뒤 삭제한다.
+-- 처리에 실패하면 attempt_count 를 늘리고, quest.outbox.max-attempts 에 이르면 parked = true 로 옮겨 릴레이 대상에서 제외한다.
+-- 연속 완료 기록은 완료일 순서에 의존하므로, 보류된 이벤트가 있는 유저는 이후 이벤트도 보류가 해소될 때까지 반영하지 않는다.
+--
+-- 적용 순서
+-- 1. 새 버전을 배포하기 전에 이 스크립트를 실행한다. 구버전은 이 테이블을 사용하지 않으므로 먼저 실행해도 안전하다.
+-- 2. 보류된 이벤트는 quest.outbox.parked 지표와 에러 로그로 확인하고, 원인을 해결한 뒤 아래 UPDATE 로 다시 릴레이 대상에 넣는다.
+
+create table quest_completion_outbox (
+    outbox_id bigint not null auto_increment,
+    created_date datetime(6),
+    user_id bigint not null,
+    quest_id bigint not null,
+    earned_gold bigint not null,
+    completed_date date not null,
+    attempt_count integer not null default 0,
+    parked bit not null default false,
+    primary key (outbox_id)
+) engine = InnoDB;
+
+create index idx_quest_completion_outbox_parked on quest_completion_outbox (parked, outbox_id);
+create index idx_quest_completion_outbox_user_id on quest_completion_outbox (user_id, parked);
+
+-- 보류된 이벤트 재처리 (유저의 보류된 이벤트를 모두 풀어야 그 유저의 이후 이벤트도 다시 반영된다)
+-- update quest_completion_outbox set parked = false, attempt_count = 0 where user_id = ? and parked = true;
+
+-- 롤백 시 (구버전 재배포 후, 남은 이벤트를 모두 릴레이하거나 수동으로 반영한 뒤 실행)
+-- drop table quest_completion_outbox;
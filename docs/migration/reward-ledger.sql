@@ -0,0 +1,27 @@
+-- 경험치와 골드 보상을 유저 행 대신 추가 전용 원장(reward_ledger)에 기록한다.
+-- 유저 잔액은 users.exp, users.gold 에 compacted = false 인 원장의 합을 더한 값이며,
+-- rewardLedgerCompactionJob 이 원장을 읽어 잔액에 더하고, 같은 트랜잭션에서 읽은 원장만 compacted = true 로 표시한다.
+--
+-- 적용 순서
+-- 1. 새 버전을 배포하기 전에 이 스크립트를 실행한다. 구버전은 이 테이블을 사용하지 않으므로 먼저 실행해도 안전하다.
+-- 2. 합산 여부를 행마다 기록하므로 users 에는 별도의 오프셋 컬럼을 추가하지 않는다.
+-- 3. 합산된 원장은 감사 기록으로 남겨둔다. 보관 기간이 지난 행은 compacted = true 인 행만 삭제한다.
+
+create table reward_ledger (
+    ledger_id bigint not null auto_increment,
+    created_date datetime(6),
+    user_id bigint not null,
+    exp bigint not null,
+    gold bigint not null,
+    compacted bit not null default false,
+    primary key (ledger_id)
+) engine = InnoDB;
+
+create index idx_reward_ledger_user_id on reward_ledger (user_id, compacted);
+-- 합산 배치는 compacted = false 인 원장을 ledger_id 순서로 읽으므로, 합산된 원장이 쌓여도 미합산 구간만 탐색하도록 한다
+create index idx_reward_ledger_compacted on reward_ledger (compacted, ledger_id);
+
+-- 롤백 시 (구버전 재배포 후, 합산되지 않은 원장을 잔액에 반영한 뒤 실행)
+-- update users u join (select user_id, sum(exp) exp, sum(gold) gold from reward_ledger where compacted = false group by user_id) l
+--     on u.user_id = l.user_id set u.exp = u.exp + l.exp, u.gold = u.gold + l.gold;
+-- drop table reward_ledger;
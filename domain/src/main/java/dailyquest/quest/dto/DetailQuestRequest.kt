@@ -6,6 +6,11 @@ import dailyquest.quest.entity.DetailQuestType
 import dailyquest.quest.entity.Quest
 
 interface DetailQuestRequest {
+    /**
+     * 수정 대상 세부 퀘스트의 ID. 새로 추가하는 세부 퀘스트면 null 이다.
+     */
+    val id: Long?
+        get() = null
     val title: String
     val type: DetailQuestType
     val targetCount: Int
@@ -1,9 +1,10 @@
 package dailyquest.quest.entity
 
+import dailyquest.quest.dto.DetailQuestRequest
 import jakarta.persistence.*
 import jakarta.persistence.EnumType.STRING
 import jakarta.persistence.FetchType.LAZY
-import jakarta.persistence.GenerationType.IDENTITY
+import jakarta.persistence.GenerationType.SEQUENCE
 import kotlin.math.min
 
 @Entity
@@ -18,7 +19,8 @@ class DetailQuest private constructor(
 ) {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "detail_quest_id_generator")
+    @SequenceGenerator(name = "detail_quest_id_generator", sequenceName = "detail_quest_id_seq", allocationSize = 50)
     @Column(name = "detail_quest_id")
     val id: Long = 0
 
@@ -48,12 +50,13 @@ class DetailQuest private constructor(
     @JoinColumn(name = "quest_id")
     val quest: Quest = quest
 
-    fun updateDetailQuest(id: Long?, detailQuest: DetailQuest) {
-        this.title = detailQuest.title
-        this.type = detailQuest.type
-        if(id != this.id || type != this.type) resetCount()
+    fun updateDetailQuest(detailQuestRequest: DetailQuestRequest) {
+        val isTypeChanged = this.type != detailQuestRequest.type
+        this.title = detailQuestRequest.title
+        this.type = detailQuestRequest.type
+        this.targetCount = detailQuestRequest.targetCount
         updateTargetCountBasedOnType()
-        updateCountAndStateBasedOnCount(detailQuest.count)
+        if (isTypeChanged) resetCount() else updateCountAndStateBasedOnCount(this.count)
     }
 
     private fun updateTargetCountBasedOnType() {
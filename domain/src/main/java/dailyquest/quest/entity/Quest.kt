@@ -2,6 +2,7 @@ package dailyquest.quest.entity
 
 import dailyquest.common.BaseTimeEntity
 import dailyquest.preferencequest.entity.PreferenceQuest
+import dailyquest.quest.dto.DetailQuestRequest
 import dailyquest.quest.dto.QuestRequest
 import jakarta.persistence.*
 import java.time.LocalDateTime
@@ -18,7 +19,8 @@ class Quest(
     preferenceQuest: PreferenceQuest? = null,
 ) : BaseTimeEntity() {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quest_id_generator")
+    @SequenceGenerator(name = "quest_id_generator", sequenceName = "quest_id_seq", allocationSize = 50)
     @Column(name = "quest_id")
     val id: Long = 0
 
@@ -65,7 +67,19 @@ class Quest(
         this.title = questRequest.title
         this.description = questRequest.description
         this.deadLine = questRequest.deadLine
-        replaceDetailQuests(questRequest.details.map { it.mapToEntity(this) })
+        mergeDetailQuests(questRequest.details)
+    }
+
+    /**
+     * 요청의 ID 와 같은 기존 세부 퀘스트는 변경된 값만 반영하고, 새 세부 퀘스트만 추가하며, 요청에 없는 세부 퀘스트만 삭제한다.
+     */
+    private fun mergeDetailQuests(detailQuestRequests: List<DetailQuestRequest>) {
+        val currentDetailQuests = _detailQuests.associateBy { it.id }.toMutableMap()
+        val mergedDetailQuests = detailQuestRequests.map { detailQuestRequest ->
+            val currentDetailQuest = detailQuestRequest.id?.let { currentDetailQuests.remove(it) }
+            currentDetailQuest?.apply { updateDetailQuest(detailQuestRequest) } ?: detailQuestRequest.mapToEntity(this)
+        }
+        replaceDetailQuests(mergedDetailQuests)
     }
 
     fun completeQuestIfPossible() {
@@ -0,0 +1,47 @@
+package dailyquest.quest.entity
+
+import dailyquest.common.CreatedTimeEntity
+import jakarta.persistence.*
+import java.time.LocalDate
+
+/**
+ * 퀘스트 완료 트랜잭션에서 함께 커밋되는 완료 이벤트.
+ * 유저 기록, 업적, 알림 갱신은 릴레이 워커가 이 이벤트를 id 순서대로 처리하며 반영한다.
+ * 처리에 반복해서 실패한 이벤트는 [parked] 로 표시되며, 보류된 이벤트가 있는 유저의 이벤트는 모두 릴레이 대상에서 제외된다.
+ */
+@Table(name = "quest_completion_outbox", indexes = [
+    Index(name = "idx_quest_completion_outbox_parked", columnList = "parked, outbox_id"),
+    Index(name = "idx_quest_completion_outbox_user_id", columnList = "user_id, parked"),
+])
+@Entity
+class QuestCompletionOutbox(
+    userId: Long,
+    questId: Long,
+    earnedGold: Long,
+    completedDate: LocalDate,
+) : CreatedTimeEntity() {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    val id: Long = 0
+
+    @Column(nullable = false)
+    val userId: Long = userId
+
+    @Column(nullable = false)
+    val questId: Long = questId
+
+    @Column(nullable = false)
+    val earnedGold: Long = earnedGold
+
+    @Column(nullable = false)
+    val completedDate: LocalDate = completedDate
+
+    @Column(nullable = false)
+    var attemptCount: Int = 0
+        protected set
+
+    @Column(nullable = false)
+    var parked: Boolean = false
+        protected set
+}
@@ -16,7 +16,8 @@ import java.time.LocalDate;
 @Entity
 public class QuestLog extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quest_log_id_generator")
+    @SequenceGenerator(name = "quest_log_id_generator", sequenceName = "quest_log_id_seq", allocationSize = 50)
     @Column(name = "quest_log_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package dailyquest.quest.entity
 
+import dailyquest.quest.dto.SimpleDetailQuestRequest
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
@@ -195,4 +196,58 @@ class DetailQuestUnitTest {
             assertThat(targetDetailQuest.count).isEqualTo(initialCount)
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("updateDetailQuest 호출 시")
+    @Nested
+    inner class TestUpdateDetailQuest {
+        private val mockQuest = mock<Quest>()
+
+        @DisplayName("타입이 같으면 진행 중인 카운트를 유지한다")
+        @Test
+        fun `타입이 같으면 진행 중인 카운트를 유지한다`() {
+            //given
+            val currentCount = 3
+            val targetDetailQuest = DetailQuest.of("title", 10, currentCount, DetailQuestType.COUNT, DetailQuestState.PROCEED, mockQuest)
+            val updateRequest = SimpleDetailQuestRequest("update", DetailQuestType.COUNT, 10)
+
+            //when
+            targetDetailQuest.updateDetailQuest(updateRequest)
+
+            //then
+            assertThat(targetDetailQuest.title).isEqualTo("update")
+            assertThat(targetDetailQuest.count).isEqualTo(currentCount)
+            assertThat(targetDetailQuest.state).isEqualTo(DetailQuestState.PROCEED)
+        }
+
+        @DisplayName("타입이 변경되면 카운트가 초기화된다")
+        @Test
+        fun `타입이 변경되면 카운트가 초기화된다`() {
+            //given
+            val targetDetailQuest = DetailQuest.of("title", 10, 10, DetailQuestType.COUNT, DetailQuestState.COMPLETE, mockQuest)
+            val updateRequest = SimpleDetailQuestRequest("title", DetailQuestType.CHECK, 10)
+
+            //when
+            targetDetailQuest.updateDetailQuest(updateRequest)
+
+            //then
+            assertThat(targetDetailQuest.count).isEqualTo(0)
+            assertThat(targetDetailQuest.targetCount).isEqualTo(1)
+            assertThat(targetDetailQuest.state).isEqualTo(DetailQuestState.PROCEED)
+        }
+
+        @DisplayName("목표 카운트가 현재 카운트보다 작아지면 목표 카운트에 맞춰 완료 상태가 된다")
+        @Test
+        fun `목표 카운트가 현재 카운트보다 작아지면 목표 카운트에 맞춰 완료 상태가 된다`() {
+            //given
+            val targetDetailQuest = DetailQuest.of("title", 10, 5, DetailQuestType.COUNT, DetailQuestState.PROCEED, mockQuest)
+            val updateRequest = SimpleDetailQuestRequest("title", DetailQuestType.COUNT, 3)
+
+            //when
+            targetDetailQuest.updateDetailQuest(updateRequest)
+
+            //then
+            assertThat(targetDetailQuest.count).isEqualTo(3)
+            assertThat(targetDetailQuest.state).isEqualTo(DetailQuestState.COMPLETE)
+        }
+    }
+}
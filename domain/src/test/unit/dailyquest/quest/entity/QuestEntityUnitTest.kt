@@ -58,6 +58,54 @@ class QuestEntityUnitTest {
             assertThat(quest.deadLine).isEqualTo(updateRequest.deadLine)
             verify { detailQuestRequest.mapToEntity(eq(quest)) }
         }
+
+        @DisplayName("요청 ID와 같은 기존 세부 퀘스트는 새로 만들지 않고 변경 내용만 반영한다")
+        @Test
+        fun `요청 ID와 같은 기존 세부 퀘스트는 새로 만들지 않고 변경 내용만 반영한다`() {
+            //given
+            val quest = Quest("init", "init", 1L, 1L, QuestState.PROCEED, QuestType.MAIN)
+            val currentDetail = mockk<DetailQuest>(relaxed = true)
+            every { currentDetail.id } returns 1L
+            quest.replaceDetailQuests(listOf(currentDetail))
+            val detailQuestRequest = mockk<DetailQuestRequest>(relaxed = true)
+            every { detailQuestRequest.id } returns 1L
+            val updateRequest = SimpleQuestRequest("update", details = listOf(detailQuestRequest))
+
+            //when
+            quest.updateQuestEntity(updateRequest)
+
+            //then
+            verify { currentDetail.updateDetailQuest(eq(detailQuestRequest)) }
+            verify(inverse = true) { detailQuestRequest.mapToEntity(any()) }
+            assertThat(quest.detailQuests).containsExactly(currentDetail)
+        }
+
+        @DisplayName("요청에 없는 기존 세부 퀘스트는 제거되고 ID가 없는 요청만 새로 추가된다")
+        @Test
+        fun `요청에 없는 기존 세부 퀘스트는 제거되고 ID가 없는 요청만 새로 추가된다`() {
+            //given
+            val quest = Quest("init", "init", 1L, 1L, QuestState.PROCEED, QuestType.MAIN)
+            val keptDetail = mockk<DetailQuest>(relaxed = true)
+            val removedDetail = mockk<DetailQuest>(relaxed = true)
+            every { keptDetail.id } returns 1L
+            every { removedDetail.id } returns 2L
+            quest.replaceDetailQuests(listOf(keptDetail, removedDetail))
+
+            val keptRequest = mockk<DetailQuestRequest>(relaxed = true)
+            every { keptRequest.id } returns 1L
+            val newDetail = mockk<DetailQuest>(relaxed = true)
+            val newRequest = mockk<DetailQuestRequest>(relaxed = true)
+            every { newRequest.id } returns null
+            every { newRequest.mapToEntity(quest) } returns newDetail
+            val updateRequest = SimpleQuestRequest("update", details = listOf(newRequest, keptRequest))
+
+            //when
+            quest.updateQuestEntity(updateRequest)
+
+            //then
+            assertThat(quest.detailQuests).containsExactly(newDetail, keptDetail)
+            verify(inverse = true) { removedDetail.updateDetailQuest(any()) }
+        }
     }
 
     @DisplayName("퀘스트 완료 시")
@@ -17,7 +17,8 @@ class Notification private constructor(
 ): CreatedTimeEntity() {
 
     @Column(name = "notification_id")
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_id_generator")
+    @SequenceGenerator(name = "notification_id_generator", sequenceName = "notification_id_seq", allocationSize = 50)
     val id: Long = 0
 
     @Column(name = "user_id", nullable = false, updatable = false)
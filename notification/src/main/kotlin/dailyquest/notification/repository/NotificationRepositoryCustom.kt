@@ -8,4 +8,5 @@ import org.springframework.data.domain.Pageable
 interface NotificationRepositoryCustom {
     fun getNotConfirmedNotifications(userId: Long, condition: NotificationCondition, pageable: Pageable): Page<Notification>
     fun getActiveNotifications(userId: Long, condition: NotificationCondition, pageable: Pageable): Page<Notification>
+    fun saveAllInBatch(notifications: List<Notification>)
 }
\ No newline at end of file
@@ -43,6 +43,12 @@ class NotificationRepositoryImpl @Autowired constructor(
         return notifications
     }
 
+    override fun saveAllInBatch(notifications: List<Notification>) {
+        if (notifications.isEmpty()) return
+        notifications.forEach { entityManager.persist(it) }
+        entityManager.flush()
+    }
+
     private fun hasSameUserId(userId: Long): BooleanExpression {
         return notification.userId.eq(userId)
     }
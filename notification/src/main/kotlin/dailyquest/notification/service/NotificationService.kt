@@ -51,6 +51,12 @@ class NotificationService @Autowired constructor(
         notificationRepository.save(saveEntity)
     }
 
+    @Transactional
+    fun saveNotifications(saveRequests: List<NotificationSaveRequest>) {
+        val saveEntities = saveRequests.map { it.mapToEntity() }
+        notificationRepository.saveAllInBatch(saveEntities)
+    }
+
     @Transactional
     fun confirmNotification(notificationId: Long, userId: Long) {
         val notification = notificationRepository.getNotificationByIdAndUserId(notificationId, userId)
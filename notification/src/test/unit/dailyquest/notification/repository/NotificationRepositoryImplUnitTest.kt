@@ -195,9 +195,9 @@ class NotificationRepositoryImplUnitTest {
             )
             notificationRepository.save(Notification.of(NotificationType.ACHIEVEMENT_ACHIEVE, otherUserId, ""))
             val insertQueryHasConfirmedDate =
-                "insert into notification (user_id, title, content, type, metadata, created_date, confirmed_date, deleted_date) VALUES (?, 't', 'c', 'ACHIEVEMENT_ACHIEVE', '', now(), now(), null)"
+                "insert into notification (notification_id, user_id, title, content, type, metadata, created_date, confirmed_date, deleted_date) VALUES (next value for notification_id_seq, ?, 't', 'c', 'ACHIEVEMENT_ACHIEVE', '', now(), now(), null)"
             val insertQueryHasDeletedDate =
-                "insert into notification (user_id, title, content, type, metadata, created_date, confirmed_date, deleted_date) VALUES (?, 't', 'c', 'ACHIEVEMENT_ACHIEVE', '', now(), null, now())"
+                "insert into notification (notification_id, user_id, title, content, type, metadata, created_date, confirmed_date, deleted_date) VALUES (next value for notification_id_seq, ?, 't', 'c', 'ACHIEVEMENT_ACHIEVE', '', now(), null, now())"
             with(entityManager) {
                 with(createNativeQuery(insertQueryHasConfirmedDate)) {
                     setParameter(1, userId)
@@ -399,7 +399,7 @@ class NotificationRepositoryImplUnitTest {
             notificationRepository.save(Notification.of(NotificationType.ACHIEVEMENT_ACHIEVE, otherUserId, ""))
 
             val insertQueryHasDeletedDate =
-                "insert into notification (user_id, title, content, type, metadata, created_date, confirmed_date, deleted_date) VALUES (?, 't', 'c', 'ACHIEVEMENT_ACHIEVE', '', now(), null, now())"
+                "insert into notification (notification_id, user_id, title, content, type, metadata, created_date, confirmed_date, deleted_date) VALUES (next value for notification_id_seq, ?, 't', 'c', 'ACHIEVEMENT_ACHIEVE', '', now(), null, now())"
             with(entityManager.createNativeQuery(insertQueryHasDeletedDate)) {
                 setParameter(1, userId)
                 executeUpdate()
@@ -416,4 +416,28 @@ class NotificationRepositoryImplUnitTest {
             assertThat(result.totalElements).isEqualTo(shouldContains.size.toLong())
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("saveAllInBatch 호출 시")
+    @Nested
+    inner class TestSaveAllInBatch {
+        private val userId = 1L
+
+        @DisplayName("모든 알림이 저장된다")
+        @Test
+        fun `모든 알림이 저장된다`() {
+            //given
+            val notifications = listOf(
+                Notification.of(NotificationType.ACHIEVEMENT_ACHIEVE, userId, "t1", "c1", mapOf("achievementId" to "1")),
+                Notification.of(NotificationType.ACHIEVEMENT_ACHIEVE, userId, "t2", "c2", mapOf("achievementId" to "2")),
+            )
+
+            //when
+            notificationRepository.saveAllInBatch(notifications)
+
+            //then
+            val saved = notificationRepository.findAll()
+            assertThat(saved).extracting("title").containsExactlyInAnyOrder("t1", "t2")
+            assertThat(saved).allMatch { it.userId == userId && it.confirmedDate == null && it.deletedDate == null }
+        }
+    }
+}
@@ -137,6 +137,25 @@ class NotificationServiceUnitTest {
         }
     }
 
+    @DisplayName("saveNotifications 호출 시")
+    @Nested
+    inner class TestSaveNotifications {
+        @DisplayName("요청 DTO 목록을 엔티티로 변환해 한 번에 저장 요청한다")
+        @Test
+        fun `요청 DTO 목록을 엔티티로 변환해 한 번에 저장 요청한다`() {
+            //given
+            val saveEntity: Notification = mockk(relaxed = true)
+            val saveRequest: NotificationSaveRequest = mockk(relaxed = true)
+            every { saveRequest.mapToEntity() } returns saveEntity
+
+            //when
+            notificationService.saveNotifications(listOf(saveRequest, saveRequest))
+
+            //then
+            verify { notificationRepository.saveAllInBatch(eq(listOf(saveEntity, saveEntity))) }
+        }
+    }
+
     @DisplayName("confirmNotification 호출 시")
     @Nested
     inner class TestConfirmNotification {
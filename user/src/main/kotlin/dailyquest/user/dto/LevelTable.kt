@@ -0,0 +1,53 @@
+package dailyquest.user.dto
+
+/**
+ * 경험치 테이블을 누적 경험치 배열로 미리 계산해둔 불변 객체.
+ * 레벨 계산 시 매번 키를 정렬하고 순회하는 대신 이진 탐색으로 레벨을 찾는다.
+ * 필요 경험치가 0인 레벨은 계산에서 제외되며, 최대 레벨의 필요 경험치는 테이블 마지막 레벨의 값이다.
+ */
+class LevelTable private constructor(
+    val version: Long,
+    private val requiredExps: LongArray,
+    private val cumulativeExps: LongArray,
+    private val lastRequiredExp: Long,
+) {
+
+    /**
+     * @return 레벨, 현재 레벨에서 획득한 경험치, 다음 레벨까지의 필요 경험치
+     */
+    fun resolve(exp: Long): Triple<Int, Long, Long> {
+        val passedLevelCount = this.countPassedLevels(exp)
+        val remainingExp = if (passedLevelCount == 0) exp else exp - cumulativeExps[passedLevelCount - 1]
+        val requiredExp = if (passedLevelCount < requiredExps.size) requiredExps[passedLevelCount] else lastRequiredExp
+        return Triple(passedLevelCount + 1, remainingExp, requiredExp)
+    }
+
+    private fun countPassedLevels(exp: Long): Int {
+        var low = 0
+        var high = cumulativeExps.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (cumulativeExps[mid] <= exp) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    companion object {
+        @JvmField
+        val EMPTY = LevelTable(0, LongArray(0), LongArray(0), 0)
+
+        @JvmStatic
+        @JvmOverloads
+        fun of(expTable: Map<Int, Long>, version: Long = 0): LevelTable {
+            val sortedRequiredExps = expTable.toSortedMap().values
+            val requiredExps = sortedRequiredExps.filter { it != 0L }.toLongArray()
+            val cumulativeExps = LongArray(requiredExps.size)
+            var sum = 0L
+            for (i in requiredExps.indices) {
+                sum += requiredExps[i]
+                cumulativeExps[i] = sum
+            }
+            return LevelTable(version, requiredExps, cumulativeExps, sortedRequiredExps.lastOrNull() ?: 0)
+        }
+    }
+}
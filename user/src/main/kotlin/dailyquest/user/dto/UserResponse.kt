@@ -3,6 +3,7 @@ package dailyquest.user.dto
 import dailyquest.user.entity.ProviderType
 import dailyquest.user.entity.RoleType
 import dailyquest.user.entity.User
+import dailyquest.user.reward.dto.RewardSum
 import java.time.LocalDateTime
 import java.time.LocalTime
 
@@ -17,37 +18,25 @@ class UserResponse @JvmOverloads constructor(
     val role: RoleType = RoleType.USER,
 ) {
     fun calculateLevel(expTable: Map<Int, Long>): Triple<Int, Long, Long> {
-        var level = 1
-        var remainingExp = exp
-        var requiredExp = 0L
-
-        expTable.keys.sorted().forEach { key ->
-            requiredExp = expTable[key] ?: return@forEach
-
-            if (requiredExp == 0L) return@forEach
-
-            if (remainingExp >= requiredExp) {
-                remainingExp -= requiredExp
-                level++
-            } else {
-                return Triple(level, remainingExp, requiredExp)
-            }
-        }
+        return this.calculateLevel(LevelTable.of(expTable))
+    }
 
-        return Triple(level, remainingExp, requiredExp)
+    fun calculateLevel(levelTable: LevelTable): Triple<Int, Long, Long> {
+        return levelTable.resolve(exp)
     }
 
     companion object {
         @JvmStatic
-        fun from(user: User): UserResponse {
+        @JvmOverloads
+        fun from(user: User, pendingReward: RewardSum = RewardSum()): UserResponse {
             return UserResponse(
                  user.id,
                  user.nickname,
                  user.providerType,
                  user.coreTime,
                  user.coreTimeLastModifiedDate,
-                 user.exp,
-                 user.gold,
+                 user.exp + pendingReward.exp,
+                 user.gold + pendingReward.gold,
                  user.role,
             )
         }
@@ -89,11 +89,6 @@ class User @JvmOverloads constructor(
         return coreTimeLastModifiedDate?.plusDays(1L) ?: LocalDateTime.now()
     }
 
-    fun addExpAndGold(earnedExp: Long, earnedGold: Long) {
-        this.exp += earnedExp
-        this.gold += earnedGold
-    }
-
     fun getCoreHour(): Int {
         return coreTime.hour
     }
@@ -0,0 +1,5 @@
+package dailyquest.user.event
+
+data class UserChangedEvent(
+    val userId: Long,
+)
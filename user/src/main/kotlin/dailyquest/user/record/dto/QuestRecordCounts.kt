@@ -0,0 +1,6 @@
+package dailyquest.user.record.dto
+
+data class QuestRecordCounts(
+    val totalCount: Long,
+    val currentContinuousDays: Long,
+)
@@ -3,4 +3,4 @@ package dailyquest.user.record.repository
 import dailyquest.user.record.entity.UserRecord
 import org.springframework.data.jpa.repository.JpaRepository
 
-interface UserRecordRepository : JpaRepository<UserRecord, Long>
\ No newline at end of file
+interface UserRecordRepository : JpaRepository<UserRecord, Long>, UserRecordRepositoryCustom
@@ -0,0 +1,14 @@
+package dailyquest.user.record.repository
+
+import dailyquest.user.record.dto.QuestRecordCounts
+import java.time.LocalDate
+
+/**
+ * 유저 기록 카운터를 조회 후 수정하지 않고 UPDATE 한 번으로 갱신한 뒤, 갱신된 값을 반환한다.
+ * 갱신 대상 기록이 없으면 null을 반환한다.
+ */
+interface UserRecordRepositoryCustom {
+    fun addGoldEarnAmount(userId: Long, goldEarnAmount: Long): Long?
+    fun increaseQuestRegistrationCount(userId: Long, registrationDate: LocalDate): QuestRecordCounts?
+    fun increaseQuestCompletionCount(userId: Long, completionDate: LocalDate, completionCount: Long = 1): QuestRecordCounts?
+}
@@ -0,0 +1,86 @@
+package dailyquest.user.record.repository
+
+import dailyquest.user.record.dto.QuestRecordCounts
+import jakarta.persistence.EntityManager
+import org.springframework.beans.factory.annotation.Autowired
+import java.time.LocalDate
+
+class UserRecordRepositoryImpl @Autowired constructor(
+    private val entityManager: EntityManager,
+): UserRecordRepositoryCustom {
+
+    override fun addGoldEarnAmount(userId: Long, goldEarnAmount: Long): Long? {
+        val updatedCount = entityManager
+            .createQuery("update UserRecord r set r.goldEarnAmount = r.goldEarnAmount + :amount where r.id = :userId")
+            .setParameter("amount", goldEarnAmount)
+            .setParameter("userId", userId)
+            .executeUpdate()
+        if (updatedCount == 0) return null
+        return entityManager
+            .createQuery("select r.goldEarnAmount from UserRecord r where r.id = :userId", Long::class.javaObjectType)
+            .setParameter("userId", userId)
+            .singleResult
+    }
+
+    override fun increaseQuestRegistrationCount(userId: Long, registrationDate: LocalDate): QuestRecordCounts? {
+        val updatedCount = this.createStreakUpdateQuery(
+            "questRegistrationCount",
+            "currentQuestContinuousRegistrationDays",
+            "maxQuestContinuousRegistrationDays",
+            "lastQuestRegistrationDate",
+            userId,
+            registrationDate,
+            1L
+        ).executeUpdate()
+        if (updatedCount == 0) return null
+        return this.selectCounts("questRegistrationCount", "currentQuestContinuousRegistrationDays", userId)
+    }
+
+    override fun increaseQuestCompletionCount(userId: Long, completionDate: LocalDate, completionCount: Long): QuestRecordCounts? {
+        val updatedCount = this.createStreakUpdateQuery(
+            "questCompletionCount",
+            "currentQuestContinuousCompletionDays",
+            "maxQuestContinuousCompletionDays",
+            "lastQuestCompletionDate",
+            userId,
+            completionDate,
+            completionCount
+        ).executeUpdate()
+        if (updatedCount == 0) return null
+        return this.selectCounts("questCompletionCount", "currentQuestContinuousCompletionDays", userId)
+    }
+
+    /**
+     * [dailyquest.user.record.entity.UserRecord.increaseQuestRegistrationCount]와 같은 전이를 UPDATE 한 번으로 수행한다.
+     * MySQL은 SET 절을 왼쪽부터 반영하고 표준 SQL은 모두 이전 값으로 계산하므로,
+     * 각 컬럼은 자신보다 앞에서 갱신된 컬럼을 참조하지 않도록 max, current, last, count 순서로 갱신한다.
+     */
+    private fun createStreakUpdateQuery(
+        count: String,
+        current: String,
+        max: String,
+        last: String,
+        userId: Long,
+        date: LocalDate,
+        amount: Long,
+    ) = entityManager
+        .createQuery(
+            "update UserRecord r set " +
+                    "r.$max = case when (r.$last is null or r.$last = :previousDate) and r.$current + 1L > r.$max then r.$current + 1L else r.$max end, " +
+                    "r.$current = case when r.$last is null or r.$last = :previousDate then r.$current + 1L when r.$last = :date then r.$current else 1L end, " +
+                    "r.$last = case when r.$last is null or r.$last < :date then :date else r.$last end, " +
+                    "r.$count = r.$count + :amount " +
+                    "where r.id = :userId"
+        )
+        .setParameter("previousDate", date.minusDays(1))
+        .setParameter("date", date)
+        .setParameter("userId", userId)
+        .setParameter("amount", amount)
+
+    private fun selectCounts(count: String, current: String, userId: Long): QuestRecordCounts {
+        return entityManager
+            .createQuery("select new dailyquest.user.record.dto.QuestRecordCounts(r.$count, r.$current) from UserRecord r where r.id = :userId", QuestRecordCounts::class.java)
+            .setParameter("userId", userId)
+            .singleResult
+    }
+}
@@ -6,7 +6,6 @@ import dailyquest.achievement.service.AchievementService
 import dailyquest.user.dto.UserUpdateRequest
 import dailyquest.user.record.entity.UserRecord
 import dailyquest.user.record.repository.UserRecordRepository
-import org.springframework.data.repository.findByIdOrNull
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.time.LocalDate
@@ -25,29 +24,26 @@ class UserRecordService(
 
     @Transactional
     fun recordGoldEarn(userId: Long, updateRequest: UserUpdateRequest) {
-        val userRecord = userRecordRepository.findByIdOrNull(userId)!!
-        userRecord.recordGoldEarn(updateRequest.earnedGold)
-        val goldEarnAchieveRequest = SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, userRecord.goldEarnAmount)
+        val goldEarnAmount = userRecordRepository.addGoldEarnAmount(userId, updateRequest.earnedGold)!!
+        val goldEarnAchieveRequest = SimpleAchievementAchieveRequest.of(GOLD_EARN, userId, goldEarnAmount)
         achievementService.checkAndAchieveAchievement(goldEarnAchieveRequest)
     }
 
     @Transactional
     fun recordQuestRegistration(userId: Long, registrationDate: LocalDate) {
-        val userRecord = userRecordRepository.findByIdOrNull(userId)!!
-        userRecord.increaseQuestRegistrationCount(registrationDate)
-        val questRegAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_REGISTRATION, userId, userRecord.questRegistrationCount)
+        val registrationCounts = userRecordRepository.increaseQuestRegistrationCount(userId, registrationDate)!!
+        val questRegAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_REGISTRATION, userId, registrationCounts.totalCount)
         achievementService.checkAndAchieveAchievement(questRegAchieveRequest)
-        val questContRegAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_REGISTRATION, userId, userRecord.currentQuestContinuousRegistrationDays)
+        val questContRegAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_REGISTRATION, userId, registrationCounts.currentContinuousDays)
         achievementService.checkAndAchieveAchievement(questContRegAchieveRequest)
     }
 
     @Transactional
-    fun recordQuestCompletion(userId: Long, completionDate: LocalDate) {
-        val userRecord = userRecordRepository.findByIdOrNull(userId)!!
-        userRecord.increaseQuestCompletionCount(completionDate)
-        val questCompAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, userRecord.questCompletionCount)
+    fun recordQuestCompletion(userId: Long, completionDate: LocalDate, completionCount: Long = 1) {
+        val completionCounts = userRecordRepository.increaseQuestCompletionCount(userId, completionDate, completionCount)!!
+        val questCompAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, completionCounts.totalCount)
         achievementService.checkAndAchieveAchievement(questCompAchieveRequest)
-        val questContCompAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, userId, userRecord.currentQuestContinuousCompletionDays)
+        val questContCompAchieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, userId, completionCounts.currentContinuousDays)
         achievementService.checkAndAchieveAchievement(questContCompAchieveRequest)
     }
-}
\ No newline at end of file
+}
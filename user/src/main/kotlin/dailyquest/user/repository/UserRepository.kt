@@ -4,9 +4,12 @@ import dailyquest.user.entity.User
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
 
 interface UserRepository: JpaRepository<User, Long> {
     fun findByOauth2Id(userId: String): User?
     fun existsByNickname(nickname: String): Boolean
+    @Query("select u.nickname from User u where u.nickname in :nicknames")
+    fun findNicknamesIn(nicknames: Collection<String>): List<String>
     fun findAllByIdIn(userIds: List<Long>, pageable: Pageable): Page<User>
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package dailyquest.user.reward.dto
+
+data class RewardSum(
+    val exp: Long = 0,
+    val gold: Long = 0,
+)
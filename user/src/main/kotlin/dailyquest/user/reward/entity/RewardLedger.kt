@@ -0,0 +1,38 @@
+package dailyquest.user.reward.entity
+
+import dailyquest.common.CreatedTimeEntity
+import jakarta.persistence.*
+
+/**
+ * 유저가 획득한 경험치와 골드를 기록하는 추가 전용 원장.
+ * 유저 테이블의 잔액에는 배치가 주기적으로 합산하며, 합산한 원장은 같은 트랜잭션에서 [compacted] 로 표시한다.
+ * ID 나 생성 시각 기준의 워터마크는 늦게 커밋된 원장을 건너뛸 수 있어 행 단위로 합산 여부를 기록한다.
+ */
+@Table(name = "reward_ledger", indexes = [
+    Index(name = "idx_reward_ledger_user_id", columnList = "user_id, compacted"),
+    Index(name = "idx_reward_ledger_compacted", columnList = "compacted, ledger_id"),
+])
+@Entity
+class RewardLedger(
+    userId: Long,
+    exp: Long,
+    gold: Long,
+) : CreatedTimeEntity() {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id")
+    val id: Long = 0
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    val userId: Long = userId
+
+    @Column(nullable = false, updatable = false)
+    val exp: Long = exp
+
+    @Column(nullable = false, updatable = false)
+    val gold: Long = gold
+
+    @Column(nullable = false)
+    var compacted: Boolean = false
+        protected set
+}
@@ -0,0 +1,14 @@
+package dailyquest.user.reward.repository
+
+import dailyquest.user.reward.dto.RewardSum
+import dailyquest.user.reward.entity.RewardLedger
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+
+interface RewardLedgerRepository : JpaRepository<RewardLedger, Long> {
+    @Query("select new dailyquest.user.reward.dto.RewardSum(coalesce(sum(l.exp), 0L), coalesce(sum(l.gold), 0L)) " +
+            "from RewardLedger l " +
+            "where l.userId = :userId and l.compacted = false")
+    fun getUncompactedRewardSum(@Param("userId") userId: Long): RewardSum
+}
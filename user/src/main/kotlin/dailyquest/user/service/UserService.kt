@@ -6,9 +6,13 @@ import dailyquest.user.dto.UserResponse
 import dailyquest.user.dto.UserSaveRequest
 import dailyquest.user.dto.UserUpdateRequest
 import dailyquest.user.entity.User
+import dailyquest.user.event.UserChangedEvent
 import dailyquest.user.record.service.UserRecordService
 import dailyquest.user.repository.UserRepository
+import dailyquest.user.reward.entity.RewardLedger
+import dailyquest.user.reward.repository.RewardLedgerRepository
 import jakarta.persistence.EntityNotFoundException
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.context.support.MessageSourceAccessor
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -20,14 +24,24 @@ import kotlin.jvm.optionals.getOrNull
 class UserService(
     private val userRepository: UserRepository,
     private val userRecordService: UserRecordService,
-    private val messageSourceAccessor: MessageSourceAccessor
+    private val messageSourceAccessor: MessageSourceAccessor,
+    private val eventPublisher: ApplicationEventPublisher,
+    private val rewardLedgerRepository: RewardLedgerRepository,
 ) {
     fun findUserByOauthId(oauth2Id: String): UserResponse? {
-        return userRepository.findByOauth2Id(oauth2Id)?.let { UserResponse.from(it) }
+        return userRepository.findByOauth2Id(oauth2Id)?.let { this.toResponseWithPendingReward(it) }
     }
 
     fun getUserById(userId: Long): UserResponse {
-        return UserResponse.from(this.findUser(userId))
+        return this.toResponseWithPendingReward(this.findUser(userId))
+    }
+
+    /**
+     * 유저 테이블의 잔액에 아직 합산되지 않은 원장 보상을 더해 응답을 만든다.
+     */
+    private fun toResponseWithPendingReward(user: User): UserResponse {
+        val pendingReward = rewardLedgerRepository.getUncompactedRewardSum(user.id)
+        return UserResponse.from(user, pendingReward)
     }
 
     @Throws(EntityNotFoundException::class)
@@ -41,6 +55,12 @@ class UserService(
         return userRepository.existsByNickname(nickname)
     }
 
+    fun filterAvailableNicknames(nicknames: Collection<String>): List<String> {
+        if (nicknames.isEmpty()) return emptyList()
+        val duplicatedNicknames = userRepository.findNicknamesIn(nicknames).toSet()
+        return nicknames.filterNot { it in duplicatedNicknames }
+    }
+
     @Transactional
     fun saveUser(saveRequest: UserSaveRequest): Long  {
         val requestEntity = saveRequest.mapToEntity()
@@ -60,11 +80,12 @@ class UserService(
             val errorMessage: String = messageSourceAccessor.getMessage("user.coreTime.updateLimit", arrayOf(timeSinceNowUntilAvailable))
             throw IllegalStateException(errorMessage)
         }
+        eventPublisher.publishEvent(UserChangedEvent(userId))
     }
 
     @Transactional
     fun addUserExpAndGold(userId: Long, updateRequest: UserUpdateRequest) {
-        val updateTarget = this.findUser(userId)
-        updateTarget.addExpAndGold(updateRequest.earnedExp, updateRequest.earnedGold)
+        rewardLedgerRepository.save(RewardLedger(userId, updateRequest.earnedExp, updateRequest.earnedGold))
+        eventPublisher.publishEvent(UserChangedEvent(userId))
     }
 }
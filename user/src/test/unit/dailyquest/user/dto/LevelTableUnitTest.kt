@@ -0,0 +1,129 @@
+package dailyquest.user.dto
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+
+@DisplayName("레벨 테이블 유닛 테스트")
+class LevelTableUnitTest {
+
+    @DisplayName("레벨 계산 시")
+    @Nested
+    inner class TestResolve {
+        private val expTable = mapOf(1 to 10L, 2 to 20L, 3 to 30L, 4 to 40L)
+        private val levelTable = LevelTable.of(expTable)
+
+        @DisplayName("경험치가 첫 레벨 필요 경험치보다 적으면 1레벨이다")
+        @Test
+        fun `경험치가 첫 레벨 필요 경험치보다 적으면 1레벨이다`() {
+            //given
+            //when
+            val result = levelTable.resolve(9)
+
+            //then
+            assertThat(result).isEqualTo(Triple(1, 9L, 10L))
+        }
+
+        @DisplayName("누적 경험치와 같으면 다음 레벨로 계산된다")
+        @Test
+        fun `누적 경험치와 같으면 다음 레벨로 계산된다`() {
+            //given
+            //when
+            val result = levelTable.resolve(30)
+
+            //then
+            assertThat(result).isEqualTo(Triple(3, 0L, 30L))
+        }
+
+        @DisplayName("최대 레벨이면 남은 경험치와 마지막 레벨의 필요 경험치가 반환된다")
+        @Test
+        fun `최대 레벨이면 남은 경험치와 마지막 레벨의 필요 경험치가 반환된다`() {
+            //given
+            //when
+            val result = levelTable.resolve(105)
+
+            //then
+            assertThat(result).isEqualTo(Triple(5, 5L, 40L))
+        }
+
+        @DisplayName("필요 경험치가 0인 레벨은 계산에서 제외된다")
+        @Test
+        fun `필요 경험치가 0인 레벨은 계산에서 제외된다`() {
+            //given
+            val levelTable = LevelTable.of(mapOf(1 to 10L, 2 to 20L, 3 to 0L))
+
+            //when
+            val result = levelTable.resolve(35)
+
+            //then
+            assertThat(result).isEqualTo(Triple(3, 5L, 0L))
+        }
+
+        @DisplayName("빈 테이블이면 1레벨과 전체 경험치가 반환된다")
+        @Test
+        fun `빈 테이블이면 1레벨과 전체 경험치가 반환된다`() {
+            //given
+            //when
+            val result = LevelTable.EMPTY.resolve(100)
+
+            //then
+            assertThat(result).isEqualTo(Triple(1, 100L, 0L))
+        }
+
+        @DisplayName("키 순서와 상관없이 레벨 순으로 계산된다")
+        @Test
+        fun `키 순서와 상관없이 레벨 순으로 계산된다`() {
+            //given
+            val levelTable = LevelTable.of(linkedMapOf(3 to 30L, 1 to 10L, 2 to 20L))
+
+            //when
+            val result = levelTable.resolve(15)
+
+            //then
+            assertThat(result).isEqualTo(Triple(2, 5L, 20L))
+        }
+
+        @DisplayName("순차 계산 방식과 결과가 같다")
+        @ParameterizedTest(name = "경험치 {0}")
+        @ValueSource(longs = [0, 1, 9, 10, 11, 29, 30, 31, 59, 60, 61, 99, 100, 101, 1000])
+        fun `순차 계산 방식과 결과가 같다`(exp: Long) {
+            //given
+            //when
+            val result = levelTable.resolve(exp)
+
+            //then
+            assertThat(result).isEqualTo(this.calculateSequentially(exp))
+        }
+
+        private fun calculateSequentially(exp: Long): Triple<Int, Long, Long> {
+            var level = 1
+            var remainingExp = exp
+            var requiredExp = 0L
+            for (key in expTable.keys.sorted()) {
+                requiredExp = expTable[key]!!
+                if (remainingExp < requiredExp) return Triple(level, remainingExp, requiredExp)
+                remainingExp -= requiredExp
+                level++
+            }
+            return Triple(level, remainingExp, requiredExp)
+        }
+    }
+
+    @DisplayName("테이블 생성 시")
+    @Nested
+    inner class TestOf {
+        @DisplayName("전달한 버전이 저장된다")
+        @Test
+        fun `전달한 버전이 저장된다`() {
+            //given
+            //when
+            val levelTable = LevelTable.of(mapOf(1 to 10L), 3)
+
+            //then
+            assertThat(levelTable.version).isEqualTo(3)
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package dailyquest.user.record.repository
+
+import dailyquest.user.record.dto.QuestRecordCounts
+import dailyquest.user.record.entity.UserRecord
+import jakarta.persistence.EntityManager
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.data.repository.findByIdOrNull
+import java.time.LocalDate
+
+@DisplayName("유저 기록 리포지토리 구현체 유닛 테스트")
+@DataJpaTest
+class UserRecordRepositoryImplUnitTest {
+    @Autowired
+    private lateinit var userRecordRepository: UserRecordRepository
+
+    @Autowired
+    private lateinit var entityManager: EntityManager
+
+    private val userId = 1L
+    private val lastDate = LocalDate.of(2022, 12, 10)
+
+    private fun saveRecord(lastQuestDate: LocalDate?): UserRecord {
+        val userRecord = UserRecord(
+            userId,
+            questRegistrationCount = 5,
+            questCompletionCount = 5,
+            currentQuestContinuousRegistrationDays = 2,
+            currentQuestContinuousCompletionDays = 2,
+            maxQuestContinuousRegistrationDays = 2,
+            maxQuestContinuousCompletionDays = 2,
+            lastQuestRegistrationDate = lastQuestDate,
+            lastQuestCompletionDate = lastQuestDate,
+        )
+        userRecordRepository.saveAndFlush(userRecord)
+        entityManager.clear()
+        return userRecord
+    }
+
+    private fun findRecord(): UserRecord {
+        entityManager.clear()
+        return userRecordRepository.findByIdOrNull(userId)!!
+    }
+
+    @DisplayName("addGoldEarnAmount 호출 시")
+    @Nested
+    inner class TestAddGoldEarnAmount {
+        @DisplayName("골드 획득량을 더하고 더한 값을 반환한다")
+        @Test
+        fun `골드 획득량을 더하고 더한 값을 반환한다`() {
+            //given
+            userRecordRepository.saveAndFlush(UserRecord(userId, goldEarnAmount = 10))
+
+            //when
+            val result = userRecordRepository.addGoldEarnAmount(userId, 5)
+
+            //then
+            assertThat(result).isEqualTo(15)
+            assertThat(findRecord().goldEarnAmount).isEqualTo(15)
+        }
+
+        @DisplayName("기록이 없으면 null을 반환한다")
+        @Test
+        fun `기록이 없으면 null을 반환한다`() {
+            //given
+            //when
+            val result = userRecordRepository.addGoldEarnAmount(userId, 5)
+
+            //then
+            assertThat(result).isNull()
+        }
+    }
+
+    @DisplayName("increaseQuestRegistrationCount 호출 시")
+    @Nested
+    inner class TestIncreaseQuestRegistrationCount {
+        @DisplayName("엔티티의 등록 횟수 증가 로직과 같은 결과로 갱신된다")
+        @ParameterizedTest(name = "마지막 등록일로부터 {0}일 뒤에 등록하면 엔티티 로직과 같은 결과로 갱신된다")
+        @ValueSource(longs = [-2, -1, 0, 1, 2])
+        fun `엔티티의 등록 횟수 증가 로직과 같은 결과로 갱신된다`(daysAfterLastDate: Long) {
+            //given
+            val expected = saveRecord(lastDate)
+            val registrationDate = lastDate.plusDays(daysAfterLastDate)
+            expected.increaseQuestRegistrationCount(registrationDate)
+
+            //when
+            val result = userRecordRepository.increaseQuestRegistrationCount(userId, registrationDate)
+
+            //then
+            val updated = findRecord()
+            assertThat(result).isEqualTo(QuestRecordCounts(expected.questRegistrationCount, expected.currentQuestContinuousRegistrationDays))
+            assertThat(updated.questRegistrationCount).isEqualTo(expected.questRegistrationCount)
+            assertThat(updated.currentQuestContinuousRegistrationDays).isEqualTo(expected.currentQuestContinuousRegistrationDays)
+            assertThat(updated.maxQuestContinuousRegistrationDays).isEqualTo(expected.maxQuestContinuousRegistrationDays)
+            assertThat(updated.lastQuestRegistrationDate).isEqualTo(expected.lastQuestRegistrationDate)
+        }
+
+        @DisplayName("첫 등록이면 연속 등록일과 최대 연속 등록일이 증가하고 마지막 등록일이 갱신된다")
+        @Test
+        fun `첫 등록이면 연속 등록일과 최대 연속 등록일이 증가하고 마지막 등록일이 갱신된다`() {
+            //given
+            saveRecord(null)
+
+            //when
+            val result = userRecordRepository.increaseQuestRegistrationCount(userId, lastDate)
+
+            //then
+            val updated = findRecord()
+            assertThat(result).isEqualTo(QuestRecordCounts(6, 3))
+            assertThat(updated.maxQuestContinuousRegistrationDays).isEqualTo(3)
+            assertThat(updated.lastQuestRegistrationDate).isEqualTo(lastDate)
+        }
+    }
+
+    @DisplayName("increaseQuestCompletionCount 호출 시")
+    @Nested
+    inner class TestIncreaseQuestCompletionCount {
+        @DisplayName("엔티티의 완료 횟수 증가 로직과 같은 결과로 갱신된다")
+        @ParameterizedTest(name = "마지막 완료일로부터 {0}일 뒤에 완료하면 엔티티 로직과 같은 결과로 갱신된다")
+        @ValueSource(longs = [-2, -1, 0, 1, 2])
+        fun `엔티티의 완료 횟수 증가 로직과 같은 결과로 갱신된다`(daysAfterLastDate: Long) {
+            //given
+            val expected = saveRecord(lastDate)
+            val completionDate = lastDate.plusDays(daysAfterLastDate)
+            expected.increaseQuestCompletionCount(completionDate)
+
+            //when
+            val result = userRecordRepository.increaseQuestCompletionCount(userId, completionDate)
+
+            //then
+            val updated = findRecord()
+            assertThat(result).isEqualTo(QuestRecordCounts(expected.questCompletionCount, expected.currentQuestContinuousCompletionDays))
+            assertThat(updated.questCompletionCount).isEqualTo(expected.questCompletionCount)
+            assertThat(updated.currentQuestContinuousCompletionDays).isEqualTo(expected.currentQuestContinuousCompletionDays)
+            assertThat(updated.maxQuestContinuousCompletionDays).isEqualTo(expected.maxQuestContinuousCompletionDays)
+            assertThat(updated.lastQuestCompletionDate).isEqualTo(expected.lastQuestCompletionDate)
+        }
+
+        @DisplayName("완료 횟수를 함께 넘기면 엔티티 로직을 그 횟수만큼 반복한 결과로 갱신된다")
+        @Test
+        fun `완료 횟수를 함께 넘기면 엔티티 로직을 그 횟수만큼 반복한 결과로 갱신된다`() {
+            //given
+            val expected = saveRecord(lastDate)
+            val completionDate = lastDate.plusDays(1)
+            repeat(3) { expected.increaseQuestCompletionCount(completionDate) }
+
+            //when
+            val result = userRecordRepository.increaseQuestCompletionCount(userId, completionDate, 3)
+
+            //then
+            val updated = findRecord()
+            assertThat(result).isEqualTo(QuestRecordCounts(expected.questCompletionCount, expected.currentQuestContinuousCompletionDays))
+            assertThat(updated.maxQuestContinuousCompletionDays).isEqualTo(expected.maxQuestContinuousCompletionDays)
+            assertThat(updated.lastQuestCompletionDate).isEqualTo(expected.lastQuestCompletionDate)
+        }
+
+        @DisplayName("기록이 없으면 null을 반환한다")
+        @Test
+        fun `기록이 없으면 null을 반환한다`() {
+            //given
+            //when
+            val result = userRecordRepository.increaseQuestCompletionCount(userId, lastDate)
+
+            //then
+            assertThat(result).isNull()
+        }
+    }
+}
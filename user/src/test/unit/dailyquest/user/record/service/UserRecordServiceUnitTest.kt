@@ -4,7 +4,7 @@ import dailyquest.achievement.dto.SimpleAchievementAchieveRequest
 import dailyquest.achievement.entity.AchievementType.*
 import dailyquest.achievement.service.AchievementService
 import dailyquest.user.dto.UserUpdateRequest
-import dailyquest.user.record.entity.UserRecord
+import dailyquest.user.record.dto.QuestRecordCounts
 import dailyquest.user.record.repository.UserRecordRepository
 import io.mockk.every
 import io.mockk.impl.annotations.InjectMockKs
@@ -17,7 +17,6 @@ import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
-import org.springframework.data.repository.findByIdOrNull
 import java.time.LocalDate
 
 @ExtendWith(MockKExtension::class)
@@ -29,41 +28,42 @@ class UserRecordServiceUnitTest {
     private lateinit var userRecordRepository: UserRecordRepository
     @RelaxedMockK
     private lateinit var achievementService: AchievementService
-    @RelaxedMockK
-    private lateinit var userRecord: UserRecord
+    private val userId = 1L
+    private val totalCount = 3L
+    private val currentContinuousDays = 2L
 
     @BeforeEach
     fun init() {
-        every { userRecordRepository.findByIdOrNull(any()) } returns userRecord
+        every { userRecordRepository.increaseQuestRegistrationCount(any(), any()) } returns QuestRecordCounts(totalCount, currentContinuousDays)
+        every { userRecordRepository.increaseQuestCompletionCount(any(), any()) } returns QuestRecordCounts(totalCount, currentContinuousDays)
     }
 
     @DisplayName("골드 획득 기록 메서드 호출 시")
     @Nested
     inner class TestRecordGoldEarn {
-        @DisplayName("조회한 유저의 골드 획득 기록 메서드가 호출된다")
+        @DisplayName("획득한 골드만큼 골드 획득량 증가를 요청한다")
         @Test
-        fun `조회한 유저의 골드 획득 기록 메서드가 호출된다`() {
+        fun `획득한 골드만큼 골드 획득량 증가를 요청한다`() {
             //given
-            val userId = 1L
             val userUpdateRequest = mockk<UserUpdateRequest>()
             val earnedGold = 1L
             every { userUpdateRequest.earnedGold } returns earnedGold
+            every { userRecordRepository.addGoldEarnAmount(any(), any()) } returns earnedGold
 
             //when
             userRecordService.recordGoldEarn(userId, userUpdateRequest)
 
             //then
-            verify { userRecord.recordGoldEarn(eq(earnedGold)) }
+            verify { userRecordRepository.addGoldEarnAmount(eq(userId), eq(earnedGold)) }
         }
 
-        @DisplayName("총 골드 획득 업적 달성 확인 로직이 호출된다")
+        @DisplayName("갱신된 총 골드 획득량으로 업적 달성 확인 로직이 호출된다")
         @Test
-        fun `총 골드 획득 업적 달성 확인 로직이 호출된다`() {
+        fun `갱신된 총 골드 획득량으로 업적 달성 확인 로직이 호출된다`() {
             //given
-            val userId = 1L
-            val totalEarnGold = 1L
+            val totalEarnGold = 10L
             val updateRequest = mockk<UserUpdateRequest>(relaxed = true)
-            every { userRecord.goldEarnAmount } returns totalEarnGold
+            every { userRecordRepository.addGoldEarnAmount(any(), any()) } returns totalEarnGold
             val achieveRequest = SimpleAchievementAchieveRequest(GOLD_EARN, userId, totalEarnGold)
 
             //when
@@ -77,27 +77,24 @@ class UserRecordServiceUnitTest {
     @DisplayName("퀘스트 등록 기록 메서드 호출 시")
     @Nested
     inner class TestRecordQuestRegistration {
-        @DisplayName("조회한 유저의 퀘스트 등록 횟수 증가 로직이 호출된다")
+        @DisplayName("등록 날짜로 퀘스트 등록 횟수 증가를 요청한다")
         @Test
-        fun `조회한 유저의 퀘스트 등록 횟수 증가 로직이 호출된다`() {
+        fun `등록 날짜로 퀘스트 등록 횟수 증가를 요청한다`() {
             //given
-            val userId = 1L
+            val registrationDate = LocalDate.of(2022, 12, 1)
 
             //when
-            userRecordService.recordQuestRegistration(userId, LocalDate.now())
+            userRecordService.recordQuestRegistration(userId, registrationDate)
 
             //then
-            verify { userRecord.increaseQuestRegistrationCount(any()) }
+            verify { userRecordRepository.increaseQuestRegistrationCount(eq(userId), eq(registrationDate)) }
         }
 
-        @DisplayName("퀘스트 등록 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("갱신된 등록 횟수로 퀘스트 등록 횟수 업적 달성 확인 로직이 호출된다")
         @Test
-        fun `퀘스트 등록 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `갱신된 등록 횟수로 퀘스트 등록 횟수 업적 달성 확인 로직이 호출된다`() {
             //given
-            val userId = 1L
-            val questRegistrationCount = 1L
-            every { userRecord.questRegistrationCount } returns questRegistrationCount
-            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_REGISTRATION, userId, questRegistrationCount)
+            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_REGISTRATION, userId, totalCount)
 
             //when
             userRecordService.recordQuestRegistration(userId, LocalDate.now())
@@ -106,14 +103,11 @@ class UserRecordServiceUnitTest {
             verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
         }
 
-        @DisplayName("퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("갱신된 연속 등록일로 퀘스트 연속 등록 업적 달성 확인 로직이 호출된다")
         @Test
-        fun `퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `갱신된 연속 등록일로 퀘스트 연속 등록 업적 달성 확인 로직이 호출된다`() {
             //given
-            val userId = 1L
-            val questContinuousRegistrationDays = 1L
-            every { userRecord.currentQuestContinuousRegistrationDays } returns questContinuousRegistrationDays
-            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_REGISTRATION, userId, questContinuousRegistrationDays)
+            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_REGISTRATION, userId, currentContinuousDays)
 
             //when
             userRecordService.recordQuestRegistration(userId, LocalDate.now())
@@ -126,27 +120,24 @@ class UserRecordServiceUnitTest {
     @DisplayName("퀘스트 완료 기록 메서드 호출 시")
     @Nested
     inner class TestRecordQuestCompletion {
-        @DisplayName("조회한 유저의 퀘스트 완료 횟수 증가 로직이 호출된다")
+        @DisplayName("완료 날짜로 퀘스트 완료 횟수 증가를 요청한다")
         @Test
-        fun `조회한 유저의 퀘스트 완료 횟수 증가 로직이 호출된다`() {
+        fun `완료 날짜로 퀘스트 완료 횟수 증가를 요청한다`() {
             //given
-            val userId = 1L
+            val completionDate = LocalDate.of(2022, 12, 1)
 
             //when
-            userRecordService.recordQuestCompletion(userId, LocalDate.now())
+            userRecordService.recordQuestCompletion(userId, completionDate)
 
             //then
-            verify { userRecord.increaseQuestCompletionCount(any()) }
+            verify { userRecordRepository.increaseQuestCompletionCount(eq(userId), eq(completionDate)) }
         }
 
-        @DisplayName("퀘스트 완료 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("갱신된 완료 횟수로 퀘스트 완료 횟수 업적 달성 확인 로직이 호출된다")
         @Test
-        fun `퀘스트 완료 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `갱신된 완료 횟수로 퀘스트 완료 횟수 업적 달성 확인 로직이 호출된다`() {
             //given
-            val userId = 1L
-            val questCompletionCount = 1L
-            every { userRecord.questCompletionCount } returns questCompletionCount
-            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, questCompletionCount)
+            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_COMPLETION, userId, totalCount)
 
             //when
             userRecordService.recordQuestCompletion(userId, LocalDate.now())
@@ -155,14 +146,11 @@ class UserRecordServiceUnitTest {
             verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
         }
 
-        @DisplayName("퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다")
+        @DisplayName("갱신된 연속 완료일로 퀘스트 연속 완료 업적 달성 확인 로직이 호출된다")
         @Test
-        fun `퀘스트 연속 등록 횟수 업적 달성 확인 로직이 호출된다`() {
+        fun `갱신된 연속 완료일로 퀘스트 연속 완료 업적 달성 확인 로직이 호출된다`() {
             //given
-            val userId = 1L
-            val questContinuousCompletionDays = 1L
-            every { userRecord.currentQuestContinuousCompletionDays } returns questContinuousCompletionDays
-            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, userId, questContinuousCompletionDays)
+            val achieveRequest = SimpleAchievementAchieveRequest.of(QUEST_CONTINUOUS_COMPLETION, userId, currentContinuousDays)
 
             //when
             userRecordService.recordQuestCompletion(userId, LocalDate.now())
@@ -171,4 +159,4 @@ class UserRecordServiceUnitTest {
             verify { achievementService.checkAndAchieveAchievement(eq(achieveRequest)) }
         }
     }
-}
\ No newline at end of file
+}
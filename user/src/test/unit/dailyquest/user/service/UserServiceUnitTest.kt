@@ -4,8 +4,12 @@ import dailyquest.user.dto.UserResponse
 import dailyquest.user.dto.UserSaveRequest
 import dailyquest.user.dto.UserUpdateRequest
 import dailyquest.user.entity.User
+import dailyquest.user.event.UserChangedEvent
 import dailyquest.user.record.service.UserRecordService
 import dailyquest.user.repository.UserRepository
+import dailyquest.user.reward.dto.RewardSum
+import dailyquest.user.reward.entity.RewardLedger
+import dailyquest.user.reward.repository.RewardLedgerRepository
 import io.mockk.every
 import io.mockk.impl.annotations.InjectMockKs
 import io.mockk.impl.annotations.RelaxedMockK
@@ -16,6 +20,7 @@ import jakarta.persistence.EntityNotFoundException
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.context.support.MessageSourceAccessor
 import org.springframework.data.repository.findByIdOrNull
 import java.time.LocalDateTime
@@ -33,11 +38,16 @@ class UserServiceUnitTest {
     @RelaxedMockK
     private lateinit var messageSourceAccessor: MessageSourceAccessor
     @RelaxedMockK
+    private lateinit var eventPublisher: ApplicationEventPublisher
+    @RelaxedMockK
+    private lateinit var rewardLedgerRepository: RewardLedgerRepository
+    @RelaxedMockK
     private lateinit var user: User
 
     @BeforeEach
     fun init() {
         every { userRepository.findByIdOrNull(any()) } returns user
+        every { rewardLedgerRepository.getUncompactedRewardSum(any()) } returns RewardSum()
     }
 
     @DisplayName("findUserByOauthId 호출 시")
@@ -98,6 +108,53 @@ class UserServiceUnitTest {
             //then
             assertThat(result).isNotNull.isInstanceOf(UserResponse::class.java)
         }
+
+        @DisplayName("유저 잔액에 아직 합산되지 않은 원장 보상을 더해 반환한다")
+        @Test
+        fun `유저 잔액에 아직 합산되지 않은 원장 보상을 더해 반환한다`() {
+            //given
+            every { user.id } returns 1L
+            every { user.exp } returns 100L
+            every { user.gold } returns 50L
+            every { rewardLedgerRepository.getUncompactedRewardSum(eq(1L)) } returns RewardSum(20L, 5L)
+
+            //when
+            val result = userService.getUserById(1L)
+
+            //then
+            assertThat(result.exp).isEqualTo(120L)
+            assertThat(result.gold).isEqualTo(55L)
+        }
+    }
+
+    @DisplayName("filterAvailableNicknames 호출 시")
+    @Nested
+    inner class TestFilterAvailableNicknames {
+        @DisplayName("이미 사용 중인 닉네임을 제외하고 반환한다")
+        @Test
+        fun `이미 사용 중인 닉네임을 제외하고 반환한다`() {
+            //given
+            val nicknames = listOf("a", "b", "c")
+            every { userRepository.findNicknamesIn(nicknames) } returns listOf("b")
+
+            //when
+            val result = userService.filterAvailableNicknames(nicknames)
+
+            //then
+            assertThat(result).containsExactly("a", "c")
+        }
+
+        @DisplayName("빈 목록이면 조회하지 않는다")
+        @Test
+        fun `빈 목록이면 조회하지 않는다`() {
+            //given
+            //when
+            val result = userService.filterAvailableNicknames(emptyList())
+
+            //then
+            assertThat(result).isEmpty()
+            verify(inverse = true) { userRepository.findNicknamesIn(any()) }
+        }
     }
 
     @DisplayName("saveUser 호출 시")
@@ -161,6 +218,33 @@ class UserServiceUnitTest {
             //then
             assertThrows<IllegalStateException> { function.invoke() }
         }
+
+        @DisplayName("업데이트에 성공하면 유저 변경 이벤트가 발행된다")
+        @Test
+        fun `업데이트에 성공하면 유저 변경 이벤트가 발행된다`() {
+            //given
+            val userId = 1L
+            every { user.updateUser(any()) } returns true
+
+            //when
+            userService.updateUser(userId, updateRequest)
+
+            //then
+            verify { eventPublisher.publishEvent(eq(UserChangedEvent(userId))) }
+        }
+
+        @DisplayName("업데이트에 실패하면 유저 변경 이벤트가 발행되지 않는다")
+        @Test
+        fun `업데이트에 실패하면 유저 변경 이벤트가 발행되지 않는다`() {
+            //given
+            every { user.updateUser(any()) } returns false
+
+            //when
+            runCatching { userService.updateUser(1L, updateRequest) }
+
+            //then
+            verify(inverse = true) { eventPublisher.publishEvent(any<UserChangedEvent>()) }
+        }
     }
 
     
@@ -170,19 +254,35 @@ class UserServiceUnitTest {
         @RelaxedMockK
         private lateinit var updateRequest: UserUpdateRequest
 
-        @DisplayName("조회한 유저의 경험치 골드 추가 로직이 호출된다")
+        @DisplayName("유저를 수정하지 않고 보상 원장에 경험치와 골드를 추가한다")
         @Test
-        fun `조회한 유저의 경험치 골드 추가 로직이 호출된다`() {
+        fun `유저를 수정하지 않고 보상 원장에 경험치와 골드를 추가한다`() {
             //given
             val userId = 1L
+            val earnedExp = 2L
             val earnedGold = 1L
+            every { updateRequest.earnedExp } returns earnedExp
             every { updateRequest.earnedGold } returns earnedGold
 
             //when
             userService.addUserExpAndGold(userId, updateRequest)
-            
+
+            //then
+            verify { rewardLedgerRepository.save(match<RewardLedger> { it.userId == userId && it.exp == earnedExp && it.gold == earnedGold }) }
+            verify(inverse = true) { userRepository.findById(any()) }
+        }
+
+        @DisplayName("유저 변경 이벤트가 발행된다")
+        @Test
+        fun `유저 변경 이벤트가 발행된다`() {
+            //given
+            val userId = 1L
+
+            //when
+            userService.addUserExpAndGold(userId, updateRequest)
+
             //then
-            verify { user.addExpAndGold(any(), eq(earnedGold)) }
+            verify { eventPublisher.publishEvent(eq(UserChangedEvent(userId))) }
         }
     }
 }
\ No newline at end of file
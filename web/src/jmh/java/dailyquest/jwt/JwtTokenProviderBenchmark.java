@@ -0,0 +1,58 @@
+package dailyquest.jwt;
+
+import dailyquest.properties.JwtTokenProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 파서를 새로 만들어 두 번 파싱하던 방식과 미리 생성한 파서로 한 번만 검증하는 방식을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "and0LWF1dGhlbnRpY2F0aW9uLWZpbHRlci10ZXN0LXNlY3JldC1rZXQtMDAwMA==";
+    private static final String ACCESS_TOKEN_NAME = "access";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProperties jwtTokenProperties = new JwtTokenProperties();
+        jwtTokenProperties.setAccessTokenName(ACCESS_TOKEN_NAME);
+        jwtTokenProperties.setAccessTokenExpirationSecondsFormula("60 * 60");
+        jwtTokenProvider = new JwtTokenProvider(jwtTokenProperties, null, null, new JwtKeyManager(SECRET, List.of()), null);
+        accessToken = jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public Long rebuildParserAndParseTwice() {
+        Jws<Claims> validated = Jwts.parserBuilder()
+                .setSigningKey(Decoders.BASE64.decode(SECRET))
+                .build()
+                .parseClaimsJws(accessToken);
+        if (!ACCESS_TOKEN_NAME.equals(validated.getBody().get("token_type", String.class))) {
+            throw new IllegalStateException();
+        }
+
+        return Jwts.parserBuilder()
+                .setSigningKey(Decoders.BASE64.decode(SECRET))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody()
+                .get("id", Long.class);
+    }
+
+    @Benchmark
+    public Long prebuiltParserParseOnce() {
+        return jwtTokenProvider.verifyToken(accessToken, ACCESS_TOKEN_NAME).getUserId();
+    }
+}
@@ -0,0 +1,71 @@
+package dailyquest.admin.cache
+
+import dailyquest.admin.dto.SystemSettingsSnapshot
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.redis.service.RedisService
+import org.slf4j.LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 노드마다 한 번만 로드해 사용하는 시스템 설정값.
+ * 관리자가 설정을 변경하면 채널을 통해 모든 노드가 다시 로드하고 원자적으로 교체한다.
+ */
+@Component
+class SystemSettingsCache(
+    private val redisService: RedisService,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val redisKeyProperties: RedisKeyProperties,
+) : MessageListener {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val snapshot = AtomicReference<SystemSettingsSnapshot?>()
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun subscribe() {
+        try {
+            listenerContainer.addMessageListener(this, ChannelTopic(redisKeyProperties.settingsChannel))
+        } catch (e: Exception) {
+            log.error("[SystemSettingsCache] 시스템 설정 채널 구독에 실패했습니다.", e)
+        }
+    }
+
+    fun get(): SystemSettingsSnapshot {
+        return snapshot.get() ?: this.reload()
+    }
+
+    fun reload(): SystemSettingsSnapshot {
+        // 버전을 먼저 읽어야 로드한 설정값이 버전보다 오래된 경우가 생기지 않는다
+        val version = redisService.getSystemSettingsVersion()
+        val loaded = redisService.getSystemSettings().copy(version = version)
+        return snapshot.accumulateAndGet(loaded) { current, new ->
+            if (current != null && current.version > new.version) current else new
+        }!!
+    }
+
+    fun publish(version: Long) {
+        this.refreshIfNewer(version)
+        try {
+            redisTemplate.convertAndSend(redisKeyProperties.settingsChannel, version.toString())
+        } catch (e: Exception) {
+            log.error("[SystemSettingsCache] 시스템 설정 변경 메시지 발행에 실패했습니다. version=[{}]", version, e)
+        }
+    }
+
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        String(message.body).toLongOrNull()?.let { this.refreshIfNewer(it) }
+    }
+
+    private fun refreshIfNewer(version: Long) {
+        val current = snapshot.get()
+        if (current != null && current.version >= version) return
+        this.reload()
+    }
+}
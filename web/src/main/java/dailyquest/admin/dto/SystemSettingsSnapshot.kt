@@ -0,0 +1,11 @@
+package dailyquest.admin.dto
+
+/**
+ * 한 번의 HMGET으로 읽어 노드 메모리에 보관하는 시스템 설정값.
+ */
+data class SystemSettingsSnapshot(
+    val questClearExp: Long,
+    val questClearGold: Long,
+    val maxRewardCount: Long,
+    val version: Long = 0,
+)
@@ -2,16 +2,21 @@ package dailyquest.admin.service
 
 import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.stereotype.Service
+import dailyquest.admin.cache.SystemSettingsCache
 import dailyquest.admin.dto.SystemSettingsRequest
 import dailyquest.admin.dto.SystemSettingsResponse
 import dailyquest.properties.RedisKeyProperties
+import dailyquest.user.cache.LevelTableCache
 import org.springframework.context.support.MessageSourceAccessor
+import java.util.UUID
 
 @Service
 class AdminService(
     private val redisKeyProperties: RedisKeyProperties,
     private val redisTemplate: RedisTemplate<String, String>,
-    private val messageSourceAccessor: MessageSourceAccessor
+    private val messageSourceAccessor: MessageSourceAccessor,
+    private val levelTableCache: LevelTableCache,
+    private val systemSettingsCache: SystemSettingsCache,
 ) {
 
     fun getSystemSettings(): SystemSettingsResponse {
@@ -27,9 +32,14 @@ class AdminService(
     fun updateSystemSettings(settingsRequest: SystemSettingsRequest) {
         val ops = redisTemplate.boundHashOps<String, Long>(redisKeyProperties.settings)
 
-        ops.put(redisKeyProperties.questClearGold, settingsRequest.questClearGold)
-        ops.put(redisKeyProperties.questClearExp, settingsRequest.questClearExp)
-        ops.put(redisKeyProperties.maxRewardCount, settingsRequest.maxRewardCount)
+        // 한 번의 HMSET으로 반영해 다른 노드가 일부만 변경된 설정값을 읽지 않도록 한다
+        ops.putAll(mapOf(
+            redisKeyProperties.questClearExp to settingsRequest.questClearExp,
+            redisKeyProperties.questClearGold to settingsRequest.questClearGold,
+            redisKeyProperties.maxRewardCount to settingsRequest.maxRewardCount
+        ))
+        val version = redisTemplate.opsForValue().increment(redisKeyProperties.settingsVersion)!!
+        systemSettingsCache.publish(version)
     }
 
     fun getExpTable(): Map<Int, Long> {
@@ -45,8 +55,12 @@ class AdminService(
         val exceptLastKeys = keys.subList(0, keys.size-1)
         require(exceptLastKeys.none { expTable[it] == 0L }) { messageSourceAccessor.getMessage("admin.exception.exp_table.zero_value") }
 
-        redisTemplate.delete(redisKeyProperties.expTable)
-        redisTemplate.boundHashOps<Int, Long>(redisKeyProperties.expTable).putAll(expTable)
+        // 임시 키에 작성 후 교체하여 조회 중 빈 테이블이 노출되지 않도록 한다
+        val tempKey = "${redisKeyProperties.expTable}:${UUID.randomUUID()}"
+        redisTemplate.boundHashOps<Int, Long>(tempKey).putAll(expTable)
+        redisTemplate.rename(tempKey, redisKeyProperties.expTable)
+        val version = redisTemplate.opsForValue().increment(redisKeyProperties.expTableVersion)!!
+        levelTableCache.publish(version)
     }
 
 
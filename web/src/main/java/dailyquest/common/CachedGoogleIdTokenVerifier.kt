@@ -0,0 +1,69 @@
+package dailyquest.common
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager
+import com.google.api.client.http.HttpTransport
+import com.google.api.client.http.javanet.NetHttpTransport
+import com.google.api.client.json.gson.GsonFactory
+import dailyquest.properties.GoogleIdTokenProperties
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.slf4j.LoggerFactory
+import org.springframework.core.io.ResourceLoader
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+
+/**
+ * 애플리케이션 전체에서 하나의 검증기를 재사용해 구글 공개 키 캐시를 유지한다.
+ * 키는 응답의 Cache-Control 만료 시간까지 캐시되며, 만료가 가까워지면 백그라운드에서 미리 갱신한다.
+ */
+@Component
+class CachedGoogleIdTokenVerifier(
+    private val googleIdTokenProperties: GoogleIdTokenProperties,
+    resourceLoader: ResourceLoader,
+    meterRegistry: MeterRegistry,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val publicKeysManager: GooglePublicKeysManager
+    private val verifier: GoogleIdTokenVerifier
+    private val verifyTimer = Timer.builder("google.id_token.verify").register(meterRegistry)
+
+    init {
+        val certsUrl = googleIdTokenProperties.certsUrl
+        val isLocalSource = !certsUrl.startsWith("http://") && !certsUrl.startsWith("https://")
+        val transport: HttpTransport = if (isLocalSource) {
+            ResourceHttpTransport(resourceLoader.getResource(certsUrl), googleIdTokenProperties.localCertsMaxAgeSeconds)
+        } else {
+            NetHttpTransport()
+        }
+
+        publicKeysManager = GooglePublicKeysManager.Builder(transport, GsonFactory.getDefaultInstance())
+            .setPublicCertsEncodedUrl(if (isLocalSource) LOCAL_CERTS_URL else certsUrl)
+            .build()
+        verifier = GoogleIdTokenVerifier.Builder(publicKeysManager)
+            .setAudience(listOf(googleIdTokenProperties.clientId))
+            .build()
+    }
+
+    fun verify(idTokenString: String): GoogleIdToken? {
+        return verifyTimer.recordCallable { verifier.verify(idTokenString) }
+    }
+
+    @Scheduled(fixedDelayString = "\${google.certs-refresh-check-millis:60000}")
+    fun refreshPublicKeysIfExpiring() {
+        val remainingMillis = publicKeysManager.expirationTimeMilliseconds - System.currentTimeMillis()
+        if (remainingMillis > googleIdTokenProperties.refreshMarginSeconds * 1000) return
+
+        try {
+            publicKeysManager.refresh()
+        } catch (e: Exception) {
+            log.warn("[GoogleIdTokenVerifier] 공개 키 갱신에 실패했습니다. 다음 검증 시 다시 시도합니다.", e)
+        }
+    }
+
+    companion object {
+        // 로컬 리소스 사용 시 요청 주소는 사용되지 않지만 올바른 URL 형식이어야 한다
+        private const val LOCAL_CERTS_URL = "http://localhost/google-certs"
+    }
+}
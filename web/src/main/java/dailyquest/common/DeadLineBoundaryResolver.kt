@@ -21,6 +21,10 @@ class DeadLineBoundaryResolver(
         return nextSixAm().minusMinutes(gap)
     }
 
+    fun resolveNextResetTime(): LocalDateTime {
+        return nextSixAm()
+    }
+
     private fun nextSixAm(): LocalDateTime {
         val now = nowWithoutSecondAndNano()
         val sixAm = now.withHour(6).withMinute(0)
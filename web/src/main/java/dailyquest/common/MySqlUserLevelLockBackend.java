@@ -0,0 +1,117 @@
+package dailyquest.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * DataSource 에서 직접 Connection 을 얻어 MySQL GET_LOCK 을 사용하는 백엔드.
+ * Connection 은 락을 해제할 때까지 점유된다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "lock.user-level", name = "backend", havingValue = "mysql", matchIfMissing = true)
+@Component
+public class MySqlUserLevelLockBackend implements UserLevelLockBackend {
+
+    private static final String GET_LOCK = "SELECT GET_LOCK(?, ?)";
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+    private static final String EXCEPTION_MESSAGE = "LOCK 을 수행하는 중에 오류가 발생하였습니다.";
+
+    private final DataSource dataSource;
+
+    public MySqlUserLevelLockBackend(@Qualifier("userLockDataSource") DataSource userLockDataSource, MeterRegistry meterRegistry) {
+        this.dataSource = userLockDataSource;
+        Gauge.builder("user_level_lock.pool.saturation", this, MySqlUserLevelLockBackend::poolSaturation)
+                .description("락 전용 커넥션 풀의 사용 중 커넥션 비율")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Lease acquire(String userLockName, int timeoutSeconds) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            getLock(connection, userLockName, timeoutSeconds);
+            log.debug("success getLock=[{}], timeoutSeconds : [{}], connection=[{}]", userLockName, timeoutSeconds, connection);
+            Connection lockedConnection = connection;
+            return () -> release(lockedConnection, userLockName);
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(connection);
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private void release(Connection connection, String userLockName) {
+        try (connection) {
+            releaseLock(connection, userLockName);
+            log.debug("success releaseLock=[{}], connection=[{}]", userLockName, connection);
+        } catch (SQLException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private void getLock(Connection connection,
+                         String userLockName,
+                         int timeoutseconds) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(GET_LOCK)) {
+            preparedStatement.setString(1, userLockName);
+            preparedStatement.setInt(2, timeoutseconds);
+
+            checkResultSet(userLockName, preparedStatement, "GetLock_");
+        }
+    }
+
+    private void releaseLock(Connection connection,
+                             String userLockName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(RELEASE_LOCK)) {
+            preparedStatement.setString(1, userLockName);
+
+            checkResultSet(userLockName, preparedStatement, "ReleaseLock_");
+        }
+    }
+
+    private void checkResultSet(String userLockName,
+                                PreparedStatement preparedStatement,
+                                String type) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next()) {
+                log.error("USER LEVEL LOCK 쿼리 결과 값이 없습니다. type = [{}], userLockName : [{}], connection=[{}]", type, userLockName, preparedStatement.getConnection());
+                throw new RuntimeException(EXCEPTION_MESSAGE);
+            }
+            int result = resultSet.getInt(1);
+            if (result != 1) {
+                log.error("USER LEVEL LOCK 쿼리 결과 값이 1이 아닙니다. type = [{}], result : [{}] userLockName : [{}], connection=[{}]", type, result, userLockName, preparedStatement.getConnection());
+                throw new RuntimeException(EXCEPTION_MESSAGE);
+            }
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("USER LEVEL LOCK 커넥션 반환에 실패했습니다. connection=[{}]", connection, e);
+        }
+    }
+
+    private double poolSaturation() {
+        if (!(dataSource instanceof HikariDataSource hikariDataSource)) return 0;
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        int maximumPoolSize = hikariDataSource.getMaximumPoolSize();
+        if (pool == null || maximumPoolSize <= 0) return 0;
+        return (double) pool.getActiveConnections() / maximumPoolSize;
+    }
+}
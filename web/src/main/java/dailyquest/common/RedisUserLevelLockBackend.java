@@ -0,0 +1,70 @@
+package dailyquest.common;
+
+import dailyquest.properties.UserLevelLockProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis SET NX PX 로 리스를 잡는 백엔드.
+ * 커넥션을 점유하지 않는 대신, 리스 시간이 지나면 작업이 끝나지 않았더라도 락이 풀린다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "lock.user-level", name = "backend", havingValue = "redis")
+@Component
+public class RedisUserLevelLockBackend implements UserLevelLockBackend {
+
+    private static final String EXCEPTION_MESSAGE = "LOCK 을 수행하는 중에 오류가 발생하였습니다.";
+    private static final RedisScript<Long> RELEASE_IF_OWNER = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserLevelLockProperties lockProperties;
+
+    public RedisUserLevelLockBackend(RedisTemplate<String, String> redisTemplate, UserLevelLockProperties lockProperties) {
+        this.redisTemplate = redisTemplate;
+        this.lockProperties = lockProperties;
+    }
+
+    @Override
+    public Lease acquire(String userLockName, int timeoutSeconds) {
+        String key = lockProperties.getRedisKeyPrefix() + ":" + userLockName;
+        String token = UUID.randomUUID().toString();
+        Duration leaseTime = Duration.ofMillis(lockProperties.getRedisLeaseMillis());
+        long deadline = System.nanoTime() + Duration.ofSeconds(timeoutSeconds).toNanos();
+
+        while (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime))) {
+            if (System.nanoTime() - deadline >= 0) {
+                log.error("USER LEVEL LOCK 리스 획득 시간이 초과되었습니다. userLockName : [{}]", userLockName);
+                throw new RuntimeException(EXCEPTION_MESSAGE);
+            }
+            sleep(lockProperties.getRedisRetryIntervalMillis());
+        }
+        return () -> release(key, token, userLockName);
+    }
+
+    private void release(String key, String token, String userLockName) {
+        Long released = redisTemplate.execute(RELEASE_IF_OWNER, List.of(key), token);
+        if (released == null || released == 0) {
+            log.warn("USER LEVEL LOCK 리스가 해제 전에 만료되었습니다. userLockName : [{}]", userLockName);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(EXCEPTION_MESSAGE, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dailyquest.common
+
+import com.google.api.client.http.HttpTransport
+import com.google.api.client.http.LowLevelHttpRequest
+import com.google.api.client.http.LowLevelHttpResponse
+import org.springframework.core.io.Resource
+import java.io.ByteArrayInputStream
+import java.io.InputStream
+
+/**
+ * 요청 주소와 관계없이 지정한 리소스를 응답 본문으로 돌려주는 전송 계층.
+ * 구글 공개 키를 로컬 파일로 대체해 외부 네트워크 없이 ID 토큰을 검증할 때 사용한다.
+ */
+class ResourceHttpTransport(
+    private val resource: Resource,
+    private val maxAgeSeconds: Long,
+) : HttpTransport() {
+
+    override fun buildRequest(method: String, url: String): LowLevelHttpRequest {
+        return object : LowLevelHttpRequest() {
+            override fun addHeader(name: String, value: String) {}
+
+            override fun execute(): LowLevelHttpResponse {
+                return ResourceHttpResponse(resource.inputStream.use { it.readAllBytes() }, maxAgeSeconds)
+            }
+        }
+    }
+
+    private class ResourceHttpResponse(
+        private val content: ByteArray,
+        maxAgeSeconds: Long,
+    ) : LowLevelHttpResponse() {
+        private val headers = listOf(
+            "Content-Type" to CONTENT_TYPE,
+            "Cache-Control" to "public, max-age=$maxAgeSeconds",
+        )
+
+        override fun getContent(): InputStream = ByteArrayInputStream(content)
+        override fun getContentEncoding(): String? = null
+        override fun getContentLength(): Long = content.size.toLong()
+        override fun getContentType(): String = CONTENT_TYPE
+        override fun getStatusLine(): String = "HTTP/1.1 200 OK"
+        override fun getStatusCode(): Int = 200
+        override fun getReasonPhrase(): String = "OK"
+        override fun getHeaderCount(): Int = headers.size
+        override fun getHeaderName(index: Int): String = headers[index].first
+        override fun getHeaderValue(index: Int): String = headers[index].second
+    }
+
+    companion object {
+        private const val CONTENT_TYPE = "application/json; charset=UTF-8"
+    }
+}
@@ -1,87 +1,86 @@
 package dailyquest.common;
 
+import com.google.common.util.concurrent.Striped;
+import dailyquest.properties.UserLevelLockProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
 
 /**
- * DataSource 에서 직접 Connection 을 얻어 USER LEVEL LOCK 을 사용하는 클래스
+ * 노드 내부의 Striped 락과 분산 락 백엔드를 차례로 획득하는 USER LEVEL LOCK.
+ * 같은 노드의 경쟁자는 로컬 락에서 대기하므로, 분산 락 자원(MySQL 커넥션 등)은 노드당 하나의 호출만 점유한다.
  */
 @Slf4j
 @Component
 public class UserLevelLock {
-    
-    private static final String GET_LOCK = "SELECT GET_LOCK(?, ?)";
-    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+
     private static final String EXCEPTION_MESSAGE = "LOCK 을 수행하는 중에 오류가 발생하였습니다.";
 
-    private final DataSource dataSource;
+    private final UserLevelLockBackend backend;
+    private final Striped<Lock> localLocks;
+    private final AtomicInteger localWaiting = new AtomicInteger();
+    private final Timer localWaitTimer;
+    private final Timer remoteWaitTimer;
+    private final Timer holdTimer;
 
-    public UserLevelLock(@Qualifier("userLockDataSource") DataSource userLockDataSource) {
-        this.dataSource = userLockDataSource;
+    public UserLevelLock(UserLevelLockBackend backend, UserLevelLockProperties lockProperties, MeterRegistry meterRegistry) {
+        this.backend = backend;
+        this.localLocks = Striped.lazyWeakLock(lockProperties.getLocalStripes());
+        this.localWaitTimer = Timer.builder("user_level_lock.wait").tag("tier", "local").register(meterRegistry);
+        this.remoteWaitTimer = Timer.builder("user_level_lock.wait").tag("tier", "remote").register(meterRegistry);
+        this.holdTimer = Timer.builder("user_level_lock.hold").register(meterRegistry);
+        Gauge.builder("user_level_lock.local.waiting", localWaiting, AtomicInteger::get).register(meterRegistry);
     }
 
     public <T> T executeWithLock(String userLockName,
                                  int timeoutSeconds,
                                  Supplier<T> supplier) {
 
-        try (Connection connection = dataSource.getConnection()) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        Lock localLock = localLocks.get(userLockName);
+        try {
+            acquireLocalLock(localLock, userLockName, timeoutSeconds);
             try {
-                log.info("start getLock=[{}], timeoutSeconds : [{}], connection=[{}]", userLockName, timeoutSeconds, connection);
-                getLock(connection, userLockName, timeoutSeconds);
-                log.info("success getLock=[{}], timeoutSeconds : [{}], connection=[{}]", userLockName, timeoutSeconds, connection);
-                return supplier.get();
+                long remoteWaitStart = System.nanoTime();
+                try (UserLevelLockBackend.Lease ignored = backend.acquire(userLockName, remainingSeconds(deadline))) {
+                    remoteWaitTimer.record(System.nanoTime() - remoteWaitStart, TimeUnit.NANOSECONDS);
+                    return holdTimer.record(supplier);
+                }
             } finally {
-                log.info("start releaseLock=[{}], connection=[{}]", userLockName, connection);
-                releaseLock(connection, userLockName);
-                log.info("success releaseLock=[{}], connection=[{}]", userLockName, connection);
+                localLock.unlock();
             }
-        } catch (SQLException | RuntimeException e) {
+        } catch (RuntimeException e) {
             throw new RuntimeException(e.getMessage(), e);
         }
     }
 
-    private void getLock(Connection connection,
-                         String userLockName,
-                         int timeoutseconds) throws SQLException {
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(GET_LOCK)) {
-            preparedStatement.setString(1, userLockName);
-            preparedStatement.setInt(2, timeoutseconds);
-
-            checkResultSet(userLockName, preparedStatement, "GetLock_");
-        }
-    }
-
-    private void releaseLock(Connection connection,
-                             String userLockName) throws SQLException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(RELEASE_LOCK)) {
-            preparedStatement.setString(1, userLockName);
-
-            checkResultSet(userLockName, preparedStatement, "ReleaseLock_");
-        }
-    }
-
-    private void checkResultSet(String userLockName,
-                                PreparedStatement preparedStatement,
-                                String type) throws SQLException {
-        try (ResultSet resultSet = preparedStatement.executeQuery()) {
-            if (!resultSet.next()) {
-                log.error("USER LEVEL LOCK 쿼리 결과 값이 없습니다. type = [{}], userLockName : [{}], connection=[{}]", type, userLockName, preparedStatement.getConnection());
-                throw new RuntimeException(EXCEPTION_MESSAGE);
-            }
-            int result = resultSet.getInt(1);
-            if (result != 1) {
-                log.error("USER LEVEL LOCK 쿼리 결과 값이 1이 아닙니다. type = [{}], result : [{}] userLockName : [{}], connection=[{}]", type, result, userLockName, preparedStatement.getConnection());
+    private void acquireLocalLock(Lock localLock, String userLockName, int timeoutSeconds) {
+        long localWaitStart = System.nanoTime();
+        localWaiting.incrementAndGet();
+        try {
+            if (!localLock.tryLock(timeoutSeconds, TimeUnit.SECONDS)) {
+                log.error("USER LEVEL LOCK 로컬 락 획득 시간이 초과되었습니다. userLockName : [{}]", userLockName);
                 throw new RuntimeException(EXCEPTION_MESSAGE);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(EXCEPTION_MESSAGE, e);
+        } finally {
+            localWaiting.decrementAndGet();
+            localWaitTimer.record(System.nanoTime() - localWaitStart, TimeUnit.NANOSECONDS);
         }
     }
-}
\ No newline at end of file
+
+    private int remainingSeconds(long deadline) {
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) return 0;
+        return (int) TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+    }
+}
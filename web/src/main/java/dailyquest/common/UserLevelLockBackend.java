@@ -0,0 +1,18 @@
+package dailyquest.common;
+
+/**
+ * USER LEVEL LOCK 의 분산 락 계층.
+ * 같은 노드의 경쟁자는 UserLevelLock 의 로컬 락에서 먼저 직렬화되므로, 락 이름당 노드별로 최대 하나의 호출만 들어온다.
+ */
+public interface UserLevelLockBackend {
+
+    /**
+     * 락을 획득하고 해제용 Lease 를 반환한다. 제한 시간 안에 획득하지 못하면 예외가 발생한다.
+     */
+    Lease acquire(String userLockName, int timeoutSeconds);
+
+    interface Lease extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
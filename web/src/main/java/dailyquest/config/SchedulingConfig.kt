@@ -0,0 +1,9 @@
+package dailyquest.config
+
+import org.springframework.context.annotation.Configuration
+import org.springframework.scheduling.annotation.EnableScheduling
+
+@EnableScheduling
+@Configuration
+class SchedulingConfig {
+}
@@ -1,9 +1,11 @@
 package dailyquest.jwt;
 
+import dailyquest.jwt.dto.JwtClaims;
 import dailyquest.jwt.dto.SilentRefreshResult;
 import dailyquest.properties.JwtTokenProperties;
 import dailyquest.properties.SecurityUrlProperties;
-import dailyquest.redis.service.RedisService;
+import dailyquest.user.cache.LevelTableCache;
+import dailyquest.user.cache.UserPrincipalCache;
 import dailyquest.user.dto.UserPrincipal;
 import dailyquest.user.dto.UserResponse;
 import dailyquest.user.service.UserService;
@@ -22,7 +24,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Map;
 
 @RequiredArgsConstructor
 @Component
@@ -33,7 +34,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final UserService userService;
     private final AntPathMatcher antPathMatcher = new AntPathMatcher();
     private final SecurityUrlProperties securityUrlProperties;
-    private final RedisService redisService;
+    private final LevelTableCache levelTableCache;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected boolean shouldNotFilterAsyncDispatch() {
@@ -51,11 +53,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             String accessToken = jwtTokenProvider.getJwtFromCookies(request.getCookies(), jwtTokenProperties.getAccessTokenName());
-            if(!jwtTokenProvider.isValidToken(accessToken, jwtTokenProperties.getAccessTokenName())) {
-                SilentRefreshResult silentRefreshResult = this.doSilentRefresh(request, response);
-                accessToken = silentRefreshResult.getAccessToken();
-            }
-            this.parseAndSetAuthentication(accessToken);
+            JwtClaims claims = this.verifyOrSilentRefresh(accessToken, request, response);
+            this.setAuthentication(claims.getUserId());
         } catch (JwtException ex) {
             response.sendError(HttpStatus.SC_UNAUTHORIZED, "로그인 정보가 만료되었어요. 다시 로그인 해주세요.");
             return;
@@ -64,6 +63,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private JwtClaims verifyOrSilentRefresh(String accessToken, HttpServletRequest request, HttpServletResponse response) {
+        try {
+            return jwtTokenProvider.verifyToken(accessToken, jwtTokenProperties.getAccessTokenName());
+        } catch (JwtException ex) {
+            SilentRefreshResult silentRefreshResult = this.doSilentRefresh(request, response);
+            return jwtTokenProvider.verifyToken(silentRefreshResult.getAccessToken(), jwtTokenProperties.getAccessTokenName());
+        }
+    }
+
     protected SilentRefreshResult doSilentRefresh(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = jwtTokenProvider.getJwtFromCookies(request.getCookies(), jwtTokenProperties.getRefreshTokenName());
         SilentRefreshResult result = jwtTokenProvider.silentRefresh(refreshToken);
@@ -72,12 +80,14 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         return result;
     }
 
-    protected void parseAndSetAuthentication(String accessToken) {
-        Long userId = jwtTokenProvider.getUserIdFromToken(accessToken);
-        UserResponse userResponse = userService.getUserById(userId);
-        Map<Integer, Long> expTable = redisService.getExpTable();
-        UserPrincipal userDetails = UserPrincipal.from(userResponse, expTable);
+    protected void setAuthentication(Long userId) {
+        UserPrincipal userDetails = userPrincipalCache.get(userId, this::loadUserPrincipal);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
+
+    private UserPrincipal loadUserPrincipal(Long userId) {
+        UserResponse userResponse = userService.getUserById(userId);
+        return UserPrincipal.from(userResponse, levelTableCache.get());
+    }
 }
@@ -0,0 +1,90 @@
+package dailyquest.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토큰 서명 키와 파서를 애플리케이션 시작 시 한 번만 생성해 재사용한다.
+ * 서명은 현재 키로만 하고, 검증은 토큰 헤더의 kid로 현재 키와 이전 키 중 알맞은 키를 찾는다.
+ * kid가 없는 토큰은 현재 키로 검증한다.
+ */
+@Component
+public class JwtKeyManager extends SigningKeyResolverAdapter {
+
+    private final String activeKeyId;
+    private final Key activeKey;
+    private final Map<String, Key> verificationKeys;
+    private final JwtParser parser;
+
+    public JwtKeyManager(
+            @Value("${spring.jwt.secret}") String activeSecret,
+            @Value("${spring.jwt.previous-secrets:}") List<String> previousSecrets
+    ) {
+        this.activeKey = toKey(activeSecret);
+        this.activeKeyId = toKeyId(activeSecret);
+
+        Map<String, Key> keys = new LinkedHashMap<>();
+        keys.put(activeKeyId, activeKey);
+        for (String previousSecret : previousSecrets) {
+            if (previousSecret == null || previousSecret.isBlank()) continue;
+            keys.putIfAbsent(toKeyId(previousSecret), toKey(previousSecret));
+        }
+        this.verificationKeys = Collections.unmodifiableMap(keys);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(this)
+                .build();
+    }
+
+    public JwtBuilder sign(JwtBuilder builder) {
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, activeKeyId)
+                .signWith(activeKey);
+    }
+
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) return activeKey;
+
+        Key key = verificationKeys.get(keyId);
+        if (key == null) throw new SignatureException("Unknown signing key id: " + keyId);
+        return key;
+    }
+
+    private static Key toKey(String secret) {
+        return new SecretKeySpec(Decoders.BASE64.decode(secret), SignatureAlgorithm.HS256.getJcaName());
+    }
+
+    private static String toKeyId(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,92 +1,96 @@
 package dailyquest.jwt;
 
+import dailyquest.jwt.dto.JwtClaims;
 import dailyquest.jwt.dto.SilentRefreshResult;
 import dailyquest.properties.JwtTokenProperties;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import jakarta.annotation.Nullable;
 import jakarta.servlet.http.Cookie;
 import kotlin.Pair;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.time.Duration;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 @Component
 public class JwtTokenProvider {
 
     public final JwtTokenProperties jwtTokenProperties;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenRevocationStore refreshTokenRevocationStore;
     private final MessageSourceAccessor messageSourceAccessor;
+    private final JwtKeyManager jwtKeyManager;
+    private final RedisTemplate<String, String> redisTemplate;
 
-    @Value("${spring.jwt.secret}")
-    private String secretKey;
+    private static final String REFRESH_GRACE_KEY_PREFIX = "rtg:";
+    private static final long SILENT_REFRESH_WAIT_SECONDS = 5;
+    private final ConcurrentHashMap<String, CompletableFuture<SilentRefreshResult>> inFlightRefreshes = new ConcurrentHashMap<>();
 
     public String createAccessToken(Long userPk) {
         Date now = new Date();
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .claim("id", userPk)
                 .claim("token_type", jwtTokenProperties.getAccessTokenName())
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + jwtTokenProperties.getAccessTokenExpirationMilliseconds()))
-                .signWith(new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName()))
-                .compact();
+                .setExpiration(new Date(now.getTime() + jwtTokenProperties.getAccessTokenExpirationMilliseconds()));
+        return jwtKeyManager.sign(builder).compact();
 
     }
 
     public String createRefreshToken(Long userId) {
         Date now = new Date();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .claim("id", userId)
                 .claim("token_type", jwtTokenProperties.getRefreshTokenName())
                 .claim("uuid", UUID.randomUUID())
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + jwtTokenProperties.getRefreshTokenExpirationMilliseconds()))
-                .signWith(new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName()))
-                .compact();
+                .setExpiration(new Date(now.getTime() + jwtTokenProperties.getRefreshTokenExpirationMilliseconds()));
+        return jwtKeyManager.sign(builder).compact();
     }
 
-    public boolean isValidToken(String jwtToken, String tokenType) {
+    /**
+     * 서명을 한 번만 검증하고 필요한 클레임을 모두 담아 반환한다.
+     */
+    public JwtClaims verifyToken(String jwtToken) throws JwtException {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(Decoders.BASE64.decode(secretKey))
-                    .build()
-                    .parseClaimsJws(jwtToken);
+            Claims body = jwtKeyManager.getParser().parseClaimsJws(jwtToken).getBody();
+            return JwtClaims.from(body);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException(e.getMessage(), e);
+        }
+    }
 
-            Claims body = claims.getBody();
-            String token_type = body.get("token_type", String.class);
+    public JwtClaims verifyToken(String jwtToken, String tokenType) throws JwtException {
+        JwtClaims claims = verifyToken(jwtToken);
+        if (!claims.getTokenType().equals(tokenType)) {
+            throw new UnsupportedJwtException("Unexpected token type: " + claims.getTokenType());
+        }
+        return claims;
+    }
 
-            return token_type.equals(tokenType);
+    public boolean isValidToken(String jwtToken, String tokenType) {
+        try {
+            verifyToken(jwtToken, tokenType);
+            return true;
         } catch (Exception e) {
             return false;
         }
     }
 
     public Long getUserIdFromToken(String jwtToken) throws ExpiredJwtException {
-
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(Decoders.BASE64.decode(secretKey))
-                .build()
-                .parseClaimsJws(jwtToken);
-
-        return claims.getBody().get("id", Long.class);
+        return verifyToken(jwtToken).getUserId();
     }
 
     public Date getExpiredDateFromToken(String jwtToken) throws ExpiredJwtException {
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(Decoders.BASE64.decode(secretKey))
-                .build()
-                .parseClaimsJws(jwtToken);
-
-        return claims.getBody().getExpiration();
+        return verifyToken(jwtToken).getExpiration();
     }
 
     public String getJwtFromCookies(@Nullable Cookie[] cookies, String tokenType){
@@ -109,28 +113,79 @@ public class JwtTokenProvider {
         return createSecureCookie(jwtTokenProperties.getRefreshTokenName(), refreshToken);
     }
 
+    /**
+     * 같은 리프레시 토큰으로 동시에 들어온 요청은 노드 내에서 하나의 갱신 결과를 공유한다.
+     * 발급한 토큰은 짧은 유예 시간 동안 레디스에 보관해 다른 노드로 들어온 요청도 같은 결과를 받는다.
+     */
     public SilentRefreshResult silentRefresh(String refreshToken) throws JwtException {
         try {
-            if (!isInBlackList(refreshToken) && isValidToken(refreshToken, jwtTokenProperties.getRefreshTokenName())) {
-                Long userId = getUserIdFromToken(refreshToken);
-                addToBlackList(refreshToken);
-                String newAccessToken = createAccessToken(userId);
-                String newRefreshToken = createRefreshToken(userId);
-                return new SilentRefreshResult(newAccessToken, newRefreshToken);
-            } else {
-                throw new JwtException("로그인 시간이 만료됐습니다. 다시 로그인 해주세요.");
+            JwtClaims claims = verifyToken(refreshToken, jwtTokenProperties.getRefreshTokenName());
+            String revocationId = RefreshTokenRevocationStore.toRevocationId(claims);
+
+            CompletableFuture<SilentRefreshResult> future = new CompletableFuture<>();
+            CompletableFuture<SilentRefreshResult> inFlight = inFlightRefreshes.putIfAbsent(revocationId, future);
+            if (inFlight != null) {
+                return inFlight.get(SILENT_REFRESH_WAIT_SECONDS, TimeUnit.SECONDS);
+            }
+
+            try {
+                SilentRefreshResult result = refreshOnce(claims, revocationId);
+                future.complete(result);
+                return result;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightRefreshes.remove(revocationId, future);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JwtException("로그인 시간이 만료됐습니다. 다시 로그인 해주세요.");
         } catch (Exception e) {
             throw new JwtException("로그인 시간이 만료됐습니다. 다시 로그인 해주세요.");
         }
     }
 
+    private SilentRefreshResult refreshOnce(JwtClaims claims, String revocationId) {
+        String graceKey = REFRESH_GRACE_KEY_PREFIX + revocationId;
+        if (refreshTokenRevocationStore.isRevoked(claims)) {
+            // 갱신으로 폐기된 토큰만 유예 결과를 받는다. 로그아웃 시에는 유예 결과도 지운다
+            SilentRefreshResult issued = findIssuedInGrace(graceKey);
+            if (issued != null) return issued;
+            throw new JwtException("로그인 시간이 만료됐습니다. 다시 로그인 해주세요.");
+        }
+
+        SilentRefreshResult result = new SilentRefreshResult(createAccessToken(claims.getUserId()), createRefreshToken(claims.getUserId()));
+        String graceValue = result.getAccessToken() + " " + result.getRefreshToken();
+        Duration graceTimeout = Duration.ofSeconds(jwtTokenProperties.getRefreshGraceSeconds());
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(graceKey, graceValue, graceTimeout))) {
+            // 다른 노드가 먼저 발급했다면 그 결과를 사용한다
+            SilentRefreshResult winner = findIssuedInGrace(graceKey);
+            if (winner != null) return winner;
+        }
+
+        // 유예 결과를 먼저 저장해야 폐기 직후 들어온 요청도 실패하지 않는다
+        refreshTokenRevocationStore.revoke(claims);
+        return result;
+    }
+
+    @Nullable
+    private SilentRefreshResult findIssuedInGrace(String graceKey) {
+        String graceValue = redisTemplate.opsForValue().get(graceKey);
+        if (graceValue == null) return null;
+
+        String[] tokens = graceValue.split(" ");
+        return new SilentRefreshResult(tokens[0], tokens[1]);
+    }
+
     public Pair<Cookie, Cookie> invalidateToken(@Nullable Cookie[] cookies) throws ExpiredJwtException {
 
         // 토큰 만료 시 블랙 리스트 추가 불필요
         try {
             String refreshToken = getJwtFromCookies(cookies, jwtTokenProperties.getRefreshTokenName());
-            addToBlackList(refreshToken);
+            JwtClaims claims = verifyToken(refreshToken);
+            refreshTokenRevocationStore.revoke(claims);
+            redisTemplate.delete(REFRESH_GRACE_KEY_PREFIX + RefreshTokenRevocationStore.toRevocationId(claims));
         } catch (JwtException ignored) {
         }
 
@@ -141,19 +196,6 @@ public class JwtTokenProvider {
         return new Pair<>(emptyAccessToken, emptyRefreshToken);
     }
 
-    private void addToBlackList(String refreshToken) throws ExpiredJwtException {
-        Date expiredDate = getExpiredDateFromToken(refreshToken);
-
-        long epochSecond = expiredDate.toInstant().getEpochSecond();
-        long now = new Date().toInstant().getEpochSecond();
-
-        redisTemplate.opsForValue().set(refreshToken, "", Duration.ofSeconds(epochSecond - now));
-    }
-
-    private boolean isInBlackList(String token) {
-        return redisTemplate.opsForValue().get(token) != null;
-    }
-
     private Cookie createSecureCookie(String cookieName, String value) {
         Cookie cookie = new Cookie(cookieName, value);
         cookie.setPath("/");
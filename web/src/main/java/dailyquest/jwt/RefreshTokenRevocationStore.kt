@@ -0,0 +1,153 @@
+package dailyquest.jwt
+
+import com.google.common.hash.BloomFilter
+import com.google.common.hash.Funnels
+import dailyquest.jwt.dto.JwtClaims
+import dailyquest.properties.RefreshTokenRevocationProperties
+import io.jsonwebtoken.MalformedJwtException
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.slf4j.LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.time.Instant
+import java.util.*
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.math.ln
+import kotlin.math.max
+
+/**
+ * 폐기된 리프레시 토큰을 uuid 클레임을 압축한 키로 레디스 ZSET에 저장한다. score는 토큰 만료 시각이다.
+ * 노드마다 블룸 필터를 주기적으로 재구성해 두고, 필터에 없는 토큰은 레디스 조회 없이 유효하다고 판단한다.
+ * 필터를 아직 만들지 못한 경우에는 항상 레디스를 조회한다.
+ */
+@Component
+class RefreshTokenRevocationStore(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val revocationProperties: RefreshTokenRevocationProperties,
+    private val meterRegistry: MeterRegistry,
+) : MessageListener {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val bloomFilter = AtomicReference<BloomFilter<CharSequence>?>()
+    @Volatile
+    private var rebuildingFilter: BloomFilter<CharSequence>? = null
+    private val bloomFilterBytes = AtomicLong()
+    private val bloomLookupTimer = this.lookupTimer("bloom")
+    private val redisLookupTimer = this.lookupTimer("redis")
+
+    init {
+        Gauge.builder("jwt.revocation.bloom.bytes", bloomFilterBytes) { it.toDouble() }
+            .description("refresh token revocation bloom filter size")
+            .register(meterRegistry)
+        Gauge.builder("jwt.revocation.bloom.elements", bloomFilter) { it.get()?.approximateElementCount()?.toDouble() ?: 0.0 }
+            .register(meterRegistry)
+    }
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun subscribe() {
+        try {
+            listenerContainer.addMessageListener(this, ChannelTopic(revocationProperties.channel))
+        } catch (e: Exception) {
+            log.error("[RefreshTokenRevocation] 폐기 채널 구독에 실패했습니다.", e)
+        }
+        this.rebuildBloomFilter()
+    }
+
+    fun revoke(claims: JwtClaims) {
+        val revocationId = toRevocationId(claims)
+        redisTemplate.opsForZSet().add(revocationProperties.key, revocationId, claims.expiration.toInstant().epochSecond.toDouble())
+        this.putToBloomFilter(revocationId)
+        try {
+            redisTemplate.convertAndSend(revocationProperties.channel, revocationId)
+        } catch (e: Exception) {
+            log.error("[RefreshTokenRevocation] 폐기 메시지 발행에 실패했습니다.", e)
+        }
+    }
+
+    fun isRevoked(claims: JwtClaims): Boolean {
+        val sample = Timer.start(meterRegistry)
+        val revocationId = toRevocationId(claims)
+        val filter = bloomFilter.get()
+        if (filter != null && !filter.mightContain(revocationId)) {
+            sample.stop(bloomLookupTimer)
+            return false
+        }
+        val revoked = redisTemplate.opsForZSet().score(revocationProperties.key, revocationId) != null
+        sample.stop(redisLookupTimer)
+        return revoked
+    }
+
+    @Scheduled(
+        fixedDelayString = "\${jwt.revocation.sync-interval-millis:60000}",
+        initialDelayString = "\${jwt.revocation.sync-interval-millis:60000}"
+    )
+    fun rebuildBloomFilter() {
+        try {
+            val now = Instant.now().epochSecond.toDouble()
+            val zSetOps = redisTemplate.opsForZSet()
+            zSetOps.removeRangeByScore(revocationProperties.key, Double.NEGATIVE_INFINITY, now)
+
+            // 재구성 중 수신한 폐기 정보도 새 필터에 반영되도록 먼저 공개한 뒤 목록을 조회한다
+            val expectedInsertions = max(revocationProperties.expectedInsertions, (zSetOps.zCard(revocationProperties.key) ?: 0) * 2)
+            val newFilter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, revocationProperties.falsePositiveProbability)
+            rebuildingFilter = newFilter
+            zSetOps.rangeByScore(revocationProperties.key, now, Double.POSITIVE_INFINITY)?.forEach { newFilter.put(it) }
+
+            bloomFilter.set(newFilter)
+            bloomFilterBytes.set(optimalNumOfBits(expectedInsertions, revocationProperties.falsePositiveProbability) / Byte.SIZE_BITS)
+        } catch (e: Exception) {
+            log.error("[RefreshTokenRevocation] 블룸 필터 재구성에 실패했습니다.", e)
+        } finally {
+            rebuildingFilter = null
+        }
+    }
+
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        this.putToBloomFilter(String(message.body, StandardCharsets.UTF_8))
+    }
+
+    private fun putToBloomFilter(revocationId: String) {
+        rebuildingFilter?.put(revocationId)
+        bloomFilter.get()?.put(revocationId)
+    }
+
+    private fun lookupTimer(source: String): Timer {
+        return Timer.builder("jwt.revocation.lookup")
+            .tag("source", source)
+            .register(meterRegistry)
+    }
+
+    companion object {
+        /**
+         * uuid 문자열(36자)을 128비트 값의 base64url 표현(22자)으로 압축한다.
+         */
+        @JvmStatic
+        fun toRevocationId(claims: JwtClaims): String {
+            val uuid = try {
+                UUID.fromString(claims.uuid ?: throw MalformedJwtException("uuid claim is missing"))
+            } catch (e: IllegalArgumentException) {
+                throw MalformedJwtException("uuid claim is malformed", e)
+            }
+            val buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.mostSignificantBits)
+                .putLong(uuid.leastSignificantBits)
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array())
+        }
+
+        private fun optimalNumOfBits(expectedInsertions: Long, falsePositiveProbability: Double): Long {
+            return (-expectedInsertions * ln(falsePositiveProbability) / (ln(2.0) * ln(2.0))).toLong()
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package dailyquest.jwt.dto
+
+import io.jsonwebtoken.Claims
+import io.jsonwebtoken.MalformedJwtException
+import java.util.*
+
+class JwtClaims(
+    val userId: Long,
+    val tokenType: String,
+    val expiration: Date,
+    val uuid: String? = null,
+) {
+    companion object {
+        @JvmStatic
+        fun from(claims: Claims): JwtClaims {
+            return JwtClaims(
+                userId = claims.get("id", Long::class.javaObjectType) ?: throw MalformedJwtException("id claim is missing"),
+                tokenType = claims.get("token_type", String::class.java) ?: throw MalformedJwtException("token_type claim is missing"),
+                expiration = claims.expiration ?: throw MalformedJwtException("exp claim is missing"),
+                uuid = claims.get("uuid", String::class.java),
+            )
+        }
+    }
+}
@@ -1,55 +1,45 @@
 package dailyquest.jwt.service
 
-import com.google.api.client.http.javanet.NetHttpTransport
-import com.google.api.client.json.gson.GsonFactory
 import com.google.common.base.Strings
-import dailyquest.common.GoogleIdTokenVerifierFactory
+import dailyquest.common.CachedGoogleIdTokenVerifier
 import dailyquest.jwt.JwtTokenProvider
 import dailyquest.jwt.dto.TokenRequest
-import dailyquest.redis.service.RedisService
+import dailyquest.properties.NicknamePoolProperties
+import dailyquest.user.dto.UserResponse
 import dailyquest.user.dto.UserSaveRequest
+import dailyquest.user.entity.ProviderType
+import dailyquest.user.nickname.NicknamePool
 import dailyquest.user.service.UserService
 import jakarta.servlet.http.Cookie
-import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.support.MessageSourceAccessor
+import org.springframework.dao.DataIntegrityViolationException
 import org.springframework.security.access.AccessDeniedException
 import org.springframework.stereotype.Service
-import org.springframework.transaction.annotation.Transactional
 
-@Transactional
+/**
+ * 유저 저장이 실패하면 다른 닉네임으로 다시 시도해야 하므로 트랜잭션은 유저 서비스 호출 단위로 분리한다.
+ */
 @Service
 class JwtService(
-    @Value("\${google.client-id}")
-    private val clientId: String,
     private val jwtTokenProvider: JwtTokenProvider,
     private val userService: UserService,
-    private val googleIdTokenVerifierFactory: GoogleIdTokenVerifierFactory,
-    private val redisService: RedisService,
+    private val googleIdTokenVerifier: CachedGoogleIdTokenVerifier,
+    private val nicknamePool: NicknamePool,
+    private val nicknamePoolProperties: NicknamePoolProperties,
     private val messageSourceAccessor: MessageSourceAccessor
 ) {
 
     fun issueTokenCookie(tokenRequest: TokenRequest): Pair<Cookie, Cookie> {
-
-        val verifier = googleIdTokenVerifierFactory.create(NetHttpTransport(), GsonFactory.getDefaultInstance(), listOf(clientId));
         val idTokenString = tokenRequest.idToken
 
         if (Strings.isNullOrEmpty(idTokenString)) throw AccessDeniedException(messageSourceAccessor.getMessage("exception.invalid.login"))
 
-        val idToken = try { verifier.verify(idTokenString) } catch (_: Exception) { null }
+        val idToken = try { googleIdTokenVerifier.verify(idTokenString) } catch (_: Exception) { null }
             ?: throw AccessDeniedException(messageSourceAccessor.getMessage("exception.invalid.login"))
         val oauth2Id = idToken.payload.subject
         val providerType = tokenRequest.providerType
 
-        var foundUser = userService.findUserByOauthId(oauth2Id)
-        if (foundUser == null) {
-            var randomNickname = redisService.createRandomNickname()
-            while (userService.isDuplicatedNickname(randomNickname)) {
-                randomNickname = redisService.createRandomNickname()
-            }
-            val userSaveRequest = UserSaveRequest(oauth2Id, randomNickname, providerType)
-            val savedUserId = userService.saveUser(userSaveRequest)
-            foundUser = userService.getUserById(savedUserId)
-        }
+        val foundUser = userService.findUserByOauthId(oauth2Id) ?: this.registerUser(oauth2Id, providerType)
 
         val accessToken = jwtTokenProvider.createAccessToken(foundUser.id)
         val refreshToken = jwtTokenProvider.createRefreshToken(foundUser.id)
@@ -57,6 +47,21 @@ class JwtService(
         return jwtTokenProvider.createAccessTokenCookie(accessToken) to jwtTokenProvider.createRefreshTokenCookie(refreshToken)
     }
 
+    private fun registerUser(oauth2Id: String, providerType: ProviderType): UserResponse {
+        var attempt = 1
+        while (true) {
+            val userSaveRequest = UserSaveRequest(oauth2Id, nicknamePool.pop(), providerType)
+            try {
+                val savedUserId = userService.saveUser(userSaveRequest)
+                return userService.getUserById(savedUserId)
+            } catch (e: DataIntegrityViolationException) {
+                // 같은 계정의 동시 가입 요청이 먼저 저장된 경우 해당 유저를 사용한다
+                userService.findUserByOauthId(oauth2Id)?.let { return it }
+                if (attempt++ >= nicknamePoolProperties.maxSaveAttempts) throw e
+            }
+        }
+    }
+
     fun invalidateToken(cookies: Array<Cookie>?): Pair<Cookie, Cookie> {
         return jwtTokenProvider.invalidateToken(cookies)
     }
@@ -0,0 +1,11 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "cache.current-quests")
+class CurrentQuestsCacheProperties(
+    val enabled: Boolean = true,
+    val maximumSize: Long = 10000,
+    val deadLineLagSeconds: Long = 60,
+    val invalidationChannel: String = "current-quests-invalidation",
+)
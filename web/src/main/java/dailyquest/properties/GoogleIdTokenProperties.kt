@@ -0,0 +1,21 @@
+package dailyquest.properties
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleOAuthConstants
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "google")
+class GoogleIdTokenProperties(
+    val clientId: String,
+    /**
+     * 공개 키 인증서 위치. http(s) 주소 외에 classpath:, file: 리소스도 사용할 수 있다.
+     */
+    val certsUrl: String = GoogleOAuthConstants.DEFAULT_PUBLIC_CERTS_ENCODED_URL,
+    /**
+     * 로컬 리소스를 사용할 때 적용할 캐시 시간
+     */
+    val localCertsMaxAgeSeconds: Long = 3600,
+    /**
+     * 키 만료까지 남은 시간이 이보다 짧아지면 백그라운드에서 미리 갱신한다
+     */
+    val refreshMarginSeconds: Long = 300,
+)
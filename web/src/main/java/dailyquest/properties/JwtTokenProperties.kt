@@ -14,6 +14,7 @@ class JwtTokenProperties {
     var sameSite = ""
     var useSecure = true
     var domain = ""
+    var refreshGraceSeconds = 10L
 
     val accessTokenExpirationSeconds: Int
         get() = parseToSecond(accessTokenExpirationSecondsFormula)
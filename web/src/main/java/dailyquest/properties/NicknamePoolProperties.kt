@@ -0,0 +1,10 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "nickname.pool")
+class NicknamePoolProperties(
+    val targetSize: Long = 1000,
+    val refillBatchSize: Int = 200,
+    val maxSaveAttempts: Int = 3,
+)
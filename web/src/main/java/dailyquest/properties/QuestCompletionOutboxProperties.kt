@@ -0,0 +1,12 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "quest.outbox")
+class QuestCompletionOutboxProperties(
+    val batchSize: Int = 100,
+    /**
+     * 이 횟수만큼 처리에 실패한 이벤트는 보류 상태로 옮겨 뒤의 이벤트를 막지 않도록 한다.
+     */
+    val maxAttempts: Int = 5,
+)
@@ -0,0 +1,11 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "quest.detail-buffer")
+class QuestDetailCountBufferProperties(
+    val enabled: Boolean = false,
+    val debounceMillis: Long = 1000,
+    val ttlMillis: Long = 3600000,
+    val flushBatchSize: Long = 100,
+)
@@ -0,0 +1,23 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "quest.log.appender")
+class QuestLogAppenderProperties(
+    val mode: Mode = Mode.TRANSACTIONAL,
+    val flushSize: Int = 100,
+    val flushLatencyMillis: Long = 5,
+    val flushTimeoutMillis: Long = 3000,
+) {
+    enum class Mode {
+        /**
+         * 호출한 트랜잭션 안에서 건별로 기록한다.
+         */
+        TRANSACTIONAL,
+
+        /**
+         * 커밋 직전의 트랜잭션들의 로그를 모아 한 번의 배치 INSERT 로 기록한다.
+         */
+        GROUP_COMMIT,
+    }
+}
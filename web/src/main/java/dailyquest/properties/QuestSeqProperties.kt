@@ -0,0 +1,8 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "quest.seq")
+class QuestSeqProperties(
+    val reconcileWindowMinutes: Long = 30,
+)
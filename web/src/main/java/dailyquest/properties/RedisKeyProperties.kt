@@ -8,13 +8,21 @@ import org.springframework.stereotype.Component
 class RedisKeyProperties {
 
     var expTable: String = ""
+    var expTableVersion: String = ""
+    var expTableChannel: String = ""
 
     var nicknamePrefix: String = ""
     var nicknamePostfix: String = ""
+    var nicknamePool: String = ""
 
     var settings: String = ""
+    var settingsVersion: String = ""
+    var settingsChannel: String = ""
     var questClearExp: String = ""
     var questClearGold: String = ""
     var maxRewardCount: String = ""
 
+    var questSeq: String = ""
+    var questDetailBuffer: String = ""
+
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "jwt.revocation")
+class RefreshTokenRevocationProperties(
+    val key: String = "rtr",
+    val channel: String = "refresh-token-revoked",
+    val expectedInsertions: Long = 100000,
+    val falsePositiveProbability: Double = 0.01,
+)
@@ -0,0 +1,12 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "lock.user-level")
+class UserLevelLockProperties(
+    val backend: String = "mysql",
+    val localStripes: Int = 1024,
+    val redisKeyPrefix: String = "ull",
+    val redisLeaseMillis: Long = 10000,
+    val redisRetryIntervalMillis: Long = 50,
+)
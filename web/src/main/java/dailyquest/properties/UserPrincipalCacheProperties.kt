@@ -0,0 +1,10 @@
+package dailyquest.properties
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+@ConfigurationProperties(prefix = "cache.user-principal")
+class UserPrincipalCacheProperties(
+    val maximumSize: Long = 10000,
+    val ttlSeconds: Long = 300,
+    val invalidationChannel: String = "user-principal-invalidation",
+)
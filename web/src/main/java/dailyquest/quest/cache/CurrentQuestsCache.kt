@@ -0,0 +1,94 @@
+package dailyquest.quest.cache
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import dailyquest.common.DeadLineBoundaryResolver
+import dailyquest.properties.CurrentQuestsCacheProperties
+import dailyquest.quest.dto.QuestResponse
+import dailyquest.quest.entity.QuestState
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.stereotype.Component
+import java.time.Clock
+import java.time.Duration
+import java.time.LocalDateTime
+
+/**
+ * 유저별 오늘의 퀘스트 목록을 담는 노드 로컬 캐시.
+ * 상태와 관계없이 유저의 전체 목록을 하나로 담고 조회 시 상태로 거른다.
+ * 다음 초기화 시각(오전 6시)에 만료되며, 진행 중인 퀘스트에 마감 기한이 있으면 데드라인 배치가 처리할 시점에 먼저 만료된다.
+ * 데드라인 배치는 캐시를 무효화하지 않으므로, 실패 목록도 진행 중 퀘스트의 마감 기한에 함께 만료되어야 한다.
+ * 퀘스트가 변경되면 [CurrentQuestsInvalidationListener]를 통해 모든 노드에서 제거된다.
+ */
+@Component
+class CurrentQuestsCache(
+    private val cacheProperties: CurrentQuestsCacheProperties,
+    meterRegistry: MeterRegistry,
+    private val clock: Clock = Clock.systemDefaultZone(),
+) {
+    private val boundaryResolver = DeadLineBoundaryResolver(clock = clock)
+    private val cache: Cache<Long, List<QuestResponse>> = Caffeine.newBuilder()
+        .maximumSize(cacheProperties.maximumSize)
+        .expireAfter(object : Expiry<Long, List<QuestResponse>> {
+            override fun expireAfterCreate(key: Long, value: List<QuestResponse>, currentTime: Long): Long {
+                return this@CurrentQuestsCache.nanosUntilExpiry(value)
+            }
+
+            override fun expireAfterUpdate(key: Long, value: List<QuestResponse>, currentTime: Long, currentDuration: Long): Long {
+                return this@CurrentQuestsCache.nanosUntilExpiry(value)
+            }
+
+            override fun expireAfterRead(key: Long, value: List<QuestResponse>, currentTime: Long, currentDuration: Long): Long {
+                return currentDuration
+            }
+        })
+        .recordStats()
+        .build()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME)
+        // 적중 횟수와 평균 로딩 시간으로 캐시가 절약한 조회 시간을 추정한다
+        FunctionCounter.builder("cache.load.saved", cache) { it.stats().hitCount() * it.stats().averageLoadPenalty() / 1_000_000.0 }
+            .tag("cache", CACHE_NAME)
+            .baseUnit("milliseconds")
+            .register(meterRegistry)
+    }
+
+    /**
+     * [loader]는 상태와 관계없이 유저의 오늘의 퀘스트 전체를 조회해야 한다.
+     */
+    fun get(userId: Long, state: QuestState?, loader: () -> List<QuestResponse>): List<QuestResponse> {
+        val quests = if (cacheProperties.enabled) cache.get(userId) { loader() } else loader()
+        return quests.filter { it.state == state }
+    }
+
+    fun evict(userId: Long) {
+        cache.invalidate(userId)
+    }
+
+    fun evictAll() {
+        cache.invalidateAll()
+    }
+
+    fun expiresAfter(userId: Long): Duration? {
+        return cache.policy().expireVariably().flatMap { it.getExpiresAfter(userId) }.orElse(null)
+    }
+
+    private fun nanosUntilExpiry(quests: List<QuestResponse>): Long {
+        val now = LocalDateTime.now(clock)
+        val nextReset = boundaryResolver.resolveNextResetTime()
+        val lag = cacheProperties.deadLineLagSeconds
+        val deadLineExpiry = quests.filter { it.state == QuestState.PROCEED }
+            .mapNotNull { it.deadLine }
+            .minOrNull()
+            ?.let { maxOf(it.plusSeconds(lag), now.plusSeconds(lag)) }
+        val expireAt = deadLineExpiry?.let { minOf(it, nextReset) } ?: nextReset
+        return Duration.between(now, expireAt).toNanos().coerceAtLeast(0)
+    }
+
+    companion object {
+        const val CACHE_NAME = "currentQuests"
+    }
+}
@@ -2,7 +2,6 @@ package dailyquest.quest.controller;
 
 import dailyquest.common.ResponseData;
 import dailyquest.common.RestPage;
-import dailyquest.common.UserLevelLock;
 import dailyquest.quest.dto.*;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.service.QuestService;
@@ -14,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.validator.constraints.Range;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,7 +31,6 @@ import java.util.List;
 @RestController
 public class QuestApiController {
     private final QuestService questService;
-    private final UserLevelLock userLevelLock;
     private final QuestIndexService questIndexService;
 
     @Value("${quest.page.size}")
@@ -54,14 +53,47 @@ public class QuestApiController {
         RestPage<QuestResponse> questList;
         PageRequest pageable = PageRequest.of(searchCondition.page(), pageSize);
         if(searchCondition.isKeywordSearch()) {
-            List<Long> searchedIds = questIndexService.searchDocuments(searchCondition, principal.getId(), pageable);
-            questList = new RestPage<>(questService.searchQuest(searchedIds, pageable));
+            Page<Long> searchedIds = questIndexService.searchDocuments(searchCondition, principal.getId(), pageable);
+            questList = new RestPage<>(questService.searchQuest(principal.getId(), searchedIds));
         } else {
             questList = new RestPage<>(questService.searchQuest(principal.getId(), searchCondition, pageable));
         }
         return ResponseEntity.ok(new ResponseData<>(questList));
     }
 
+    /**
+     * indexOnly=true 이면 키워드 검색 결과를 DB 조회 없이 검색 엔진 문서로 만든다.
+     * 키워드가 없는 검색은 검색 엔진을 거치지 않으므로 기존처럼 DB에서 조회한다.
+     */
+    @GetMapping(value = "/search", params = {"indexOnly=true", "!after"})
+    public ResponseEntity<ResponseData<RestPage<QuestSearchResult>>> searchQuestFromIndex(
+            @Valid QuestSearchCondition searchCondition,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        PageRequest pageable = PageRequest.of(searchCondition.page(), pageSize);
+        Page<QuestSearchResult> questList;
+        if(searchCondition.isKeywordSearch()) {
+            questList = questIndexService.searchDocumentSources(searchCondition, principal.getId(), pageable);
+        } else {
+            questList = questService.searchQuest(principal.getId(), searchCondition, pageable).map(QuestSearchResult::from);
+        }
+        return ResponseEntity.ok(new ResponseData<>(new RestPage<>(questList)));
+    }
+
+    /**
+     * after 파라미터가 있으면 커서 방식으로 조회한다. 첫 페이지는 빈 값으로 요청한다.
+     */
+    @GetMapping(value = "/search", params = "after")
+    public ResponseEntity<ResponseData<QuestCursorPage>> searchQuestByCursor(
+            @Valid QuestSearchCondition searchCondition,
+            @RequestParam("after") String after,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        PageRequest pageable = PageRequest.ofSize(pageSize);
+        QuestCursorPage questList = QuestCursorPage.from(questService.searchQuest(principal.getId(), searchCondition, after, pageable));
+        return ResponseEntity.ok(new ResponseData<>(questList));
+    }
+
     @GetMapping("/{questId}")
     public ResponseEntity<ResponseData<QuestResponse>> getQuest(
             @Min(1) @PathVariable("questId") Long questId,
@@ -80,11 +112,7 @@ public class QuestApiController {
             dto.toMainQuest();
         }
 
-        QuestResponse savedQuest = userLevelLock.executeWithLock(
-                "QUEST_SEQ" + principal.getId(),
-                3,
-                () -> questService.saveQuest(dto, principal.getId())
-        );
+        QuestResponse savedQuest = questService.saveQuest(dto, principal.getId());
         questIndexService.saveDocument(savedQuest, principal.getId());
         return ResponseEntity.ok(new ResponseData<>(savedQuest));
     }
@@ -130,6 +158,24 @@ public class QuestApiController {
         return ResponseEntity.ok(new ResponseData<>());
     }
 
+    @PatchMapping("/bulk")
+    public ResponseEntity<ResponseData<List<QuestTransitionResponse>>> transitInBulk(
+            @Valid @RequestBody QuestBulkTransitionRequest bulkRequest,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        List<QuestTransitionResponse> results = questService.transitQuestsInBulk(principal.getId(), bulkRequest.getItems());
+        results.stream()
+                .filter(QuestTransitionResponse::getSuccess)
+                .forEach(result -> {
+                    if (result.getAction() == QuestTransitionAction.DELETE) {
+                        questIndexService.deleteDocument(result.getQuest());
+                    } else {
+                        questIndexService.updateQuestStateOfDocument(result.getQuest(), principal.getId());
+                    }
+                });
+        return ResponseEntity.ok(new ResponseData<>(results));
+    }
+
     @PatchMapping(value = "/{questId}/details/{detailQuestId}")
     public ResponseEntity<ResponseData<DetailResponse>> updateDetailQuestCount(
             @Min(1) @PathVariable("questId") Long questId,
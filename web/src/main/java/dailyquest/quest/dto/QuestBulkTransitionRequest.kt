@@ -0,0 +1,22 @@
+package dailyquest.quest.dto
+
+import com.fasterxml.jackson.annotation.JsonIgnore
+import jakarta.validation.Valid
+import jakarta.validation.constraints.AssertTrue
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.Size
+
+data class QuestBulkTransitionRequest(
+    @field:Valid
+    @field:NotEmpty(message = "{NotEmpty.quest.bulk}")
+    @field:Size(max = 50, message = "{Size.quest.bulk}")
+    val items: List<QuestTransitionRequest> = emptyList(),
+) {
+    /**
+     * 같은 퀘스트를 여러 번 변경하면 앞선 변경의 보상과 로그가 뒤의 변경 결과로 기록되므로 허용하지 않는다.
+     */
+    @get:JsonIgnore
+    @get:AssertTrue(message = "{AssertTrue.quest.bulk.distinct}")
+    val isDistinctQuestIds: Boolean
+        get() = items.map { it.questId }.distinct().size == items.size
+}
@@ -0,0 +1,17 @@
+package dailyquest.quest.dto
+
+import org.springframework.data.domain.Slice
+
+data class QuestCursorPage(
+    val content: List<QuestResponse> = emptyList(),
+    val after: String? = null,
+    val hasNext: Boolean = false,
+) {
+    companion object {
+        @JvmStatic
+        fun from(slice: Slice<QuestResponse>): QuestCursorPage {
+            val after = if (slice.hasNext()) QuestSearchCursor(slice.content.last().id).encode() else null
+            return QuestCursorPage(slice.content, after, slice.hasNext())
+        }
+    }
+}
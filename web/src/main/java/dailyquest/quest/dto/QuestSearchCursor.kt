@@ -0,0 +1,33 @@
+package dailyquest.quest.dto
+
+import java.util.Base64
+
+/**
+ * 커서 방식 퀘스트 검색에서 직전 페이지의 마지막 퀘스트 ID를 담는 불투명 토큰.
+ * 빈 토큰은 첫 페이지를 뜻한다.
+ */
+data class QuestSearchCursor(val lastId: Long? = null) {
+
+    fun encode(): String {
+        return lastId?.let { ENCODER.encodeToString(it.toString().toByteArray()) } ?: ""
+    }
+
+    companion object {
+        private val ENCODER = Base64.getUrlEncoder().withoutPadding()
+        private val DECODER = Base64.getUrlDecoder()
+
+        /**
+         * 형식이 잘못된 토큰이면 null을 반환한다.
+         */
+        @JvmStatic
+        fun from(token: String): QuestSearchCursor? {
+            if (token.isBlank()) return QuestSearchCursor()
+            val lastId = try {
+                String(DECODER.decode(token)).toLongOrNull()
+            } catch (e: IllegalArgumentException) {
+                null
+            }
+            return lastId?.takeIf { it > 0 }?.let { QuestSearchCursor(it) }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dailyquest.quest.dto
+
+import dailyquest.quest.entity.QuestState
+import dailyquest.search.document.QuestDocument
+import java.time.LocalDateTime
+
+/**
+ * 검색 목록에 필요한 값만 담는 응답으로, 검색 엔진 문서의 _source 만으로 만들 수 있다.
+ */
+data class QuestSearchResult(
+    val id: Long = 0,
+    val title: String = "",
+    val description: String = "",
+    val detailTitles: List<String> = emptyList(),
+    val state: QuestState = QuestState.PROCEED,
+    val createdDate: LocalDateTime = LocalDateTime.now(),
+) {
+    companion object {
+        /**
+         * 검색 시 _source 로 가져올 문서 필드
+         */
+        @JvmField
+        val SOURCE_FIELDS = arrayOf("title", "description", "detailTitles", "state", "createdDate")
+
+        @JvmStatic
+        fun fromDocument(id: Long, document: QuestDocument): QuestSearchResult {
+            return QuestSearchResult(
+                id = id,
+                title = document.title ?: "",
+                description = document.description ?: "",
+                detailTitles = document.detailTitles ?: emptyList(),
+                state = QuestState.valueOf(document.state),
+                createdDate = document.createdDate,
+            )
+        }
+
+        @JvmStatic
+        fun from(questResponse: QuestResponse): QuestSearchResult {
+            return QuestSearchResult(
+                id = questResponse.id,
+                title = questResponse.title,
+                description = questResponse.description,
+                detailTitles = questResponse.detailQuests.map { it.title },
+                state = questResponse.state,
+                createdDate = questResponse.createdDate,
+            )
+        }
+    }
+}
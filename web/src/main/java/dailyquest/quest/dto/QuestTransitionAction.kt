@@ -0,0 +1,5 @@
+package dailyquest.quest.dto
+
+enum class QuestTransitionAction {
+    COMPLETE, DISCARD, DELETE
+}
@@ -0,0 +1,9 @@
+package dailyquest.quest.dto
+
+import jakarta.validation.constraints.Min
+
+data class QuestTransitionRequest(
+    @field:Min(1)
+    val questId: Long,
+    val action: QuestTransitionAction,
+)
@@ -0,0 +1,26 @@
+package dailyquest.quest.dto
+
+import com.fasterxml.jackson.annotation.JsonIgnore
+import dailyquest.quest.entity.QuestState
+
+data class QuestTransitionResponse(
+    val questId: Long,
+    val action: QuestTransitionAction,
+    val success: Boolean,
+    val state: QuestState? = null,
+    val message: String? = null,
+    @get:JsonIgnore
+    val quest: QuestResponse? = null,
+) {
+    companion object {
+        @JvmStatic
+        fun success(request: QuestTransitionRequest, quest: QuestResponse): QuestTransitionResponse {
+            return QuestTransitionResponse(request.questId, request.action, true, quest.state, quest = quest)
+        }
+
+        @JvmStatic
+        fun failure(request: QuestTransitionRequest, message: String, state: QuestState? = null): QuestTransitionResponse {
+            return QuestTransitionResponse(request.questId, request.action, false, state, message)
+        }
+    }
+}
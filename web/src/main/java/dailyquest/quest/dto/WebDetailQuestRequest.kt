@@ -14,6 +14,7 @@ data class WebDetailQuestRequest(
     @field:Range(min = 1, max = 255, message = "{Range.details.targetCount}")
     override val targetCount: Int,
     override val count: Int = 0,
+    override val id: Long? = null,
 ): DetailQuestRequest {
 
     constructor(preferenceDetailQuest: PreferenceDetailQuest) : this(
@@ -0,0 +1,5 @@
+package dailyquest.quest.event
+
+data class QuestChangedEvent(
+    val userId: Long,
+)
@@ -0,0 +1,29 @@
+package dailyquest.quest.repository;
+
+import dailyquest.quest.entity.QuestCompletionOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface QuestCompletionOutboxRepository extends JpaRepository<QuestCompletionOutbox, Long> {
+    /**
+     * 보류된 이벤트가 있는 유저의 이벤트는 순서대로 반영할 수 없으므로, 보류가 해소될 때까지 모두 제외한다.
+     */
+    @Query("select o from QuestCompletionOutbox o " +
+            "where o.parked = false " +
+            "and not exists (select 1 from QuestCompletionOutbox p where p.userId = o.userId and p.parked = true) " +
+            "order by o.id asc")
+    List<QuestCompletionOutbox> findRelayableOrderByIdAsc(Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update QuestCompletionOutbox o set o.attemptCount = o.attemptCount + 1 where o.id in :ids")
+    int incrementAttemptCount(@Param("ids") List<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update QuestCompletionOutbox o set o.parked = true where o.id in :ids and o.attemptCount >= :maxAttempts")
+    int parkExhausted(@Param("ids") List<Long> ids, @Param("maxAttempts") int maxAttempts);
+}
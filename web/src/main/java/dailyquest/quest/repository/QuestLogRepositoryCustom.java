@@ -2,6 +2,7 @@ package dailyquest.quest.repository;
 
 import dailyquest.quest.dto.QuestLogSearchCondition;
 import dailyquest.quest.dto.QuestStatisticsResponse;
+import dailyquest.quest.entity.QuestLog;
 import dailyquest.status.dto.StatusResponse;
 import org.springframework.data.repository.query.Param;
 
@@ -11,4 +12,5 @@ public interface QuestLogRepositoryCustom {
 
     List<QuestStatisticsResponse> getGroupedQuestLogs(Long userId, QuestLogSearchCondition condition);
     StatusResponse getTotalStatisticsOfUser(@Param("userId") Long userId);
+    void saveAllInBatch(List<QuestLog> questLogs);
 }
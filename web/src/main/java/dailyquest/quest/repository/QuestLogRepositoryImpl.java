@@ -8,6 +8,7 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import dailyquest.quest.dto.QuestLogSearchCondition;
 import dailyquest.quest.dto.QuestStatisticsResponse;
+import dailyquest.quest.entity.QuestLog;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.status.dto.StatusResponse;
 import jakarta.annotation.PostConstruct;
@@ -108,4 +109,10 @@ public class QuestLogRepositoryImpl implements QuestLogRepositoryCustom {
         return new StatusResponse(registeredCount, completedCount, discardedCount, failedCount);
     }
 
+    @Override
+    public void saveAllInBatch(List<QuestLog> questLogs) {
+        if (questLogs.isEmpty()) return;
+        questLogs.forEach(em::persist);
+        em.flush();
+    }
 }
@@ -26,4 +26,7 @@ public interface QuestRepository extends JpaRepository<Quest, Long>, QuestReposi
     @Nullable
     @Query("select q from Quest q left join fetch q._detailQuests where q.id = :questId and q.userId = :userId")
     Quest findByIdAndUserId(@Param("questId") Long questId, @Param("userId") Long userId);
+
+    @Query("select q from Quest q left join fetch q._detailQuests where q.id in :questIds and q.userId = :userId")
+    List<Quest> findAllByIdInAndUserId(@Param("questIds") List<Long> questIds, @Param("userId") Long userId);
 }
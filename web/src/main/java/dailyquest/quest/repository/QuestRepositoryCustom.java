@@ -1,12 +1,25 @@
 package dailyquest.quest.repository;
 
+import dailyquest.quest.dto.QuestResponse;
 import dailyquest.quest.dto.QuestSearchCondition;
 import dailyquest.quest.entity.Quest;
+import dailyquest.quest.entity.QuestState;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 public interface QuestRepositoryCustom {
 
     Long getNextSeqOfUser(Long userId);
+    Map<Long, Long> getMaxSeqOfUsersCreatedSince(LocalDateTime since);
     Page<Quest> findQuestsByCondition(Long userId, QuestSearchCondition searchCondition, Pageable pageable);
+    List<QuestResponse> getCurrentQuestResponses(Long userId, QuestState state, LocalDateTime prevReset, LocalDateTime nextReset);
+    List<QuestResponse> getAllCurrentQuestResponses(Long userId, LocalDateTime prevReset, LocalDateTime nextReset);
+    Page<QuestResponse> findQuestResponsesByCondition(Long userId, QuestSearchCondition searchCondition, Pageable pageable);
+    Slice<QuestResponse> findQuestResponsesByConditionAfter(Long userId, QuestSearchCondition searchCondition, Long lastId, Pageable pageable);
+    List<QuestResponse> findQuestResponsesByIdsInOrder(Long userId, List<Long> questIds);
 }
@@ -1,8 +1,13 @@
 package dailyquest.quest.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import dailyquest.quest.dto.DetailResponse;
+import dailyquest.quest.dto.QuestResponse;
 import dailyquest.quest.dto.QuestSearchCondition;
+import dailyquest.quest.entity.DetailQuestState;
 import dailyquest.quest.entity.Quest;
 import dailyquest.quest.entity.QuestState;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +17,20 @@ import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import static dailyquest.quest.entity.QDetailQuest.detailQuest;
 import static dailyquest.quest.entity.QQuest.quest;
 
 @RequiredArgsConstructor
@@ -32,7 +46,7 @@ public class QuestRepositoryImpl implements QuestRepositoryCustom {
 
     /**
      * 유저별 MAX(SEQ) 값을 가져와 +1 해서 돌려준다.
-     * 동시성 문제로 인해 네임드 락을 사용한 환경에서만 호출하도록 해야함
+     * 채번 자체는 QuestSeqAllocator 가 담당하며, 이 값은 카운터 초기화에만 사용해야 함
      */
     @Override
     public Long getNextSeqOfUser(Long userId) {
@@ -43,8 +57,130 @@ public class QuestRepositoryImpl implements QuestRepositoryCustom {
                 .fetchOne()).orElse(0L) + 1L;
     }
 
+    /**
+     * 주어진 시각 이후 퀘스트를 등록한 유저별 MAX(SEQ) 값을 가져온다.
+     */
+    @Override
+    public Map<Long, Long> getMaxSeqOfUsersCreatedSince(LocalDateTime since) {
+        return query.select(quest.userId, quest.seq.max())
+                .from(quest)
+                .where(quest.createdDate.goe(since))
+                .groupBy(quest.userId)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(quest.userId), tuple -> tuple.get(quest.seq.max())));
+    }
+
     @Override
     public Page<Quest> findQuestsByCondition(Long userId, QuestSearchCondition condition, Pageable pageable) {
+        BooleanExpression wherePredicate = this.searchConditionPredicate(userId, condition);
+
+        List<Quest> fetch = query.select(quest)
+                .from(quest)
+                .where(wherePredicate)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(quest.id.desc())
+                .fetch();
+
+        Long total = query.select(quest.count())
+                .from(quest)
+                .where(wherePredicate)
+                .fetchOne();
+
+        return new PageImpl<>(fetch, pageable, total);
+    }
+
+    @Override
+    public List<QuestResponse> getCurrentQuestResponses(Long userId, QuestState state, LocalDateTime prevReset, LocalDateTime nextReset) {
+        if (state == null) return List.of();
+        List<Tuple> questRows = this.selectQuestColumns()
+                .where(quest.userId.eq(userId), quest.state.eq(state), quest.createdDate.between(prevReset, nextReset))
+                .fetch();
+        return this.toQuestResponses(questRows);
+    }
+
+    @Override
+    public List<QuestResponse> getAllCurrentQuestResponses(Long userId, LocalDateTime prevReset, LocalDateTime nextReset) {
+        List<Tuple> questRows = this.selectQuestColumns()
+                .where(quest.userId.eq(userId), quest.createdDate.between(prevReset, nextReset))
+                .fetch();
+        return this.toQuestResponses(questRows);
+    }
+
+    @Override
+    public Page<QuestResponse> findQuestResponsesByCondition(Long userId, QuestSearchCondition condition, Pageable pageable) {
+        BooleanExpression wherePredicate = this.searchConditionPredicate(userId, condition);
+
+        List<Tuple> questRows = this.selectQuestColumns()
+                .where(wherePredicate)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(quest.id.desc())
+                .fetch();
+
+        Long total = query.select(quest.count())
+                .from(quest)
+                .where(wherePredicate)
+                .fetchOne();
+
+        return new PageImpl<>(this.toQuestResponses(questRows), pageable, total);
+    }
+
+    /**
+     * 직전 페이지의 마지막 ID보다 작은 퀘스트를 페이지 크기보다 하나 더 조회해 다음 페이지 여부를 판단한다.
+     * 전체 개수를 세는 쿼리는 실행하지 않는다.
+     */
+    @Override
+    public Slice<QuestResponse> findQuestResponsesByConditionAfter(Long userId, QuestSearchCondition condition, Long lastId, Pageable pageable) {
+        BooleanExpression wherePredicate = this.searchConditionPredicate(userId, condition);
+        if (lastId != null) wherePredicate = wherePredicate.and(quest.id.lt(lastId));
+
+        List<Tuple> questRows = this.selectQuestColumns()
+                .where(wherePredicate)
+                .limit(pageable.getPageSize() + 1L)
+                .orderBy(quest.id.desc())
+                .fetch();
+
+        boolean hasNext = questRows.size() > pageable.getPageSize();
+        if (hasNext) questRows = questRows.subList(0, pageable.getPageSize());
+        return new SliceImpl<>(this.toQuestResponses(questRows), pageable, hasNext);
+    }
+
+    /**
+     * 검색 결과 ID 순서를 유지하며 퀘스트와 세부 퀘스트를 하나의 조인 쿼리로 조회한다.
+     * 페이징과 전체 개수는 검색 결과를 그대로 사용하므로 오프셋과 개수 쿼리를 적용하지 않으며, DB에 없는 ID는 제외된다.
+     */
+    @Override
+    public List<QuestResponse> findQuestResponsesByIdsInOrder(Long userId, List<Long> questIds) {
+        if (questIds.isEmpty()) return List.of();
+
+        Map<Long, Tuple> questRows = new HashMap<>();
+        Map<Long, List<DetailResponse>> detailsOfQuests = new HashMap<>();
+        Set<Long> incompleteQuestIds = new HashSet<>();
+        query.select(quest.id, quest.title, quest.description, quest.seq, quest.state,
+                        quest.createdDate, quest.lastModifiedDate, quest.type, quest.deadLine,
+                        detailQuest.id, detailQuest.title, detailQuest.targetCount,
+                        detailQuest.count, detailQuest.type, detailQuest.state)
+                .from(quest)
+                .leftJoin(detailQuest).on(detailQuest.quest.eq(quest))
+                .where(quest.id.in(questIds), quest.userId.eq(userId))
+                .orderBy(detailQuest.id.asc())
+                .fetch()
+                .forEach(row -> {
+                    Long questId = row.get(quest.id);
+                    questRows.putIfAbsent(questId, row);
+                    if (row.get(detailQuest.id) == null) return;
+                    this.groupDetailRow(questId, row, detailsOfQuests, incompleteQuestIds);
+                });
+
+        return questIds.stream()
+                .filter(questRows::containsKey)
+                .map(questId -> this.toQuestResponse(questRows.get(questId), detailsOfQuests, incompleteQuestIds))
+                .toList();
+    }
+
+    private BooleanExpression searchConditionPredicate(Long userId, QuestSearchCondition condition) {
         QuestState state = condition.state();
 
         LocalDateTime startDateTime = condition.getStartResetTime();
@@ -61,20 +197,67 @@ public class QuestRepositoryImpl implements QuestRepositoryCustom {
         if(startDateTime == null && endDateTime != null) {
             wherePredicate = wherePredicate.and(quest.createdDate.loe(endDateTime));
         }
+        return wherePredicate;
+    }
 
-        List<Quest> fetch = query.select(quest)
-                .from(quest)
-                .where(wherePredicate)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(quest.id.desc())
-                .fetch();
+    private JPAQuery<Tuple> selectQuestColumns() {
+        return query.select(quest.id, quest.title, quest.description, quest.seq, quest.state,
+                        quest.createdDate, quest.lastModifiedDate, quest.type, quest.deadLine)
+                .from(quest);
+    }
 
-        Long total = query.select(quest.count())
-                .from(quest)
-                .where(wherePredicate)
-                .fetchOne();
+    /**
+     * 퀘스트 행에 속한 세부 퀘스트 컬럼을 한 번의 IN 쿼리로 조회하고, 한 번 순회하며 퀘스트별로 묶어 응답을 만든다.
+     * 엔티티를 로딩하지 않으므로 영속성 컨텍스트와 변경 감지 스냅샷을 거치지 않는다.
+     */
+    private List<QuestResponse> toQuestResponses(List<Tuple> questRows) {
+        if (questRows.isEmpty()) return List.of();
+        List<Long> questIds = questRows.stream().map(row -> row.get(quest.id)).toList();
 
-        return new PageImpl<>(fetch, pageable, total);
+        Map<Long, List<DetailResponse>> detailsOfQuests = new HashMap<>();
+        Set<Long> incompleteQuestIds = new HashSet<>();
+        query.select(detailQuest.quest.id, detailQuest.id, detailQuest.title, detailQuest.targetCount,
+                        detailQuest.count, detailQuest.type, detailQuest.state)
+                .from(detailQuest)
+                .where(detailQuest.quest.id.in(questIds))
+                .orderBy(detailQuest.id.asc())
+                .fetch()
+                .forEach(row -> this.groupDetailRow(row.get(detailQuest.quest.id), row, detailsOfQuests, incompleteQuestIds));
+
+        return questRows.stream()
+                .map(row -> this.toQuestResponse(row, detailsOfQuests, incompleteQuestIds))
+                .toList();
+    }
+
+    private void groupDetailRow(Long questId, Tuple row, Map<Long, List<DetailResponse>> detailsOfQuests, Set<Long> incompleteQuestIds) {
+        DetailQuestState detailState = row.get(detailQuest.state);
+        DetailResponse detailResponse = new DetailResponse(
+                row.get(detailQuest.id),
+                row.get(detailQuest.title),
+                row.get(detailQuest.targetCount),
+                row.get(detailQuest.count),
+                row.get(detailQuest.type),
+                detailState,
+                false
+        );
+        detailsOfQuests.computeIfAbsent(questId, id -> new ArrayList<>()).add(detailResponse);
+        if (detailState != DetailQuestState.COMPLETE) incompleteQuestIds.add(questId);
+    }
+
+    private QuestResponse toQuestResponse(Tuple row, Map<Long, List<DetailResponse>> detailsOfQuests, Set<Long> incompleteQuestIds) {
+        Long questId = row.get(quest.id);
+        return new QuestResponse(
+                questId,
+                row.get(quest.title),
+                row.get(quest.description),
+                row.get(quest.seq),
+                row.get(quest.state),
+                row.get(quest.createdDate),
+                row.get(quest.lastModifiedDate),
+                detailsOfQuests.getOrDefault(questId, List.of()),
+                !incompleteQuestIds.contains(questId),
+                row.get(quest.type),
+                row.get(quest.deadLine)
+        );
     }
 }
@@ -1,18 +1,32 @@
 package dailyquest.quest.service;
 
+import dailyquest.admin.cache.SystemSettingsCache;
+import dailyquest.admin.dto.SystemSettingsSnapshot;
 import dailyquest.quest.dto.*;
 import dailyquest.quest.entity.DetailQuest;
 import dailyquest.quest.entity.Quest;
+import dailyquest.quest.entity.QuestCompletionOutbox;
+import dailyquest.quest.entity.QuestState;
+import dailyquest.quest.event.QuestChangedEvent;
+import dailyquest.quest.repository.QuestCompletionOutboxRepository;
 import dailyquest.quest.repository.QuestRepository;
-import dailyquest.redis.service.RedisService;
+import dailyquest.user.dto.UserUpdateRequest;
 import dailyquest.user.record.service.UserRecordService;
 import dailyquest.user.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Transactional
 @Service
@@ -21,22 +35,29 @@ public class QuestCommandService {
     private final UserService userService;
     private final UserRecordService userRecordService;
     private final QuestLogService questLogService;
-    private final RedisService redisService;
+    private final SystemSettingsCache systemSettingsCache;
+    private final QuestSeqAllocator questSeqAllocator;
+    private final QuestCompletionOutboxRepository questCompletionOutboxRepository;
+    private final QuestDetailCountBuffer questDetailCountBuffer;
     private final MessageSourceAccessor messageSourceAccessor;
+    private final ApplicationEventPublisher eventPublisher;
 
     public QuestResponse saveQuest(WebQuestRequest dto, Long userId) {
-        Long nextSeq = questRepository.getNextSeqOfUser(userId);
+        Long nextSeq = questSeqAllocator.next(userId);
         Quest quest = dto.mapToEntity(nextSeq, userId);
         questRepository.saveAndFlush(quest);
         QuestLogRequest questLogRequest = QuestLogRequest.from(quest);
         questLogService.saveQuestLog(questLogRequest);
         userRecordService.recordQuestRegistration(userId, questLogRequest.getLoggedDate());
+        eventPublisher.publishEvent(new QuestChangedEvent(userId));
         return QuestResponse.createDto(quest);
     }
 
     public QuestResponse updateQuest(WebQuestRequest updateRequest, Long questId, Long userId) {
         Quest quest = this.getProceedEntityOfUser(questId, userId);
+        questDetailCountBuffer.drainInto(quest);
         quest.updateQuestEntity(updateRequest);
+        eventPublisher.publishEvent(new QuestChangedEvent(userId));
         return QuestResponse.createDto(quest);
     }
 
@@ -58,33 +79,39 @@ public class QuestCommandService {
 
     public QuestResponse deleteQuest(Long questId, Long userId) {
         Quest quest = this.getEntityOfUser(questId, userId);
+        questDetailCountBuffer.drainInto(quest);
         quest.deleteQuest();
+        eventPublisher.publishEvent(new QuestChangedEvent(userId));
         return QuestResponse.createDto(quest);
     }
 
     public QuestResponse completeQuest(Long userId, Long questId) {
         Quest quest = this.getEntityOfUser(questId, userId);
+        questDetailCountBuffer.drainInto(quest);
         quest.completeQuestIfPossible();
         switch (quest.getState()) {
             case COMPLETE -> {
                 quest = questRepository.saveAndFlush(quest);
                 QuestLogRequest questLogRequest = QuestLogRequest.from(quest);
                 questLogService.saveQuestLog(questLogRequest);
+                SystemSettingsSnapshot settings = systemSettingsCache.get();
                 QuestCompletionUserUpdateRequest questCompletionUserUpdateRequest
-                        = new QuestCompletionUserUpdateRequest(redisService.getQuestClearExp(), redisService.getQuestClearGold(), quest.getType());
+                        = new QuestCompletionUserUpdateRequest(settings.getQuestClearExp(), settings.getQuestClearGold(), quest.getType());
                 userService.addUserExpAndGold(userId, questCompletionUserUpdateRequest);
-                userRecordService.recordGoldEarn(userId, questCompletionUserUpdateRequest);
-                userRecordService.recordQuestCompletion(userId, questLogRequest.getLoggedDate());
+                // 유저 기록, 업적, 알림 갱신은 QuestCompletionOutboxRelay 가 커밋 이후에 반영한다
+                questCompletionOutboxRepository.save(new QuestCompletionOutbox(userId, quest.getId(), questCompletionUserUpdateRequest.getEarnedGold(), questLogRequest.getLoggedDate()));
             }
             case DELETE -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.deleted"));
             case PROCEED -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.complete.detail"));
             default -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.not-proceed"));
         }
+        eventPublisher.publishEvent(new QuestChangedEvent(userId));
         return QuestResponse.createDto(quest);
     }
 
     public QuestResponse discardQuest(Long questId, Long userId) {
         Quest quest = this.getEntityOfUser(questId, userId);
+        questDetailCountBuffer.drainInto(quest);
         quest.discardQuestIfPossible();
         switch (quest.getState()) {
             case DISCARD -> {
@@ -95,15 +122,107 @@ public class QuestCommandService {
             case DELETE -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.deleted"));
             default -> throw new IllegalStateException(messageSourceAccessor.getMessage("quest.error.not-proceed"));
         }
+        eventPublisher.publishEvent(new QuestChangedEvent(userId));
         return QuestResponse.createDto(quest);
     }
 
     public DetailResponse updateDetailQuestCount(Long userId, DetailInteractRequest request) {
+        if (questDetailCountBuffer.isEnabled()) {
+            DetailResponse bufferedResult = questDetailCountBuffer.increment(userId, request, () -> this.getProceedEntityOfUser(request.getQuestId(), userId));
+            if (bufferedResult == null) {
+                throw new IllegalArgumentException(messageSourceAccessor.getMessage("exception.badRequest"));
+            }
+            return bufferedResult;
+        }
         Quest quest = this.getProceedEntityOfUser(request.getQuestId(), userId);
         DetailQuest interactResult = quest.updateDetailQuestCount(request.getDetailQuestId(), request.getCount());
         if (interactResult == null) {
             throw new IllegalArgumentException(messageSourceAccessor.getMessage("exception.badRequest"));
         }
+        eventPublisher.publishEvent(new QuestChangedEvent(userId));
         return DetailResponse.of(interactResult, quest.canComplete());
     }
+
+    /**
+     * 여러 퀘스트의 상태를 한 트랜잭션에서 변경한다.
+     * 퀘스트 로그는 한 번에 INSERT 하고, 완료 보상은 합산해 한 번만 반영하며, 변경할 수 없는 퀘스트는 항목별 실패로 응답한다.
+     */
+    public List<QuestTransitionResponse> transitQuestsInBulk(Long userId, List<QuestTransitionRequest> requests) {
+        List<Long> questIds = requests.stream().map(QuestTransitionRequest::getQuestId).distinct().toList();
+        Map<Long, Quest> quests = questRepository.findAllByIdInAndUserId(questIds, userId).stream()
+                .collect(Collectors.toMap(Quest::getId, Function.identity()));
+        QuestTransitionResponse[] responses = new QuestTransitionResponse[requests.size()];
+        Map<Integer, Quest> transitedQuests = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            QuestTransitionRequest request = requests.get(i);
+            Quest quest = quests.get(request.getQuestId());
+            if (quest == null) {
+                responses[i] = QuestTransitionResponse.failure(request, messageSourceAccessor.getMessage("exception.entity.notfound", new Object[]{messageSourceAccessor.getMessage("quest")}));
+                continue;
+            }
+            questDetailCountBuffer.drainInto(quest);
+            QuestState previousState = quest.getState();
+            switch (request.getAction()) {
+                case COMPLETE -> quest.completeQuestIfPossible();
+                case DISCARD -> quest.discardQuestIfPossible();
+                case DELETE -> quest.deleteQuest();
+            }
+            if (!this.isTransited(request.getAction(), previousState, quest.getState())) {
+                responses[i] = QuestTransitionResponse.failure(request, this.getTransitionErrorMessage(request.getAction(), quest.getState()), quest.getState());
+                continue;
+            }
+            transitedQuests.put(i, quest);
+        }
+        // 로그 날짜와 응답의 수정 시각이 변경 시각을 따르도록 먼저 반영한다
+        questRepository.flush();
+
+        SystemSettingsSnapshot settings = systemSettingsCache.get();
+        List<QuestLogRequest> questLogRequests = new ArrayList<>();
+        List<QuestCompletionOutbox> completionOutboxes = new ArrayList<>();
+        long earnedExp = 0;
+        long earnedGold = 0;
+        for (Map.Entry<Integer, Quest> transited : transitedQuests.entrySet()) {
+            QuestTransitionRequest request = requests.get(transited.getKey());
+            Quest quest = transited.getValue();
+            responses[transited.getKey()] = QuestTransitionResponse.success(request, QuestResponse.createDto(quest));
+            if (request.getAction() == QuestTransitionAction.DELETE) continue;
+            QuestLogRequest questLogRequest = QuestLogRequest.from(quest);
+            questLogRequests.add(questLogRequest);
+            if (request.getAction() == QuestTransitionAction.COMPLETE) {
+                QuestCompletionUserUpdateRequest questCompletionUserUpdateRequest
+                        = new QuestCompletionUserUpdateRequest(settings.getQuestClearExp(), settings.getQuestClearGold(), quest.getType());
+                earnedExp += questCompletionUserUpdateRequest.getEarnedExp();
+                earnedGold += questCompletionUserUpdateRequest.getEarnedGold();
+                completionOutboxes.add(new QuestCompletionOutbox(userId, quest.getId(), questCompletionUserUpdateRequest.getEarnedGold(), questLogRequest.getLoggedDate()));
+            }
+        }
+        questLogService.saveQuestLogs(questLogRequests);
+        if (!completionOutboxes.isEmpty()) {
+            userService.addUserExpAndGold(userId, new UserUpdateRequest(null, null, earnedExp, earnedGold));
+            questCompletionOutboxRepository.saveAll(completionOutboxes);
+        }
+        if (!transitedQuests.isEmpty()) {
+            eventPublisher.publishEvent(new QuestChangedEvent(userId));
+        }
+        return List.of(responses);
+    }
+
+    private boolean isTransited(QuestTransitionAction action, QuestState previousState, QuestState currentState) {
+        return switch (action) {
+            case COMPLETE -> previousState == QuestState.PROCEED && currentState == QuestState.COMPLETE;
+            case DISCARD -> previousState == QuestState.PROCEED && currentState == QuestState.DISCARD;
+            case DELETE -> previousState != QuestState.DELETE;
+        };
+    }
+
+    private String getTransitionErrorMessage(QuestTransitionAction action, QuestState state) {
+        if (state == QuestState.DELETE) {
+            return messageSourceAccessor.getMessage("quest.error.deleted");
+        }
+        if (action == QuestTransitionAction.COMPLETE && state == QuestState.PROCEED) {
+            return messageSourceAccessor.getMessage("quest.error.complete.detail");
+        }
+        return messageSourceAccessor.getMessage("quest.error.not-proceed");
+    }
 }
@@ -0,0 +1,106 @@
+package dailyquest.quest.service
+
+import dailyquest.common.UserLevelLock
+import dailyquest.properties.QuestCompletionOutboxProperties
+import dailyquest.quest.entity.QuestCompletionOutbox
+import dailyquest.quest.repository.QuestCompletionOutboxRepository
+import dailyquest.user.dto.UserUpdateRequest
+import dailyquest.user.record.service.UserRecordService
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionTemplate
+
+/**
+ * 퀘스트 완료 이벤트를 꺼내 유저 기록, 업적, 알림을 갱신한다.
+ * 한 노드만 처리하도록 네임드 락으로 보호하며, 유저별로 이벤트 반영과 삭제를 한 트랜잭션에서 커밋해 한 번만 반영되도록 한다.
+ * 처리에 실패한 유저의 이벤트는 시도 횟수를 늘려 다음 주기에 다시 처리하며, 최대 시도 횟수에 이르면 보류 상태로 옮겨
+ * 같은 이벤트가 매 주기 배치의 앞자리를 차지해 뒤의 이벤트를 막지 않도록 한다.
+ * 연속 완료 기록은 완료일 순서에 의존하므로, 보류된 이벤트가 있는 유저의 이후 이벤트는 보류가 해소될 때까지 반영하지 않는다.
+ */
+@Component
+class QuestCompletionOutboxRelay(
+    private val outboxRepository: QuestCompletionOutboxRepository,
+    private val userRecordService: UserRecordService,
+    private val userLevelLock: UserLevelLock,
+    private val transactionTemplate: TransactionTemplate,
+    private val outboxProperties: QuestCompletionOutboxProperties,
+    meterRegistry: MeterRegistry,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val relayedCounter = Counter.builder("quest.outbox.relayed").register(meterRegistry)
+    private val failedCounter = Counter.builder("quest.outbox.failed").register(meterRegistry)
+    private val parkedCounter = Counter.builder("quest.outbox.parked").register(meterRegistry)
+
+    @Scheduled(
+        fixedDelayString = "\${quest.outbox.relay-interval-millis:1000}",
+        initialDelayString = "\${quest.outbox.relay-interval-millis:1000}"
+    )
+    fun relay() {
+        try {
+            userLevelLock.executeWithLock(RELAY_LOCK_NAME, 0) { this.relayBatch() }
+        } catch (e: Exception) {
+            // 다른 노드가 릴레이 중이면 락 획득에 실패한다
+            log.debug("[QuestCompletionOutboxRelay] 릴레이 락을 획득하지 못했습니다.", e)
+        }
+    }
+
+    fun relayBatch(): Int {
+        val events = try {
+            outboxRepository.findRelayableOrderByIdAsc(PageRequest.of(0, outboxProperties.batchSize))
+        } catch (e: Exception) {
+            log.error("[QuestCompletionOutboxRelay] 퀘스트 완료 이벤트 조회에 실패했습니다.", e)
+            return 0
+        }
+        return events.groupBy { it.userId }.entries.sumOf { (userId, eventsOfUser) -> this.relayEventsOfUser(userId, eventsOfUser) }
+    }
+
+    private fun relayEventsOfUser(userId: Long, events: List<QuestCompletionOutbox>): Int {
+        return try {
+            transactionTemplate.executeWithoutResult {
+                this.applyEventsOfUser(userId, events)
+                outboxRepository.deleteAllByIdInBatch(events.map { it.id })
+            }
+            relayedCounter.increment(events.size.toDouble())
+            events.size
+        } catch (e: Exception) {
+            failedCounter.increment(events.size.toDouble())
+            log.error("[QuestCompletionOutboxRelay] 퀘스트 완료 이벤트 처리에 실패했습니다. userId=[{}], outboxIds=[{}]", userId, events.map { it.id }, e)
+            this.recordFailure(userId, events)
+            0
+        }
+    }
+
+    private fun recordFailure(userId: Long, events: List<QuestCompletionOutbox>) {
+        val outboxIds = events.map { it.id }
+        try {
+            val parkedCount = transactionTemplate.execute {
+                outboxRepository.incrementAttemptCount(outboxIds)
+                outboxRepository.parkExhausted(outboxIds, outboxProperties.maxAttempts)
+            } ?: 0
+            if (parkedCount > 0) {
+                parkedCounter.increment(parkedCount.toDouble())
+                log.error("[QuestCompletionOutboxRelay] 최대 시도 횟수를 넘긴 퀘스트 완료 이벤트를 보류했습니다. userId=[{}], outboxIds=[{}]", userId, outboxIds)
+            }
+        } catch (e: Exception) {
+            log.error("[QuestCompletionOutboxRelay] 퀘스트 완료 이벤트의 시도 횟수 기록에 실패했습니다. userId=[{}], outboxIds=[{}]", userId, outboxIds, e)
+        }
+    }
+
+    /**
+     * 유저의 이벤트를 합산해 골드 획득과 완료일별 완료 횟수를 한 번씩만 기록하므로, 업적 달성 여부도 한 번씩만 확인한다.
+     */
+    private fun applyEventsOfUser(userId: Long, events: List<QuestCompletionOutbox>) {
+        userRecordService.recordGoldEarn(userId, UserUpdateRequest(earnedGold = events.sumOf { it.earnedGold }))
+        events.groupBy { it.completedDate }.toSortedMap().forEach { (completedDate, eventsOfDate) ->
+            userRecordService.recordQuestCompletion(userId, completedDate, eventsOfDate.size.toLong())
+        }
+    }
+
+    companion object {
+        private const val RELAY_LOCK_NAME = "QUEST_COMPLETION_OUTBOX_RELAY"
+    }
+}
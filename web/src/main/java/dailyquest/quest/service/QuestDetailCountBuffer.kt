@@ -0,0 +1,256 @@
+package dailyquest.quest.service
+
+import dailyquest.properties.QuestDetailCountBufferProperties
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.quest.dto.DetailInteractRequest
+import dailyquest.quest.dto.DetailResponse
+import dailyquest.quest.entity.DetailQuestState
+import dailyquest.quest.entity.DetailQuestType
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.event.QuestChangedEvent
+import dailyquest.quest.repository.QuestRepository
+import org.slf4j.LoggerFactory
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionTemplate
+
+/**
+ * 세부 퀘스트 카운트 변경을 퀘스트별 Redis 해시에 모아두고, 마지막 변경 후 일정 시간이 지나면 한 번의 쓰기로 DB에 반영한다.
+ * 퀘스트의 상태를 바꾸는 요청은 처리 전에 [drainInto]로 모아둔 카운트를 먼저 반영한다.
+ */
+@Component
+class QuestDetailCountBuffer(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val redisKeyProperties: RedisKeyProperties,
+    private val questRepository: QuestRepository,
+    private val transactionTemplate: TransactionTemplate,
+    private val bufferProperties: QuestDetailCountBufferProperties,
+    private val eventPublisher: ApplicationEventPublisher,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    fun isEnabled(): Boolean {
+        return bufferProperties.enabled
+    }
+
+    /**
+     * 버퍼의 카운트를 변경하고 변경된 세부 퀘스트를 반환한다.
+     * 버퍼가 없으면 [questLoader]로 조회한 퀘스트로 초기화하며, 퀘스트에 해당 세부 퀘스트가 없으면 null을 반환한다.
+     */
+    fun increment(userId: Long, request: DetailInteractRequest, questLoader: () -> Quest): DetailResponse? {
+        this.tryIncrement(userId, request)?.let { return it }
+
+        val quest = questLoader()
+        if (quest.detailQuests.none { it.id == request.detailQuestId }) return null
+        this.seed(userId, quest)
+        return this.tryIncrement(userId, request)
+    }
+
+    /**
+     * 모아둔 카운트를 현재 트랜잭션의 퀘스트에 반영하고, 커밋 이후 버퍼를 제거한다.
+     * 스냅샷 이후 들어온 변경이 있으면 버퍼를 남겨 다음 반영 주기에 처리한다.
+     */
+    fun drainInto(quest: Quest) {
+        if (!this.isEnabled()) return
+        val snapshot = this.snapshot(quest.id) ?: return
+        if (snapshot.userId == quest.userId) snapshot.applyTo(quest)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+                override fun afterCommit() {
+                    this@QuestDetailCountBuffer.release(quest.id, snapshot.version)
+                }
+            })
+            return
+        }
+        this.release(quest.id, snapshot.version)
+    }
+
+    @Scheduled(
+        fixedDelayString = "\${quest.detail-buffer.flush-interval-millis:500}",
+        initialDelayString = "\${quest.detail-buffer.flush-interval-millis:500}"
+    )
+    fun flushDue() {
+        if (!this.isEnabled()) return
+        try {
+            val dueScore = (System.currentTimeMillis() - bufferProperties.debounceMillis).toDouble()
+            val dueQuestIds = redisTemplate.opsForZSet()
+                .rangeByScore(this.dirtyKey(), 0.0, dueScore, 0, bufferProperties.flushBatchSize) ?: emptySet()
+            dueQuestIds.forEach { this.flush(it.toLong()) }
+        } catch (e: Exception) {
+            log.error("[QuestDetailCountBuffer] 세부 퀘스트 카운트 반영에 실패했습니다.", e)
+        }
+    }
+
+    private fun flush(questId: Long) {
+        try {
+            val snapshot = this.snapshot(questId)
+            if (snapshot == null) {
+                redisTemplate.opsForZSet().remove(this.dirtyKey(), questId.toString())
+                return
+            }
+            val isApplied = transactionTemplate.execute {
+                val quest = questRepository.findByIdAndUserId(questId, snapshot.userId)
+                if (quest == null || !quest.isProceed()) return@execute false
+                snapshot.applyTo(quest)
+                eventPublisher.publishEvent(QuestChangedEvent(quest.userId))
+                true
+            } ?: false
+            if (isApplied) this.release(questId, snapshot.version) else this.evict(questId)
+        } catch (e: Exception) {
+            log.error("[QuestDetailCountBuffer] 세부 퀘스트 카운트 반영에 실패했습니다. questId=[{}]", questId, e)
+        }
+    }
+
+    private fun tryIncrement(userId: Long, request: DetailInteractRequest): DetailResponse? {
+        val result = redisTemplate.execute(
+            INCREMENT,
+            listOf(this.bufferKey(request.questId), this.dirtyKey()),
+            userId.toString(),
+            request.detailQuestId.toString(),
+            request.count?.toString() ?: "",
+            System.currentTimeMillis().toString(),
+            bufferProperties.ttlMillis.toString(),
+            request.questId.toString(),
+        ) ?: return null
+        val (count, targetCount, canCompleteParent, title, type) = result.map { it.toString() }
+        return DetailResponse(
+            id = request.detailQuestId,
+            title = title,
+            targetCount = targetCount.toInt(),
+            count = count.toInt(),
+            type = DetailQuestType.valueOf(type),
+            state = if (count.toInt() < targetCount.toInt()) DetailQuestState.PROCEED else DetailQuestState.COMPLETE,
+            canCompleteParent = canCompleteParent == "1",
+        )
+    }
+
+    private fun seed(userId: Long, quest: Quest) {
+        val args = mutableListOf(bufferProperties.ttlMillis.toString(), userId.toString())
+        quest.detailQuests.forEach {
+            args.addAll(listOf(it.id.toString(), it.count.toString(), it.targetCount.toString(), it.title, it.type.name))
+        }
+        redisTemplate.execute(SEED_IF_ABSENT, listOf(this.bufferKey(quest.id)), *args.toTypedArray())
+    }
+
+    private fun snapshot(questId: Long): BufferSnapshot? {
+        val entries = redisTemplate.execute(GET_ALL, listOf(this.bufferKey(questId)))
+        if (entries.isNullOrEmpty()) return null
+        val fields = entries.map { it.toString() }.chunked(2).associate { it[0] to it[1] }
+        val userId = fields[USER_ID_FIELD]?.toLongOrNull() ?: return null
+        val counts = fields.filterKeys { it.startsWith(DETAIL_FIELD_PREFIX) }
+            .map { (field, value) -> field.removePrefix(DETAIL_FIELD_PREFIX).toLong() to value.substringBefore(':').toInt() }
+            .toMap()
+        return BufferSnapshot(userId, fields[VERSION_FIELD] ?: "0", counts)
+    }
+
+    private fun release(questId: Long, version: String) {
+        redisTemplate.execute(RELEASE_IF_UNCHANGED, listOf(this.bufferKey(questId), this.dirtyKey()), version, questId.toString())
+    }
+
+    private fun evict(questId: Long) {
+        redisTemplate.delete(this.bufferKey(questId))
+        redisTemplate.opsForZSet().remove(this.dirtyKey(), questId.toString())
+    }
+
+    private fun bufferKey(questId: Long): String {
+        return "${redisKeyProperties.questDetailBuffer}:$questId"
+    }
+
+    private fun dirtyKey(): String {
+        return "${redisKeyProperties.questDetailBuffer}:dirty"
+    }
+
+    private class BufferSnapshot(
+        val userId: Long,
+        val version: String,
+        private val counts: Map<Long, Int>,
+    ) {
+        fun applyTo(quest: Quest) {
+            counts.forEach { (detailQuestId, count) -> quest.updateDetailQuestCount(detailQuestId, count) }
+        }
+    }
+
+    companion object {
+        private const val USER_ID_FIELD = "userId"
+        private const val VERSION_FIELD = "version"
+        private const val DETAIL_FIELD_PREFIX = "d:"
+
+        /**
+         * 세부 퀘스트 필드는 d:{id} = count:targetCount, t:{id} = title, y:{id} = type 으로 저장한다.
+         */
+        private val SEED_IF_ABSENT = DefaultRedisScript(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'userId', ARGV[2], 'version', 0)
+            for i = 3, #ARGV, 5 do
+                redis.call('HSET', KEYS[1], 'd:' .. ARGV[i], ARGV[i + 1] .. ':' .. ARGV[i + 2], 't:' .. ARGV[i], ARGV[i + 3], 'y:' .. ARGV[i], ARGV[i + 4])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """.trimIndent(),
+            Long::class.javaObjectType
+        )
+
+        private val INCREMENT = DefaultRedisScript(
+            """
+            if redis.call('HGET', KEYS[1], 'userId') ~= ARGV[1] then
+                return false
+            end
+            local field = 'd:' .. ARGV[2]
+            local detail = redis.call('HGET', KEYS[1], field)
+            if not detail then
+                return false
+            end
+            local separator = string.find(detail, ':', 1, true)
+            local count = tonumber(string.sub(detail, 1, separator - 1))
+            local target = tonumber(string.sub(detail, separator + 1))
+            if ARGV[3] == '' then
+                if count >= target then count = 0 else count = count + 1 end
+            else
+                count = math.min(target, tonumber(ARGV[3]))
+            end
+            redis.call('HSET', KEYS[1], field, count .. ':' .. target)
+            redis.call('HINCRBY', KEYS[1], 'version', 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('ZADD', KEYS[2], ARGV[4], ARGV[6])
+            local canComplete = 1
+            local fields = redis.call('HGETALL', KEYS[1])
+            for i = 1, #fields, 2 do
+                if string.sub(fields[i], 1, 2) == 'd:' then
+                    local value = fields[i + 1]
+                    local s = string.find(value, ':', 1, true)
+                    if tonumber(string.sub(value, 1, s - 1)) < tonumber(string.sub(value, s + 1)) then
+                        canComplete = 0
+                    end
+                end
+            end
+            return { tostring(count), tostring(target), tostring(canComplete), redis.call('HGET', KEYS[1], 't:' .. ARGV[2]), redis.call('HGET', KEYS[1], 'y:' .. ARGV[2]) }
+            """.trimIndent(),
+            List::class.java
+        )
+
+        private val GET_ALL = DefaultRedisScript(
+            "return redis.call('HGETALL', KEYS[1])",
+            List::class.java
+        )
+
+        private val RELEASE_IF_UNCHANGED = DefaultRedisScript(
+            """
+            if redis.call('HGET', KEYS[1], 'version') == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('ZREM', KEYS[2], ARGV[2])
+                return 1
+            end
+            return 0
+            """.trimIndent(),
+            Long::class.javaObjectType
+        )
+    }
+}
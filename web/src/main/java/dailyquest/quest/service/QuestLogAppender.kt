@@ -0,0 +1,134 @@
+package dailyquest.quest.service
+
+import dailyquest.properties.QuestLogAppenderProperties
+import dailyquest.properties.QuestLogAppenderProperties.Mode.GROUP_COMMIT
+import dailyquest.quest.dto.QuestLogRequest
+import dailyquest.quest.entity.QuestLog
+import dailyquest.quest.repository.QuestLogRepository
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.DisposableBean
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * 퀘스트 로그를 기록한다.
+ * GROUP_COMMIT 모드에서는 퀘스트 변경을 커밋하기 직전에 여러 요청의 로그를 모아 한 트랜잭션에서 배치 INSERT 로 기록하며,
+ * 호출 스레드는 자신의 로그가 커밋될 때까지 커밋을 미루므로 퀘스트 변경보다 로그가 먼저 영속화된다.
+ * 그룹 커밋이 실패하거나 제한 시간 안에 끝나지 않으면 호출자 트랜잭션에서 직접 기록해 퀘스트 변경과 함께 커밋한다.
+ * 대기 중인 호출자는 이미 커넥션을 쥐고 있으므로, 두 번째 커넥션이 필요한 중첩 트랜잭션은 열지 않는다.
+ */
+@Component
+class QuestLogAppender(
+    private val questLogRepository: QuestLogRepository,
+    transactionManager: PlatformTransactionManager,
+    private val appenderProperties: QuestLogAppenderProperties,
+) : DisposableBean {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val flushTransaction = TransactionTemplate(transactionManager).apply {
+        propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    }
+    private val queue = LinkedBlockingQueue<PendingLog>()
+    private val flusher: Thread? = if (appenderProperties.mode == GROUP_COMMIT) {
+        Thread(this::flushContinuously, "quest-log-group-commit").apply {
+            isDaemon = true
+            start()
+        }
+    } else null
+
+    fun append(questLogRequest: QuestLogRequest) {
+        if (flusher == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            questLogRepository.save(questLogRequest.mapToEntity())
+            return
+        }
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun beforeCommit(readOnly: Boolean) {
+                this@QuestLogAppender.appendAndAwait(questLogRequest)
+            }
+        })
+    }
+
+    private fun appendAndAwait(questLogRequest: QuestLogRequest) {
+        val pendingLog = PendingLog(questLogRequest.mapToEntity())
+        queue.put(pendingLog)
+        val isFlushed = try {
+            pendingLog.future.get(appenderProperties.flushTimeoutMillis, TimeUnit.MILLISECONDS)
+            true
+        } catch (e: Exception) {
+            // 플러셔가 이미 가져간 로그는 그룹 커밋 결과를 기다린다
+            !pendingLog.claim() && runCatching { pendingLog.future.get() }.isSuccess
+        }
+        if (isFlushed) return
+        log.warn("[QuestLogAppender] 퀘스트 로그 그룹 커밋에 실패해 호출자 트랜잭션에서 기록합니다. userId=[{}], questId=[{}]",
+            pendingLog.questLog.userId, pendingLog.questLog.questId)
+        // 그룹 커밋에서 식별자가 할당됐을 수 있으므로 새 엔티티로 기록한다
+        questLogRepository.save(questLogRequest.mapToEntity())
+    }
+
+    private fun flushContinuously() {
+        while (!Thread.currentThread().isInterrupted) {
+            val batch = try {
+                this.collectBatch()
+            } catch (e: InterruptedException) {
+                return
+            }
+            this.flush(batch)
+        }
+    }
+
+    private fun collectBatch(): List<PendingLog> {
+        val batch = mutableListOf(queue.take())
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(appenderProperties.flushLatencyMillis)
+        while (batch.size < appenderProperties.flushSize) {
+            val remaining = deadline - System.nanoTime()
+            if (remaining <= 0) break
+            val next = try {
+                queue.poll(remaining, TimeUnit.NANOSECONDS)
+            } catch (e: InterruptedException) {
+                // 이미 꺼낸 로그는 기록한 뒤 종료한다
+                Thread.currentThread().interrupt()
+                null
+            } ?: break
+            batch.add(next)
+        }
+        return batch
+    }
+
+    private fun flush(batch: List<PendingLog>) {
+        val claimedLogs = batch.filter { it.claim() }
+        if (claimedLogs.isEmpty()) return
+        try {
+            flushTransaction.executeWithoutResult { questLogRepository.saveAllInBatch(claimedLogs.map { it.questLog }) }
+            claimedLogs.forEach { it.future.complete(Unit) }
+        } catch (e: Exception) {
+            log.error("[QuestLogAppender] 퀘스트 로그 그룹 커밋에 실패했습니다. size=[{}]", claimedLogs.size, e)
+            claimedLogs.forEach { it.future.completeExceptionally(e) }
+        }
+    }
+
+    override fun destroy() {
+        if (flusher == null) return
+        flusher.interrupt()
+        flusher.join(appenderProperties.flushTimeoutMillis)
+        val remainingLogs = mutableListOf<PendingLog>()
+        queue.drainTo(remainingLogs)
+        this.flush(remainingLogs)
+    }
+
+    class PendingLog(val questLog: QuestLog) {
+        val future = CompletableFuture<Unit>()
+        private val claimed = AtomicBoolean(false)
+
+        /**
+         * 플러셔와 호출 스레드 중 한 쪽만 로그를 기록하도록 소유권을 가져간다.
+         */
+        fun claim(): Boolean = claimed.compareAndSet(false, true)
+    }
+}
@@ -20,9 +20,15 @@ import java.util.function.Function;
 @Service
 public class QuestLogService {
     private final QuestLogRepository questLogRepository;
+    private final QuestLogAppender questLogAppender;
 
     public void saveQuestLog(QuestLogRequest questLogRequest) {
-        questLogRepository.save(questLogRequest.mapToEntity());
+        questLogAppender.append(questLogRequest);
+    }
+
+    public void saveQuestLogs(List<QuestLogRequest> questLogRequests) {
+        if (questLogRequests.isEmpty()) return;
+        questLogRepository.saveAllInBatch(questLogRequests.stream().map(QuestLogRequest::mapToEntity).toList());
     }
 
     public Map<LocalDate, QuestStatisticsResponse> getQuestStatistic(Long userId, QuestLogSearchCondition condition) {
@@ -2,6 +2,7 @@ package dailyquest.quest.service;
 
 import dailyquest.quest.dto.QuestResponse;
 import dailyquest.quest.dto.QuestSearchCondition;
+import dailyquest.quest.dto.QuestSearchCursor;
 import dailyquest.quest.entity.Quest;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.repository.QuestRepository;
@@ -9,7 +10,9 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,28 +28,45 @@ public class QuestQueryService {
     private final MessageSourceAccessor messageSourceAccessor;
 
     public List<QuestResponse> getCurrentQuests(Long userId, QuestState state) {
+        LocalDateTime prevReset = this.getPrevResetTime();
+        return questRepository.getCurrentQuestResponses(userId, state, prevReset, prevReset.plusDays(1L));
+    }
+
+    /**
+     * 상태와 관계없이 오늘의 퀘스트를 모두 조회한다.
+     */
+    public List<QuestResponse> getAllCurrentQuests(Long userId) {
+        LocalDateTime prevReset = this.getPrevResetTime();
+        return questRepository.getAllCurrentQuestResponses(userId, prevReset, prevReset.plusDays(1L));
+    }
+
+    private LocalDateTime getPrevResetTime() {
         LocalDateTime now = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
         LocalDateTime prevReset = now.withHour(6);
-        LocalDateTime nextReset = now.withHour(6);
-        if(now.isBefore(nextReset)) {
+        if(now.isBefore(prevReset)) {
             prevReset = prevReset.minusDays(1L);
-        } else {
-            nextReset = nextReset.plusDays(1L);
         }
-        return questRepository.getCurrentQuests(userId, state, prevReset, nextReset)
-                .stream()
-                .map(QuestResponse::createDto)
-                .toList();
+        return prevReset;
     }
 
     public Page<QuestResponse> getQuestsByCondition(Long userId, QuestSearchCondition condition, Pageable pageable) {
-        return questRepository.findQuestsByCondition(userId, condition, pageable)
-                .map(QuestResponse::createDto);
+        return questRepository.findQuestResponsesByCondition(userId, condition, pageable);
+    }
+
+    public Slice<QuestResponse> getQuestsByConditionAfter(Long userId, QuestSearchCondition condition, String after, Pageable pageable) {
+        QuestSearchCursor cursor = QuestSearchCursor.from(after);
+        if (cursor == null || condition.isKeywordSearch()) {
+            throw new IllegalArgumentException(messageSourceAccessor.getMessage("exception.badRequest"));
+        }
+        return questRepository.findQuestResponsesByConditionAfter(userId, condition, cursor.getLastId(), pageable);
     }
 
-    public Page<QuestResponse> getSearchedQuests(List<Long> searchedIds,Pageable pageable) {
-        return questRepository.getSearchedQuests(searchedIds, pageable)
-                .map(QuestResponse::createDto);
+    /**
+     * 검색 엔진이 반환한 순서와 전체 개수를 유지한 페이지를 만든다.
+     */
+    public Page<QuestResponse> getSearchedQuests(Long userId, Page<Long> searchedIds) {
+        List<QuestResponse> searchedQuests = questRepository.findQuestResponsesByIdsInOrder(userId, searchedIds.getContent());
+        return new PageImpl<>(searchedQuests, searchedIds.getPageable(), searchedIds.getTotalElements());
     }
 
     public QuestResponse getQuestInfo(Long questId, Long userId) {
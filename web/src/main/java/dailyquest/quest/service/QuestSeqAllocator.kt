@@ -0,0 +1,82 @@
+package dailyquest.quest.service
+
+import dailyquest.properties.QuestSeqProperties
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.quest.repository.QuestRepository
+import org.slf4j.LoggerFactory
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * 유저별 퀘스트 SEQ를 Redis INCR로 채번한다.
+ * 카운터가 없으면 DB의 MAX(SEQ)로 한 번만 초기화하고, 주기적으로 DB 값보다 뒤처진 카운터를 보정한다.
+ */
+@Component
+class QuestSeqAllocator(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val redisKeyProperties: RedisKeyProperties,
+    private val questRepository: QuestRepository,
+    private val questSeqProperties: QuestSeqProperties,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    fun next(userId: Long): Long {
+        val key = this.seqKey(userId)
+        redisTemplate.execute(INCREMENT_IF_EXISTS, listOf(key))?.let { return it }
+
+        // 동시에 초기화하더라도 SETNX로 한 번만 반영된다
+        val maxSeq = questRepository.getNextSeqOfUser(userId) - 1
+        redisTemplate.opsForValue().setIfAbsent(key, maxSeq.toString())
+        return redisTemplate.opsForValue().increment(key)!!
+    }
+
+    @Scheduled(
+        fixedDelayString = "\${quest.seq.reconcile-interval-millis:300000}",
+        initialDelayString = "\${quest.seq.reconcile-interval-millis:300000}"
+    )
+    fun reconcile() {
+        try {
+            val since = LocalDateTime.now().minusMinutes(questSeqProperties.reconcileWindowMinutes)
+            val maxSeqOfUsers = questRepository.getMaxSeqOfUsersCreatedSince(since)
+            val raisedUserIds = maxSeqOfUsers.filter { (userId, maxSeq) ->
+                redisTemplate.execute(RAISE_TO, listOf(this.seqKey(userId)), maxSeq.toString()) == 1L
+            }.keys
+            if (raisedUserIds.isNotEmpty()) {
+                log.warn("[QuestSeqAllocator] DB보다 뒤처진 퀘스트 SEQ 카운터를 보정했습니다. userIds=[{}]", raisedUserIds)
+            }
+        } catch (e: Exception) {
+            log.error("[QuestSeqAllocator] 퀘스트 SEQ 카운터 보정에 실패했습니다.", e)
+        }
+    }
+
+    private fun seqKey(userId: Long): String {
+        return "${redisKeyProperties.questSeq}:$userId"
+    }
+
+    companion object {
+        private val INCREMENT_IF_EXISTS = DefaultRedisScript(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('INCR', KEYS[1])
+            end
+            return false
+            """.trimIndent(),
+            Long::class.javaObjectType
+        )
+
+        private val RAISE_TO = DefaultRedisScript(
+            """
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if current and current < tonumber(ARGV[1]) then
+                redis.call('SET', KEYS[1], ARGV[1])
+                return 1
+            end
+            return 0
+            """.trimIndent(),
+            Long::class.javaObjectType
+        )
+    }
+}
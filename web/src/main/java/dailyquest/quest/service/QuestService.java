@@ -1,11 +1,14 @@
 package dailyquest.quest.service;
 
+import dailyquest.quest.cache.CurrentQuestsCache;
 import dailyquest.quest.dto.*;
 import dailyquest.quest.entity.QuestState;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -17,17 +20,23 @@ public class QuestService {
 
     private final QuestQueryService questQueryService;
     private final QuestCommandService questCommandService;
+    private final CurrentQuestsCache currentQuestsCache;
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<QuestResponse> getCurrentQuests(Long userId, QuestState state) {
-        return questQueryService.getCurrentQuests(userId, state);
+        return currentQuestsCache.get(userId, state, () -> questQueryService.getAllCurrentQuests(userId));
     }
 
     public Page<QuestResponse> searchQuest(Long userId, QuestSearchCondition searchCondition, Pageable pageable) {
         return questQueryService.getQuestsByCondition(userId, searchCondition, pageable);
     }
 
-    public Page<QuestResponse> searchQuest(List<Long> searchedIds, Pageable pageable) {
-        return questQueryService.getSearchedQuests(searchedIds, pageable);
+    public Slice<QuestResponse> searchQuest(Long userId, QuestSearchCondition searchCondition, String after, Pageable pageable) {
+        return questQueryService.getQuestsByConditionAfter(userId, searchCondition, after, pageable);
+    }
+
+    public Page<QuestResponse> searchQuest(Long userId, Page<Long> searchedIds) {
+        return questQueryService.getSearchedQuests(userId, searchedIds);
     }
 
     public QuestResponse getQuestInfo(Long questId, Long userId) {
@@ -63,4 +72,9 @@ public class QuestService {
     public DetailResponse updateDetailQuestCount(Long userId, DetailInteractRequest request) {
         return questCommandService.updateDetailQuestCount(userId, request);
     }
+
+    @Transactional
+    public List<QuestTransitionResponse> transitQuestsInBulk(Long userId, List<QuestTransitionRequest> requests) {
+        return questCommandService.transitQuestsInBulk(userId, requests);
+    }
 }
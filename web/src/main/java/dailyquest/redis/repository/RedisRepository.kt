@@ -1,5 +1,6 @@
 package dailyquest.redis.repository
 
+import dailyquest.admin.dto.SystemSettingsSnapshot
 import dailyquest.exception.RedisDataNotFoundException
 import dailyquest.properties.RedisKeyProperties
 import org.springframework.context.support.MessageSourceAccessor
@@ -17,17 +18,25 @@ class RedisRepository(
         return redisTemplate.opsForHash<Int, Long>().entries(redisKeyProperties.expTable)
     }
 
-    fun getQuestClearExp(): Long {
-        return this.getSettingValue(redisKeyProperties.questClearExp)
+    fun getExpTableVersion(): Long {
+        return redisTemplate.opsForValue().get(redisKeyProperties.expTableVersion)?.toLong() ?: 0
     }
 
-    fun getQuestClearGold(): Long {
-        return this.getSettingValue(redisKeyProperties.questClearExp)
+    fun getSystemSettings(): SystemSettingsSnapshot {
+        val keys = listOf(redisKeyProperties.questClearExp, redisKeyProperties.questClearGold, redisKeyProperties.maxRewardCount)
+        val values = redisTemplate.opsForHash<String, Long>().multiGet(redisKeyProperties.settings, keys)
+        if (values.size != keys.size || values.any { it == null }) {
+            throw RedisDataNotFoundException(messageSourceAccessor.getMessage("exception.server.error"))
+        }
+        return SystemSettingsSnapshot(
+            questClearExp = values[0],
+            questClearGold = values[1],
+            maxRewardCount = values[2]
+        )
     }
 
-    private fun getSettingValue(key: String): Long {
-        val boundHashOps = redisTemplate.boundHashOps<String, Long>(redisKeyProperties.settings)
-        return boundHashOps.get(key) ?: throw RedisDataNotFoundException(messageSourceAccessor.getMessage("exception.server.error"))
+    fun getSystemSettingsVersion(): Long {
+        return redisTemplate.opsForValue().get(redisKeyProperties.settingsVersion)?.toLong() ?: 0
     }
 
     fun getRandomNicknamePrefix(): String {
@@ -38,10 +47,31 @@ class RedisRepository(
         return this.getRandomSetMember(redisKeyProperties.nicknamePostfix)
     }
 
+    fun getRandomNicknamePrefixes(count: Long): List<String> {
+        return redisTemplate.opsForSet().randomMembers(redisKeyProperties.nicknamePrefix, count) ?: emptyList()
+    }
+
+    fun getRandomNicknamePostfixes(count: Long): List<String> {
+        return redisTemplate.opsForSet().randomMembers(redisKeyProperties.nicknamePostfix, count) ?: emptyList()
+    }
+
     private fun getRandomSetMember(setKey: String): String {
         return redisTemplate.opsForSet().randomMember(setKey)
     }
 
+    fun popNicknameFromPool(): String? {
+        return redisTemplate.opsForSet().pop(redisKeyProperties.nicknamePool)
+    }
+
+    fun addNicknamesToPool(nicknames: Collection<String>): Long {
+        if (nicknames.isEmpty()) return 0
+        return redisTemplate.opsForSet().add(redisKeyProperties.nicknamePool, *nicknames.toTypedArray()) ?: 0
+    }
+
+    fun getNicknamePoolSize(): Long {
+        return redisTemplate.opsForSet().size(redisKeyProperties.nicknamePool) ?: 0
+    }
+
 
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package dailyquest.redis.service
 
+import dailyquest.admin.dto.SystemSettingsSnapshot
 import dailyquest.redis.repository.RedisRepository
 import org.springframework.stereotype.Service
 import java.util.*
@@ -13,12 +14,16 @@ class RedisService(
         return redisTemplate.getExpTable()
     }
 
-    fun getQuestClearExp(): Long {
-        return redisTemplate.getQuestClearExp()
+    fun getExpTableVersion(): Long {
+        return redisTemplate.getExpTableVersion()
     }
 
-    fun getQuestClearGold(): Long {
-        return redisTemplate.getQuestClearGold()
+    fun getSystemSettings(): SystemSettingsSnapshot {
+        return redisTemplate.getSystemSettings()
+    }
+
+    fun getSystemSettingsVersion(): Long {
+        return redisTemplate.getSystemSettingsVersion()
     }
 
     fun createRandomNickname(): String {
@@ -26,4 +31,23 @@ class RedisService(
         val nicknamePostfix = redisTemplate.getRandomNicknamePostfix()
         return nicknamePrefix + nicknamePostfix + Random().nextInt(1000000000)
     }
+
+    fun createRandomNicknames(count: Int): List<String> {
+        val nicknamePrefixes = redisTemplate.getRandomNicknamePrefixes(count.toLong())
+        val nicknamePostfixes = redisTemplate.getRandomNicknamePostfixes(count.toLong())
+        val random = Random()
+        return nicknamePrefixes.zip(nicknamePostfixes) { prefix, postfix -> prefix + postfix + random.nextInt(1000000000) }
+    }
+
+    fun popNicknameFromPool(): String? {
+        return redisTemplate.popNicknameFromPool()
+    }
+
+    fun addNicknamesToPool(nicknames: Collection<String>): Long {
+        return redisTemplate.addNicknamesToPool(nicknames)
+    }
+
+    fun getNicknamePoolSize(): Long {
+        return redisTemplate.getNicknamePoolSize()
+    }
 }
\ No newline at end of file
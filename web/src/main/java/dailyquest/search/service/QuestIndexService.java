@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dailyquest.quest.dto.QuestResponse;
 import dailyquest.quest.dto.QuestSearchCondition;
+import dailyquest.quest.dto.QuestSearchResult;
 import dailyquest.search.document.QuestDocument;
 import dailyquest.sqs.dto.ElasticSyncMessage;
 import dailyquest.sqs.dto.ElasticSyncRequestType;
@@ -14,8 +15,13 @@ import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MultiMatchQueryBuilder;
 import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchOperations;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -23,6 +29,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -67,7 +74,34 @@ public class QuestIndexService {
         }
     }
 
-    public List<Long> searchDocuments(QuestSearchCondition searchCondition, Long userId, Pageable pageable) {
+    public Page<Long> searchDocuments(QuestSearchCondition searchCondition, Long userId, Pageable pageable) {
+        NativeSearchQuery nativeSearchQuery = this.createSearchQuery(searchCondition, userId, pageable);
+
+        SearchHits<QuestDocument> searchHits = operations.search(nativeSearchQuery, QuestDocument.class);
+        List<Long> searchedIds = new ArrayList<>();
+        for (SearchHit<QuestDocument> searchHit : searchHits.getSearchHits()) {
+            searchedIds.add(Long.parseLong(Objects.requireNonNull(searchHit.getId())));
+        }
+        return new PageImpl<>(searchedIds, pageable, searchHits.getTotalHits());
+    }
+
+    /**
+     * DB를 조회하지 않고 검색 결과 문서의 _source 로 목록 응답을 만든다. _source 는 목록에 필요한 필드만 가져온다.
+     */
+    public Page<QuestSearchResult> searchDocumentSources(QuestSearchCondition searchCondition, Long userId, Pageable pageable) {
+        NativeSearchQuery nativeSearchQuery = this.createSearchQuery(searchCondition, userId, pageable);
+        nativeSearchQuery.addSourceFilter(new FetchSourceFilter(QuestSearchResult.SOURCE_FIELDS, null));
+
+        SearchHits<QuestDocument> searchHits = operations.search(nativeSearchQuery, QuestDocument.class);
+        List<QuestSearchResult> searchResults = new ArrayList<>();
+        for (SearchHit<QuestDocument> searchHit : searchHits.getSearchHits()) {
+            long questId = Long.parseLong(Objects.requireNonNull(searchHit.getId()));
+            searchResults.add(QuestSearchResult.fromDocument(questId, searchHit.getContent()));
+        }
+        return new PageImpl<>(searchResults, pageable, searchHits.getTotalHits());
+    }
+
+    private NativeSearchQuery createSearchQuery(QuestSearchCondition searchCondition, Long userId, Pageable pageable) {
         BoolQueryBuilder boolQueryBuilder = new BoolQueryBuilder();
         boolQueryBuilder.must(multiMatchQuery(searchCondition.keyword(), searchCondition.keywordType().fieldNames));
         boolQueryBuilder.filter(termQuery("userId", userId));
@@ -81,11 +115,7 @@ public class QuestIndexService {
 
         NativeSearchQuery nativeSearchQuery = new NativeSearchQuery(boolQueryBuilder);
         nativeSearchQuery.setPageable(pageable);
-
-        return operations.search(nativeSearchQuery, QuestDocument.class)
-                .stream()
-                .map(h -> Long.parseLong(Objects.requireNonNull(h.getId())))
-                .toList();
+        return nativeSearchQuery;
     }
 
     private RangeQueryBuilder getCreateDateRangeQueryIfNotNull(QuestSearchCondition searchCondition) {
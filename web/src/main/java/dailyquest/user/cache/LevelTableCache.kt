@@ -0,0 +1,74 @@
+package dailyquest.user.cache
+
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.redis.service.RedisService
+import dailyquest.user.dto.LevelTable
+import org.slf4j.LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 노드마다 한 번만 로드해 사용하는 레벨 테이블.
+ * 관리자가 새 버전을 발행하면 채널을 통해 모든 노드가 다시 로드하고 원자적으로 교체한다.
+ * 레벨 정보가 담긴 유저 정보 캐시도 함께 비운다.
+ */
+@Component
+class LevelTableCache(
+    private val redisService: RedisService,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val redisKeyProperties: RedisKeyProperties,
+    private val userPrincipalCache: UserPrincipalCache,
+) : MessageListener {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val levelTable = AtomicReference<LevelTable?>()
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun subscribe() {
+        try {
+            listenerContainer.addMessageListener(this, ChannelTopic(redisKeyProperties.expTableChannel))
+        } catch (e: Exception) {
+            log.error("[LevelTableCache] 경험치 테이블 채널 구독에 실패했습니다.", e)
+        }
+    }
+
+    fun get(): LevelTable {
+        return levelTable.get() ?: this.reload()
+    }
+
+    fun reload(): LevelTable {
+        // 버전을 먼저 읽어야 로드한 테이블이 버전보다 오래된 경우가 생기지 않는다
+        val version = redisService.getExpTableVersion()
+        val loaded = LevelTable.of(redisService.getExpTable(), version)
+        return levelTable.accumulateAndGet(loaded) { current, new ->
+            if (current != null && current.version > new.version) current else new
+        }!!
+    }
+
+    fun publish(version: Long) {
+        this.refreshIfNewer(version)
+        try {
+            redisTemplate.convertAndSend(redisKeyProperties.expTableChannel, version.toString())
+        } catch (e: Exception) {
+            log.error("[LevelTableCache] 경험치 테이블 변경 메시지 발행에 실패했습니다. version=[{}]", version, e)
+        }
+    }
+
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        String(message.body).toLongOrNull()?.let { this.refreshIfNewer(it) }
+    }
+
+    private fun refreshIfNewer(version: Long) {
+        val current = levelTable.get()
+        if (current != null && current.version >= version) return
+        this.reload()
+        userPrincipalCache.evictAll()
+    }
+}
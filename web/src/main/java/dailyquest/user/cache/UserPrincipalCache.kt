@@ -0,0 +1,46 @@
+package dailyquest.user.cache
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import dailyquest.properties.UserPrincipalCacheProperties
+import dailyquest.user.dto.UserPrincipal
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 인증 필터에서 매 요청마다 발생하는 유저 조회와 경험치 테이블 조회를 피하기 위한 노드 로컬 캐시.
+ * 유저 정보가 변경되면 [UserPrincipalInvalidationListener]를 통해 모든 노드에서 제거된다.
+ */
+@Component
+class UserPrincipalCache(
+    cacheProperties: UserPrincipalCacheProperties,
+    meterRegistry: MeterRegistry,
+) {
+    private val cache: Cache<Long, UserPrincipal> = Caffeine.newBuilder()
+        .maximumSize(cacheProperties.maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(cacheProperties.ttlSeconds))
+        .recordStats()
+        .build()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME)
+    }
+
+    fun get(userId: Long, loader: (Long) -> UserPrincipal): UserPrincipal {
+        return cache.get(userId) { loader(it) }
+    }
+
+    fun evict(userId: Long) {
+        cache.invalidate(userId)
+    }
+
+    fun evictAll() {
+        cache.invalidateAll()
+    }
+
+    companion object {
+        const val CACHE_NAME = "userPrincipal"
+    }
+}
@@ -0,0 +1,69 @@
+package dailyquest.user.cache
+
+import dailyquest.properties.UserPrincipalCacheProperties
+import dailyquest.user.event.UserChangedEvent
+import org.slf4j.LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+
+/**
+ * 유저 정보 변경 시 로컬 캐시를 비우고, 레디스 채널로 다른 노드에 무효화 메시지를 전파한다.
+ * 메시지 본문은 유저 ID 혹은 전체 무효화를 뜻하는 [EVICT_ALL] 이다.
+ */
+@Component
+class UserPrincipalInvalidationListener(
+    private val userPrincipalCache: UserPrincipalCache,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val cacheProperties: UserPrincipalCacheProperties,
+) : MessageListener {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun subscribe() {
+        try {
+            listenerContainer.addMessageListener(this, ChannelTopic(cacheProperties.invalidationChannel))
+        } catch (e: Exception) {
+            log.error("[UserPrincipalCache] 무효화 채널 구독에 실패했습니다.", e)
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    fun onUserChanged(event: UserChangedEvent) {
+        userPrincipalCache.evict(event.userId)
+        this.publish(event.userId.toString())
+    }
+
+    fun invalidateAll() {
+        userPrincipalCache.evictAll()
+        this.publish(EVICT_ALL)
+    }
+
+    private fun publish(message: String) {
+        try {
+            redisTemplate.convertAndSend(cacheProperties.invalidationChannel, message)
+        } catch (e: Exception) {
+            log.error("[UserPrincipalCache] 무효화 메시지 발행에 실패했습니다. message=[{}]", message, e)
+        }
+    }
+
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        val body = String(message.body)
+        if (body == EVICT_ALL) {
+            userPrincipalCache.evictAll()
+            return
+        }
+        body.toLongOrNull()?.let { userPrincipalCache.evict(it) }
+    }
+
+    companion object {
+        const val EVICT_ALL = "*"
+    }
+}
@@ -0,0 +1,56 @@
+package dailyquest.user.nickname
+
+import dailyquest.properties.NicknamePoolProperties
+import dailyquest.redis.service.RedisService
+import dailyquest.user.service.UserService
+import org.slf4j.LoggerFactory
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+
+/**
+ * 사용 중이지 않음을 미리 확인한 랜덤 닉네임 풀.
+ * 닉네임은 SPOP으로 꺼내므로 동시에 가입하더라도 같은 닉네임을 받지 않는다.
+ * 확인 이후 선점된 닉네임은 unique_nickname 제약 조건으로 걸러진다.
+ */
+@Component
+class NicknamePool(
+    private val redisService: RedisService,
+    private val userService: UserService,
+    private val nicknamePoolProperties: NicknamePoolProperties,
+) {
+    private val log = LoggerFactory.getLogger(javaClass)
+
+    fun pop(): String {
+        val pooledNickname = try {
+            redisService.popNicknameFromPool()
+        } catch (e: Exception) {
+            log.error("[NicknamePool] 닉네임 풀 조회에 실패했습니다.", e)
+            null
+        }
+        return pooledNickname ?: this.createAvailableNickname()
+    }
+
+    private fun createAvailableNickname(): String {
+        var randomNickname = redisService.createRandomNickname()
+        while (userService.isDuplicatedNickname(randomNickname)) {
+            randomNickname = redisService.createRandomNickname()
+        }
+        return randomNickname
+    }
+
+    @Scheduled(
+        fixedDelayString = "\${nickname.pool.refill-interval-millis:10000}",
+        initialDelayString = "\${nickname.pool.refill-interval-millis:10000}"
+    )
+    fun refill() {
+        try {
+            val lackingSize = nicknamePoolProperties.targetSize - redisService.getNicknamePoolSize()
+            if (lackingSize <= 0) return
+            val candidates = redisService.createRandomNicknames(minOf(lackingSize, nicknamePoolProperties.refillBatchSize.toLong()).toInt())
+            val availableNicknames = userService.filterAvailableNicknames(candidates.distinct())
+            redisService.addNicknamesToPool(availableNicknames)
+        } catch (e: Exception) {
+            log.error("[NicknamePool] 닉네임 풀 채우기에 실패했습니다.", e)
+        }
+    }
+}
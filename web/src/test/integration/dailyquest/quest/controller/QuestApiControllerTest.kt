@@ -4,28 +4,37 @@ import com.fasterxml.jackson.core.type.TypeReference
 import com.fasterxml.jackson.module.kotlin.readValue
 import dailyquest.achievement.entity.Achievement
 import dailyquest.achievement.entity.AchievementType
+import dailyquest.achievement.index.AchievementThresholdIndex
 import dailyquest.achievement.repository.AchievementAchieveLogRepository
 import dailyquest.achievement.repository.AchievementRepository
 import dailyquest.common.ResponseData
 import dailyquest.common.RestPage
 import dailyquest.context.IntegrationTestContextWithRedisAndElasticsearch
 import dailyquest.properties.RedisKeyProperties
+import dailyquest.quest.dto.QuestBulkTransitionRequest
+import dailyquest.quest.dto.QuestCursorPage
 import dailyquest.quest.dto.QuestResponse
 import dailyquest.quest.dto.QuestSearchKeywordType
+import dailyquest.quest.dto.QuestTransitionAction
+import dailyquest.quest.dto.QuestTransitionRequest
+import dailyquest.quest.dto.QuestTransitionResponse
 import dailyquest.quest.dto.WebDetailQuestRequest
 import dailyquest.quest.dto.WebQuestRequest
 import dailyquest.quest.entity.*
 import dailyquest.quest.repository.QuestLogRepository
 import dailyquest.quest.repository.QuestRepository
+import dailyquest.quest.service.QuestCompletionOutboxRelay
 import dailyquest.search.repository.QuestIndexRepository
 import dailyquest.user.entity.ProviderType
 import dailyquest.user.entity.User
 import dailyquest.user.record.entity.UserRecord
+import dailyquest.user.service.UserService
 import jakarta.persistence.EntityManager
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.runBlocking
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.tuple
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
@@ -59,6 +68,9 @@ class QuestApiControllerTest @Autowired constructor(
     var questIndexRepository: QuestIndexRepository,
     private val achievementRepository: AchievementRepository,
     private val achievementAchieveLogRepository: AchievementAchieveLogRepository,
+    private val questCompletionOutboxRelay: QuestCompletionOutboxRelay,
+    private val achievementThresholdIndex: AchievementThresholdIndex,
+    private val userService: UserService,
     val messageSourceAccessor: MessageSourceAccessor
 ): IntegrationTestContextWithRedisAndElasticsearch() {
 
@@ -401,7 +413,7 @@ class QuestApiControllerTest @Autowired constructor(
 
         private fun insertQuestWithCreatedTime(createdTime: LocalDateTime) {
             val insertQuery = entityManager
-                .createNativeQuery("insert into quest (quest_id, created_date, last_modified_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
+                .createNativeQuery("insert into quest (quest_id, created_date, last_modified_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
                 .setParameter(3, user.id)
             insertQuery.setParameter(1, createdTime).setParameter(2, createdTime).executeUpdate()
         }
@@ -634,6 +646,58 @@ class QuestApiControllerTest @Autowired constructor(
             assertThat(list).allMatch { mustContainIds.contains(it.id) }
         }
 
+        @DisplayName("after 파라미터로 조회하면 다음 커서를 따라 모든 퀘스트가 중복 없이 ID 역순으로 조회된다")
+        @Test
+        fun `after 파라미터로 조회하면 다음 커서를 따라 모든 퀘스트가 중복 없이 ID 역순으로 조회된다`() {
+            //given
+            val savedIds = (1..pageSize * 2 + 1).map {
+                questRepository.save(Quest("제목", "설명", user.id, it.toLong(), QuestState.PROCEED, QuestType.MAIN)).id
+            }
+
+            //when
+            val fetchedIds = mutableListOf<Long>()
+            var after = ""
+            var numOfRequests = 0
+            do {
+                val body = mvc
+                    .perform(
+                        get(url)
+                            .useUserConfiguration()
+                            .queryParam("after", after)
+                    )
+                    .andExpect(status().isOk)
+                    .andReturn()
+                    .response
+                    .contentAsString
+                val page = om.readValue(body, object: TypeReference<ResponseData<QuestCursorPage>>(){}).data!!
+                fetchedIds.addAll(page.content.map { it.id })
+                after = page.after ?: ""
+                numOfRequests++
+            } while (page.hasNext)
+
+            //then
+            assertThat(numOfRequests).isEqualTo(3)
+            assertThat(fetchedIds).containsExactlyElementsOf(savedIds.sortedDescending())
+        }
+
+        @DisplayName("after 파라미터가 잘못된 토큰이면 BAD_REQUEST가 반환된다")
+        @Test
+        fun `after 파라미터가 잘못된 토큰이면 BAD_REQUEST가 반환된다`() {
+            //given
+            val invalidToken = "invalid-token"
+
+            //when
+            val request = mvc
+                .perform(
+                    get(url)
+                        .useUserConfiguration()
+                        .queryParam("after", invalidToken)
+                )
+
+            //then
+            request.andExpect(status().isBadRequest)
+        }
+
     }
 
     @DisplayName("퀘스트 조회 시")
@@ -1035,6 +1099,7 @@ class QuestApiControllerTest @Autowired constructor(
             //given
             val targetAchievement = Achievement("t", "d", AchievementType.QUEST_REGISTRATION, 1)
             achievementRepository.save(targetAchievement)
+            achievementThresholdIndex.rebuild()
             val questRequest = WebQuestRequest("t", "d", mutableListOf(WebDetailQuestRequest("dt", DetailQuestType.COUNT, 1)))
             val requestBody = om.writeValueAsString(questRequest)
 
@@ -1055,6 +1120,7 @@ class QuestApiControllerTest @Autowired constructor(
             //given
             val targetAchievement = Achievement("t", "d", AchievementType.QUEST_CONTINUOUS_REGISTRATION, 1)
             achievementRepository.save(targetAchievement)
+            achievementThresholdIndex.rebuild()
             val questRequest = WebQuestRequest("t", "d", mutableListOf(WebDetailQuestRequest("dt", DetailQuestType.COUNT, 1)))
             val requestBody = om.writeValueAsString(questRequest)
 
@@ -1694,8 +1760,9 @@ class QuestApiControllerTest @Autowired constructor(
             val questClearExp = ops[redisKeyProperties.questClearExp]!!
             val questClearGold = ops[redisKeyProperties.questClearGold]!!
 
-            val beforeExp = user.exp
-            val beforeGold = user.gold
+            val beforeUser = userService.getUserById(user.id)
+            val beforeExp = beforeUser.exp
+            val beforeGold = beforeUser.gold
 
             //when
             val request = mvc
@@ -1711,8 +1778,9 @@ class QuestApiControllerTest @Autowired constructor(
                 .andExpect(status().isOk)
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
 
-            assertThat(user.exp).isEqualTo(beforeExp + questClearExp*2)
-            assertThat(user.gold).isEqualTo(beforeGold + questClearGold*2)
+            val afterUser = userService.getUserById(user.id)
+            assertThat(afterUser.exp).isEqualTo(beforeExp + questClearExp*2)
+            assertThat(afterUser.gold).isEqualTo(beforeGold + questClearGold*2)
         }
 
         @DisplayName("서브 퀘스트 완료 시 1배의 경험치와 골드를 획득한다")
@@ -1726,8 +1794,9 @@ class QuestApiControllerTest @Autowired constructor(
             val questClearExp = ops[redisKeyProperties.questClearExp]!!
             val questClearGold = ops[redisKeyProperties.questClearGold]!!
 
-            val beforeExp = user.exp
-            val beforeGold = user.gold
+            val beforeUser = userService.getUserById(user.id)
+            val beforeExp = beforeUser.exp
+            val beforeGold = beforeUser.gold
 
             //when
             val request = mvc
@@ -1743,8 +1812,9 @@ class QuestApiControllerTest @Autowired constructor(
                 .andExpect(status().isOk)
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
 
-            assertThat(user.exp).isEqualTo(beforeExp + questClearExp)
-            assertThat(user.gold).isEqualTo(beforeGold + questClearGold)
+            val afterUser = userService.getUserById(user.id)
+            assertThat(afterUser.exp).isEqualTo(beforeExp + questClearExp)
+            assertThat(afterUser.gold).isEqualTo(beforeGold + questClearGold)
         }
 
         @DisplayName("로그 테이블에 데이터가 등록된다")
@@ -1779,11 +1849,13 @@ class QuestApiControllerTest @Autowired constructor(
             val url = urlFormat.format(savedQuest.id)
             val targetAchievement = Achievement("t", "d", AchievementType.GOLD_EARN, 1)
             achievementRepository.save(targetAchievement)
+            achievementThresholdIndex.rebuild()
 
             //when
             mvc.patch(url) {
                 useUserConfiguration()
             }.andExpect { status { isOk() } }
+            questCompletionOutboxRelay.relayBatch()
 
             //then
             val achieveLogs = achievementAchieveLogRepository.findAll()
@@ -1798,11 +1870,13 @@ class QuestApiControllerTest @Autowired constructor(
             val url = urlFormat.format(savedQuest.id)
             val targetAchievement = Achievement("t", "d", AchievementType.QUEST_COMPLETION, 1)
             achievementRepository.save(targetAchievement)
+            achievementThresholdIndex.rebuild()
 
             //when
             mvc.patch(url) {
                 useUserConfiguration()
             }.andExpect { status { isOk() } }
+            questCompletionOutboxRelay.relayBatch()
 
             //then
             val achieveLogs = achievementAchieveLogRepository.findAll()
@@ -1817,11 +1891,13 @@ class QuestApiControllerTest @Autowired constructor(
             val url = urlFormat.format(savedQuest.id)
             val targetAchievement = Achievement("t", "d", AchievementType.QUEST_CONTINUOUS_COMPLETION, 1)
             achievementRepository.save(targetAchievement)
+            achievementThresholdIndex.rebuild()
 
             //when
             mvc.patch(url) {
                 useUserConfiguration()
             }.andExpect { status { isOk() } }
+            questCompletionOutboxRelay.relayBatch()
 
             //then
             val achieveLogs = achievementAchieveLogRepository.findAll()
@@ -1829,6 +1905,111 @@ class QuestApiControllerTest @Autowired constructor(
         }
     }
 
+    @DisplayName("퀘스트 일괄 상태 변경 시")
+    @Nested
+    inner class QuestBulkTransitionTest {
+        private val url = "${SERVER_ADDR}$port${uriPrefix}/bulk"
+
+        @DisplayName("항목별 결과를 반환하고, 성공한 항목의 로그와 보상이 한 번에 반영된다")
+        @Test
+        fun `항목별 결과를 반환하고, 성공한 항목의 로그와 보상이 한 번에 반영된다`() {
+            //given
+            val completeTarget = questRepository.save(Quest("title", "desc", user.id, 1L, QuestState.PROCEED, QuestType.SUB))
+            val discardTarget = questRepository.save(Quest("title", "desc", user.id, 2L, QuestState.PROCEED, QuestType.SUB))
+            val deletedQuest = questRepository.save(Quest("title", "desc", user.id, 3L, QuestState.DELETE, QuestType.SUB))
+            val requestBody = om.writeValueAsString(QuestBulkTransitionRequest(listOf(
+                QuestTransitionRequest(completeTarget.id, QuestTransitionAction.COMPLETE),
+                QuestTransitionRequest(discardTarget.id, QuestTransitionAction.DISCARD),
+                QuestTransitionRequest(deletedQuest.id, QuestTransitionAction.COMPLETE),
+            )))
+
+            val ops = redisTemplate.boundHashOps<String, Long>(redisKeyProperties.settings)
+            val questClearExp = ops[redisKeyProperties.questClearExp]!!
+            val questClearGold = ops[redisKeyProperties.questClearGold]!!
+            val beforeUser = userService.getUserById(user.id)
+
+            //when
+            val request = mvc
+                .perform(
+                    patch(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .cookie(userToken)
+                        .content(requestBody)
+                )
+
+            //then
+            val body = request
+                .andExpect(status().isOk)
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .response
+                .contentAsString
+
+            val results = om.readValue(body, object: TypeReference<ResponseData<List<QuestTransitionResponse>>>(){}).data!!
+            assertThat(results).extracting("questId", "success", "state").containsExactly(
+                tuple(completeTarget.id, true, QuestState.COMPLETE),
+                tuple(discardTarget.id, true, QuestState.DISCARD),
+                tuple(deletedQuest.id, false, QuestState.DELETE),
+            )
+            assertThat(results[2].message).isEqualTo(messageSourceAccessor.getMessage("quest.error.deleted"))
+
+            val allQuestLog = questLogRepository.findAll()
+            assertThat(allQuestLog).anyMatch { it.questId == completeTarget.id && it.state == QuestState.COMPLETE }
+            assertThat(allQuestLog).anyMatch { it.questId == discardTarget.id && it.state == QuestState.DISCARD }
+            assertThat(allQuestLog).noneMatch { it.questId == deletedQuest.id }
+
+            val afterUser = userService.getUserById(user.id)
+            assertThat(afterUser.exp).isEqualTo(beforeUser.exp + questClearExp)
+            assertThat(afterUser.gold).isEqualTo(beforeUser.gold + questClearGold)
+        }
+
+        @DisplayName("변경할 퀘스트가 없으면 BAD_REQUEST가 반환된다")
+        @Test
+        fun `변경할 퀘스트가 없으면 BAD_REQUEST가 반환된다`() {
+            //given
+            val requestBody = om.writeValueAsString(QuestBulkTransitionRequest(emptyList()))
+
+            //when
+            val request = mvc
+                .perform(
+                    patch(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .cookie(userToken)
+                        .content(requestBody)
+                )
+
+            //then
+            request.andExpect(status().isBadRequest)
+        }
+
+        @DisplayName("같은 퀘스트가 여러 번 포함되면 BAD_REQUEST가 반환되고 퀘스트는 변경되지 않는다")
+        @Test
+        fun `같은 퀘스트가 여러 번 포함되면 BAD_REQUEST가 반환되고 퀘스트는 변경되지 않는다`() {
+            //given
+            val quest = questRepository.save(Quest("title", "desc", user.id, 1L, QuestState.PROCEED, QuestType.SUB))
+            val requestBody = om.writeValueAsString(QuestBulkTransitionRequest(listOf(
+                QuestTransitionRequest(quest.id, QuestTransitionAction.COMPLETE),
+                QuestTransitionRequest(quest.id, QuestTransitionAction.DELETE),
+            )))
+
+            //when
+            val request = mvc
+                .perform(
+                    patch(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .cookie(userToken)
+                        .content(requestBody)
+                )
+
+            //then
+            request.andExpect(status().isBadRequest)
+            assertThat(questRepository.findById(quest.id).get().state).isEqualTo(QuestState.PROCEED)
+        }
+    }
+
     @DisplayName("퀘스트 포기 시")
     @Nested
     inner class QuestDiscardTest {
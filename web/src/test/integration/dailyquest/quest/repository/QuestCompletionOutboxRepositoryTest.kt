@@ -0,0 +1,38 @@
+package dailyquest.quest.repository
+
+import dailyquest.context.IntegrationTestContext
+import dailyquest.context.MockElasticsearchTestContextConfig
+import dailyquest.context.MockRedisTestContextConfig
+import dailyquest.quest.entity.QuestCompletionOutbox
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Import
+import org.springframework.data.domain.PageRequest
+import java.time.LocalDate
+
+@Import(MockRedisTestContextConfig::class, MockElasticsearchTestContextConfig::class)
+@DisplayName("퀘스트 완료 아웃박스 리포지토리 테스트")
+class QuestCompletionOutboxRepositoryTest @Autowired constructor(
+    private val outboxRepository: QuestCompletionOutboxRepository,
+) : IntegrationTestContext() {
+
+    @DisplayName("보류된 이벤트가 있는 유저의 이벤트는 릴레이 대상에서 모두 제외한다")
+    @Test
+    fun `보류된 이벤트가 있는 유저의 이벤트는 릴레이 대상에서 모두 제외한다`() {
+        //given
+        val completedDate = LocalDate.of(2022, 12, 1)
+        val parked = outboxRepository.save(QuestCompletionOutbox(user.id, 1L, 10L, completedDate))
+        outboxRepository.save(QuestCompletionOutbox(user.id, 2L, 10L, completedDate.plusDays(1)))
+        val otherUsersEvent = outboxRepository.save(QuestCompletionOutbox(anotherUser.id, 3L, 10L, completedDate))
+        outboxRepository.incrementAttemptCount(listOf(parked.id))
+        outboxRepository.parkExhausted(listOf(parked.id), 1)
+
+        //when
+        val relayable = outboxRepository.findRelayableOrderByIdAsc(PageRequest.of(0, 10))
+
+        //then
+        assertThat(relayable).extracting<Long> { it.id }.containsExactly(otherUsersEvent.id)
+    }
+}
@@ -0,0 +1,102 @@
+package dailyquest.quest.repository
+
+import dailyquest.context.IntegrationTestContext
+import dailyquest.context.MockElasticsearchTestContextConfig
+import dailyquest.context.MockRedisTestContextConfig
+import dailyquest.quest.dto.QuestResponse
+import dailyquest.quest.dto.QuestSearchCondition
+import dailyquest.quest.entity.DetailQuest
+import dailyquest.quest.entity.DetailQuestState
+import dailyquest.quest.entity.DetailQuestType
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.entity.QuestType
+import dailyquest.user.entity.ProviderType
+import dailyquest.user.entity.User
+import jakarta.persistence.EntityManager
+import jakarta.persistence.PersistenceContext
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Import
+import org.springframework.data.domain.Pageable
+import java.lang.management.ManagementFactory
+
+@Import(MockRedisTestContextConfig::class, MockElasticsearchTestContextConfig::class)
+@DisplayName("퀘스트 조회 경로 벤치마크 테스트")
+class QuestReadPathBenchmarkTest @Autowired constructor(
+    private val questRepository: QuestRepository,
+) : IntegrationTestContext() {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val threadMXBean = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+    private val numOfQuests = 20
+    private val numOfDetails = 5
+    private val warmupIterations = 20
+    private val iterations = 100
+    private val searchCondition = QuestSearchCondition(null, null, null, null, null, null)
+    private val pageable = Pageable.ofSize(numOfQuests)
+    private var userId = 0L
+
+    @PersistenceContext
+    lateinit var entityManager: EntityManager
+
+    @BeforeEach
+    fun init() {
+        userId = userRepository.save(User("", "read-path-benchmark", ProviderType.GOOGLE)).id
+        repeat(numOfQuests) { seq ->
+            val quest = Quest("title$seq", "desc", userId, seq.toLong(), QuestState.PROCEED, QuestType.MAIN)
+            quest.replaceDetailQuests((0 until numOfDetails).map {
+                DetailQuest.of("detail$it", 3, it % 4, DetailQuestType.COUNT, DetailQuestState.PROCEED, quest)
+            })
+            questRepository.save(quest)
+        }
+        entityManager.flush()
+        entityManager.clear()
+    }
+
+    @DisplayName("프로젝션 조회는 엔티티 조회와 같은 응답을 더 적은 할당으로 만든다")
+    @Test
+    fun `프로젝션 조회는 엔티티 조회와 같은 응답을 더 적은 할당으로 만든다`() {
+        //given
+        val entityPath = {
+            questRepository.findQuestsByCondition(userId, searchCondition, pageable).map(QuestResponse::createDto).content
+        }
+        val projectionPath = {
+            questRepository.findQuestResponsesByCondition(userId, searchCondition, pageable).content
+        }
+
+        //when
+        val entityResult = this.measure("entity", entityPath)
+        val projectionResult = this.measure("projection", projectionPath)
+
+        //then
+        assertThat(projectionResult.responses).containsExactlyElementsOf(entityResult.responses)
+        assertThat(projectionResult.allocatedBytes).isLessThan(entityResult.allocatedBytes)
+    }
+
+    private fun measure(name: String, readPath: () -> List<QuestResponse>): Measurement {
+        repeat(warmupIterations) {
+            readPath()
+            entityManager.clear()
+        }
+        var responses = listOf<QuestResponse>()
+        var elapsedNanos = 0L
+        var allocatedBytes = 0L
+        repeat(iterations) {
+            val startBytes = threadMXBean.currentThreadAllocatedBytes
+            val startNanos = System.nanoTime()
+            responses = readPath()
+            elapsedNanos += System.nanoTime() - startNanos
+            allocatedBytes += threadMXBean.currentThreadAllocatedBytes - startBytes
+            entityManager.clear()
+        }
+        log.info("[QuestReadPath:{}] quests={}, details={}, avgLatency={}us, avgAllocated={}KB",
+            name, numOfQuests, numOfDetails, elapsedNanos / iterations / 1000, allocatedBytes / iterations / 1024)
+        return Measurement(responses, allocatedBytes / iterations)
+    }
+
+    private class Measurement(val responses: List<QuestResponse>, val allocatedBytes: Long)
+}
@@ -0,0 +1,109 @@
+package dailyquest.quest.service
+
+import dailyquest.context.IntegrationTestContext
+import dailyquest.context.MockElasticsearchTestContextConfig
+import dailyquest.context.MockRedisTestContextConfig
+import dailyquest.properties.QuestLogAppenderProperties
+import dailyquest.properties.QuestLogAppenderProperties.Mode
+import dailyquest.quest.dto.QuestLogRequest
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.entity.QuestState
+import dailyquest.quest.entity.QuestType
+import dailyquest.quest.repository.QuestLogRepository
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.EnumSource
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Import
+import org.springframework.test.util.ReflectionTestUtils
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+import kotlin.system.measureTimeMillis
+
+@Import(MockRedisTestContextConfig::class, MockElasticsearchTestContextConfig::class)
+@DisplayName("퀘스트 로그 어펜더 처리량 테스트")
+class QuestLogAppenderThroughputTest @Autowired constructor(
+    private val questLogRepository: QuestLogRepository,
+    private val transactionManager: PlatformTransactionManager,
+) : IntegrationTestContext() {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val newTransaction = TransactionTemplate(transactionManager).apply {
+        propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    }
+    private val logUserId = Long.MAX_VALUE - 2
+    private val numOfWorkers = 8
+    private val callsPerWorker = 50
+    private var appender: QuestLogAppender? = null
+
+    @AfterEach
+    fun deleteLogs() {
+        appender?.destroy()
+        newTransaction.executeWithoutResult {
+            questLogRepository.deleteAllInBatch(questLogRepository.findAll().filter { it.userId == logUserId })
+        }
+    }
+
+    private fun logRequest(questId: Long): QuestLogRequest {
+        val quest = Quest("title", "desc", logUserId, questId, QuestState.COMPLETE, QuestType.MAIN)
+        ReflectionTestUtils.setField(quest, "id", questId)
+        quest.lastModifiedDate = LocalDateTime.of(2022, 12, 1, 12, 0)
+        return QuestLogRequest.from(quest)
+    }
+
+    @DisplayName("동시에 기록한 로그가 모드와 관계없이 모두 저장된다")
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(Mode::class)
+    fun `동시에 기록한 로그가 모드와 관계없이 모두 저장된다`(mode: Mode) {
+        //given
+        val appender = QuestLogAppender(questLogRepository, transactionManager, QuestLogAppenderProperties(mode = mode))
+            .also { this.appender = it }
+
+        //when
+        val elapsedMillis = measureTimeMillis {
+            runBlocking(Dispatchers.IO) {
+                repeat(numOfWorkers) { worker ->
+                    launch {
+                        repeat(callsPerWorker) { call ->
+                            val questId = (worker * callsPerWorker + call).toLong()
+                            newTransaction.executeWithoutResult { appender.append(logRequest(questId)) }
+                        }
+                    }
+                }
+            }
+        }
+        val totalCalls = numOfWorkers * callsPerWorker
+        log.info("[QuestLogAppender:{}] workers={}, calls={}, elapsed={}ms, throughput={}/s",
+            mode, numOfWorkers, totalCalls, elapsedMillis, totalCalls * 1000 / maxOf(elapsedMillis, 1))
+
+        //then
+        val savedLogs = newTransaction.execute { questLogRepository.findAll().filter { it.userId == logUserId } }!!
+        assertThat(savedLogs).hasSize(totalCalls)
+        assertThat(savedLogs.map { it.questId }.toSet()).hasSize(totalCalls)
+    }
+
+    @DisplayName("그룹 커밋이 제한 시간 안에 끝나지 않으면 호출자 트랜잭션에서 기록한 로그가 함께 커밋된다")
+    @Test
+    fun `그룹 커밋이 제한 시간 안에 끝나지 않으면 호출자 트랜잭션에서 기록한 로그가 함께 커밋된다`() {
+        //given
+        val properties = QuestLogAppenderProperties(mode = Mode.GROUP_COMMIT, flushLatencyMillis = 60000, flushTimeoutMillis = 1)
+        val appender = QuestLogAppender(questLogRepository, transactionManager, properties)
+            .also { this.appender = it }
+        val questId = 1L
+
+        //when
+        newTransaction.executeWithoutResult { appender.append(logRequest(questId)) }
+
+        //then
+        val savedLogs = newTransaction.execute { questLogRepository.findAll().filter { it.userId == logUserId } }!!
+        assertThat(savedLogs.map { it.questId }).containsExactly(questId)
+    }
+}
@@ -0,0 +1,113 @@
+package dailyquest.user.record
+
+import dailyquest.context.IntegrationTestContext
+import dailyquest.context.MockElasticsearchTestContextConfig
+import dailyquest.context.MockRedisTestContextConfig
+import dailyquest.user.dto.UserUpdateRequest
+import dailyquest.user.record.entity.UserRecord
+import dailyquest.user.record.service.UserRecordService
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Import
+import org.springframework.data.repository.findByIdOrNull
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDate
+import kotlin.system.measureTimeMillis
+
+@Import(MockRedisTestContextConfig::class, MockElasticsearchTestContextConfig::class)
+@DisplayName("유저 기록 동시성 테스트")
+class UserRecordConcurrencyTest @Autowired constructor(
+    private val userRecordService: UserRecordService,
+    transactionManager: PlatformTransactionManager,
+) : IntegrationTestContext() {
+    private val log = LoggerFactory.getLogger(javaClass)
+    private val newTransaction = TransactionTemplate(transactionManager).apply {
+        propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    }
+    private val recordUserId = Long.MAX_VALUE - 1
+    private val numOfWorkers = 8
+    private val callsPerWorker = 25
+
+    @BeforeEach
+    fun saveRecord() {
+        newTransaction.executeWithoutResult { userRecordRepository.save(UserRecord(recordUserId)) }
+    }
+
+    @AfterEach
+    fun deleteRecord() {
+        newTransaction.executeWithoutResult { userRecordRepository.deleteById(recordUserId) }
+    }
+
+    private fun findRecord(): UserRecord {
+        return newTransaction.execute { userRecordRepository.findByIdOrNull(recordUserId) }!!
+    }
+
+    private fun runConcurrently(name: String, action: () -> Unit) {
+        val elapsedMillis = measureTimeMillis {
+            runBlocking(Dispatchers.IO) {
+                repeat(numOfWorkers) {
+                    launch {
+                        repeat(callsPerWorker) { action() }
+                    }
+                }
+            }
+        }
+        val totalCalls = numOfWorkers * callsPerWorker
+        log.info("[{}] workers={}, calls={}, elapsed={}ms, throughput={}/s",
+            name, numOfWorkers, totalCalls, elapsedMillis, totalCalls * 1000 / maxOf(elapsedMillis, 1))
+    }
+
+    @DisplayName("동시에 퀘스트 완료를 기록해도 완료 횟수가 유실되지 않는다")
+    @Test
+    fun `동시에 퀘스트 완료를 기록해도 완료 횟수가 유실되지 않는다`() {
+        //given
+        val completionDate = LocalDate.of(2022, 12, 1)
+
+        //when
+        runConcurrently("recordQuestCompletion") { userRecordService.recordQuestCompletion(recordUserId, completionDate) }
+
+        //then
+        val userRecord = findRecord()
+        assertThat(userRecord.questCompletionCount).isEqualTo((numOfWorkers * callsPerWorker).toLong())
+        assertThat(userRecord.currentQuestContinuousCompletionDays).isEqualTo(1)
+        assertThat(userRecord.lastQuestCompletionDate).isEqualTo(completionDate)
+    }
+
+    @DisplayName("동시에 퀘스트 등록을 기록해도 등록 횟수가 유실되지 않는다")
+    @Test
+    fun `동시에 퀘스트 등록을 기록해도 등록 횟수가 유실되지 않는다`() {
+        //given
+        val registrationDate = LocalDate.of(2022, 12, 1)
+
+        //when
+        runConcurrently("recordQuestRegistration") { userRecordService.recordQuestRegistration(recordUserId, registrationDate) }
+
+        //then
+        val userRecord = findRecord()
+        assertThat(userRecord.questRegistrationCount).isEqualTo((numOfWorkers * callsPerWorker).toLong())
+        assertThat(userRecord.currentQuestContinuousRegistrationDays).isEqualTo(1)
+    }
+
+    @DisplayName("동시에 골드 획득을 기록해도 골드 획득량이 유실되지 않는다")
+    @Test
+    fun `동시에 골드 획득을 기록해도 골드 획득량이 유실되지 않는다`() {
+        //given
+        val earnedGold = 3L
+
+        //when
+        runConcurrently("recordGoldEarn") { userRecordService.recordGoldEarn(recordUserId, UserUpdateRequest(earnedGold = earnedGold)) }
+
+        //then
+        assertThat(findRecord().goldEarnAmount).isEqualTo(numOfWorkers * callsPerWorker * earnedGold)
+    }
+}
@@ -0,0 +1,146 @@
+package dailyquest.admin.cache
+
+import dailyquest.admin.dto.SystemSettingsSnapshot
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.redis.service.RedisService
+import io.mockk.every
+import io.mockk.impl.annotations.InjectMockKs
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("시스템 설정 캐시 유닛 테스트")
+class SystemSettingsCacheUnitTest {
+    @InjectMockKs
+    lateinit var systemSettingsCache: SystemSettingsCache
+    @RelaxedMockK
+    lateinit var redisService: RedisService
+    @RelaxedMockK
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @RelaxedMockK
+    lateinit var listenerContainer: RedisMessageListenerContainer
+    @RelaxedMockK
+    lateinit var redisKeyProperties: RedisKeyProperties
+    private val channel = "channel"
+
+    @BeforeEach
+    fun init() {
+        every { redisKeyProperties.settingsChannel } returns channel
+        every { redisService.getSystemSettings() } returns SystemSettingsSnapshot(10L, 20L, 5L)
+        every { redisService.getSystemSettingsVersion() } returns 1L
+    }
+
+    @DisplayName("get 호출 시")
+    @Nested
+    inner class TestGet {
+        @DisplayName("처음 호출되면 레디스에서 설정값과 버전을 로드한다")
+        @Test
+        fun `처음 호출되면 레디스에서 설정값과 버전을 로드한다`() {
+            //given
+            //when
+            val settings = systemSettingsCache.get()
+
+            //then
+            assertThat(settings).isEqualTo(SystemSettingsSnapshot(10L, 20L, 5L, 1L))
+        }
+
+        @DisplayName("이미 로드된 설정값이 있으면 레디스를 다시 조회하지 않는다")
+        @Test
+        fun `이미 로드된 설정값이 있으면 레디스를 다시 조회하지 않는다`() {
+            //given
+            systemSettingsCache.get()
+
+            //when
+            systemSettingsCache.get()
+            systemSettingsCache.get()
+
+            //then
+            verify(exactly = 1) { redisService.getSystemSettings() }
+            verify(exactly = 1) { redisService.getSystemSettingsVersion() }
+        }
+    }
+
+    @DisplayName("변경 메시지 수신 시")
+    @Nested
+    inner class TestOnMessage {
+        @DisplayName("현재보다 높은 버전이면 설정값을 다시 로드한다")
+        @Test
+        fun `현재보다 높은 버전이면 설정값을 다시 로드한다`() {
+            //given
+            systemSettingsCache.get()
+            every { redisService.getSystemSettings() } returns SystemSettingsSnapshot(30L, 40L, 5L)
+            every { redisService.getSystemSettingsVersion() } returns 2L
+            val message = mockk<Message>()
+            every { message.body } returns "2".toByteArray()
+
+            //when
+            systemSettingsCache.onMessage(message, null)
+
+            //then
+            assertThat(systemSettingsCache.get()).isEqualTo(SystemSettingsSnapshot(30L, 40L, 5L, 2L))
+        }
+
+        @DisplayName("현재 버전 이하이면 무시한다")
+        @Test
+        fun `현재 버전 이하이면 무시한다`() {
+            //given
+            systemSettingsCache.get()
+            val message = mockk<Message>()
+            every { message.body } returns "1".toByteArray()
+
+            //when
+            systemSettingsCache.onMessage(message, null)
+
+            //then
+            verify(exactly = 1) { redisService.getSystemSettings() }
+        }
+    }
+
+    @DisplayName("reload 호출 시")
+    @Nested
+    inner class TestReload {
+        @DisplayName("로드한 설정값의 버전이 현재보다 낮으면 교체하지 않는다")
+        @Test
+        fun `로드한 설정값의 버전이 현재보다 낮으면 교체하지 않는다`() {
+            //given
+            systemSettingsCache.get()
+            every { redisService.getSystemSettings() } returns SystemSettingsSnapshot(30L, 40L, 5L)
+            every { redisService.getSystemSettingsVersion() } returns 0L
+
+            //when
+            val settings = systemSettingsCache.reload()
+
+            //then
+            assertThat(settings).isEqualTo(SystemSettingsSnapshot(10L, 20L, 5L, 1L))
+        }
+    }
+
+    @DisplayName("publish 호출 시")
+    @Nested
+    inner class TestPublish {
+        @DisplayName("로컬 설정값을 갱신하고 다른 노드에 버전을 전파한다")
+        @Test
+        fun `로컬 설정값을 갱신하고 다른 노드에 버전을 전파한다`() {
+            //given
+            every { redisService.getSystemSettingsVersion() } returns 3L
+
+            //when
+            systemSettingsCache.publish(3L)
+
+            //then
+            assertThat(systemSettingsCache.get().version).isEqualTo(3L)
+            verify { redisTemplate.convertAndSend(eq(channel), eq("3")) }
+        }
+    }
+}
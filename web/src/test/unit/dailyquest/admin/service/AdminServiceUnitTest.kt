@@ -1,7 +1,9 @@
 package dailyquest.admin.service
 
+import dailyquest.admin.cache.SystemSettingsCache
 import dailyquest.admin.dto.SystemSettingsRequest
 import dailyquest.properties.RedisKeyProperties
+import dailyquest.user.cache.LevelTableCache
 import org.assertj.core.api.Assertions.assertThat
 import org.assertj.core.api.Assertions.assertThatThrownBy
 import org.junit.jupiter.api.DisplayName
@@ -16,6 +18,7 @@ import org.mockito.kotlin.*
 import org.springframework.context.support.MessageSourceAccessor
 import org.springframework.data.redis.core.BoundHashOperations
 import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ValueOperations
 
 @ExtendWith(MockitoExtension::class)
 @DisplayName("관리자 서비스 유닛 테스트")
@@ -33,6 +36,12 @@ class AdminServiceUnitTest {
     @Mock(answer = Answers.RETURNS_SMART_NULLS)
     lateinit var messageSourceAccessor: MessageSourceAccessor
 
+    @Mock
+    lateinit var levelTableCache: LevelTableCache
+
+    @Mock
+    lateinit var systemSettingsCache: SystemSettingsCache
+
     @DisplayName("시스템 설정값 조회 시")
     @Nested
     inner class GetSystemSettingsTest {
@@ -78,12 +87,13 @@ class AdminServiceUnitTest {
     @Nested
     inner class UpdateSystemSettingsTest {
 
-        @DisplayName("각 설정값 업데이트 로직이 호출된다")
+        @DisplayName("각 설정값을 한 번에 업데이트한다")
         @Test
-        fun `각 설정값 업데이트 로직이 호출된다`() {
+        fun `각 설정값을 한 번에 업데이트한다`() {
             //given
             val mockOps = mock<BoundHashOperations<String, String, Long>>()
             doReturn(mockOps).`when`(redisTemplate).boundHashOps<String, Long>(anyOrNull())
+            stubSettingsVersion()
 
             val mockRequest = mock<SystemSettingsRequest>()
 
@@ -107,9 +117,34 @@ class AdminServiceUnitTest {
             adminService.updateSystemSettings(mockRequest)
 
             //then
-            verify(mockOps).put(clearExpKey, clearExp)
-            verify(mockOps).put(clearGoldKey, clearGold)
-            verify(mockOps).put(maxRewardCountKey, maxRewardCount)
+            verify(mockOps).putAll(mapOf(clearExpKey to clearExp, clearGoldKey to clearGold, maxRewardCountKey to maxRewardCount))
+            verify(mockOps, never()).put(any(), any())
+        }
+
+        @DisplayName("증가시킨 시스템 설정 버전을 발행한다")
+        @Test
+        fun `증가시킨 시스템 설정 버전을 발행한다`() {
+            //given
+            val mockOps = mock<BoundHashOperations<String, String, Long>>()
+            doReturn(mockOps).`when`(redisTemplate).boundHashOps<String, Long>(anyOrNull())
+            stubSettingsVersion(version = 5L)
+            val request = SystemSettingsRequest(1L, 2L, 3L)
+
+            //when
+            adminService.updateSystemSettings(request)
+
+            //then
+            val inOrder = inOrder(mockOps, systemSettingsCache)
+            inOrder.verify(mockOps).putAll(any())
+            inOrder.verify(systemSettingsCache).publish(5L)
+        }
+
+        private fun stubSettingsVersion(version: Long = 1L) {
+            val versionKey = "settingsVersionKey"
+            doReturn(versionKey).`when`(redisKeyProperties).settingsVersion
+            val valueOps = mock<ValueOperations<String, String>>()
+            doReturn(valueOps).`when`(redisTemplate).opsForValue()
+            doReturn(version).`when`(valueOps).increment(versionKey)
         }
 
     }
@@ -153,7 +188,7 @@ class AdminServiceUnitTest {
 
             //then
             assertThatThrownBy(run).isInstanceOf(IllegalArgumentException::class.java)
-            verify(redisTemplate, times(0)).delete(anyOrNull<String>())
+            verify(redisTemplate, times(0)).rename(anyOrNull(), anyOrNull())
         }
 
         @DisplayName("마지막이 아닌 레벨의 필요 경험치가 0인 경우 오류가 발생한다")
@@ -170,7 +205,7 @@ class AdminServiceUnitTest {
 
             //then
             assertThatThrownBy(run).isInstanceOf(IllegalArgumentException::class.java)
-            verify(redisTemplate, times(0)).delete(anyOrNull<String>())
+            verify(redisTemplate, times(0)).rename(anyOrNull(), anyOrNull())
         }
 
         @DisplayName("마지막 레벨의 필요 경험치만 0인 경우 정상 호출된다")
@@ -189,20 +224,64 @@ class AdminServiceUnitTest {
 
             val expTableKey = "expTableKey"
             doReturn(expTableKey).`when`(redisKeyProperties).expTable
-
-            val mockOps = mock<BoundHashOperations<String, Int, Long>>()
-            doReturn(mockOps).`when`(redisTemplate).boundHashOps<String, Long>(expTableKey)
+            val mockOps = this.stubExpTablePublish()
 
             //when
             adminService.updateExpTable(mockTable)
 
             //then
             verify(mockTable, times(keys.size-1))[any()]
-            verify(redisTemplate, times(1)).delete(expTableKey)
-            verify(redisTemplate, times(1)).boundHashOps<String, Long>(expTableKey)
             verify(mockOps, times(1)).putAll(mockTable)
         }
 
+        @DisplayName("임시 키에 저장한 뒤 경험치 테이블 키로 교체한다")
+        @Test
+        fun `임시 키에 저장한 뒤 경험치 테이블 키로 교체한다`() {
+            //given
+            val mockTable = mapOf(1 to 1L, 2 to 0L)
+            val expTableKey = "expTableKey"
+            doReturn(expTableKey).`when`(redisKeyProperties).expTable
+            this.stubExpTablePublish()
+
+            //when
+            adminService.updateExpTable(mockTable)
+
+            //then
+            val tempKeyCaptor = argumentCaptor<String>()
+            verify(redisTemplate).boundHashOps<Int, Long>(tempKeyCaptor.capture())
+            verify(redisTemplate).rename(eq(tempKeyCaptor.firstValue), eq(expTableKey))
+            verify(redisTemplate, never()).delete(expTableKey)
+            assertThat(tempKeyCaptor.firstValue).isNotEqualTo(expTableKey)
+        }
+
+        @DisplayName("증가시킨 경험치 테이블 버전을 발행한다")
+        @Test
+        fun `증가시킨 경험치 테이블 버전을 발행한다`() {
+            //given
+            val mockTable = mapOf(1 to 1L, 2 to 0L)
+            val expTableKey = "expTableKey"
+            doReturn(expTableKey).`when`(redisKeyProperties).expTable
+            this.stubExpTablePublish(version = 7L)
+
+            //when
+            adminService.updateExpTable(mockTable)
+
+            //then
+            verify(levelTableCache, times(1)).publish(7L)
+        }
+
+        private fun stubExpTablePublish(version: Long = 1L): BoundHashOperations<String, Int, Long> {
+            val versionKey = "versionKey"
+            doReturn(versionKey).`when`(redisKeyProperties).expTableVersion
+
+            val mockOps = mock<BoundHashOperations<String, Int, Long>>()
+            doReturn(mockOps).`when`(redisTemplate).boundHashOps<Int, Long>(any<String>())
+            val valueOps = mock<ValueOperations<String, String>>()
+            doReturn(valueOps).`when`(redisTemplate).opsForValue()
+            doReturn(version).`when`(valueOps).increment(versionKey)
+            return mockOps
+        }
+
     }
 
 
@@ -0,0 +1,74 @@
+package dailyquest.common
+
+import dailyquest.properties.UserLevelLockProperties
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.data.redis.core.script.RedisScript
+import java.time.Duration
+
+@DisplayName("Redis 유저 레벨 락 백엔드 유닛 테스트")
+class RedisUserLevelLockBackendUnitTest {
+    private val redisTemplate = mockk<RedisTemplate<String, String>>(relaxed = true)
+    private val valueOps = mockk<ValueOperations<String, String>>()
+    private val lockProperties = UserLevelLockProperties(redisLeaseMillis = 1000, redisRetryIntervalMillis = 1)
+    private lateinit var backend: RedisUserLevelLockBackend
+
+    @BeforeEach
+    fun init() {
+        every { redisTemplate.opsForValue() } returns valueOps
+        backend = RedisUserLevelLockBackend(redisTemplate, lockProperties)
+    }
+
+    @DisplayName("acquire 호출 시")
+    @Nested
+    inner class TestAcquire {
+        @DisplayName("리스를 잡을 때까지 재시도한다")
+        @Test
+        fun `리스를 잡을 때까지 재시도한다`() {
+            //given
+            every { valueOps.setIfAbsent("ull:lock", any(), Duration.ofMillis(1000)) } returnsMany listOf(false, false, true)
+
+            //when
+            backend.acquire("lock", 3)
+
+            //then
+            verify(exactly = 3) { valueOps.setIfAbsent("ull:lock", any(), any<Duration>()) }
+        }
+
+        @DisplayName("제한 시간 안에 리스를 잡지 못하면 예외가 발생한다")
+        @Test
+        fun `제한 시간 안에 리스를 잡지 못하면 예외가 발생한다`() {
+            //given
+            every { valueOps.setIfAbsent(any(), any(), any<Duration>()) } returns false
+
+            //when
+            val run = { backend.acquire("lock", 0) }
+
+            //then
+            assertThatThrownBy(run).isInstanceOf(RuntimeException::class.java)
+        }
+
+        @DisplayName("리스를 해제하면 획득 시 사용한 토큰으로 소유자 확인 후 삭제한다")
+        @Test
+        fun `리스를 해제하면 획득 시 사용한 토큰으로 소유자 확인 후 삭제한다`() {
+            //given
+            var token: String? = null
+            every { valueOps.setIfAbsent("ull:lock", any(), any<Duration>()) } answers { token = secondArg(); true }
+            every { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) } returns 1L
+
+            //when
+            backend.acquire("lock", 3).close()
+
+            //then
+            verify { redisTemplate.execute(any<RedisScript<Long>>(), listOf("ull:lock"), token!!) }
+        }
+    }
+}
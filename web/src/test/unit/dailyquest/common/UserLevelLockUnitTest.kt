@@ -0,0 +1,116 @@
+package dailyquest.common
+
+import dailyquest.properties.UserLevelLockProperties
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+@DisplayName("유저 레벨 락 유닛 테스트")
+class UserLevelLockUnitTest {
+    private val backend = mockk<UserLevelLockBackend>()
+    private val lease = mockk<UserLevelLockBackend.Lease>(relaxed = true)
+    private val meterRegistry = SimpleMeterRegistry()
+    private lateinit var userLevelLock: UserLevelLock
+
+    @BeforeEach
+    fun init() {
+        every { backend.acquire(any(), any()) } returns lease
+        userLevelLock = UserLevelLock(backend, UserLevelLockProperties(), meterRegistry)
+    }
+
+    @DisplayName("executeWithLock 호출 시")
+    @Nested
+    inner class TestExecuteWithLock {
+        @DisplayName("분산 락을 획득한 뒤 작업 결과를 반환하고 락을 해제한다")
+        @Test
+        fun `분산 락을 획득한 뒤 작업 결과를 반환하고 락을 해제한다`() {
+            //given
+            //when
+            val result = userLevelLock.executeWithLock("lock", 3) { "result" }
+
+            //then
+            assertThat(result).isEqualTo("result")
+            verify { backend.acquire("lock", 3) }
+            verify { lease.close() }
+        }
+
+        @DisplayName("작업이 실패해도 락을 해제한다")
+        @Test
+        fun `작업이 실패해도 락을 해제한다`() {
+            //given
+            //when
+            val run = { userLevelLock.executeWithLock<Any>("lock", 3) { throw IllegalStateException() } }
+
+            //then
+            assertThatThrownBy(run).isInstanceOf(RuntimeException::class.java)
+            verify { lease.close() }
+        }
+
+        @DisplayName("분산 락 획득에 실패해도 로컬 락은 해제되어 다음 호출이 진행된다")
+        @Test
+        fun `분산 락 획득에 실패해도 로컬 락은 해제되어 다음 호출이 진행된다`() {
+            //given
+            every { backend.acquire(any(), any()) } throws RuntimeException() andThen lease
+
+            //when
+            val run = { userLevelLock.executeWithLock("lock", 1) { "result" } }
+
+            //then
+            assertThatThrownBy(run).isInstanceOf(RuntimeException::class.java)
+            assertThat(userLevelLock.executeWithLock("lock", 1) { "result" }).isEqualTo("result")
+        }
+
+        @DisplayName("같은 노드에서 같은 이름으로 경쟁하면 분산 락은 한 번에 하나씩만 요청된다")
+        @Test
+        fun `같은 노드에서 같은 이름으로 경쟁하면 분산 락은 한 번에 하나씩만 요청된다`() {
+            //given
+            val threadCount = 5
+            val inBackend = AtomicInteger()
+            val maxInBackend = AtomicInteger()
+            every { backend.acquire(any(), any()) } answers {
+                maxInBackend.accumulateAndGet(inBackend.incrementAndGet()) { a, b -> maxOf(a, b) }
+                UserLevelLockBackend.Lease { inBackend.decrementAndGet() }
+            }
+            val executorService = Executors.newFixedThreadPool(threadCount)
+            val latch = CountDownLatch(threadCount)
+
+            //when
+            repeat(threadCount) {
+                executorService.execute {
+                    userLevelLock.executeWithLock("lock", 3) { Thread.sleep(20) }
+                    latch.countDown()
+                }
+            }
+            latch.await(5, TimeUnit.SECONDS)
+            executorService.shutdown()
+
+            //then
+            assertThat(maxInBackend.get()).isEqualTo(1)
+            verify(exactly = threadCount) { backend.acquire(any(), any()) }
+        }
+
+        @DisplayName("대기 시간과 점유 시간을 기록한다")
+        @Test
+        fun `대기 시간과 점유 시간을 기록한다`() {
+            //given
+            //when
+            userLevelLock.executeWithLock("lock", 3) { "result" }
+
+            //then
+            assertThat(meterRegistry.get("user_level_lock.wait").tag("tier", "local").timer().count()).isEqualTo(1)
+            assertThat(meterRegistry.get("user_level_lock.wait").tag("tier", "remote").timer().count()).isEqualTo(1)
+            assertThat(meterRegistry.get("user_level_lock.hold").timer().count()).isEqualTo(1)
+        }
+    }
+}
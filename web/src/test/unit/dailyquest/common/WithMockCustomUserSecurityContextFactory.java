@@ -1,5 +1,6 @@
 package dailyquest.common;
 
+import dailyquest.user.dto.LevelTable;
 import dailyquest.user.dto.UserResponse;
 import org.mockito.Mockito;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -10,8 +11,6 @@ import org.springframework.security.test.context.support.WithSecurityContextFact
 import dailyquest.annotation.WithCustomMockUser;
 import dailyquest.user.dto.UserPrincipal;
 
-import java.util.HashMap;
-
 public class WithMockCustomUserSecurityContextFactory implements WithSecurityContextFactory<WithCustomMockUser> {
 
     @Override
@@ -19,7 +18,7 @@ public class WithMockCustomUserSecurityContextFactory implements WithSecurityCon
         SecurityContext context = SecurityContextHolder.createEmptyContext();
 
         UserResponse userResponse = new UserResponse(1, "");
-        UserPrincipal principal = UserPrincipal.from(userResponse, new HashMap<>());
+        UserPrincipal principal = UserPrincipal.from(userResponse, LevelTable.EMPTY);
         UserPrincipal spyPrincipal = Mockito.spy(principal);
 
         Authentication auth = new UsernamePasswordAuthenticationToken(spyPrincipal, principal.getPassword(), principal.getAuthorities());
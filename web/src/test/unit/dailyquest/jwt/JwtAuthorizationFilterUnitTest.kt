@@ -1,13 +1,16 @@
 package dailyquest.jwt
 
+import dailyquest.jwt.dto.JwtClaims
 import dailyquest.jwt.dto.SilentRefreshResult
 import dailyquest.properties.JwtTokenProperties
 import dailyquest.properties.SecurityUrlProperties
-import dailyquest.redis.service.RedisService
+import dailyquest.user.cache.LevelTableCache
+import dailyquest.user.cache.UserPrincipalCache
 import dailyquest.user.dto.UserPrincipal
 import dailyquest.user.dto.UserResponse
 import dailyquest.user.entity.RoleType
 import dailyquest.user.service.UserService
+import io.jsonwebtoken.JwtException
 import io.mockk.*
 import io.mockk.impl.annotations.InjectMockKs
 import io.mockk.impl.annotations.RelaxedMockK
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.springframework.security.core.context.SecurityContextHolder
+import java.util.*
 
 @ExtendWith(MockKExtension::class)
 @DisplayName("JwtAuthorizationFilter 유닛 테스트")
@@ -44,7 +48,9 @@ class JwtAuthorizationFilterUnitTest {
     @RelaxedMockK
     lateinit var jwtTokenProperties: JwtTokenProperties
     @RelaxedMockK
-    lateinit var redisService: RedisService
+    lateinit var levelTableCache: LevelTableCache
+    @RelaxedMockK
+    lateinit var userPrincipalCache: UserPrincipalCache
     private val accessTokenName: String = "access"
     private val refreshTokenName: String = "refresh"
 
@@ -53,6 +59,7 @@ class JwtAuthorizationFilterUnitTest {
         SecurityContextHolder.clearContext()
         every { jwtTokenProperties.accessTokenName } returns accessTokenName
         every { jwtTokenProperties.refreshTokenName } returns refreshTokenName
+        every { userPrincipalCache.get(any(), any()) } answers { secondArg<(Long) -> UserPrincipal>().invoke(firstArg()) }
     }
 
     @DisplayName("shouldNotFilter 호출 시")
@@ -106,7 +113,7 @@ class JwtAuthorizationFilterUnitTest {
         @Test
         fun `조회한 토큰이 유효하지 않으면 silentRefresh가 호출된다`() {
             //given
-            every { jwtTokenProvider.isValidToken(any(), accessTokenName) } returns false
+            every { jwtTokenProvider.verifyToken(any(), accessTokenName) } throws JwtException("")
 
             //when
             jwtAuthorizationFilter.doFilterInternal(request, response, filterChain)
@@ -119,7 +126,7 @@ class JwtAuthorizationFilterUnitTest {
         @Test
         fun `조회한 토큰이 유효하면 silentRefresh가 호출되지 않는다`() {
             //given
-            every { jwtTokenProvider.isValidToken(any(), accessTokenName) } returns true
+            every { jwtTokenProvider.verifyToken(any(), accessTokenName) } returns JwtClaims(1L, accessTokenName, Date())
 
             //when
             jwtAuthorizationFilter.doFilterInternal(request, response, filterChain)
@@ -128,12 +135,27 @@ class JwtAuthorizationFilterUnitTest {
             verify(inverse = true) { jwtTokenProvider.silentRefresh(any()) }
         }
 
+        @DisplayName("유효한 토큰은 한 번만 파싱된다")
+        @Test
+        fun `유효한 토큰은 한 번만 파싱된다`() {
+            //given
+            every { jwtTokenProvider.verifyToken(any(), accessTokenName) } returns JwtClaims(1L, accessTokenName, Date())
+
+            //when
+            jwtAuthorizationFilter.doFilterInternal(request, response, filterChain)
+
+            //then
+            verify(exactly = 1) { jwtTokenProvider.verifyToken(any(), any()) }
+            verify(inverse = true) { jwtTokenProvider.getUserIdFromToken(any()) }
+            verify(inverse = true) { jwtTokenProvider.isValidToken(any(), any()) }
+        }
+
         @DisplayName("토큰에 담긴 userId로 유저 정보를 조회한다")
         @Test
         fun `토큰에 담긴 userId로 유저 정보를 조회한다`() {
             //given
             val userId = 1L
-            every { jwtTokenProvider.getUserIdFromToken(any()) } returns userId
+            every { jwtTokenProvider.verifyToken(any(), accessTokenName) } returns JwtClaims(userId, accessTokenName, Date())
             val userResponse = mockk<UserResponse>(relaxed = true)
             every { userService.getUserById(any()) } returns userResponse
             every { userResponse.role } returns RoleType.USER
@@ -145,6 +167,23 @@ class JwtAuthorizationFilterUnitTest {
             verify { userService.getUserById(eq(userId)) }
         }
 
+        @DisplayName("유저 정보는 캐시를 통해 조회한다")
+        @Test
+        fun `유저 정보는 캐시를 통해 조회한다`() {
+            //given
+            val userId = 1L
+            every { jwtTokenProvider.verifyToken(any(), accessTokenName) } returns JwtClaims(userId, accessTokenName, Date())
+            val cachedPrincipal: UserPrincipal = mockk(relaxed = true)
+            every { userPrincipalCache.get(eq(userId), any()) } returns cachedPrincipal
+
+            //when
+            jwtAuthorizationFilter.doFilterInternal(request, response, filterChain)
+
+            //then
+            verify(inverse = true) { userService.getUserById(any()) }
+            assertThat(SecurityContextHolder.getContext().authentication.principal).isEqualTo(cachedPrincipal)
+        }
+
         @DisplayName("조회한 유저 정보로 SecurityContext에 인증 정보를 담는다")
         @Test
         fun `조회한 유저 정보로 SecurityContext에 인증 정보를 담는다`() {
@@ -0,0 +1,83 @@
+package dailyquest.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JWT 키 매니저 단위 테스트")
+public class JwtKeyManagerUnitTest {
+
+    String activeKey = "and0LWF1dGhlbnRpY2F0aW9uLWZpbHRlci10ZXN0LXNlY3JldC1rZXQtMDAwMA==";
+    String previousKey = "cHJldmlvdXMtand0LWF1dGhlbnRpY2F0aW9uLXRlc3Qtc2VjcmV0LWtleS0wMDAw";
+
+    @DisplayName("현재 키로 서명한 토큰에는 kid 헤더가 포함된다")
+    @Test
+    public void doIncludeKeyId() throws Exception {
+        //given
+        JwtKeyManager keyManager = new JwtKeyManager(activeKey, List.of());
+
+        //when
+        String token = keyManager.sign(Jwts.builder().claim("id", 1L)).compact();
+
+        //then
+        JwsHeader<?> header = keyManager.getParser().parseClaimsJws(token).getHeader();
+        assertThat(header.getKeyId()).isNotBlank();
+    }
+
+    @DisplayName("이전 키로 서명된 토큰도 검증된다")
+    @Test
+    public void doVerifyWithPreviousKey() throws Exception {
+        //given
+        JwtKeyManager previousKeyManager = new JwtKeyManager(previousKey, List.of());
+        String token = previousKeyManager.sign(Jwts.builder().claim("id", 1L)).compact();
+        JwtKeyManager rotatedKeyManager = new JwtKeyManager(activeKey, List.of(previousKey));
+
+        //when
+        Long id = rotatedKeyManager.getParser().parseClaimsJws(token).getBody().get("id", Long.class);
+
+        //then
+        assertThat(id).isEqualTo(1L);
+    }
+
+    @DisplayName("등록되지 않은 키로 서명된 토큰은 검증에 실패한다")
+    @Test
+    public void doThrowWhenUnknownKey() throws Exception {
+        //given
+        JwtKeyManager previousKeyManager = new JwtKeyManager(previousKey, List.of());
+        String token = previousKeyManager.sign(Jwts.builder().claim("id", 1L)).compact();
+        JwtKeyManager keyManager = new JwtKeyManager(activeKey, List.of());
+
+        //when
+        Runnable run = () -> keyManager.getParser().parseClaimsJws(token);
+
+        //then
+        assertThatThrownBy(run::run).isInstanceOf(SignatureException.class);
+    }
+
+    @DisplayName("kid 헤더가 없는 토큰은 현재 키로 검증한다")
+    @Test
+    public void doVerifyWithActiveKeyWhenNoKeyId() throws Exception {
+        //given
+        String token = Jwts.builder()
+                .claim("id", 1L)
+                .signWith(new SecretKeySpec(Decoders.BASE64.decode(activeKey), SignatureAlgorithm.HS256.getJcaName()))
+                .compact();
+        JwtKeyManager keyManager = new JwtKeyManager(activeKey, List.of(previousKey));
+
+        //when
+        Long id = keyManager.getParser().parseClaimsJws(token).getBody().get("id", Long.class);
+
+        //then
+        assertThat(id).isEqualTo(1L);
+    }
+}
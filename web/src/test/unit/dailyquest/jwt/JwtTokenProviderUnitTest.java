@@ -1,5 +1,6 @@
 package dailyquest.jwt;
 
+import dailyquest.jwt.dto.JwtClaims;
 import dailyquest.jwt.dto.SilentRefreshResult;
 import dailyquest.properties.JwtTokenProperties;
 import io.jsonwebtoken.*;
@@ -13,17 +14,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.spec.SecretKeySpec;
 import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,13 +35,18 @@ import static org.mockito.Mockito.*;
 @DisplayName("JWT 토큰 프로바이더 단위 테스트")
 public class JwtTokenProviderUnitTest {
 
+    @Mock
+    RefreshTokenRevocationStore refreshTokenRevocationStore;
+
     @Mock
     RedisTemplate<String, String> redisTemplate;
 
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
     @Mock
     JwtTokenProperties jwtTokenProperties;
 
-    @InjectMocks
     JwtTokenProvider jwtTokenProvider;
 
     String secretKey = "and0LWF1dGhlbnRpY2F0aW9uLWZpbHRlci10ZXN0LXNlY3JldC1rZXQtMDAwMA==";
@@ -56,7 +62,7 @@ public class JwtTokenProviderUnitTest {
 
     @BeforeEach
     void before() {
-        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", secretKey);
+        jwtTokenProvider = new JwtTokenProvider(jwtTokenProperties, refreshTokenRevocationStore, messageSourceAccessor, new JwtKeyManager(secretKey, List.of()), redisTemplate);
     }
 
     @DisplayName("createAccessToken 요청 시")
@@ -320,6 +326,55 @@ public class JwtTokenProviderUnitTest {
         }
     }
 
+    @DisplayName("verifyToken 요청 시")
+    @Nested
+    class VerifyTokenTest {
+        @DisplayName("한 번의 검증으로 토큰의 모든 클레임이 반환된다")
+        @Test
+        public void doReturnAllClaims() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_NAME).when(jwtTokenProperties).getRefreshTokenName();
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+            Date expiredDate = new Date(new Date().getTime() + REFRESH_TOKEN_VALIDATION_MILLISECOND);
+            String refreshToken = jwtTokenProvider.createRefreshToken(7L);
+
+            //when
+            JwtClaims claims = jwtTokenProvider.verifyToken(refreshToken, REFRESH_TOKEN_NAME);
+
+            //then
+            assertThat(claims.getUserId()).isEqualTo(7L);
+            assertThat(claims.getTokenType()).isEqualTo(REFRESH_TOKEN_NAME);
+            assertThat(claims.getExpiration()).isCloseTo(expiredDate, 1000 * 10);
+            assertThat(claims.getUuid()).isNotBlank();
+        }
+
+        @DisplayName("요청 타입과 실제 타입이 다를 경우 예외를 던진다")
+        @Test
+        public void doThrowWhenIncorrectType() throws Exception {
+            //given
+            doReturn(ACCESS_TOKEN_NAME).when(jwtTokenProperties).getAccessTokenName();
+            doReturn(ACCESS_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getAccessTokenExpirationMilliseconds();
+            String accessToken = jwtTokenProvider.createAccessToken(1L);
+
+            //when
+            Runnable run = () -> jwtTokenProvider.verifyToken(accessToken, REFRESH_TOKEN_NAME);
+
+            //then
+            assertThatThrownBy(run::run).isInstanceOf(JwtException.class);
+        }
+
+        @DisplayName("빈 토큰일 경우 JwtException을 던진다")
+        @Test
+        public void doThrowJwtExceptionWhenEmpty() throws Exception {
+            //given
+            //when
+            Runnable run = () -> jwtTokenProvider.verifyToken("");
+
+            //then
+            assertThatThrownBy(run::run).isInstanceOf(JwtException.class);
+        }
+    }
+
     @DisplayName("createAccessTokenCookie 요청 시 httpOnly, path=/ 인 쿠키가 반환된다")
     @Test
     public void testCreateAccessTokenCookie() throws Exception {
@@ -357,31 +412,33 @@ public class JwtTokenProviderUnitTest {
     @DisplayName("silentRefresh 요청 시")
     @Nested
     class SilentRefreshTest {
-        @DisplayName("요청에 사용된 리프레시 토큰이 블랙 리스트에 포함된 토큰이라면 예외를 던진다")
+
+        @BeforeEach
+        void init() {
+            doReturn(REFRESH_TOKEN_NAME).when(jwtTokenProperties).getRefreshTokenName();
+            lenient().doReturn(valueOperations).when(redisTemplate).opsForValue();
+        }
+
+        @DisplayName("요청에 사용된 리프레시 토큰이 폐기된 토큰이라면 예외를 던진다")
         @Test
-        public void doThrowWhenInBlackList() throws Exception {
+        public void doThrowWhenRevoked() throws Exception {
             //given
-            ValueOperations<String, String> mockOperation = mock(ValueOperations.class);
-            doReturn(mockOperation).when(redisTemplate).opsForValue();
-            doReturn("in black list").when(mockOperation).get(any());
-
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
             String token = jwtTokenProvider.createRefreshToken(1L);
+            doReturn(true).when(refreshTokenRevocationStore).isRevoked(any());
 
             //when
             Runnable runnable = () -> jwtTokenProvider.silentRefresh(token);
 
             //then
             assertThatThrownBy(runnable::run).isInstanceOf(JwtException.class);
+            verify(refreshTokenRevocationStore, never()).revoke(any());
         }
 
         @DisplayName("유효하지 않은 토큰이라면 예외를 던진다")
         @Test
         public void doThrowWhenInvalidToken() throws Exception {
             //given
-            ValueOperations<String, String> mockOperation = mock(ValueOperations.class);
-            doReturn(mockOperation).when(redisTemplate).opsForValue();
-            doReturn(null).when(mockOperation).get(any());
-
             String invalidSecretKey = "asdsadqwlkdqnmlkqw===1=as12e21==134124adasd12==4214=";
             String invalidToken = Jwts.builder()
                     .claim("token_type", REFRESH_TOKEN_NAME)
@@ -393,29 +450,122 @@ public class JwtTokenProviderUnitTest {
 
             //then
             assertThatThrownBy(runnable::run).isInstanceOf(JwtException.class);
+            verify(refreshTokenRevocationStore, never()).revoke(any());
         }
 
-        @DisplayName("유효한 토큰이라면 리프레시 토큰을 블랙 리스트 처리 후 새 토큰들을 반환한다")
+        @DisplayName("유효한 토큰이라면 리프레시 토큰을 폐기 처리 후 새 토큰들을 반환한다")
         @Test
         public void doRefresh() throws Exception {
             //given
-            doReturn(REFRESH_TOKEN_NAME).when(jwtTokenProperties).getRefreshTokenName();
             doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
             String token = jwtTokenProvider.createRefreshToken(1L);
-
-            ValueOperations<String, String> mockOperation = mock(ValueOperations.class);
-            doReturn(mockOperation).when(redisTemplate).opsForValue();
-            doReturn(null).when(mockOperation).get(any());
+            String uuid = jwtTokenProvider.verifyToken(token).getUuid();
+            doReturn(false).when(refreshTokenRevocationStore).isRevoked(any());
+            doReturn(true).when(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
 
             //when
             SilentRefreshResult result = jwtTokenProvider.silentRefresh(token);
 
             //then
-            verify(mockOperation).set(eq(token), eq(""), any(Duration.class));
+            verify(refreshTokenRevocationStore).revoke(argThat(claims -> claims.getUuid().equals(uuid)));
             assertThat(result.getAccessToken()).isNotEmpty();
             assertThat(result.getRefreshToken()).isNotEmpty();
             assertThat(result.getRefreshToken()).isNotEqualTo(token);
         }
+
+        @DisplayName("발급 결과를 유예 시간 동안 레디스에 보관한 뒤 리프레시 토큰을 폐기한다")
+        @Test
+        public void doStoreGraceBeforeRevoke() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+            doReturn(10L).when(jwtTokenProperties).getRefreshGraceSeconds();
+            String token = jwtTokenProvider.createRefreshToken(1L);
+            doReturn(true).when(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+
+            //when
+            SilentRefreshResult result = jwtTokenProvider.silentRefresh(token);
+
+            //then
+            var inOrder = inOrder(valueOperations, refreshTokenRevocationStore);
+            inOrder.verify(valueOperations).setIfAbsent(startsWith("rtg:"), eq(result.getAccessToken() + " " + result.getRefreshToken()), eq(Duration.ofSeconds(10)));
+            inOrder.verify(refreshTokenRevocationStore).revoke(any());
+        }
+
+        @DisplayName("갱신으로 폐기된 토큰으로 유예 시간 안에 요청하면 폐기 여부를 먼저 확인한 뒤 보관된 결과를 반환한다")
+        @Test
+        public void doReturnGraceResult() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+            String token = jwtTokenProvider.createRefreshToken(1L);
+            doReturn(true).when(refreshTokenRevocationStore).isRevoked(any());
+            doReturn("issuedAccess issuedRefresh").when(valueOperations).get(startsWith("rtg:"));
+
+            //when
+            SilentRefreshResult result = jwtTokenProvider.silentRefresh(token);
+
+            //then
+            assertThat(result.getAccessToken()).isEqualTo("issuedAccess");
+            assertThat(result.getRefreshToken()).isEqualTo("issuedRefresh");
+            var inOrder = inOrder(refreshTokenRevocationStore, valueOperations);
+            inOrder.verify(refreshTokenRevocationStore).isRevoked(any());
+            inOrder.verify(valueOperations).get(startsWith("rtg:"));
+            verify(refreshTokenRevocationStore, never()).revoke(any());
+        }
+
+        @DisplayName("다른 노드가 먼저 발급했다면 그 결과를 반환한다")
+        @Test
+        public void doReturnOtherNodeResult() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+            String token = jwtTokenProvider.createRefreshToken(1L);
+            doReturn(false).when(refreshTokenRevocationStore).isRevoked(any());
+            doReturn(false).when(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+            doReturn("winnerAccess winnerRefresh").when(valueOperations).get(startsWith("rtg:"));
+
+            //when
+            SilentRefreshResult result = jwtTokenProvider.silentRefresh(token);
+
+            //then
+            assertThat(result.getAccessToken()).isEqualTo("winnerAccess");
+            assertThat(result.getRefreshToken()).isEqualTo("winnerRefresh");
+            verify(refreshTokenRevocationStore, never()).revoke(any());
+        }
+
+        @DisplayName("같은 토큰으로 동시에 요청하면 한 번만 발급하고 결과를 공유한다")
+        @Test
+        public void doShareResultForConcurrentRequests() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+            String token = jwtTokenProvider.createRefreshToken(1L);
+            doReturn(true).when(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+
+            int requestCount = 5;
+            CountDownLatch revokeLatch = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                revokeLatch.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(refreshTokenRevocationStore).revoke(any());
+
+            ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+            List<Future<SilentRefreshResult>> futures = new java.util.ArrayList<>();
+
+            //when
+            for (int i = 0; i < requestCount; i++) {
+                futures.add(executor.submit(() -> jwtTokenProvider.silentRefresh(token)));
+            }
+            Thread.sleep(300);
+            revokeLatch.countDown();
+
+            //then
+            SilentRefreshResult first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<SilentRefreshResult> future : futures) {
+                SilentRefreshResult result = future.get(5, TimeUnit.SECONDS);
+                assertThat(result.getAccessToken()).isEqualTo(first.getAccessToken());
+                assertThat(result.getRefreshToken()).isEqualTo(first.getRefreshToken());
+            }
+            verify(refreshTokenRevocationStore, times(1)).revoke(any());
+            executor.shutdown();
+        }
     }
 
     @DisplayName("토큰 invalidate 요청 시")
@@ -444,56 +594,65 @@ public class JwtTokenProviderUnitTest {
             Pair<Cookie, Cookie> emptyCookies = jwtTokenProvider.invalidateToken(cookies);
 
             //then
-            verify(redisTemplate, never()).opsForValue();
+            verify(refreshTokenRevocationStore, never()).revoke(any());
             assertThat(emptyCookies.getFirst().getMaxAge()).isEqualTo(0);
             assertThat(emptyCookies.getFirst().getValue()).isEmpty();
             assertThat(emptyCookies.getSecond().getMaxAge()).isEqualTo(0);
             assertThat(emptyCookies.getSecond().getValue()).isEmpty();
         }
 
-        @DisplayName("리프레쉬 토큰을 레디스 블랙 리스트에 등록한다")
+        @DisplayName("리프레쉬 토큰을 폐기 목록에 등록한다")
         @Test
-        public void doSaveOnRedis() throws Exception {
+        public void doRevoke() throws Exception {
             //given
             doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
 
             String refreshToken = jwtTokenProvider.createRefreshToken(1L);
+            String uuid = jwtTokenProvider.verifyToken(refreshToken).getUuid();
             Cookie[] cookies = new Cookie[]{jwtTokenProvider.createRefreshTokenCookie(refreshToken)};
 
-            ValueOperations<String, String> mockOperation = mock(ValueOperations.class);
-            doReturn(mockOperation).when(redisTemplate).opsForValue();
-
             //when
             jwtTokenProvider.invalidateToken(cookies);
 
             //then
-            verify(mockOperation).set(eq(refreshToken), eq(""), any(Duration.class));
+            verify(refreshTokenRevocationStore).revoke(argThat(claims -> claims.getUuid().equals(uuid)));
         }
 
-        @DisplayName("레디스에 등록된 토큰에 토큰 만료 시간만큼의 TTL이 등록된다")
+        @DisplayName("리프레쉬 토큰의 갱신 유예 결과를 삭제한다")
         @Test
-        public void doSetTTLOnRedis() throws Exception {
+        public void doDeleteGraceResult() throws Exception {
             //given
             doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
 
-            ValueOperations<String, String> mockOperation = mock(ValueOperations.class);
-            doReturn(mockOperation).when(redisTemplate).opsForValue();
-
             String refreshToken = jwtTokenProvider.createRefreshToken(1L);
+            String revocationId = RefreshTokenRevocationStore.toRevocationId(jwtTokenProvider.verifyToken(refreshToken));
             Cookie[] cookies = new Cookie[]{jwtTokenProvider.createRefreshTokenCookie(refreshToken)};
 
+            //when
+            jwtTokenProvider.invalidateToken(cookies);
+
+            //then
+            verify(redisTemplate).delete("rtg:" + revocationId);
+        }
+
+        @DisplayName("폐기 목록에 토큰 만료 시간이 함께 전달된다")
+        @Test
+        public void doPassExpiration() throws Exception {
+            //given
+            doReturn(REFRESH_TOKEN_VALIDATION_MILLISECOND).when(jwtTokenProperties).getRefreshTokenExpirationMilliseconds();
+
+            String refreshToken = jwtTokenProvider.createRefreshToken(1L);
+            Cookie[] cookies = new Cookie[]{jwtTokenProvider.createRefreshTokenCookie(refreshToken)};
             Date expiredDate = jwtTokenProvider.getExpiredDateFromToken(refreshToken);
-            long now = new Date().toInstant().getEpochSecond();
-            Duration timeout = Duration.ofSeconds(expiredDate.toInstant().getEpochSecond() - now);
 
-            ArgumentCaptor<Duration> durationCaptor = ArgumentCaptor.forClass(Duration.class);
+            ArgumentCaptor<JwtClaims> claimsCaptor = ArgumentCaptor.forClass(JwtClaims.class);
 
             //when
             jwtTokenProvider.invalidateToken(cookies);
 
             //then
-            verify(mockOperation).set(eq(refreshToken), eq(""), durationCaptor.capture());
-            assertThat(durationCaptor.getValue()).isCloseTo(timeout, Duration.ofSeconds(600));
+            verify(refreshTokenRevocationStore).revoke(claimsCaptor.capture());
+            assertThat(claimsCaptor.getValue().getExpiration()).isEqualTo(expiredDate);
         }
 
         @DisplayName("쿠키에 토큰 정보가 없을 경우 예외를 던지지 않고 빈 토큰을 반환한다")
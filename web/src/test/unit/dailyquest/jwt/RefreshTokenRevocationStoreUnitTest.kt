@@ -0,0 +1,202 @@
+package dailyquest.jwt
+
+import dailyquest.jwt.dto.JwtClaims
+import dailyquest.properties.RefreshTokenRevocationProperties
+import io.jsonwebtoken.JwtException
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ZSetOperations
+import java.util.*
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("리프레시 토큰 폐기 저장소 유닛 테스트")
+class RefreshTokenRevocationStoreUnitTest {
+    private lateinit var revocationStore: RefreshTokenRevocationStore
+    private lateinit var meterRegistry: SimpleMeterRegistry
+    private val redisTemplate: RedisTemplate<String, String> = mockk(relaxed = true)
+    private val zSetOps: ZSetOperations<String, String> = mockk(relaxed = true)
+    private val properties = RefreshTokenRevocationProperties()
+
+    @BeforeEach
+    fun init() {
+        every { redisTemplate.opsForZSet() } returns zSetOps
+        meterRegistry = SimpleMeterRegistry()
+        revocationStore = RefreshTokenRevocationStore(redisTemplate, mockk(relaxed = true), properties, meterRegistry)
+    }
+
+    private fun createClaims(uuid: UUID = UUID.randomUUID()): JwtClaims {
+        return JwtClaims(1L, "refresh", Date(System.currentTimeMillis() + 60000), uuid.toString())
+    }
+
+    @DisplayName("폐기 여부 확인 시")
+    @Nested
+    inner class TestIsRevoked {
+        @DisplayName("블룸 필터가 만들어지기 전에는 레디스를 조회한다")
+        @Test
+        fun `블룸 필터가 만들어지기 전에는 레디스를 조회한다`() {
+            //given
+            val claims = createClaims()
+            every { zSetOps.score(any(), any()) } returns 1.0
+
+            //when
+            val result = revocationStore.isRevoked(claims)
+
+            //then
+            assertThat(result).isTrue()
+            verify { zSetOps.score(properties.key, RefreshTokenRevocationStore.toRevocationId(claims)) }
+        }
+
+        @DisplayName("블룸 필터에 없는 토큰은 레디스를 조회하지 않는다")
+        @Test
+        fun `블룸 필터에 없는 토큰은 레디스를 조회하지 않는다`() {
+            //given
+            every { zSetOps.rangeByScore(any(), any(), any()) } returns setOf(RefreshTokenRevocationStore.toRevocationId(createClaims()))
+            revocationStore.rebuildBloomFilter()
+
+            //when
+            val result = revocationStore.isRevoked(createClaims())
+
+            //then
+            assertThat(result).isFalse()
+            verify(inverse = true) { zSetOps.score(any(), any()) }
+        }
+
+        @DisplayName("블룸 필터에 있는 토큰은 레디스에서 최종 확인한다")
+        @Test
+        fun `블룸 필터에 있는 토큰은 레디스에서 최종 확인한다`() {
+            //given
+            val claims = createClaims()
+            val revocationId = RefreshTokenRevocationStore.toRevocationId(claims)
+            every { zSetOps.rangeByScore(any(), any(), any()) } returns setOf(revocationId)
+            every { zSetOps.score(any(), revocationId) } returns 1.0
+            revocationStore.rebuildBloomFilter()
+
+            //when
+            val result = revocationStore.isRevoked(claims)
+
+            //then
+            assertThat(result).isTrue()
+            verify { zSetOps.score(properties.key, revocationId) }
+        }
+
+        @DisplayName("조회 출처별로 지연 시간이 기록된다")
+        @Test
+        fun `조회 출처별로 지연 시간이 기록된다`() {
+            //given
+            revocationStore.rebuildBloomFilter()
+
+            //when
+            revocationStore.isRevoked(createClaims())
+
+            //then
+            val count = meterRegistry.get("jwt.revocation.lookup").tag("source", "bloom").timer().count()
+            assertThat(count).isEqualTo(1)
+        }
+
+        @DisplayName("uuid 클레임이 없으면 JwtException이 발생한다")
+        @Test
+        fun `uuid 클레임이 없으면 JwtException이 발생한다`() {
+            //given
+            val claims = JwtClaims(1L, "refresh", Date())
+
+            //when
+            val run = { revocationStore.isRevoked(claims) }
+
+            //then
+            assertThatThrownBy(run).isInstanceOf(JwtException::class.java)
+        }
+    }
+
+    @DisplayName("토큰 폐기 시")
+    @Nested
+    inner class TestRevoke {
+        @DisplayName("만료 시각을 score로 레디스에 저장한다")
+        @Test
+        fun `만료 시각을 score로 레디스에 저장한다`() {
+            //given
+            val claims = createClaims()
+
+            //when
+            revocationStore.revoke(claims)
+
+            //then
+            val expectedScore = claims.expiration.toInstant().epochSecond.toDouble()
+            verify { zSetOps.add(properties.key, RefreshTokenRevocationStore.toRevocationId(claims), expectedScore) }
+        }
+
+        @DisplayName("다른 노드에 폐기 정보를 전파한다")
+        @Test
+        fun `다른 노드에 폐기 정보를 전파한다`() {
+            //given
+            val claims = createClaims()
+
+            //when
+            revocationStore.revoke(claims)
+
+            //then
+            verify { redisTemplate.convertAndSend(properties.channel, RefreshTokenRevocationStore.toRevocationId(claims)) }
+        }
+
+        @DisplayName("폐기한 토큰은 블룸 필터를 통과해 레디스에서 확인된다")
+        @Test
+        fun `폐기한 토큰은 블룸 필터를 통과해 레디스에서 확인된다`() {
+            //given
+            revocationStore.rebuildBloomFilter()
+            val claims = createClaims()
+            revocationStore.revoke(claims)
+
+            //when
+            revocationStore.isRevoked(claims)
+
+            //then
+            verify { zSetOps.score(any(), RefreshTokenRevocationStore.toRevocationId(claims)) }
+        }
+    }
+
+    @DisplayName("폐기 메시지 수신 시")
+    @Nested
+    inner class TestOnMessage {
+        @DisplayName("블룸 필터에 추가되어 레디스에서 확인된다")
+        @Test
+        fun `블룸 필터에 추가되어 레디스에서 확인된다`() {
+            //given
+            revocationStore.rebuildBloomFilter()
+            val claims = createClaims()
+            val revocationId = RefreshTokenRevocationStore.toRevocationId(claims)
+            val message = mockk<Message>()
+            every { message.body } returns revocationId.toByteArray()
+
+            //when
+            revocationStore.onMessage(message, null)
+
+            //then
+            revocationStore.isRevoked(claims)
+            verify { zSetOps.score(any(), revocationId) }
+        }
+    }
+
+    @DisplayName("폐기 ID는 uuid 문자열보다 짧은 22자로 압축된다")
+    @Test
+    fun `폐기 ID는 uuid 문자열보다 짧은 22자로 압축된다`() {
+        //given
+        val claims = createClaims()
+
+        //when
+        val revocationId = RefreshTokenRevocationStore.toRevocationId(claims)
+
+        //then
+        assertThat(revocationId).hasSize(22)
+    }
+}
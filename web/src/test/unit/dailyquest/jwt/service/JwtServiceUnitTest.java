@@ -1,13 +1,13 @@
 package dailyquest.jwt.service;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import dailyquest.common.GoogleIdTokenVerifierFactory;
+import dailyquest.common.CachedGoogleIdTokenVerifier;
 import dailyquest.jwt.JwtTokenProvider;
 import dailyquest.jwt.dto.TokenRequest;
-import dailyquest.redis.service.RedisService;
+import dailyquest.properties.NicknamePoolProperties;
 import dailyquest.user.dto.UserResponse;
 import dailyquest.user.entity.ProviderType;
+import dailyquest.user.nickname.NicknamePool;
 import dailyquest.user.service.UserService;
 import jakarta.servlet.http.Cookie;
 import kotlin.Pair;
@@ -20,8 +20,10 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -33,14 +35,14 @@ public class JwtServiceUnitTest {
     JwtService jwtService;
     @Mock JwtTokenProvider jwtTokenProvider;
     @Mock UserService userService;
-    @Mock GoogleIdTokenVerifierFactory verifierFactory;
-    @Mock RedisService redisService;
+    @Mock CachedGoogleIdTokenVerifier googleIdTokenVerifier;
+    @Mock NicknamePool nicknamePool;
+    NicknamePoolProperties nicknamePoolProperties = new NicknamePoolProperties(1000L, 200, 3);
     @Mock(answer = Answers.RETURNS_SMART_NULLS) MessageSourceAccessor messageSourceAccessor;
-    String clientId = "test-client-id";
 
     @BeforeEach
     void before() {
-        jwtService = new JwtService(clientId, jwtTokenProvider, userService, verifierFactory, redisService, messageSourceAccessor);
+        jwtService = new JwtService(jwtTokenProvider, userService, googleIdTokenVerifier, nicknamePool, nicknamePoolProperties, messageSourceAccessor);
     }
 
     @DisplayName("issueTokenCookie 요청 시")
@@ -67,9 +69,7 @@ public class JwtServiceUnitTest {
             String idToken = "id-token";
             doReturn(idToken).when(mockRequest).getIdToken();
 
-            GoogleIdTokenVerifier mockVerifier = mock(GoogleIdTokenVerifier.class);
-            doReturn(mockVerifier).when(verifierFactory).create(any(), any(), any());
-            doThrow(new RuntimeException()).when(mockVerifier).verify(eq(idToken));
+            doThrow(new RuntimeException()).when(googleIdTokenVerifier).verify(eq(idToken));
 
             //when
             Runnable run = () -> jwtService.issueTokenCookie(mockRequest);
@@ -90,11 +90,8 @@ public class JwtServiceUnitTest {
                 String rawIdToken = "id-token";
                 doReturn(rawIdToken).when(mockRequest).getIdToken();
 
-                GoogleIdTokenVerifier mockVerifier = mock(GoogleIdTokenVerifier.class);
-                doReturn(mockVerifier).when(verifierFactory).create(any(), any(), any());
-
                 GoogleIdToken mockIdToken = mock(GoogleIdToken.class);
-                doReturn(mockIdToken).when(mockVerifier).verify(eq(rawIdToken));
+                doReturn(mockIdToken).when(googleIdTokenVerifier).verify(eq(rawIdToken));
 
                 GoogleIdToken.Payload mockPayload = mock(GoogleIdToken.Payload.class, Answers.RETURNS_SMART_NULLS);
                 doReturn(mockPayload).when(mockIdToken).getPayload();
@@ -129,11 +126,8 @@ public class JwtServiceUnitTest {
                 String rawIdToken = "id-token";
                 doReturn(rawIdToken).when(mockRequest).getIdToken();
 
-                GoogleIdTokenVerifier mockVerifier = mock(GoogleIdTokenVerifier.class);
-                doReturn(mockVerifier).when(verifierFactory).create(any(), any(), any());
-
                 GoogleIdToken mockIdToken = mock(GoogleIdToken.class);
-                doReturn(mockIdToken).when(mockVerifier).verify(eq(rawIdToken));
+                doReturn(mockIdToken).when(googleIdTokenVerifier).verify(eq(rawIdToken));
 
                 GoogleIdToken.Payload mockPayload = mock(GoogleIdToken.Payload.class, Answers.RETURNS_SMART_NULLS);
                 doReturn(mockPayload).when(mockIdToken).getPayload();
@@ -146,7 +140,7 @@ public class JwtServiceUnitTest {
                 doReturn(accessToken).when(jwtTokenProvider).createAccessToken(any());
                 doReturn(refreshToken).when(jwtTokenProvider).createRefreshToken(any());
 
-                doReturn("").when(redisService).createRandomNickname();
+                doReturn("").when(nicknamePool).pop();
                 UserResponse mockUser = mock(UserResponse.class);
                 doReturn(mockUser).when(userService).getUserById(anyLong());
 
@@ -156,6 +150,75 @@ public class JwtServiceUnitTest {
                 //then
                 verify(userService).saveUser(any());
             }
+
+            @DisplayName("닉네임 중복으로 저장에 실패하면 풀에서 다른 닉네임을 꺼내 다시 저장한다")
+            @Test
+            public void whenSaveFailedThenRetryWithAnotherNickname() throws Exception {
+                //given
+                TokenRequest mockRequest = stubNewUserRequest();
+                doReturn("first", "second").when(nicknamePool).pop();
+                doThrow(new DataIntegrityViolationException("unique_nickname")).doReturn(1L).when(userService).saveUser(any());
+                UserResponse mockUser = mock(UserResponse.class);
+                doReturn(mockUser).when(userService).getUserById(anyLong());
+
+                //when
+                jwtService.issueTokenCookie(mockRequest);
+
+                //then
+                verify(nicknamePool, times(2)).pop();
+                verify(userService, times(2)).saveUser(any());
+                verify(userService).getUserById(eq(1L));
+            }
+
+            @DisplayName("같은 계정이 먼저 저장되어 실패하면 저장된 유저로 토큰을 생성한다")
+            @Test
+            public void whenSameAccountSavedConcurrentlyThenUseSavedUser() throws Exception {
+                //given
+                TokenRequest mockRequest = stubNewUserRequest();
+                doReturn("nickname").when(nicknamePool).pop();
+                doThrow(new DataIntegrityViolationException("unique_oauth2_id")).when(userService).saveUser(any());
+                UserResponse savedUser = mock(UserResponse.class);
+                doReturn(1L).when(savedUser).getId();
+                doReturn(null).doReturn(savedUser).when(userService).findUserByOauthId(any());
+
+                //when
+                jwtService.issueTokenCookie(mockRequest);
+
+                //then
+                verify(userService, times(1)).saveUser(any());
+                verify(jwtTokenProvider).createAccessToken(eq(1L));
+            }
+
+            @DisplayName("최대 시도 횟수만큼 저장에 실패하면 예외를 던진다")
+            @Test
+            public void whenSaveFailedUntilMaxAttemptsThenThrow() throws Exception {
+                //given
+                TokenRequest mockRequest = stubNewUserRequest();
+                doReturn("nickname").when(nicknamePool).pop();
+                doThrow(new DataIntegrityViolationException("unique_nickname")).when(userService).saveUser(any());
+
+                //when
+                Runnable run = () -> jwtService.issueTokenCookie(mockRequest);
+
+                //then
+                assertThatThrownBy(run::run).isInstanceOf(DataIntegrityViolationException.class);
+                verify(userService, times(nicknamePoolProperties.getMaxSaveAttempts())).saveUser(any());
+            }
+
+            private TokenRequest stubNewUserRequest() throws Exception {
+                TokenRequest mockRequest = mock(TokenRequest.class);
+                doReturn(ProviderType.GOOGLE).when(mockRequest).getProviderType();
+                String rawIdToken = "id-token";
+                doReturn(rawIdToken).when(mockRequest).getIdToken();
+
+                GoogleIdToken mockIdToken = mock(GoogleIdToken.class);
+                doReturn(mockIdToken).when(googleIdTokenVerifier).verify(eq(rawIdToken));
+                GoogleIdToken.Payload mockPayload = mock(GoogleIdToken.Payload.class, Answers.RETURNS_SMART_NULLS);
+                doReturn(mockPayload).when(mockIdToken).getPayload();
+
+                lenient().doReturn(null).when(userService).findUserByOauthId(any());
+                return mockRequest;
+            }
         }
     }
 
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
 import com.fasterxml.jackson.module.kotlin.registerKotlinModule
 import dailyquest.annotation.WebMvcUnitTest
-import dailyquest.common.UserLevelLock
 import dailyquest.common.unitTestDefaultConfiguration
 import dailyquest.preferencequest.dto.WebPreferenceDetailRequest
 import dailyquest.preferencequest.dto.WebPreferenceQuestRequest
@@ -31,7 +30,6 @@ import org.springframework.test.web.servlet.get
 import org.springframework.test.web.servlet.patch
 import org.springframework.test.web.servlet.post
 import java.math.BigInteger
-import java.util.function.Supplier
 import java.util.stream.Stream
 
 @DisplayName("선호 퀘스트 API 컨트롤러 유닛 테스트")
@@ -44,9 +42,6 @@ class PreferenceQuestApiControllerUnitTest {
     @MockBean
     lateinit var preferenceQuestService: PreferenceQuestService
 
-    @MockBean
-    lateinit var userLevelLock: UserLevelLock
-
     @MockBean
     lateinit var questIndexService: QuestIndexService
 
@@ -309,14 +304,13 @@ class PreferenceQuestApiControllerUnitTest {
             result.andExpect { status { isBadRequest() } }
         }
 
-        @DisplayName("요청 ID가 유효하면 named lock을 통해 서비스 메서드가 호출된다")
+        @DisplayName("요청 ID가 유효하면 named lock 없이 서비스 메서드가 호출된다")
         @Test
-        fun `요청 ID가 유효하면 named lock을 통해 서비스 메서드가 호출된다`() {
+        fun `요청 ID가 유효하면 named lock 없이 서비스 메서드가 호출된다`() {
             //given
             val preferenceQuestId = 1L
             val uri = "/$preferenceQuestId/register"
             doReturn(mock<QuestResponse>(defaultAnswer = Answers.RETURNS_DEEP_STUBS)).`when`(preferenceQuestService).registerQuestByPreferenceQuest(any(), any())
-            doAnswer { (it.getArgument(2) as Supplier<*>).get() }.`when`(userLevelLock).executeWithLock(any(), any(), any<Supplier<*>>())
 
             //when
             val result = mvc.post(URI_PREFIX + uri,
@@ -327,38 +321,16 @@ class PreferenceQuestApiControllerUnitTest {
 
             //then
             result.andExpect { status { isOk() } }
-            verify(userLevelLock, times(1)).executeWithLock(any(), any(), any<Supplier<*>>())
             verify(preferenceQuestService, times(1)).registerQuestByPreferenceQuest(eq(preferenceQuestId), any())
         }
 
-        @DisplayName("서비스 메서드 호출 시 named lock을 통해 호출된다")
-        @Test
-        fun `서비스 메서드 호출 시 named lock을 통해 호출된다`() {
-            //given
-            val preferenceQuestId = 1L
-            val uri = "/$preferenceQuestId/register"
-
-            doReturn(mock<QuestResponse>(defaultAnswer = Answers.RETURNS_DEEP_STUBS)).`when`(userLevelLock).executeWithLock(any(), any(), any<Supplier<*>>())
-
-            //when
-            val result = mvc.post(URI_PREFIX + uri,
-                dsl = {
-                    with(csrf())
-                }
-            )
-
-            //then
-            result.andExpect { status { isOk() } }
-            verify(userLevelLock, times(1)).executeWithLock(any(), any(), any<Supplier<*>>())
-        }
-
 
         @DisplayName("엘라스틱서치 문서 저장 로직이 호출된다")
         @Test
         fun `엘라스틱서치 문서 저장 로직이 호출된다`() {
             //given
             val questResponse = mock<QuestResponse>(defaultAnswer = Answers.RETURNS_DEEP_STUBS)
-            doReturn(questResponse).`when`(userLevelLock).executeWithLock(any(), any(), any<Supplier<*>>())
+            doReturn(questResponse).`when`(preferenceQuestService).registerQuestByPreferenceQuest(any(), any())
 
             //when
             mvc.post("$URI_PREFIX/1/register") {
@@ -0,0 +1,166 @@
+package dailyquest.quest.cache
+
+import dailyquest.properties.CurrentQuestsCacheProperties
+import dailyquest.quest.dto.QuestResponse
+import dailyquest.quest.entity.QuestState
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.within
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import java.time.Clock
+import java.time.Duration
+import java.time.LocalDateTime
+import java.time.ZoneOffset
+import java.time.temporal.ChronoUnit
+
+@DisplayName("오늘의 퀘스트 목록 캐시 유닛 테스트")
+class CurrentQuestsCacheUnitTest {
+    private val timeZone = ZoneOffset.ofHours(9)
+    private val now = LocalDateTime.of(2022, 12, 12, 5, 0, 0)
+    private val clock = Clock.fixed(now.atZone(timeZone).toInstant(), timeZone)
+    private lateinit var currentQuestsCache: CurrentQuestsCache
+    private lateinit var meterRegistry: SimpleMeterRegistry
+
+    @BeforeEach
+    fun init() {
+        meterRegistry = SimpleMeterRegistry()
+        currentQuestsCache = CurrentQuestsCache(CurrentQuestsCacheProperties(), meterRegistry, clock)
+    }
+
+    @DisplayName("get 호출 시")
+    @Nested
+    inner class TestGet {
+        @DisplayName("캐시에 있으면 로더를 호출하지 않는다")
+        @Test
+        fun `캐시에 있으면 로더를 호출하지 않는다`() {
+            //given
+            var loadCount = 0
+            val loader = { loadCount++; listOf(QuestResponse()) }
+            currentQuestsCache.get(1L, QuestState.PROCEED, loader)
+
+            //when
+            currentQuestsCache.get(1L, QuestState.PROCEED, loader)
+
+            //then
+            assertThat(loadCount).isEqualTo(1)
+            val hitCount = meterRegistry.get("cache.gets")
+                .tag("cache", CurrentQuestsCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter().count()
+            assertThat(hitCount).isEqualTo(1.0)
+            assertThat(meterRegistry.find("cache.load.saved").tag("cache", CurrentQuestsCache.CACHE_NAME).functionCounter()).isNotNull
+        }
+
+        @DisplayName("캐시가 비활성화되어 있으면 매번 로더를 호출한다")
+        @Test
+        fun `캐시가 비활성화되어 있으면 매번 로더를 호출한다`() {
+            //given
+            val disabledCache = CurrentQuestsCache(CurrentQuestsCacheProperties(enabled = false), SimpleMeterRegistry(), clock)
+            var loadCount = 0
+            val loader = { loadCount++; listOf(QuestResponse()) }
+
+            //when
+            disabledCache.get(1L, QuestState.PROCEED, loader)
+            disabledCache.get(1L, QuestState.PROCEED, loader)
+
+            //then
+            assertThat(loadCount).isEqualTo(2)
+        }
+
+        @DisplayName("유저의 전체 목록을 한 번만 조회하고 요청한 상태의 퀘스트만 반환한다")
+        @Test
+        fun `유저의 전체 목록을 한 번만 조회하고 요청한 상태의 퀘스트만 반환한다`() {
+            //given
+            var loadCount = 0
+            val proceed = QuestResponse(id = 1L, state = QuestState.PROCEED)
+            val fail = QuestResponse(id = 2L, state = QuestState.FAIL)
+            val loader = { loadCount++; listOf(proceed, fail) }
+
+            //when
+            val proceedQuests = currentQuestsCache.get(1L, QuestState.PROCEED, loader)
+            val failQuests = currentQuestsCache.get(1L, QuestState.FAIL, loader)
+
+            //then
+            assertThat(loadCount).isEqualTo(1)
+            assertThat(proceedQuests).containsExactly(proceed)
+            assertThat(failQuests).containsExactly(fail)
+        }
+
+        @DisplayName("실패 목록을 조회해도 진행 중 퀘스트의 가장 이른 마감 기한이 지난 뒤 만료된다")
+        @Test
+        fun `실패 목록을 조회해도 진행 중 퀘스트의 가장 이른 마감 기한이 지난 뒤 만료된다`() {
+            //given
+            val quests = listOf(
+                QuestResponse(state = QuestState.PROCEED, deadLine = now.plusMinutes(10)),
+                QuestResponse(state = QuestState.FAIL),
+            )
+
+            //when
+            currentQuestsCache.get(1L, QuestState.FAIL) { quests }
+
+            //then
+            val expiresAfter = currentQuestsCache.expiresAfter(1L)!!
+            val expected = Duration.of(10, ChronoUnit.MINUTES).plusSeconds(CurrentQuestsCacheProperties().deadLineLagSeconds)
+            assertThat(expiresAfter.seconds).isCloseTo(expected.seconds, within(1L))
+        }
+
+        @DisplayName("마감 기한이 있는 진행 중 퀘스트가 없으면 다음 오전 6시에 만료된다")
+        @Test
+        fun `마감 기한이 있는 진행 중 퀘스트가 없으면 다음 오전 6시에 만료된다`() {
+            //given
+            val quests = listOf(QuestResponse(state = QuestState.PROCEED), QuestResponse(state = QuestState.COMPLETE, deadLine = now.plusMinutes(10)))
+
+            //when
+            currentQuestsCache.get(1L, QuestState.PROCEED) { quests }
+
+            //then
+            val expiresAfter = currentQuestsCache.expiresAfter(1L)!!
+            assertThat(expiresAfter.seconds).isCloseTo(Duration.ofHours(1).seconds, within(1L))
+        }
+
+        @DisplayName("진행 중 퀘스트에 마감 기한이 있으면 가장 이른 마감 기한이 지난 뒤 만료된다")
+        @Test
+        fun `진행 중 퀘스트에 마감 기한이 있으면 가장 이른 마감 기한이 지난 뒤 만료된다`() {
+            //given
+            val quests = listOf(
+                QuestResponse(state = QuestState.PROCEED, deadLine = now.plusMinutes(30)),
+                QuestResponse(state = QuestState.PROCEED, deadLine = now.plusMinutes(10)),
+            )
+
+            //when
+            currentQuestsCache.get(1L, QuestState.PROCEED) { quests }
+
+            //then
+            val expiresAfter = currentQuestsCache.expiresAfter(1L)!!
+            val expected = Duration.of(10, ChronoUnit.MINUTES).plusSeconds(CurrentQuestsCacheProperties().deadLineLagSeconds)
+            assertThat(expiresAfter.seconds).isCloseTo(expected.seconds, within(1L))
+        }
+    }
+
+    @DisplayName("evict 호출 시")
+    @Nested
+    inner class TestEvict {
+        @DisplayName("해당 유저의 목록만 제거된다")
+        @Test
+        fun `해당 유저의 목록만 제거된다`() {
+            //given
+            var loadCount = 0
+            val loader = { loadCount++; listOf(QuestResponse()) }
+            currentQuestsCache.get(1L, QuestState.PROCEED, loader)
+            currentQuestsCache.get(1L, QuestState.COMPLETE, loader)
+            currentQuestsCache.get(2L, QuestState.PROCEED, loader)
+
+            //when
+            currentQuestsCache.evict(1L)
+
+            //then
+            currentQuestsCache.get(1L, QuestState.PROCEED, loader)
+            currentQuestsCache.get(1L, QuestState.COMPLETE, loader)
+            currentQuestsCache.get(2L, QuestState.PROCEED, loader)
+            assertThat(loadCount).isEqualTo(3)
+        }
+    }
+}
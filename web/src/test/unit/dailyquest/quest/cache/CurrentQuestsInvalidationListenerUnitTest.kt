@@ -0,0 +1,103 @@
+package dailyquest.quest.cache
+
+import dailyquest.properties.CurrentQuestsCacheProperties
+import dailyquest.quest.event.QuestChangedEvent
+import io.mockk.every
+import io.mockk.impl.annotations.InjectMockKs
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("오늘의 퀘스트 목록 캐시 무효화 리스너 유닛 테스트")
+class CurrentQuestsInvalidationListenerUnitTest {
+    @InjectMockKs
+    lateinit var listener: CurrentQuestsInvalidationListener
+    @RelaxedMockK
+    lateinit var currentQuestsCache: CurrentQuestsCache
+    @RelaxedMockK
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @RelaxedMockK
+    lateinit var listenerContainer: RedisMessageListenerContainer
+    @RelaxedMockK
+    lateinit var cacheProperties: CurrentQuestsCacheProperties
+    private val channel = "channel"
+
+    @BeforeEach
+    fun init() {
+        every { cacheProperties.invalidationChannel } returns channel
+    }
+
+    @DisplayName("퀘스트 변경 이벤트 수신 시")
+    @Nested
+    inner class TestOnQuestChanged {
+        @DisplayName("로컬 캐시에서 해당 유저의 목록을 제거하고 다른 노드에 유저 ID를 전파한다")
+        @Test
+        fun `로컬 캐시에서 해당 유저의 목록을 제거하고 다른 노드에 유저 ID를 전파한다`() {
+            //given
+            val userId = 1L
+
+            //when
+            listener.onQuestChanged(QuestChangedEvent(userId))
+
+            //then
+            verify { currentQuestsCache.evict(eq(userId)) }
+            verify { redisTemplate.convertAndSend(eq(channel), eq(userId.toString())) }
+        }
+
+        @DisplayName("전파에 실패해도 예외가 발생하지 않는다")
+        @Test
+        fun `전파에 실패해도 예외가 발생하지 않는다`() {
+            //given
+            every { redisTemplate.convertAndSend(any(), any()) } throws IllegalStateException()
+
+            //when
+            listener.onQuestChanged(QuestChangedEvent(1L))
+
+            //then
+            verify { currentQuestsCache.evict(any()) }
+        }
+    }
+
+    @DisplayName("무효화 메시지 수신 시")
+    @Nested
+    inner class TestOnMessage {
+        @DisplayName("유저 ID가 담겨 있으면 해당 유저만 제거한다")
+        @Test
+        fun `유저 ID가 담겨 있으면 해당 유저만 제거한다`() {
+            //given
+            val message = mockk<Message>()
+            every { message.body } returns "1".toByteArray()
+
+            //when
+            listener.onMessage(message, null)
+
+            //then
+            verify { currentQuestsCache.evict(eq(1L)) }
+            verify(inverse = true) { currentQuestsCache.evictAll() }
+        }
+
+        @DisplayName("전체 무효화 메시지면 모든 유저를 제거한다")
+        @Test
+        fun `전체 무효화 메시지면 모든 유저를 제거한다`() {
+            //given
+            val message = mockk<Message>()
+            every { message.body } returns CurrentQuestsInvalidationListener.EVICT_ALL.toByteArray()
+
+            //when
+            listener.onMessage(message, null)
+
+            //then
+            verify { currentQuestsCache.evictAll() }
+        }
+    }
+}
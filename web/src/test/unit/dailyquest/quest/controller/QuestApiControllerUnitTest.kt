@@ -3,7 +3,6 @@ package dailyquest.quest.controller
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
 import dailyquest.annotation.WebMvcUnitTest
-import dailyquest.common.UserLevelLock
 import dailyquest.common.unitTestDefaultConfiguration
 import dailyquest.quest.dto.*
 import dailyquest.quest.entity.DetailQuestType
@@ -29,6 +28,7 @@ import org.mockito.ArgumentMatchers.*
 import org.mockito.Mockito.`when`
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.mock.mockito.MockBean
@@ -45,7 +45,6 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.*
 import java.math.BigInteger
 import java.time.LocalDateTime
-import java.util.function.Supplier
 import java.util.stream.Stream
 
 @DisplayName("퀘스트 API 컨트롤러 유닛 테스트")
@@ -57,9 +56,6 @@ class QuestApiControllerUnitTest {
     @MockBean
     lateinit var questService: QuestService
 
-    @MockBean
-    lateinit var userLevelLock: UserLevelLock
-
     @MockBean
     lateinit var questIndexService: QuestIndexService
 
@@ -225,6 +221,53 @@ class QuestApiControllerUnitTest {
 
     }
 
+    @DisplayName("검색 엔진 문서만으로 퀘스트 검색 시")
+    @Nested
+    inner class QuestSearchFromIndexTest {
+        private val url = "$URI_PREFIX/search"
+
+        @DisplayName("키워드 검색이면 퀘스트 서비스를 거치지 않고 문서 원본으로 응답한다")
+        @Test
+        fun `키워드 검색이면 퀘스트 서비스를 거치지 않고 문서 원본으로 응답한다`() {
+            //given
+            val searchResults = PageImpl(listOf(QuestSearchResult(id = 1L, title = "title1")))
+            `when`(questIndexService.searchDocumentSources(any(), any(), any())).thenReturn(searchResults)
+
+            //when
+            val result = mvc.perform(
+                get(url)
+                    .queryParam("indexOnly", "true")
+                    .queryParam("keywordType", QuestSearchKeywordType.ALL.name)
+                    .queryParam("keyword", "keyword")
+            )
+
+            //then
+            result
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.data.content[0].title").value("title1"))
+                .andExpect(jsonPath("$.data.content[0].detailQuests").doesNotExist())
+            verify(questService, never()).searchQuest(any(), any())
+        }
+
+        @DisplayName("키워드가 없으면 DB 조회 결과를 같은 형태로 응답한다")
+        @Test
+        fun `키워드가 없으면 DB 조회 결과를 같은 형태로 응답한다`() {
+            //given
+            //when
+            val result = mvc.perform(
+                get(url)
+                    .queryParam("indexOnly", "true")
+            )
+
+            //then
+            result
+                .andExpect(status().isOk)
+                .andExpect(jsonPath("$.data.content.size()").value(currentQuests.size))
+                .andExpect(jsonPath("$.data.content[0].detailTitles").exists())
+            verify(questIndexService, never()).searchDocumentSources(any(), any(), any())
+        }
+    }
+
     @DisplayName("퀘스트 조회 시")
     @Nested
     inner class QuestGetTest {
@@ -281,8 +324,7 @@ class QuestApiControllerUnitTest {
         fun init() {
             mockkStatic(LocalDateTime::class)
             every { LocalDateTime.now() } returns now
-            `when`(userLevelLock.executeWithLock(any(), anyInt(), any(Supplier::class.java)))
-                .thenReturn(questResponse)
+            `when`(questService.saveQuest(any(), any())).thenReturn(questResponse)
         }
 
         @AfterEach
@@ -0,0 +1,53 @@
+package dailyquest.quest.dto
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+import java.util.Base64
+
+@DisplayName("퀘스트 검색 커서 유닛 테스트")
+class QuestSearchCursorUnitTest {
+
+    @DisplayName("인코딩한 토큰을 다시 읽으면 같은 마지막 ID가 담긴다")
+    @Test
+    fun `인코딩한 토큰을 다시 읽으면 같은 마지막 ID가 담긴다`() {
+        //given
+        val token = QuestSearchCursor(1234L).encode()
+
+        //when
+        val cursor = QuestSearchCursor.from(token)
+
+        //then
+        assertThat(cursor?.lastId).isEqualTo(1234L)
+    }
+
+    @DisplayName("빈 토큰이면 마지막 ID가 없는 첫 페이지 커서를 반환한다")
+    @ValueSource(strings = ["", " "])
+    @ParameterizedTest(name = "[{0}] 값이 들어오면 첫 페이지 커서를 반환한다")
+    fun `빈 토큰이면 마지막 ID가 없는 첫 페이지 커서를 반환한다`(token: String) {
+        //given
+        //when
+        val cursor = QuestSearchCursor.from(token)
+
+        //then
+        assertThat(cursor).isNotNull
+        assertThat(cursor!!.lastId).isNull()
+    }
+
+    @DisplayName("형식이 잘못된 토큰이면 null을 반환한다")
+    @Test
+    fun `형식이 잘못된 토큰이면 null을 반환한다`() {
+        //given
+        val notBase64 = "@@@"
+        val notNumber = Base64.getUrlEncoder().encodeToString("abc".toByteArray())
+        val notPositive = Base64.getUrlEncoder().encodeToString("0".toByteArray())
+
+        //when
+        //then
+        assertThat(QuestSearchCursor.from(notBase64)).isNull()
+        assertThat(QuestSearchCursor.from(notNumber)).isNull()
+        assertThat(QuestSearchCursor.from(notPositive)).isNull()
+    }
+}
@@ -109,4 +109,24 @@ public class QuestLogRepositoryUnitTest {
         assertThat(groupedQuestLogs).isEmpty();
     }
 
+    @DisplayName("로그 일괄 저장 시 모든 로그가 저장된다")
+    @Test
+    public void testSaveAllInBatch() throws Exception {
+        //given
+        LocalDate loggedDate = LocalDate.of(2022, 12, 1);
+        List<QuestLog> questLogs = List.of(
+                new QuestLog(1L, 1L, QuestState.COMPLETE, QuestType.MAIN, loggedDate),
+                new QuestLog(1L, 2L, QuestState.DISCARD, QuestType.SUB, loggedDate),
+                new QuestLog(2L, 3L, QuestState.PROCEED, QuestType.MAIN, loggedDate)
+        );
+
+        //when
+        questLogRepository.saveAllInBatch(questLogs);
+
+        //then
+        List<QuestLog> savedLogs = questLogRepository.findAll();
+        assertThat(savedLogs).hasSize(3);
+        assertThat(savedLogs).extracting(QuestLog::getQuestId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(savedLogs).extracting(QuestLog::getLoggedDate).containsOnly(loggedDate);
+    }
 }
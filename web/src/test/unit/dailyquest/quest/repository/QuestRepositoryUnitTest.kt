@@ -1,7 +1,13 @@
 package dailyquest.quest.repository
 
 import dailyquest.config.JpaAuditingConfiguration
+import dailyquest.quest.dto.QuestResponse
 import dailyquest.quest.dto.QuestSearchCondition
+import dailyquest.quest.dto.SimpleQuestRequest
+import dailyquest.quest.dto.WebDetailQuestRequest
+import dailyquest.quest.entity.DetailQuest
+import dailyquest.quest.entity.DetailQuestState
+import dailyquest.quest.entity.DetailQuestType
 import dailyquest.quest.entity.Quest
 import dailyquest.quest.entity.QuestState
 import dailyquest.quest.entity.QuestType
@@ -11,6 +17,8 @@ import dailyquest.user.repository.UserRepository
 import jakarta.persistence.EntityManager
 import jakarta.persistence.PersistenceContext
 import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.SessionFactory
+import org.hibernate.stat.Statistics
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
@@ -161,7 +169,7 @@ class QuestRepositoryUnitTest {
 
         private fun insertQuestWithCreatedTime(createdTime: LocalDateTime) {
             val insertQuery = entityManager
-                .createNativeQuery("insert into quest (quest_id, created_date, last_modified_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
+                .createNativeQuery("insert into quest (quest_id, created_date, last_modified_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
                 .setParameter(3, user.id)
             insertQuery.setParameter(1, createdTime).setParameter(2, createdTime).executeUpdate()
         }
@@ -244,6 +252,44 @@ class QuestRepositoryUnitTest {
         }
     }
 
+    @DisplayName("getMaxSeqOfUsersCreatedSince 호출 시")
+    @Nested
+    inner class GetMaxSeqOfUsersCreatedSinceTest {
+
+        @Test
+        @DisplayName("기준 시각 이후 퀘스트를 등록한 유저별 MAX_SEQ 값을 반환한다")
+        fun `기준 시각 이후 퀘스트를 등록한 유저별 MAX_SEQ 값을 반환한다`() {
+            //given
+            questRepository.deleteAll()
+            questRepository.flush()
+            val since = LocalDateTime.now().minusMinutes(1)
+            questRepository.save(Quest("", "", user.id, 3L, QuestState.PROCEED, QuestType.MAIN))
+            questRepository.save(Quest("", "", user.id, 9L, QuestState.PROCEED, QuestType.MAIN))
+            questRepository.save(Quest("", "", anotherUser.id, 4L, QuestState.PROCEED, QuestType.MAIN))
+            questRepository.flush()
+
+            //when
+            val maxSeqOfUsers = questRepository.getMaxSeqOfUsersCreatedSince(since)
+
+            //then
+            assertThat(maxSeqOfUsers).containsExactlyInAnyOrderEntriesOf(mapOf(user.id to 9L, anotherUser.id to 4L))
+        }
+
+        @Test
+        @DisplayName("기준 시각 이후 등록된 퀘스트가 없으면 빈 값을 반환한다")
+        fun `기준 시각 이후 등록된 퀘스트가 없으면 빈 값을 반환한다`() {
+            //given
+            questRepository.save(Quest("", "", user.id, 3L, QuestState.PROCEED, QuestType.MAIN))
+            questRepository.flush()
+
+            //when
+            val maxSeqOfUsers = questRepository.getMaxSeqOfUsersCreatedSince(LocalDateTime.now().plusMinutes(1))
+
+            //then
+            assertThat(maxSeqOfUsers).isEmpty()
+        }
+    }
+
     @DisplayName("findQuestsByCondition 메서드 호출 시")
     @Nested
     inner class TestForFindQuestsByCondition {
@@ -297,7 +343,7 @@ class QuestRepositoryUnitTest {
         fun `시작일과 종료일 검색 조건이 모두 null이면 모든 등록일의 퀘스트가 조회된다`() {
             //given
             val query = entityManager
-                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
+                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
                 .setParameter(2, user.id)
 
             val time = LocalTime.of(12, 0, 0)
@@ -327,7 +373,7 @@ class QuestRepositoryUnitTest {
         fun `시작일이 null이 아니고 종료일이 null이면 퀘스트 등록일이 시작일 오전 6시와 같거나 이후인 퀘스트만 조회된다`() {
             //given
             val query = entityManager
-                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
+                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
                 .setParameter(2, user.id)
 
             val startDate = LocalDate.of(2022, 12, 1)
@@ -356,7 +402,7 @@ class QuestRepositoryUnitTest {
         fun `시작일이 null이고 종료일이 null이 아니면 등록일이 종료일 다음날 오전 6시와 같거나 이전인 퀘스트만 조회된다`() {
             //given
             val query = entityManager
-                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
+                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
                 .setParameter(2, user.id)
 
             val endDate = LocalDate.of(2022, 12, 1)
@@ -385,7 +431,7 @@ class QuestRepositoryUnitTest {
         fun testWhenBothNotNull() {
             //given
             val query = entityManager
-                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (default, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
+                .createNativeQuery("insert into quest (quest_id, created_date, description, user_quest_seq, state, title, type, user_id) values (next value for quest_id_seq, ?, '', 1, 'PROCEED', '', 'MAIN', ?)")
                 .setParameter(2, user.id)
 
             val startDate = LocalDate.of(2022, 12, 1)
@@ -439,4 +485,226 @@ class QuestRepositoryUnitTest {
             assertThat(findQuests).hasSize(savedQuest.size)
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("응답 DTO 프로젝션 조회 시")
+    @Nested
+    inner class TestForQuestResponseProjection {
+        private val prevDate = LocalDateTime.now().minusDays(1)
+        private val nextDate = LocalDateTime.now().plusDays(1)
+
+        private fun saveQuestWithDetails(state: QuestState = QuestState.PROCEED, vararg detailStates: DetailQuestState): Quest {
+            val quest = Quest("title", "desc", user.id, 1L, state, QuestType.MAIN)
+            quest.replaceDetailQuests(detailStates.mapIndexed { index, detailState ->
+                val count = if (detailState == DetailQuestState.COMPLETE) 3 else 1
+                DetailQuest.of("detail$index", 3, count, DetailQuestType.COUNT, detailState, quest)
+            })
+            return questRepository.saveAndFlush(quest)
+        }
+
+        @DisplayName("엔티티를 영속성 컨텍스트에 올리지 않는다")
+        @Test
+        fun `엔티티를 영속성 컨텍스트에 올리지 않는다`() {
+            //given
+            saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.PROCEED, DetailQuestState.COMPLETE)
+            entityManager.clear()
+            val statistics = entityManager.entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+            statistics.isStatisticsEnabled = true
+            statistics.clear()
+
+            //when
+            val responses = questRepository.getCurrentQuestResponses(user.id, QuestState.PROCEED, prevDate, nextDate)
+
+            //then
+            assertThat(responses).hasSize(1)
+            assertThat(statistics.entityLoadCount).isZero
+            assertThat(statistics.prepareStatementCount).isEqualTo(2)
+        }
+
+        @DisplayName("엔티티로 만든 응답과 같은 값을 반환한다")
+        @Test
+        fun `엔티티로 만든 응답과 같은 값을 반환한다`() {
+            //given
+            val savedQuest = saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.PROCEED, DetailQuestState.COMPLETE)
+            saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.COMPLETE)
+            saveQuestWithDetails(QuestState.PROCEED)
+            entityManager.clear()
+            val expected = questRepository.getCurrentQuests(user.id, QuestState.PROCEED, prevDate, nextDate)
+                .map { QuestResponse.createDto(it) }
+            entityManager.clear()
+
+            //when
+            val responses = questRepository.getCurrentQuestResponses(user.id, QuestState.PROCEED, prevDate, nextDate)
+
+            //then
+            assertThat(responses).containsExactlyInAnyOrderElementsOf(expected)
+            assertThat(responses.first { it.id == savedQuest.id }.canComplete).isFalse()
+        }
+
+        @DisplayName("전체 상태 조회는 상태와 관계없이 오늘의 퀘스트를 모두 반환한다")
+        @Test
+        fun `전체 상태 조회는 상태와 관계없이 오늘의 퀘스트를 모두 반환한다`() {
+            //given
+            val proceedQuest = saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.PROCEED)
+            val failQuest = saveQuestWithDetails(QuestState.FAIL)
+            entityManager.clear()
+
+            //when
+            val responses = questRepository.getAllCurrentQuestResponses(user.id, prevDate, nextDate)
+
+            //then
+            assertThat(responses).extracting<Long> { it.id }.containsExactlyInAnyOrder(proceedQuest.id, failQuest.id)
+        }
+
+        @DisplayName("검색 조건 조회 결과는 ID 역순이고 세부 퀘스트가 포함된다")
+        @Test
+        fun `검색 조건 조회 결과는 ID 역순이고 세부 퀘스트가 포함된다`() {
+            //given
+            val savedQuest1 = saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.COMPLETE)
+            val savedQuest2 = saveQuestWithDetails(QuestState.FAIL, DetailQuestState.PROCEED, DetailQuestState.PROCEED)
+            val searchCondition = QuestSearchCondition(null, null, null, null, null, null)
+
+            //when
+            val result = questRepository.findQuestResponsesByCondition(user.id, searchCondition, Pageable.ofSize(1000))
+
+            //then
+            val ids = result.content.map { it.id }
+            assertThat(ids).containsSubsequence(savedQuest2.id, savedQuest1.id)
+            assertThat(result.content.first { it.id == savedQuest1.id }.canComplete).isTrue()
+            assertThat(result.content.first { it.id == savedQuest2.id }.detailQuests).hasSize(2)
+        }
+
+        @DisplayName("커서 조회 시 마지막 ID보다 작은 퀘스트를 페이지 크기만큼 조회하고 다음 페이지 여부를 반환한다")
+        @Test
+        fun `커서 조회 시 마지막 ID보다 작은 퀘스트를 페이지 크기만큼 조회하고 다음 페이지 여부를 반환한다`() {
+            //given
+            val savedIds = (1..5).map { saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.PROCEED).id }.sortedDescending()
+            val searchCondition = QuestSearchCondition(null, null, null, null, null, null)
+
+            //when
+            val firstSlice = questRepository.findQuestResponsesByConditionAfter(user.id, searchCondition, null, Pageable.ofSize(2))
+            val lastSlice = questRepository.findQuestResponsesByConditionAfter(user.id, searchCondition, savedIds[3], Pageable.ofSize(2))
+
+            //then
+            assertThat(firstSlice.content.map { it.id }).containsExactly(savedIds[0], savedIds[1])
+            assertThat(firstSlice.hasNext()).isTrue()
+            assertThat(firstSlice.content).allMatch { it.detailQuests.size == 1 }
+            assertThat(lastSlice.content.map { it.id }).containsExactly(savedIds[4])
+            assertThat(lastSlice.hasNext()).isFalse()
+        }
+
+        @DisplayName("검색된 ID 순서를 유지하며 퀘스트와 세부 퀘스트를 한 번의 쿼리로 조회한다")
+        @Test
+        fun `검색된 ID 순서를 유지하며 퀘스트와 세부 퀘스트를 한 번의 쿼리로 조회한다`() {
+            //given
+            val savedQuest1 = saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.PROCEED, DetailQuestState.COMPLETE)
+            saveQuestWithDetails(QuestState.PROCEED)
+            val savedQuest3 = saveQuestWithDetails(QuestState.COMPLETE)
+            val savedQuest4 = saveQuestWithDetails(QuestState.COMPLETE, DetailQuestState.COMPLETE)
+            entityManager.clear()
+            val statistics = entityManager.entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+            statistics.isStatisticsEnabled = true
+            statistics.clear()
+
+            //when
+            val result = questRepository.findQuestResponsesByIdsInOrder(user.id, listOf(savedQuest3.id, savedQuest1.id, savedQuest4.id))
+
+            //then
+            assertThat(result.map { it.id }).containsExactly(savedQuest3.id, savedQuest1.id, savedQuest4.id)
+            assertThat(result.map { it.detailQuests.size }).containsExactly(0, 2, 1)
+            assertThat(result.map { it.canComplete }).containsExactly(true, false, true)
+            assertThat(statistics.prepareStatementCount).isEqualTo(1)
+            assertThat(statistics.entityLoadCount).isZero
+        }
+
+        @DisplayName("다른 유저의 퀘스트나 DB에 없는 ID는 제외한다")
+        @Test
+        fun `다른 유저의 퀘스트나 DB에 없는 ID는 제외한다`() {
+            //given
+            val savedQuest = saveQuestWithDetails(QuestState.PROCEED, DetailQuestState.PROCEED)
+            val questOfAnotherUser = questRepository.save(Quest("", "", anotherUser.id, 1L, QuestState.PROCEED, QuestType.MAIN))
+
+            //when
+            val result = questRepository.findQuestResponsesByIdsInOrder(user.id, listOf(questOfAnotherUser.id, Long.MAX_VALUE, savedQuest.id))
+
+            //then
+            assertThat(result.map { it.id }).containsExactly(savedQuest.id)
+        }
+
+        @DisplayName("검색된 ID가 없으면 빈 목록을 반환한다")
+        @Test
+        fun `검색된 ID가 없으면 빈 목록을 반환한다`() {
+            //given
+            //when
+            val result = questRepository.findQuestResponsesByIdsInOrder(user.id, listOf())
+
+            //then
+            assertThat(result).isEmpty()
+        }
+    }
+
+    @DisplayName("세부 퀘스트를 포함한 퀘스트 수정 시")
+    @Nested
+    inner class TestUpdateQuestEntity {
+        private lateinit var statistics: Statistics
+
+        private fun saveQuestWithDetailsAndClear(): Quest {
+            val quest = Quest("title", "", user.id, 1L, QuestState.PROCEED, QuestType.MAIN)
+            quest.replaceDetailQuests(listOf(
+                DetailQuest.of("detail1", 10, 3, DetailQuestType.COUNT, DetailQuestState.PROCEED, quest),
+                DetailQuest.of("detail2", 1, DetailQuestType.CHECK, DetailQuestState.PROCEED, quest),
+            ))
+            questRepository.saveAndFlush(quest)
+            entityManager.clear()
+            statistics = entityManager.entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+            statistics.isStatisticsEnabled = true
+            val foundQuest = questRepository.findById(quest.id).get()
+            foundQuest.detailQuests.size
+            statistics.clear()
+            return foundQuest
+        }
+
+        private fun requestOf(detailQuest: DetailQuest, title: String = detailQuest.title): WebDetailQuestRequest {
+            return WebDetailQuestRequest(title, detailQuest.type, detailQuest.targetCount, id = detailQuest.id)
+        }
+
+        @DisplayName("제목만 변경하면 세부 퀘스트는 삭제되거나 다시 등록되지 않는다")
+        @Test
+        fun `제목만 변경하면 세부 퀘스트는 삭제되거나 다시 등록되지 않는다`() {
+            //given
+            val quest = saveQuestWithDetailsAndClear()
+            val details = quest.detailQuests.map { requestOf(it) }
+
+            //when
+            quest.updateQuestEntity(SimpleQuestRequest("update", details = details))
+            entityManager.flush()
+
+            //then
+            assertThat(statistics.entityInsertCount).isZero
+            assertThat(statistics.entityDeleteCount).isZero
+            assertThat(statistics.entityUpdateCount).isEqualTo(1)
+            assertThat(quest.detailQuests).extracting("count").containsExactly(3, 0)
+        }
+
+        @DisplayName("변경된 세부 퀘스트만 수정하고 새 세부 퀘스트만 등록하며 빠진 세부 퀘스트만 삭제한다")
+        @Test
+        fun `변경된 세부 퀘스트만 수정하고 새 세부 퀘스트만 등록하며 빠진 세부 퀘스트만 삭제한다`() {
+            //given
+            val quest = saveQuestWithDetailsAndClear()
+            val keptDetail = quest.detailQuests.first { it.title == "detail1" }
+            val details = listOf(
+                requestOf(keptDetail, "detail1-update"),
+                WebDetailQuestRequest("detail3", DetailQuestType.CHECK, 1),
+            )
+
+            //when
+            quest.updateQuestEntity(SimpleQuestRequest(quest.title, details = details))
+            entityManager.flush()
+
+            //then
+            assertThat(statistics.entityInsertCount).isEqualTo(1)
+            assertThat(statistics.entityDeleteCount).isEqualTo(1)
+            assertThat(statistics.entityUpdateCount).isEqualTo(1)
+            assertThat(keptDetail.count).isEqualTo(3)
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package dailyquest.quest.service;
 
+import dailyquest.admin.cache.SystemSettingsCache;
+import dailyquest.admin.dto.SystemSettingsSnapshot;
 import dailyquest.quest.dto.*;
 import dailyquest.quest.entity.DetailQuest;
 import dailyquest.quest.entity.Quest;
+import dailyquest.quest.entity.QuestCompletionOutbox;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.entity.QuestType;
+import dailyquest.quest.repository.QuestCompletionOutboxRepository;
 import dailyquest.quest.repository.QuestRepository;
-import dailyquest.redis.service.RedisService;
+import dailyquest.user.dto.UserUpdateRequest;
 import dailyquest.user.record.service.UserRecordService;
 import dailyquest.user.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
@@ -14,10 +18,13 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.support.MessageSourceAccessor;
 
 import java.time.LocalDate;
@@ -38,7 +45,11 @@ public class QuestCommandServiceUnitTest {
     @Mock UserRecordService userRecordService;
     @Mock QuestLogService questLogService;
     @Mock MessageSourceAccessor messageSourceAccessor;
-    @Mock RedisService redisService;
+    @Mock SystemSettingsCache systemSettingsCache;
+    @Mock QuestSeqAllocator questSeqAllocator;
+    @Mock QuestCompletionOutboxRepository questCompletionOutboxRepository;
+    @Mock QuestDetailCountBuffer questDetailCountBuffer;
+    @Mock ApplicationEventPublisher eventPublisher;
     MockedStatic<QuestLogRequest> mockedStatic;
     MockedStatic<QuestResponse> mockedQuestResponse;
 
@@ -67,7 +78,7 @@ public class QuestCommandServiceUnitTest {
         @BeforeEach
         void init() {
             doReturn(saveEntity).when(saveRequest).mapToEntity(anyLong(), anyLong());
-            doReturn(1L).when(questRepository).getNextSeqOfUser(any());
+            lenient().doReturn(1L).when(questSeqAllocator).next(anyLong());
         }
 
         @DisplayName("유저의 퀘스트 등록 횟수 증가 로직이 호출된다")
@@ -82,6 +93,21 @@ public class QuestCommandServiceUnitTest {
             //then
             verify(userRecordService).recordQuestRegistration(eq(userId), any());
         }
+
+        @DisplayName("SEQ 할당기로 채번한 값으로 엔티티를 생성한다")
+        @Test
+        public void mapToEntityWithAllocatedSeq() {
+            //given
+            Long userId = 1L;
+            doReturn(7L).when(questSeqAllocator).next(eq(userId));
+
+            //when
+            questCommandService.saveQuest(saveRequest, userId);
+
+            //then
+            verify(saveRequest).mapToEntity(eq(7L), eq(userId));
+            verify(questRepository, never()).getNextSeqOfUser(any());
+        }
     }
 
     @DisplayName("퀘스트 수정 시")
@@ -185,6 +211,22 @@ public class QuestCommandServiceUnitTest {
             lenient().doReturn(true).when(completeTarget).isMainQuest();
         }
 
+        @DisplayName("모아둔 세부 퀘스트 카운트를 반영한 뒤 완료 처리한다")
+        @Test
+        public void drainBufferBeforeComplete() {
+            //given
+            doReturn(QuestState.PROCEED).when(completeTarget).getState();
+
+            //when
+            Executable testMethod = () -> questCommandService.completeQuest(1L, 1L);
+
+            //then
+            assertThrows(IllegalStateException.class, testMethod);
+            InOrder inOrder = inOrder(questDetailCountBuffer, completeTarget);
+            inOrder.verify(questDetailCountBuffer).drainInto(completeTarget);
+            inOrder.verify(completeTarget).completeQuestIfPossible();
+        }
+
         @DisplayName("리포지토리 조회 결과가 null이면 EntityNotFound 예외가 발생한다")
         @Test
         void throwIfRepositoryReturnNull() {
@@ -243,11 +285,16 @@ public class QuestCommandServiceUnitTest {
             private final long userId = 1L;
             private final long questId = 1L;
             private final Quest saveAndFlushTarget = mock(Quest.class, Answers.RETURNS_SMART_NULLS);
+            private final LocalDate loggedDate = LocalDate.of(2022, 12, 1);
 
             @BeforeEach
             void init() {
                 lenient().doReturn(QuestState.COMPLETE).when(completeTarget).getState();
                 lenient().doReturn(saveAndFlushTarget).when(questRepository).saveAndFlush(eq(completeTarget));
+                lenient().doReturn(new SystemSettingsSnapshot(1L, 1L, 1L, 0L)).when(systemSettingsCache).get();
+                QuestLogRequest questLogRequest = mock(QuestLogRequest.class);
+                lenient().doReturn(loggedDate).when(questLogRequest).getLoggedDate();
+                when(QuestLogRequest.from(any())).thenReturn(questLogRequest);
             }
 
             @DisplayName("saveAndFlush를 호출해 변경 사항을 먼저 DB에 반영한다")
@@ -261,15 +308,14 @@ public class QuestCommandServiceUnitTest {
                 verify(questRepository).saveAndFlush(eq(completeTarget));
             }
 
-            @DisplayName("레디스 서비스를 통해 조회한 퀘스트 클리어 경험치, 골드와 현재 퀘스트 타입으로 DTO를 생성해 유저 경험치 골드 추가 요청을 한다")
+            @DisplayName("캐시된 시스템 설정의 퀘스트 클리어 경험치, 골드와 현재 퀘스트 타입으로 DTO를 생성해 유저 경험치 골드 추가 요청을 한다")
             @Test
-            public void requestAddUserExpAndGoldByRedisAndCurrentType() {
+            public void requestAddUserExpAndGoldByCachedSettingsAndCurrentType() {
                 //given
-                long clearExp = 1L;
-                long clearGold = 1L;
+                long clearExp = 2L;
+                long clearGold = 3L;
                 QuestType type = QuestType.SUB;
-                doReturn(clearExp).when(redisService).getQuestClearExp();
-                doReturn(clearGold).when(redisService).getQuestClearGold();
+                doReturn(new SystemSettingsSnapshot(clearExp, clearGold, 1L, 0L)).when(systemSettingsCache).get();
                 doReturn(type).when(saveAndFlushTarget).getType();
                 QuestCompletionUserUpdateRequest userUpdateRequest = new QuestCompletionUserUpdateRequest(clearExp, clearGold, type);
 
@@ -285,6 +331,7 @@ public class QuestCommandServiceUnitTest {
             public void requestSaveQuestLogByReturnedEntity() {
                 //given
                 QuestLogRequest logRequest = mock(QuestLogRequest.class);
+                doReturn(loggedDate).when(logRequest).getLoggedDate();
                 when(QuestLogRequest.from(eq(saveAndFlushTarget))).thenReturn(logRequest);
 
                 //when
@@ -294,18 +341,27 @@ public class QuestCommandServiceUnitTest {
                 verify(questLogService, times(1)).saveQuestLog(eq(logRequest));
             }
 
-            @DisplayName("기록된 로그 날짜로 유저의 퀘스트 완료 기록을 갱신 요청한다")
+            @DisplayName("유저 기록은 직접 갱신하지 않고 로그 날짜와 획득 골드로 완료 이벤트를 저장한다")
             @Test
-            public void requestRecordCompletionByLoggedDate() {
+            public void saveCompletionOutboxInsteadOfRecording() {
                 //given
-                QuestLogRequest questLogRequest = QuestLogRequest.from(saveAndFlushTarget);
-                LocalDate loggedDate = questLogRequest.getLoggedDate();
+                long clearGold = 3L;
+                doReturn(new SystemSettingsSnapshot(1L, clearGold, 1L, 0L)).when(systemSettingsCache).get();
+                doReturn(QuestType.MAIN).when(saveAndFlushTarget).getType();
+                doReturn(questId).when(saveAndFlushTarget).getId();
 
                 //when
                 questCommandService.completeQuest(userId, questId);
 
                 //then
-                verify(userRecordService).recordQuestCompletion(eq(userId), eq(loggedDate));
+                ArgumentCaptor<QuestCompletionOutbox> outboxCaptor = ArgumentCaptor.forClass(QuestCompletionOutbox.class);
+                verify(questCompletionOutboxRepository).save(outboxCaptor.capture());
+                QuestCompletionOutbox outbox = outboxCaptor.getValue();
+                assertThat(outbox.getUserId()).isEqualTo(userId);
+                assertThat(outbox.getQuestId()).isEqualTo(questId);
+                assertThat(outbox.getEarnedGold()).isEqualTo(clearGold * 2);
+                assertThat(outbox.getCompletedDate()).isEqualTo(loggedDate);
+                verifyNoInteractions(userRecordService);
             }
         }
     }
@@ -388,6 +444,7 @@ public class QuestCommandServiceUnitTest {
             public void callSaveStateChangeLog() {
                 //given
                 QuestLogRequest logRequest = mock(QuestLogRequest.class);
+                doReturn(loggedDate).when(logRequest).getLoggedDate();
                 when(QuestLogRequest.from(eq(saveAndFlushTarget))).thenReturn(logRequest);
 
                 //when
@@ -399,6 +456,73 @@ public class QuestCommandServiceUnitTest {
         }
     }
 
+    @DisplayName("퀘스트 일괄 상태 변경 시")
+    @Nested
+    class QuestBulkTransitionTest {
+        private final Long userId = 1L;
+
+        private Quest proceedQuest(Long questId, QuestType type) {
+            Quest quest = mock(Quest.class);
+            doReturn(questId).when(quest).getId();
+            lenient().doReturn(type).when(quest).getType();
+            doReturn(QuestState.PROCEED, QuestState.COMPLETE).when(quest).getState();
+            return quest;
+        }
+
+        @DisplayName("완료한 퀘스트들의 보상을 합산해 한 번만 반영하고, 로그를 한 번에 저장한다")
+        @Test
+        void aggregateRewardsAndSaveLogsOnce() {
+            //given
+            Quest mainQuest = proceedQuest(1L, QuestType.MAIN);
+            Quest subQuest = proceedQuest(2L, QuestType.SUB);
+            doReturn(List.of(mainQuest, subQuest)).when(questRepository).findAllByIdInAndUserId(any(), any());
+            doReturn(new SystemSettingsSnapshot(10L, 3L, 1L, 0L)).when(systemSettingsCache).get();
+            QuestLogRequest questLogRequest = mock(QuestLogRequest.class);
+            doReturn(LocalDate.of(2022, 12, 1)).when(questLogRequest).getLoggedDate();
+            when(QuestLogRequest.from(any())).thenReturn(questLogRequest);
+            List<QuestTransitionRequest> requests = List.of(
+                    new QuestTransitionRequest(1L, QuestTransitionAction.COMPLETE),
+                    new QuestTransitionRequest(2L, QuestTransitionAction.COMPLETE)
+            );
+
+            //when
+            List<QuestTransitionResponse> responses = questCommandService.transitQuestsInBulk(userId, requests);
+
+            //then
+            assertThat(responses).allMatch(QuestTransitionResponse::getSuccess);
+            ArgumentCaptor<UserUpdateRequest> rewardCaptor = ArgumentCaptor.forClass(UserUpdateRequest.class);
+            verify(userService, times(1)).addUserExpAndGold(eq(userId), rewardCaptor.capture());
+            assertThat(rewardCaptor.getValue().getEarnedExp()).isEqualTo(10L * 2 + 10L);
+            assertThat(rewardCaptor.getValue().getEarnedGold()).isEqualTo(3L * 2 + 3L);
+            verify(questLogService, times(1)).saveQuestLogs(argThat(logs -> logs.size() == 2));
+            verify(questLogService, never()).saveQuestLog(any());
+            verify(questCompletionOutboxRepository).saveAll(argThat((List<QuestCompletionOutbox> outboxes) -> outboxes.size() == 2));
+        }
+
+        @DisplayName("조회되지 않거나 변경할 수 없는 퀘스트는 실패 결과로 응답하고 보상을 반영하지 않는다")
+        @Test
+        void respondFailureForInvalidItems() {
+            //given
+            Quest deletedQuest = mock(Quest.class);
+            doReturn(2L).when(deletedQuest).getId();
+            doReturn(QuestState.DELETE).when(deletedQuest).getState();
+            doReturn(List.of(deletedQuest)).when(questRepository).findAllByIdInAndUserId(any(), any());
+            List<QuestTransitionRequest> requests = List.of(
+                    new QuestTransitionRequest(1L, QuestTransitionAction.COMPLETE),
+                    new QuestTransitionRequest(2L, QuestTransitionAction.DISCARD)
+            );
+
+            //when
+            List<QuestTransitionResponse> responses = questCommandService.transitQuestsInBulk(userId, requests);
+
+            //then
+            assertThat(responses).extracting(QuestTransitionResponse::getQuestId).containsExactly(1L, 2L);
+            assertThat(responses).noneMatch(QuestTransitionResponse::getSuccess);
+            verify(userService, never()).addUserExpAndGold(anyLong(), any());
+            verify(questCompletionOutboxRepository, never()).saveAll(any());
+        }
+    }
+
     @DisplayName("세부 퀘스트 카운트 변경 시")
     @Nested
     class DetailQuestCountUpdateTest {
@@ -463,5 +587,35 @@ public class QuestCommandServiceUnitTest {
             //then
             assertThat(result).isNotNull();
         }
+
+        @DisplayName("버퍼가 활성화되어 있으면 버퍼의 결과를 반환하고 퀘스트를 조회하지 않는다")
+        @Test
+        void ifBufferEnabledThenReturnBufferedResult() {
+            //given
+            DetailResponse bufferedResult = new DetailResponse();
+            doReturn(true).when(questDetailCountBuffer).isEnabled();
+            doReturn(bufferedResult).when(questDetailCountBuffer).increment(eq(userId), eq(interactRequest), any());
+
+            //when
+            DetailResponse result = questCommandService.updateDetailQuestCount(userId, interactRequest);
+
+            //then
+            assertThat(result).isEqualTo(bufferedResult);
+            verifyNoInteractions(questRepository);
+        }
+
+        @DisplayName("버퍼가 활성화되어 있고 버퍼의 결과가 null이면 IllegalArgumentException 예외를 던진다")
+        @Test
+        void ifBufferedResultIsNullThenThrowException() {
+            //given
+            doReturn(true).when(questDetailCountBuffer).isEnabled();
+            doReturn(null).when(questDetailCountBuffer).increment(eq(userId), eq(interactRequest), any());
+
+            //when
+            Executable testMethod = () -> questCommandService.updateDetailQuestCount(userId, interactRequest);
+
+            //then
+            assertThrows(IllegalArgumentException.class, testMethod);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,175 @@
+package dailyquest.quest.service
+
+import dailyquest.common.UserLevelLock
+import dailyquest.properties.QuestCompletionOutboxProperties
+import dailyquest.quest.entity.QuestCompletionOutbox
+import dailyquest.quest.repository.QuestCompletionOutboxRepository
+import dailyquest.user.record.service.UserRecordService
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import io.mockk.verifyOrder
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatCode
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.transaction.TransactionStatus
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDate
+import java.util.function.Consumer
+import java.util.function.Supplier
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("퀘스트 완료 아웃박스 릴레이 유닛 테스트")
+class QuestCompletionOutboxRelayUnitTest {
+    @RelaxedMockK
+    lateinit var outboxRepository: QuestCompletionOutboxRepository
+    @RelaxedMockK
+    lateinit var userRecordService: UserRecordService
+    @RelaxedMockK
+    lateinit var userLevelLock: UserLevelLock
+    @RelaxedMockK
+    lateinit var transactionTemplate: TransactionTemplate
+    private val meterRegistry = SimpleMeterRegistry()
+    lateinit var relay: QuestCompletionOutboxRelay
+
+    @BeforeEach
+    fun init() {
+        every { transactionTemplate.executeWithoutResult(any()) } answers {
+            firstArg<Consumer<TransactionStatus>>().accept(mockk(relaxed = true))
+        }
+        every { transactionTemplate.execute(any<TransactionCallback<Int>>()) } answers {
+            firstArg<TransactionCallback<Int>>().doInTransaction(mockk(relaxed = true))
+        }
+        relay = QuestCompletionOutboxRelay(outboxRepository, userRecordService, userLevelLock, transactionTemplate, QuestCompletionOutboxProperties(), meterRegistry)
+    }
+
+    private fun outbox(id: Long, userId: Long, earnedGold: Long, completedDate: LocalDate): QuestCompletionOutbox {
+        val outbox = mockk<QuestCompletionOutbox>()
+        every { outbox.id } returns id
+        every { outbox.userId } returns userId
+        every { outbox.earnedGold } returns earnedGold
+        every { outbox.completedDate } returns completedDate
+        return outbox
+    }
+
+    @DisplayName("relayBatch 호출 시")
+    @Nested
+    inner class TestRelayBatch {
+        private val completedDate = LocalDate.of(2022, 12, 1)
+
+        @DisplayName("유저별로 이벤트를 합산해 완료일 순서대로 반영한 뒤 반영한 이벤트를 삭제한다")
+        @Test
+        fun `유저별로 이벤트를 합산해 완료일 순서대로 반영한 뒤 반영한 이벤트를 삭제한다`() {
+            //given
+            val first = outbox(1L, 1L, 10L, completedDate)
+            val second = outbox(2L, 1L, 20L, completedDate.plusDays(1))
+            val third = outbox(3L, 1L, 30L, completedDate)
+            every { outboxRepository.findRelayableOrderByIdAsc(any()) } returns listOf(first, second, third)
+
+            //when
+            val relayed = relay.relayBatch()
+
+            //then
+            assertThat(relayed).isEqualTo(3)
+            verifyOrder {
+                userRecordService.recordGoldEarn(1L, match { it.earnedGold == 60L })
+                userRecordService.recordQuestCompletion(1L, completedDate, 2L)
+                userRecordService.recordQuestCompletion(1L, completedDate.plusDays(1), 1L)
+                outboxRepository.deleteAllByIdInBatch(listOf(1L, 2L, 3L))
+            }
+            verify(exactly = 1) { userRecordService.recordGoldEarn(any(), any()) }
+            assertThat(meterRegistry.counter("quest.outbox.relayed").count()).isEqualTo(3.0)
+        }
+
+        @DisplayName("한 유저의 이벤트 처리가 실패해도 다른 유저의 이벤트는 반영되고, 실패한 이벤트는 삭제하지 않는다")
+        @Test
+        fun `한 유저의 이벤트 처리가 실패해도 다른 유저의 이벤트는 반영되고, 실패한 이벤트는 삭제하지 않는다`() {
+            //given
+            val failed = outbox(1L, 1L, 10L, completedDate)
+            val succeeded = outbox(2L, 2L, 10L, completedDate)
+            every { outboxRepository.findRelayableOrderByIdAsc(any()) } returns listOf(failed, succeeded)
+            every { userRecordService.recordQuestCompletion(1L, any()) } throws IllegalStateException()
+
+            //when
+            val relayed = relay.relayBatch()
+
+            //then
+            assertThat(relayed).isEqualTo(1)
+            verify { userRecordService.recordQuestCompletion(2L, completedDate) }
+            verify { outboxRepository.deleteAllByIdInBatch(listOf(2L)) }
+            verify(inverse = true) { outboxRepository.deleteAllByIdInBatch(listOf(1L)) }
+            assertThat(meterRegistry.counter("quest.outbox.failed").count()).isEqualTo(1.0)
+        }
+
+        @DisplayName("처리에 실패한 이벤트는 시도 횟수를 늘리고 최대 시도 횟수에 이른 이벤트를 보류한다")
+        @Test
+        fun `처리에 실패한 이벤트는 시도 횟수를 늘리고 최대 시도 횟수에 이른 이벤트를 보류한다`() {
+            //given
+            val failed = outbox(1L, 1L, 10L, completedDate)
+            every { outboxRepository.findRelayableOrderByIdAsc(any()) } returns listOf(failed)
+            every { userRecordService.recordQuestCompletion(1L, any()) } throws IllegalStateException()
+            every { outboxRepository.parkExhausted(listOf(1L), QuestCompletionOutboxProperties().maxAttempts) } returns 1
+
+            //when
+            relay.relayBatch()
+
+            //then
+            verifyOrder {
+                outboxRepository.incrementAttemptCount(listOf(1L))
+                outboxRepository.parkExhausted(listOf(1L), QuestCompletionOutboxProperties().maxAttempts)
+            }
+            assertThat(meterRegistry.counter("quest.outbox.parked").count()).isEqualTo(1.0)
+        }
+
+        @DisplayName("시도 횟수 기록에 실패해도 예외를 던지지 않는다")
+        @Test
+        fun `시도 횟수 기록에 실패해도 예외를 던지지 않는다`() {
+            //given
+            val failed = outbox(1L, 1L, 10L, completedDate)
+            every { outboxRepository.findRelayableOrderByIdAsc(any()) } returns listOf(failed)
+            every { userRecordService.recordQuestCompletion(1L, any()) } throws IllegalStateException()
+            every { outboxRepository.incrementAttemptCount(any()) } throws IllegalStateException()
+
+            //when
+            //then
+            assertThatCode { relay.relayBatch() }.doesNotThrowAnyException()
+        }
+
+        @DisplayName("이벤트 조회에 실패하면 예외를 던지지 않고 0을 반환한다")
+        @Test
+        fun `이벤트 조회에 실패하면 예외를 던지지 않고 0을 반환한다`() {
+            //given
+            every { outboxRepository.findRelayableOrderByIdAsc(any()) } throws IllegalStateException()
+
+            //when
+            val relayed = relay.relayBatch()
+
+            //then
+            assertThat(relayed).isEqualTo(0)
+        }
+    }
+
+    @DisplayName("relay 호출 시")
+    @Nested
+    inner class TestRelay {
+        @DisplayName("릴레이 락을 획득하지 못해도 예외를 던지지 않는다")
+        @Test
+        fun `릴레이 락을 획득하지 못해도 예외를 던지지 않는다`() {
+            //given
+            every { userLevelLock.executeWithLock(any(), any(), any<Supplier<Int>>()) } throws RuntimeException()
+
+            //when
+            //then
+            assertThatCode { relay.relay() }.doesNotThrowAnyException()
+            verify(inverse = true) { outboxRepository.findRelayableOrderByIdAsc(any()) }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package dailyquest.quest.service
+
+import dailyquest.properties.QuestDetailCountBufferProperties
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.quest.dto.DetailInteractRequest
+import dailyquest.quest.entity.DetailQuest
+import dailyquest.quest.entity.DetailQuestState
+import dailyquest.quest.entity.DetailQuestType
+import dailyquest.quest.entity.Quest
+import dailyquest.quest.event.QuestChangedEvent
+import dailyquest.quest.repository.QuestRepository
+import io.mockk.every
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ZSetOperations
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("세부 퀘스트 카운트 버퍼 유닛 테스트")
+class QuestDetailCountBufferUnitTest {
+    @RelaxedMockK
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @RelaxedMockK
+    lateinit var redisKeyProperties: RedisKeyProperties
+    @RelaxedMockK
+    lateinit var questRepository: QuestRepository
+    @RelaxedMockK
+    lateinit var transactionTemplate: TransactionTemplate
+    @RelaxedMockK
+    lateinit var eventPublisher: ApplicationEventPublisher
+    private val zSetOps = mockk<ZSetOperations<String, String>>(relaxed = true)
+    lateinit var questDetailCountBuffer: QuestDetailCountBuffer
+    private val userId = 1L
+    private val questId = 2L
+    private val detailQuestId = 3L
+    private val bufferKey = "qdb:2"
+    private val request = DetailInteractRequest(questId, detailQuestId, null)
+
+    @BeforeEach
+    fun init() {
+        every { redisKeyProperties.questDetailBuffer } returns "qdb"
+        every { redisTemplate.opsForZSet() } returns zSetOps
+        every { transactionTemplate.execute(any<TransactionCallback<Any>>()) } answers { firstArg<TransactionCallback<Any>>().doInTransaction(mockk()) }
+        questDetailCountBuffer = QuestDetailCountBuffer(redisTemplate, redisKeyProperties, questRepository, transactionTemplate, QuestDetailCountBufferProperties(enabled = true), eventPublisher)
+    }
+
+    @DisplayName("increment 호출 시")
+    @Nested
+    inner class TestIncrement {
+        @DisplayName("버퍼가 있으면 버퍼의 카운트로 응답을 만들고 퀘스트를 조회하지 않는다")
+        @Test
+        fun `버퍼가 있으면 버퍼의 카운트로 응답을 만들고 퀘스트를 조회하지 않는다`() {
+            //given
+            every { redisTemplate.execute(any<RedisScript<Any>>(), any<List<String>>(), *anyVararg()) } returns listOf("3", "3", "1", "title", "COUNT")
+            val questLoader = mockk<() -> Quest>()
+
+            //when
+            val result = questDetailCountBuffer.increment(userId, request, questLoader)
+
+            //then
+            assertThat(result).isNotNull
+            assertThat(result!!.id).isEqualTo(detailQuestId)
+            assertThat(result.count).isEqualTo(3)
+            assertThat(result.type).isEqualTo(DetailQuestType.COUNT)
+            assertThat(result.state).isEqualTo(DetailQuestState.COMPLETE)
+            assertThat(result.canCompleteParent).isTrue()
+            verify(inverse = true) { questLoader() }
+        }
+
+        @DisplayName("버퍼가 없으면 조회한 퀘스트로 버퍼를 초기화한 뒤 다시 변경한다")
+        @Test
+        fun `버퍼가 없으면 조회한 퀘스트로 버퍼를 초기화한 뒤 다시 변경한다`() {
+            //given
+            every { redisTemplate.execute(any<RedisScript<Any>>(), any<List<String>>(), *anyVararg()) } returnsMany
+                    listOf(null, 1L, listOf("1", "3", "0", "title", "COUNT"))
+            val quest = this@QuestDetailCountBufferUnitTest.questWithDetail(count = 0)
+
+            //when
+            val result = questDetailCountBuffer.increment(userId, request) { quest }
+
+            //then
+            assertThat(result!!.count).isEqualTo(1)
+            assertThat(result.state).isEqualTo(DetailQuestState.PROCEED)
+            verify(exactly = 3) { redisTemplate.execute(any<RedisScript<Any>>(), any<List<String>>(), *anyVararg()) }
+        }
+
+        @DisplayName("퀘스트에 해당 세부 퀘스트가 없으면 버퍼를 초기화하지 않고 null을 반환한다")
+        @Test
+        fun `퀘스트에 해당 세부 퀘스트가 없으면 버퍼를 초기화하지 않고 null을 반환한다`() {
+            //given
+            every { redisTemplate.execute(any<RedisScript<Any>>(), any<List<String>>(), *anyVararg()) } returns null
+            val quest = mockk<Quest>(relaxed = true)
+            every { quest.detailQuests } returns emptyList()
+
+            //when
+            val result = questDetailCountBuffer.increment(userId, request) { quest }
+
+            //then
+            assertThat(result).isNull()
+            verify(exactly = 1) { redisTemplate.execute(any<RedisScript<Any>>(), any<List<String>>(), *anyVararg()) }
+        }
+    }
+
+    @DisplayName("drainInto 호출 시")
+    @Nested
+    inner class TestDrainInto {
+        @DisplayName("모아둔 카운트를 퀘스트에 반영하고 버전이 같을 때만 버퍼를 해제한다")
+        @Test
+        fun `모아둔 카운트를 퀘스트에 반영하고 버전이 같을 때만 버퍼를 해제한다`() {
+            //given
+            every { redisTemplate.execute(any<RedisScript<Any>>(), eq(listOf(bufferKey)), *anyVararg()) } returns
+                    listOf("userId", "$userId", "version", "4", "d:$detailQuestId", "2:3", "t:$detailQuestId", "title")
+            val quest = this@QuestDetailCountBufferUnitTest.questWithDetail(count = 0)
+
+            //when
+            questDetailCountBuffer.drainInto(quest)
+
+            //then
+            verify { quest.updateDetailQuestCount(detailQuestId, 2) }
+            verify { redisTemplate.execute(any<RedisScript<Any>>(), eq(listOf(bufferKey, "qdb:dirty")), "4", questId.toString()) }
+            verify(inverse = true) { redisTemplate.delete(bufferKey) }
+            verify(inverse = true) { zSetOps.remove("qdb:dirty", questId.toString()) }
+        }
+
+        @DisplayName("버퍼가 비활성화되어 있으면 Redis를 조회하지 않는다")
+        @Test
+        fun `버퍼가 비활성화되어 있으면 Redis를 조회하지 않는다`() {
+            //given
+            val disabledBuffer = QuestDetailCountBuffer(redisTemplate, redisKeyProperties, questRepository, transactionTemplate, QuestDetailCountBufferProperties(), eventPublisher)
+
+            //when
+            disabledBuffer.drainInto(mockk(relaxed = true))
+
+            //then
+            verify(inverse = true) { redisTemplate.execute(any<RedisScript<Any>>(), any<List<String>>(), *anyVararg()) }
+        }
+    }
+
+    @DisplayName("flushDue 호출 시")
+    @Nested
+    inner class TestFlushDue {
+        @DisplayName("디바운스가 지난 퀘스트의 카운트를 반영하고 버전이 같을 때만 버퍼를 해제한다")
+        @Test
+        fun `디바운스가 지난 퀘스트의 카운트를 반영하고 버전이 같을 때만 버퍼를 해제한다`() {
+            //given
+            every { zSetOps.rangeByScore("qdb:dirty", any(), any(), any(), any()) } returns setOf(questId.toString())
+            every { redisTemplate.execute(any<RedisScript<Any>>(), eq(listOf(bufferKey)), *anyVararg()) } returns
+                    listOf("userId", "$userId", "version", "4", "d:$detailQuestId", "2:3")
+            val quest = this@QuestDetailCountBufferUnitTest.questWithDetail(count = 0)
+            every { questRepository.findByIdAndUserId(questId, userId) } returns quest
+
+            //when
+            questDetailCountBuffer.flushDue()
+
+            //then
+            verify { quest.updateDetailQuestCount(detailQuestId, 2) }
+            verify { eventPublisher.publishEvent(QuestChangedEvent(userId)) }
+            verify { redisTemplate.execute(any<RedisScript<Any>>(), eq(listOf(bufferKey, "qdb:dirty")), "4", questId.toString()) }
+            verify(inverse = true) { redisTemplate.delete(bufferKey) }
+        }
+
+        @DisplayName("퀘스트가 진행 중이 아니면 카운트를 반영하지 않고 버퍼를 제거한다")
+        @Test
+        fun `퀘스트가 진행 중이 아니면 카운트를 반영하지 않고 버퍼를 제거한다`() {
+            //given
+            every { zSetOps.rangeByScore("qdb:dirty", any(), any(), any(), any()) } returns setOf(questId.toString())
+            every { redisTemplate.execute(any<RedisScript<Any>>(), eq(listOf(bufferKey)), *anyVararg()) } returns
+                    listOf("userId", "$userId", "version", "4", "d:$detailQuestId", "2:3")
+            val quest = this@QuestDetailCountBufferUnitTest.questWithDetail(count = 0)
+            every { quest.isProceed() } returns false
+            every { questRepository.findByIdAndUserId(questId, userId) } returns quest
+
+            //when
+            questDetailCountBuffer.flushDue()
+
+            //then
+            verify(inverse = true) { quest.updateDetailQuestCount(any(), any()) }
+            verify { redisTemplate.delete(bufferKey) }
+        }
+    }
+
+    private fun questWithDetail(count: Int): Quest {
+        val detailQuest = mockk<DetailQuest>(relaxed = true)
+        every { detailQuest.id } returns detailQuestId
+        every { detailQuest.count } returns count
+        every { detailQuest.targetCount } returns 3
+        every { detailQuest.title } returns "title"
+        every { detailQuest.type } returns DetailQuestType.COUNT
+        val quest = mockk<Quest>(relaxed = true)
+        every { quest.id } returns questId
+        every { quest.userId } returns userId
+        every { quest.isProceed() } returns true
+        every { quest.detailQuests } returns listOf(detailQuest)
+        return quest
+    }
+}
@@ -0,0 +1,165 @@
+package dailyquest.quest.service
+
+import dailyquest.properties.QuestLogAppenderProperties
+import dailyquest.properties.QuestLogAppenderProperties.Mode.GROUP_COMMIT
+import dailyquest.properties.QuestLogAppenderProperties.Mode.TRANSACTIONAL
+import dailyquest.quest.dto.QuestLogRequest
+import dailyquest.quest.entity.QuestLog
+import dailyquest.quest.repository.QuestLogRepository
+import io.mockk.every
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionSynchronizationManager
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("퀘스트 로그 어펜더 유닛 테스트")
+class QuestLogAppenderUnitTest {
+    @RelaxedMockK
+    lateinit var questLogRepository: QuestLogRepository
+    @RelaxedMockK
+    lateinit var transactionManager: PlatformTransactionManager
+    private var appender: QuestLogAppender? = null
+
+    @AfterEach
+    fun destroy() {
+        appender?.destroy()
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    private fun createAppender(properties: QuestLogAppenderProperties): QuestLogAppender {
+        return QuestLogAppender(questLogRepository, transactionManager, properties).also { appender = it }
+    }
+
+    private fun appendInTransaction(appender: QuestLogAppender, request: QuestLogRequest) {
+        TransactionSynchronizationManager.initSynchronization()
+        try {
+            appender.append(request)
+            TransactionSynchronizationManager.getSynchronizations().forEach { it.beforeCommit(false) }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    private fun logRequest(): QuestLogRequest {
+        val request = mockk<QuestLogRequest>()
+        every { request.mapToEntity() } returns mockk<QuestLog>(relaxed = true)
+        return request
+    }
+
+    @DisplayName("TRANSACTIONAL 모드에서")
+    @Nested
+    inner class TestTransactionalMode {
+        @DisplayName("호출 즉시 건별로 저장한다")
+        @Test
+        fun `호출 즉시 건별로 저장한다`() {
+            //given
+            val appender = createAppender(QuestLogAppenderProperties(mode = TRANSACTIONAL))
+
+            //when
+            appender.append(logRequest())
+
+            //then
+            verify(exactly = 1) { questLogRepository.save(any()) }
+            verify(inverse = true) { questLogRepository.saveAllInBatch(any()) }
+        }
+    }
+
+    @DisplayName("GROUP_COMMIT 모드에서")
+    @Nested
+    inner class TestGroupCommitMode {
+        @DisplayName("트랜잭션 커밋 직전에 저장한다")
+        @Test
+        fun `트랜잭션 커밋 직전에 저장한다`() {
+            //given
+            val appender = createAppender(QuestLogAppenderProperties(mode = GROUP_COMMIT, flushLatencyMillis = 0))
+            TransactionSynchronizationManager.initSynchronization()
+
+            //when
+            appender.append(logRequest())
+
+            //then
+            verify(inverse = true) { questLogRepository.saveAllInBatch(any()) }
+            TransactionSynchronizationManager.getSynchronizations().forEach { it.beforeCommit(false) }
+            verify(exactly = 1) { questLogRepository.saveAllInBatch(match { it.size == 1 }) }
+        }
+
+        @DisplayName("트랜잭션 밖에서 호출하면 즉시 건별로 저장한다")
+        @Test
+        fun `트랜잭션 밖에서 호출하면 즉시 건별로 저장한다`() {
+            //given
+            val appender = createAppender(QuestLogAppenderProperties(mode = GROUP_COMMIT, flushLatencyMillis = 0))
+
+            //when
+            appender.append(logRequest())
+
+            //then
+            verify(exactly = 1) { questLogRepository.save(any()) }
+            verify(inverse = true) { questLogRepository.saveAllInBatch(any()) }
+        }
+
+        @DisplayName("동시에 추가된 로그를 한 번에 저장한다")
+        @Test
+        fun `동시에 추가된 로그를 한 번에 저장한다`() {
+            //given
+            val numOfLogs = 5
+            val appender = createAppender(QuestLogAppenderProperties(mode = GROUP_COMMIT, flushSize = numOfLogs, flushLatencyMillis = 1000))
+            val savedLogs = slot<List<QuestLog>>()
+            every { questLogRepository.saveAllInBatch(capture(savedLogs)) } returns Unit
+
+            //when
+            runBlocking(Dispatchers.IO) {
+                repeat(numOfLogs) {
+                    launch { appendInTransaction(appender, logRequest()) }
+                }
+            }
+
+            //then
+            verify(exactly = 1) { questLogRepository.saveAllInBatch(any()) }
+            assertThat(savedLogs.captured).hasSize(numOfLogs)
+        }
+
+        @DisplayName("그룹 커밋이 제한 시간 안에 끝나지 않으면 새 트랜잭션을 열지 않고 호출자 트랜잭션에서 저장한다")
+        @Test
+        fun `그룹 커밋이 제한 시간 안에 끝나지 않으면 새 트랜잭션을 열지 않고 호출자 트랜잭션에서 저장한다`() {
+            //given
+            val appender = createAppender(QuestLogAppenderProperties(mode = GROUP_COMMIT, flushLatencyMillis = 1000, flushTimeoutMillis = 1))
+
+            //when
+            appendInTransaction(appender, logRequest())
+
+            //then
+            verify(exactly = 1) { questLogRepository.save(any()) }
+            verify(inverse = true) { transactionManager.getTransaction(any()) }
+        }
+
+        @DisplayName("일괄 저장에 실패하면 호출자 트랜잭션에서 다시 저장한다")
+        @Test
+        fun `일괄 저장에 실패하면 호출자 트랜잭션에서 다시 저장한다`() {
+            //given
+            val appender = createAppender(QuestLogAppenderProperties(mode = GROUP_COMMIT, flushLatencyMillis = 0))
+            every { questLogRepository.saveAllInBatch(any()) } throws IllegalStateException()
+
+            //when
+            appendInTransaction(appender, logRequest())
+
+            //then
+            verify(exactly = 1) { questLogRepository.save(any()) }
+            verify(exactly = 1) { transactionManager.rollback(any()) }
+        }
+    }
+}
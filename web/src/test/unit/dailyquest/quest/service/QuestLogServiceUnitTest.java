@@ -1,5 +1,6 @@
 package dailyquest.quest.service;
 
+import dailyquest.quest.dto.QuestLogRequest;
 import dailyquest.quest.dto.QuestLogSearchCondition;
 import dailyquest.quest.dto.QuestLogSearchType;
 import dailyquest.quest.dto.QuestStatisticsResponse;
@@ -33,6 +34,38 @@ public class QuestLogServiceUnitTest {
     @Mock
     QuestLogRepository questLogRepository;
 
+    @Mock
+    QuestLogAppender questLogAppender;
+
+    @DisplayName("퀘스트 로그 저장 시 어펜더에 로그 요청을 전달한다")
+    @Test
+    public void 퀘스트_로그_저장_시_어펜더에_로그_요청을_전달한다() throws Exception {
+        //given
+        QuestLogRequest questLogRequest = mock(QuestLogRequest.class);
+
+        //when
+        questLogService.saveQuestLog(questLogRequest);
+
+        //then
+        verify(questLogAppender, times(1)).append(eq(questLogRequest));
+        verifyNoInteractions(questLogRepository);
+    }
+
+    @DisplayName("여러 퀘스트 로그 저장 시 어펜더를 거치지 않고 한 번에 저장한다")
+    @Test
+    public void 여러_퀘스트_로그_저장_시_어펜더를_거치지_않고_한_번에_저장한다() throws Exception {
+        //given
+        QuestLogRequest first = mock(QuestLogRequest.class);
+        QuestLogRequest second = mock(QuestLogRequest.class);
+
+        //when
+        questLogService.saveQuestLogs(List.of(first, second));
+
+        //then
+        verify(questLogRepository, times(1)).saveAllInBatch(argThat(logs -> logs.size() == 2));
+        verifyNoInteractions(questLogAppender);
+    }
+
     @DisplayName("일별 퀘스트 로그 조회 테스트")
     @Test
     public void 일별_퀘스트_로그_조회_테스트() throws Exception {
@@ -1,6 +1,9 @@
 package dailyquest.quest.service;
 
-import dailyquest.quest.entity.Quest;
+import dailyquest.quest.dto.QuestResponse;
+import dailyquest.quest.dto.QuestSearchCondition;
+import dailyquest.quest.dto.QuestSearchCursor;
+import dailyquest.quest.dto.QuestSearchKeywordType;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.repository.QuestRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,12 +17,18 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -47,7 +56,7 @@ public class QuestQueryServiceUnitTest {
             //given
             Long userId = 1L;
             QuestState state = QuestState.PROCEED;
-            List<Quest> list = List.of();
+            List<QuestResponse> list = List.of();
 
             LocalDate nowDate = LocalDate.now();
             LocalDateTime resetTime = LocalDateTime.of(nowDate, LocalTime.of(6, 0));
@@ -56,13 +65,13 @@ public class QuestQueryServiceUnitTest {
             try(MockedStatic<LocalDateTime> ignored = mockStatic(LocalDateTime.class, Answers.CALLS_REAL_METHODS)) {
                 when(LocalDateTime.now()).thenReturn(mockNow);
 
-                doReturn(list).when(questRepository).getCurrentQuests(any(), any(), any(), any());
+                doReturn(list).when(questRepository).getCurrentQuestResponses(any(), any(), any(), any());
 
                 //when
                 questQueryService.getCurrentQuests(userId, state);
 
                 //then
-                verify(questRepository).getCurrentQuests(eq(userId), eq(state), eq(resetTime.minusDays(1)), eq(resetTime));
+                verify(questRepository).getCurrentQuestResponses(eq(userId), eq(state), eq(resetTime.minusDays(1)), eq(resetTime));
             }
         }
 
@@ -72,7 +81,7 @@ public class QuestQueryServiceUnitTest {
             //given
             Long userId = 1L;
             QuestState state = QuestState.PROCEED;
-            List<Quest> list = List.of();
+            List<QuestResponse> list = List.of();
 
             LocalDate nowDate = LocalDate.now();
             LocalDateTime resetTime = LocalDateTime.of(nowDate, LocalTime.of(6, 0));
@@ -81,13 +90,13 @@ public class QuestQueryServiceUnitTest {
             try (MockedStatic<LocalDateTime> ignored = mockStatic(LocalDateTime.class, Answers.CALLS_REAL_METHODS)) {
                 when(LocalDateTime.now()).thenReturn(mockNow);
 
-                doReturn(list).when(questRepository).getCurrentQuests(any(), any(), any(), any());
+                doReturn(list).when(questRepository).getCurrentQuestResponses(any(), any(), any(), any());
 
                 //when
                 questQueryService.getCurrentQuests(userId, state);
 
                 //then
-                verify(questRepository).getCurrentQuests(eq(userId), eq(state), eq(resetTime), eq(resetTime.plusDays(1)));
+                verify(questRepository).getCurrentQuestResponses(eq(userId), eq(state), eq(resetTime), eq(resetTime.plusDays(1)));
             }
         }
 
@@ -97,7 +106,7 @@ public class QuestQueryServiceUnitTest {
             //given
             Long userId = 1L;
             QuestState state = QuestState.PROCEED;
-            List<Quest> list = List.of();
+            List<QuestResponse> list = List.of();
 
             LocalDate nowDate = LocalDate.now();
             LocalDateTime resetTime = LocalDateTime.of(nowDate, LocalTime.of(6, 0));
@@ -106,14 +115,98 @@ public class QuestQueryServiceUnitTest {
             try (MockedStatic<LocalDateTime> ignored = mockStatic(LocalDateTime.class, Answers.CALLS_REAL_METHODS)) {
                 when(LocalDateTime.now()).thenReturn(mockNow);
 
-                doReturn(list).when(questRepository).getCurrentQuests(any(), any(), any(), any());
+                doReturn(list).when(questRepository).getCurrentQuestResponses(any(), any(), any(), any());
 
                 //when
                 questQueryService.getCurrentQuests(userId, state);
 
                 //then
-                verify(questRepository).getCurrentQuests(eq(userId), eq(state), eq(resetTime), eq(resetTime.plusDays(1)));
+                verify(questRepository).getCurrentQuestResponses(eq(userId), eq(state), eq(resetTime), eq(resetTime.plusDays(1)));
             }
         }
     }
+
+    @DisplayName("커서 방식 검색 시")
+    @Nested
+    class CursorSearchTest {
+
+        @DisplayName("토큰에 담긴 마지막 ID로 조회한다")
+        @Test
+        public void searchWithLastIdOfToken() {
+            //given
+            Long userId = 1L;
+            QuestSearchCondition condition = new QuestSearchCondition(null, null, null, null, null, null);
+            String after = new QuestSearchCursor(10L).encode();
+            Pageable pageable = PageRequest.ofSize(10);
+
+            //when
+            questQueryService.getQuestsByConditionAfter(userId, condition, after, pageable);
+
+            //then
+            verify(questRepository).findQuestResponsesByConditionAfter(eq(userId), eq(condition), eq(10L), eq(pageable));
+        }
+
+        @DisplayName("빈 토큰이면 첫 페이지를 조회한다")
+        @Test
+        public void searchFirstPageWhenTokenIsEmpty() {
+            //given
+            Long userId = 1L;
+            QuestSearchCondition condition = new QuestSearchCondition(null, null, null, null, null, null);
+            Pageable pageable = PageRequest.ofSize(10);
+
+            //when
+            questQueryService.getQuestsByConditionAfter(userId, condition, "", pageable);
+
+            //then
+            verify(questRepository).findQuestResponsesByConditionAfter(eq(userId), eq(condition), isNull(), eq(pageable));
+        }
+
+        @DisplayName("토큰 형식이 잘못되면 IllegalArgumentException이 발생한다")
+        @Test
+        public void throwWhenTokenIsInvalid() {
+            //given
+            QuestSearchCondition condition = new QuestSearchCondition(null, null, null, null, null, null);
+
+            //when
+            //then
+            assertThrows(IllegalArgumentException.class, () -> questQueryService.getQuestsByConditionAfter(1L, condition, "invalid", PageRequest.ofSize(10)));
+            verifyNoInteractions(questRepository);
+        }
+
+        @DisplayName("키워드 검색이면 IllegalArgumentException이 발생한다")
+        @Test
+        public void throwWhenKeywordSearch() {
+            //given
+            QuestSearchCondition condition = new QuestSearchCondition(null, null, QuestSearchKeywordType.TITLE, "keyword", null, null);
+
+            //when
+            //then
+            assertThrows(IllegalArgumentException.class, () -> questQueryService.getQuestsByConditionAfter(1L, condition, "", PageRequest.ofSize(10)));
+            verifyNoInteractions(questRepository);
+        }
+    }
+
+    @DisplayName("키워드 검색 결과 조회 시")
+    @Nested
+    class SearchedQuestTest {
+
+        @DisplayName("검색 결과의 ID 순서대로 조회하고 검색 결과의 페이지 정보와 전체 개수를 유지한다")
+        @Test
+        public void keepOrderAndTotalOfSearchedIds() {
+            //given
+            Long userId = 1L;
+            Pageable pageable = PageRequest.of(5, 2);
+            Page<Long> searchedIds = new PageImpl<>(List.of(7L, 3L), pageable, 100);
+            List<QuestResponse> quests = List.of(new QuestResponse(), new QuestResponse());
+            doReturn(quests).when(questRepository).findQuestResponsesByIdsInOrder(eq(userId), eq(List.of(7L, 3L)));
+
+            //when
+            Page<QuestResponse> result = questQueryService.getSearchedQuests(userId, searchedIds);
+
+            //then
+            assertThat(result.getContent()).isEqualTo(quests);
+            assertThat(result.getPageable()).isEqualTo(pageable);
+            assertThat(result.getTotalElements()).isEqualTo(100);
+        }
+    }
 }
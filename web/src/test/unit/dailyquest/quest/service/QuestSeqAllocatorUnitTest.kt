@@ -0,0 +1,107 @@
+package dailyquest.quest.service
+
+import dailyquest.properties.QuestSeqProperties
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.quest.repository.QuestRepository
+import io.mockk.every
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.data.redis.core.script.RedisScript
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("퀘스트 SEQ 할당기 유닛 테스트")
+class QuestSeqAllocatorUnitTest {
+    @RelaxedMockK
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @RelaxedMockK
+    lateinit var redisKeyProperties: RedisKeyProperties
+    @RelaxedMockK
+    lateinit var questRepository: QuestRepository
+    private val valueOps = mockk<ValueOperations<String, String>>(relaxed = true)
+    lateinit var questSeqAllocator: QuestSeqAllocator
+    private val userId = 1L
+    private val key = "qs:1"
+
+    @BeforeEach
+    fun init() {
+        every { redisKeyProperties.questSeq } returns "qs"
+        every { redisTemplate.opsForValue() } returns valueOps
+        questSeqAllocator = QuestSeqAllocator(redisTemplate, redisKeyProperties, questRepository, QuestSeqProperties())
+    }
+
+    @DisplayName("next 호출 시")
+    @Nested
+    inner class TestNext {
+        @DisplayName("카운터가 있으면 증가시킨 값을 반환하고 DB를 조회하지 않는다")
+        @Test
+        fun `카운터가 있으면 증가시킨 값을 반환하고 DB를 조회하지 않는다`() {
+            //given
+            every { redisTemplate.execute(any<RedisScript<Long>>(), eq(listOf(key)), *anyVararg()) } returns 8L
+
+            //when
+            val seq = questSeqAllocator.next(userId)
+
+            //then
+            assertThat(seq).isEqualTo(8L)
+            verify(inverse = true) { questRepository.getNextSeqOfUser(any()) }
+            verify(inverse = true) { valueOps.setIfAbsent(any(), any()) }
+        }
+
+        @DisplayName("카운터가 없으면 DB의 MAX(SEQ)로 초기화한 뒤 증가시킨다")
+        @Test
+        fun `카운터가 없으면 DB의 MAX(SEQ)로 초기화한 뒤 증가시킨다`() {
+            //given
+            every { redisTemplate.execute(any<RedisScript<Long>>(), eq(listOf(key)), *anyVararg()) } returns null
+            every { questRepository.getNextSeqOfUser(userId) } returns 6L
+            every { valueOps.increment(key) } returns 6L
+
+            //when
+            val seq = questSeqAllocator.next(userId)
+
+            //then
+            assertThat(seq).isEqualTo(6L)
+            verify { valueOps.setIfAbsent(key, "5") }
+        }
+    }
+
+    @DisplayName("reconcile 호출 시")
+    @Nested
+    inner class TestReconcile {
+        @DisplayName("최근 퀘스트를 등록한 유저의 MAX(SEQ)로 카운터 보정을 요청한다")
+        @Test
+        fun `최근 퀘스트를 등록한 유저의 MAX(SEQ)로 카운터 보정을 요청한다`() {
+            //given
+            every { questRepository.getMaxSeqOfUsersCreatedSince(any()) } returns mapOf(1L to 10L, 2L to 3L)
+
+            //when
+            questSeqAllocator.reconcile()
+
+            //then
+            verify { redisTemplate.execute(any<RedisScript<Long>>(), eq(listOf("qs:1")), "10") }
+            verify { redisTemplate.execute(any<RedisScript<Long>>(), eq(listOf("qs:2")), "3") }
+        }
+
+        @DisplayName("예외가 발생해도 전파하지 않는다")
+        @Test
+        fun `예외가 발생해도 전파하지 않는다`() {
+            //given
+            every { questRepository.getMaxSeqOfUsersCreatedSince(any()) } throws IllegalStateException()
+
+            //when
+            questSeqAllocator.reconcile()
+
+            //then
+            verify(inverse = true) { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) }
+        }
+    }
+}
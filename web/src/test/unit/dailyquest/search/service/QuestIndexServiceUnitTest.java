@@ -2,6 +2,7 @@ package dailyquest.search.service;
 
 import dailyquest.quest.dto.QuestSearchCondition;
 import dailyquest.quest.dto.QuestSearchKeywordType;
+import dailyquest.quest.dto.QuestSearchResult;
 import dailyquest.quest.entity.QuestState;
 import dailyquest.quest.service.QuestQueryService;
 import dailyquest.search.document.QuestDocument;
@@ -17,15 +18,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.data.client.orhlc.NativeSearchQuery;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.opensearch.index.query.QueryBuilders.*;
@@ -192,6 +198,78 @@ public class QuestIndexServiceUnitTest {
             verify(operations).search(nativeQueryCaptor.capture(), eq(QuestDocument.class));
             assertThat(nativeQueryCaptor.getValue().getPageable()).isEqualTo(pageable);
         }
+
+        @DisplayName("검색 결과 순서대로 ID를 담고 전체 검색 결과 수를 페이지에 담는다")
+        @Test
+        @SuppressWarnings("unchecked")
+        public void returnIdsInHitOrderWithTotalHits() throws Exception {
+            //given
+            long userId = 1L;
+            QuestSearchCondition searchCondition = new QuestSearchCondition(0, null, QuestSearchKeywordType.ALL, "keyword", null, null);
+            Pageable pageable = PageRequest.of(3, 2);
+            SearchHit<QuestDocument> firstHit = mock(SearchHit.class);
+            SearchHit<QuestDocument> secondHit = mock(SearchHit.class);
+            doReturn("30").when(firstHit).getId();
+            doReturn("7").when(secondHit).getId();
+            SearchHits<QuestDocument> searchHits = mock(SearchHits.class);
+            doReturn(List.of(firstHit, secondHit)).when(searchHits).getSearchHits();
+            doReturn(42L).when(searchHits).getTotalHits();
+            doReturn(searchHits).when(operations).search(any(NativeSearchQuery.class), eq(QuestDocument.class));
+
+            //when
+            Page<Long> searchedIds = questIndexService.searchDocuments(searchCondition, userId, pageable);
+
+            //then
+            assertThat(searchedIds.getContent()).containsExactly(30L, 7L);
+            assertThat(searchedIds.getTotalElements()).isEqualTo(42L);
+            assertThat(searchedIds.getPageable()).isEqualTo(pageable);
+        }
     }
 
+    @DisplayName("문서 원본으로 검색 결과 요청 시")
+    @Nested
+    class SearchDocumentSourceTest {
+
+        @DisplayName("목록에 필요한 필드만 _source 로 가져오도록 쿼리에 추가된다")
+        @Test
+        public void addSourceFilterOfListFields() throws Exception {
+            //given
+            QuestSearchCondition searchCondition = new QuestSearchCondition(0, null, QuestSearchKeywordType.ALL, "keyword", null, null);
+            ArgumentCaptor<NativeSearchQuery> nativeQueryCaptor = ArgumentCaptor.forClass(NativeSearchQuery.class);
+
+            //when
+            questIndexService.searchDocumentSources(searchCondition, 1L, PageRequest.of(0, 10));
+
+            //then
+            verify(operations).search(nativeQueryCaptor.capture(), eq(QuestDocument.class));
+            assertThat(nativeQueryCaptor.getValue().getSourceFilter().getIncludes()).containsExactly(QuestSearchResult.SOURCE_FIELDS);
+        }
+
+        @DisplayName("검색 결과 순서대로 문서 원본을 응답으로 변환하고 전체 검색 결과 수를 페이지에 담는다")
+        @Test
+        @SuppressWarnings("unchecked")
+        public void mapSourcesInHitOrderWithTotalHits() throws Exception {
+            //given
+            QuestSearchCondition searchCondition = new QuestSearchCondition(0, null, QuestSearchKeywordType.ALL, "keyword", null, null);
+            Pageable pageable = PageRequest.of(0, 10);
+            LocalDateTime createdDate = LocalDateTime.of(2022, 12, 1, 12, 0);
+            QuestDocument document = new QuestDocument(null, "title", "desc", List.of("detail"), null, QuestState.COMPLETE.name(), createdDate, null);
+            SearchHit<QuestDocument> searchHit = mock(SearchHit.class);
+            doReturn("30").when(searchHit).getId();
+            doReturn(document).when(searchHit).getContent();
+            SearchHits<QuestDocument> searchHits = mock(SearchHits.class);
+            doReturn(List.of(searchHit)).when(searchHits).getSearchHits();
+            doReturn(42L).when(searchHits).getTotalHits();
+            doReturn(searchHits).when(operations).search(any(NativeSearchQuery.class), eq(QuestDocument.class));
+
+            //when
+            Page<QuestSearchResult> results = questIndexService.searchDocumentSources(searchCondition, 1L, pageable);
+
+            //then
+            assertThat(results.getContent()).containsExactly(
+                    new QuestSearchResult(30L, "title", "desc", List.of("detail"), QuestState.COMPLETE, createdDate)
+            );
+            assertThat(results.getTotalElements()).isEqualTo(42L);
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package dailyquest.user.cache
+
+import dailyquest.properties.RedisKeyProperties
+import dailyquest.redis.service.RedisService
+import io.mockk.every
+import io.mockk.impl.annotations.InjectMockKs
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("레벨 테이블 캐시 유닛 테스트")
+class LevelTableCacheUnitTest {
+    @InjectMockKs
+    lateinit var levelTableCache: LevelTableCache
+    @RelaxedMockK
+    lateinit var redisService: RedisService
+    @RelaxedMockK
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @RelaxedMockK
+    lateinit var listenerContainer: RedisMessageListenerContainer
+    @RelaxedMockK
+    lateinit var redisKeyProperties: RedisKeyProperties
+    @RelaxedMockK
+    lateinit var userPrincipalCache: UserPrincipalCache
+    private val channel = "channel"
+
+    @BeforeEach
+    fun init() {
+        every { redisKeyProperties.expTableChannel } returns channel
+        every { redisService.getExpTable() } returns mapOf(1 to 10L, 2 to 20L)
+        every { redisService.getExpTableVersion() } returns 1L
+    }
+
+    @DisplayName("get 호출 시")
+    @Nested
+    inner class TestGet {
+        @DisplayName("처음 호출되면 레디스에서 테이블을 로드한다")
+        @Test
+        fun `처음 호출되면 레디스에서 테이블을 로드한다`() {
+            //given
+            //when
+            val levelTable = levelTableCache.get()
+
+            //then
+            assertThat(levelTable.version).isEqualTo(1L)
+            assertThat(levelTable.resolve(15)).isEqualTo(Triple(2, 5L, 20L))
+        }
+
+        @DisplayName("이미 로드된 테이블이 있으면 다시 조회하지 않는다")
+        @Test
+        fun `이미 로드된 테이블이 있으면 다시 조회하지 않는다`() {
+            //given
+            levelTableCache.get()
+
+            //when
+            levelTableCache.get()
+
+            //then
+            verify(exactly = 1) { redisService.getExpTable() }
+        }
+    }
+
+    @DisplayName("변경 메시지 수신 시")
+    @Nested
+    inner class TestOnMessage {
+        @DisplayName("현재보다 높은 버전이면 테이블을 다시 로드하고 유저 정보 캐시를 비운다")
+        @Test
+        fun `현재보다 높은 버전이면 테이블을 다시 로드하고 유저 정보 캐시를 비운다`() {
+            //given
+            levelTableCache.get()
+            every { redisService.getExpTable() } returns mapOf(1 to 5L)
+            every { redisService.getExpTableVersion() } returns 2L
+            val message = mockk<Message>()
+            every { message.body } returns "2".toByteArray()
+
+            //when
+            levelTableCache.onMessage(message, null)
+
+            //then
+            assertThat(levelTableCache.get().version).isEqualTo(2L)
+            verify { userPrincipalCache.evictAll() }
+        }
+
+        @DisplayName("현재 버전 이하이면 무시한다")
+        @Test
+        fun `현재 버전 이하이면 무시한다`() {
+            //given
+            levelTableCache.get()
+            val message = mockk<Message>()
+            every { message.body } returns "1".toByteArray()
+
+            //when
+            levelTableCache.onMessage(message, null)
+
+            //then
+            verify(exactly = 1) { redisService.getExpTable() }
+            verify(inverse = true) { userPrincipalCache.evictAll() }
+        }
+    }
+
+    @DisplayName("reload 호출 시")
+    @Nested
+    inner class TestReload {
+        @DisplayName("로드한 테이블의 버전이 현재보다 낮으면 교체하지 않는다")
+        @Test
+        fun `로드한 테이블의 버전이 현재보다 낮으면 교체하지 않는다`() {
+            //given
+            levelTableCache.get()
+            every { redisService.getExpTableVersion() } returns 0L
+
+            //when
+            val levelTable = levelTableCache.reload()
+
+            //then
+            assertThat(levelTable.version).isEqualTo(1L)
+        }
+    }
+
+    @DisplayName("publish 호출 시")
+    @Nested
+    inner class TestPublish {
+        @DisplayName("로컬 테이블을 갱신하고 다른 노드에 버전을 전파한다")
+        @Test
+        fun `로컬 테이블을 갱신하고 다른 노드에 버전을 전파한다`() {
+            //given
+            every { redisService.getExpTableVersion() } returns 3L
+
+            //when
+            levelTableCache.publish(3L)
+
+            //then
+            assertThat(levelTableCache.get().version).isEqualTo(3L)
+            verify { redisTemplate.convertAndSend(eq(channel), eq("3")) }
+        }
+    }
+}
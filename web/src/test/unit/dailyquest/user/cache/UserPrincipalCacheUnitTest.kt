@@ -0,0 +1,116 @@
+package dailyquest.user.cache
+
+import dailyquest.properties.UserPrincipalCacheProperties
+import dailyquest.user.dto.UserPrincipal
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.mockk
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+@DisplayName("유저 정보 캐시 유닛 테스트")
+class UserPrincipalCacheUnitTest {
+    private lateinit var userPrincipalCache: UserPrincipalCache
+    private lateinit var meterRegistry: SimpleMeterRegistry
+
+    @BeforeEach
+    fun init() {
+        meterRegistry = SimpleMeterRegistry()
+        userPrincipalCache = UserPrincipalCache(UserPrincipalCacheProperties(), meterRegistry)
+    }
+
+    @DisplayName("get 호출 시")
+    @Nested
+    inner class TestGet {
+        @DisplayName("캐시에 없으면 로더로 조회한 값을 반환한다")
+        @Test
+        fun `캐시에 없으면 로더로 조회한 값을 반환한다`() {
+            //given
+            val userPrincipal = mockk<UserPrincipal>()
+
+            //when
+            val result = userPrincipalCache.get(1L) { userPrincipal }
+
+            //then
+            assertThat(result).isEqualTo(userPrincipal)
+        }
+
+        @DisplayName("캐시에 있으면 로더를 호출하지 않는다")
+        @Test
+        fun `캐시에 있으면 로더를 호출하지 않는다`() {
+            //given
+            var loadCount = 0
+            val loader = { _: Long -> loadCount++; mockk<UserPrincipal>() }
+            userPrincipalCache.get(1L, loader)
+
+            //when
+            userPrincipalCache.get(1L, loader)
+
+            //then
+            assertThat(loadCount).isEqualTo(1)
+        }
+
+        @DisplayName("캐시 적중 메트릭이 기록된다")
+        @Test
+        fun `캐시 적중 메트릭이 기록된다`() {
+            //given
+            userPrincipalCache.get(1L) { mockk() }
+
+            //when
+            userPrincipalCache.get(1L) { mockk() }
+
+            //then
+            val hitCount = meterRegistry.get("cache.gets")
+                .tag("cache", UserPrincipalCache.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter().count()
+            assertThat(hitCount).isEqualTo(1.0)
+        }
+    }
+
+    @DisplayName("evict 호출 시")
+    @Nested
+    inner class TestEvict {
+        @DisplayName("해당 유저의 캐시만 제거된다")
+        @Test
+        fun `해당 유저의 캐시만 제거된다`() {
+            //given
+            var loadCount = 0
+            val loader = { _: Long -> loadCount++; mockk<UserPrincipal>() }
+            userPrincipalCache.get(1L, loader)
+            userPrincipalCache.get(2L, loader)
+
+            //when
+            userPrincipalCache.evict(1L)
+            userPrincipalCache.get(1L, loader)
+            userPrincipalCache.get(2L, loader)
+
+            //then
+            assertThat(loadCount).isEqualTo(3)
+        }
+    }
+
+    @DisplayName("evictAll 호출 시")
+    @Nested
+    inner class TestEvictAll {
+        @DisplayName("모든 유저의 캐시가 제거된다")
+        @Test
+        fun `모든 유저의 캐시가 제거된다`() {
+            //given
+            var loadCount = 0
+            val loader = { _: Long -> loadCount++; mockk<UserPrincipal>() }
+            userPrincipalCache.get(1L, loader)
+            userPrincipalCache.get(2L, loader)
+
+            //when
+            userPrincipalCache.evictAll()
+            userPrincipalCache.get(1L, loader)
+            userPrincipalCache.get(2L, loader)
+
+            //then
+            assertThat(loadCount).isEqualTo(4)
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dailyquest.user.cache
+
+import dailyquest.properties.UserPrincipalCacheProperties
+import dailyquest.user.event.UserChangedEvent
+import io.mockk.every
+import io.mockk.impl.annotations.InjectMockKs
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("유저 정보 캐시 무효화 리스너 유닛 테스트")
+class UserPrincipalInvalidationListenerUnitTest {
+    @InjectMockKs
+    lateinit var listener: UserPrincipalInvalidationListener
+    @RelaxedMockK
+    lateinit var userPrincipalCache: UserPrincipalCache
+    @RelaxedMockK
+    lateinit var redisTemplate: RedisTemplate<String, String>
+    @RelaxedMockK
+    lateinit var listenerContainer: RedisMessageListenerContainer
+    @RelaxedMockK
+    lateinit var cacheProperties: UserPrincipalCacheProperties
+    private val channel = "channel"
+
+    @BeforeEach
+    fun init() {
+        every { cacheProperties.invalidationChannel } returns channel
+    }
+
+    @DisplayName("유저 변경 이벤트 수신 시")
+    @Nested
+    inner class TestOnUserChanged {
+        @DisplayName("로컬 캐시에서 해당 유저를 제거한다")
+        @Test
+        fun `로컬 캐시에서 해당 유저를 제거한다`() {
+            //given
+            val userId = 1L
+
+            //when
+            listener.onUserChanged(UserChangedEvent(userId))
+
+            //then
+            verify { userPrincipalCache.evict(eq(userId)) }
+        }
+
+        @DisplayName("다른 노드에 유저 ID를 전파한다")
+        @Test
+        fun `다른 노드에 유저 ID를 전파한다`() {
+            //given
+            val userId = 1L
+
+            //when
+            listener.onUserChanged(UserChangedEvent(userId))
+
+            //then
+            verify { redisTemplate.convertAndSend(eq(channel), eq(userId.toString())) }
+        }
+
+        @DisplayName("전파에 실패해도 예외가 발생하지 않는다")
+        @Test
+        fun `전파에 실패해도 예외가 발생하지 않는다`() {
+            //given
+            every { redisTemplate.convertAndSend(any(), any()) } throws IllegalStateException()
+
+            //when
+            listener.onUserChanged(UserChangedEvent(1L))
+
+            //then
+            verify { userPrincipalCache.evict(any()) }
+        }
+    }
+
+    @DisplayName("invalidateAll 호출 시")
+    @Nested
+    inner class TestInvalidateAll {
+        @DisplayName("로컬 캐시를 비우고 전체 무효화 메시지를 전파한다")
+        @Test
+        fun `로컬 캐시를 비우고 전체 무효화 메시지를 전파한다`() {
+            //given
+            //when
+            listener.invalidateAll()
+
+            //then
+            verify { userPrincipalCache.evictAll() }
+            verify { redisTemplate.convertAndSend(eq(channel), eq(UserPrincipalInvalidationListener.EVICT_ALL)) }
+        }
+    }
+
+    @DisplayName("무효화 메시지 수신 시")
+    @Nested
+    inner class TestOnMessage {
+        @DisplayName("유저 ID가 담겨 있으면 해당 유저만 제거한다")
+        @Test
+        fun `유저 ID가 담겨 있으면 해당 유저만 제거한다`() {
+            //given
+            val message = mockk<Message>()
+            every { message.body } returns "1".toByteArray()
+
+            //when
+            listener.onMessage(message, null)
+
+            //then
+            verify { userPrincipalCache.evict(eq(1L)) }
+            verify(inverse = true) { userPrincipalCache.evictAll() }
+        }
+
+        @DisplayName("전체 무효화 메시지면 모든 유저를 제거한다")
+        @Test
+        fun `전체 무효화 메시지면 모든 유저를 제거한다`() {
+            //given
+            val message = mockk<Message>()
+            every { message.body } returns UserPrincipalInvalidationListener.EVICT_ALL.toByteArray()
+
+            //when
+            listener.onMessage(message, null)
+
+            //then
+            verify { userPrincipalCache.evictAll() }
+        }
+    }
+}
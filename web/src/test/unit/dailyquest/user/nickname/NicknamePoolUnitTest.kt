@@ -0,0 +1,139 @@
+package dailyquest.user.nickname
+
+import dailyquest.properties.NicknamePoolProperties
+import dailyquest.redis.service.RedisService
+import dailyquest.user.service.UserService
+import io.mockk.every
+import io.mockk.impl.annotations.RelaxedMockK
+import io.mockk.junit5.MockKExtension
+import io.mockk.verify
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+
+@ExtendWith(MockKExtension::class)
+@DisplayName("닉네임 풀 유닛 테스트")
+class NicknamePoolUnitTest {
+    @RelaxedMockK
+    lateinit var redisService: RedisService
+    @RelaxedMockK
+    lateinit var userService: UserService
+    private val nicknamePoolProperties = NicknamePoolProperties(targetSize = 10, refillBatchSize = 4)
+    lateinit var nicknamePool: NicknamePool
+
+    @BeforeEach
+    fun init() {
+        nicknamePool = NicknamePool(redisService, userService, nicknamePoolProperties)
+    }
+
+    @DisplayName("pop 호출 시")
+    @Nested
+    inner class TestPop {
+        @DisplayName("풀에 닉네임이 있으면 중복 확인 없이 꺼낸 닉네임을 반환한다")
+        @Test
+        fun `풀에 닉네임이 있으면 중복 확인 없이 꺼낸 닉네임을 반환한다`() {
+            //given
+            every { redisService.popNicknameFromPool() } returns "pooled"
+
+            //when
+            val nickname = nicknamePool.pop()
+
+            //then
+            assertThat(nickname).isEqualTo("pooled")
+            verify(inverse = true) { userService.isDuplicatedNickname(any()) }
+            verify(inverse = true) { redisService.createRandomNickname() }
+        }
+
+        @DisplayName("풀이 비어 있으면 중복되지 않은 닉네임을 직접 생성한다")
+        @Test
+        fun `풀이 비어 있으면 중복되지 않은 닉네임을 직접 생성한다`() {
+            //given
+            every { redisService.popNicknameFromPool() } returns null
+            every { redisService.createRandomNickname() } returnsMany listOf("duplicated", "created")
+            every { userService.isDuplicatedNickname("duplicated") } returns true
+            every { userService.isDuplicatedNickname("created") } returns false
+
+            //when
+            val nickname = nicknamePool.pop()
+
+            //then
+            assertThat(nickname).isEqualTo("created")
+        }
+
+        @DisplayName("풀 조회에 실패하면 닉네임을 직접 생성한다")
+        @Test
+        fun `풀 조회에 실패하면 닉네임을 직접 생성한다`() {
+            //given
+            every { redisService.popNicknameFromPool() } throws IllegalStateException()
+            every { redisService.createRandomNickname() } returns "created"
+            every { userService.isDuplicatedNickname(any()) } returns false
+
+            //when
+            val nickname = nicknamePool.pop()
+
+            //then
+            assertThat(nickname).isEqualTo("created")
+        }
+    }
+
+    @DisplayName("refill 호출 시")
+    @Nested
+    inner class TestRefill {
+        @DisplayName("풀이 목표 크기 이상이면 닉네임을 생성하지 않는다")
+        @Test
+        fun `풀이 목표 크기 이상이면 닉네임을 생성하지 않는다`() {
+            //given
+            every { redisService.getNicknamePoolSize() } returns 10
+
+            //when
+            nicknamePool.refill()
+
+            //then
+            verify(inverse = true) { redisService.createRandomNicknames(any()) }
+        }
+
+        @DisplayName("부족한 수와 배치 크기 중 작은 수만큼 생성한다")
+        @Test
+        fun `부족한 수와 배치 크기 중 작은 수만큼 생성한다`() {
+            //given
+            every { redisService.getNicknamePoolSize() } returns 8
+
+            //when
+            nicknamePool.refill()
+
+            //then
+            verify { redisService.createRandomNicknames(2) }
+        }
+
+        @DisplayName("사용 중이지 않은 닉네임만 풀에 추가한다")
+        @Test
+        fun `사용 중이지 않은 닉네임만 풀에 추가한다`() {
+            //given
+            every { redisService.getNicknamePoolSize() } returns 0
+            every { redisService.createRandomNicknames(4) } returns listOf("a", "b", "a", "c")
+            every { userService.filterAvailableNicknames(listOf("a", "b", "c")) } returns listOf("a", "c")
+
+            //when
+            nicknamePool.refill()
+
+            //then
+            verify { redisService.addNicknamesToPool(listOf("a", "c")) }
+        }
+
+        @DisplayName("예외가 발생해도 전파하지 않는다")
+        @Test
+        fun `예외가 발생해도 전파하지 않는다`() {
+            //given
+            every { redisService.getNicknamePoolSize() } throws IllegalStateException()
+
+            //when
+            nicknamePool.refill()
+
+            //then
+            verify(inverse = true) { redisService.addNicknamesToPool(any()) }
+        }
+    }
+}